@@ -19,7 +19,6 @@ package com.alee.api.clone;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
-import com.alee.utils.map.StrictHashMap;
 
 /**
  * Abstract {@link RecursiveClone} implementation providing cloned object store.
@@ -32,19 +31,19 @@ import com.alee.utils.map.StrictHashMap;
 public abstract class AbstractRecursiveClone implements RecursiveClone
 {
     /**
-     * Lazy cloned objects references map.
-     * It is not always necessary for clone operation so we want to avoid always creating it.
-     * It will be created on demand, mostly for objects that are deeper than one level.
+     * Lazy cloned objects references.
+     * It is not always necessary for clone operation so we want to avoid always acquiring it.
+     * It will be acquired on demand, mostly for objects that are deeper than one level.
      */
     @Nullable
-    private StrictHashMap<Object, Object> references;
+    private transient CloneReferences references;
 
     @Override
     public void store ( @NotNull final Object object, @Nullable final Object clone )
     {
         if ( references == null )
         {
-            references = new StrictHashMap<Object, Object> ();
+            references = CloneReferences.acquire ();
         }
         references.put ( object, clone );
     }
@@ -55,4 +54,17 @@ public abstract class AbstractRecursiveClone implements RecursiveClone
     {
         return references != null ? references.get ( object ) : null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Releases cloned objects references.
+     * Should be called once clone operation is finished, references are cleared and reused by the next operation on the same thread.
+     */
+    protected void release ()
+    {
+        if ( references != null )
+        {
+            references.release ();
+            references = null;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Configurable algorithm for cloning object instances.
@@ -59,6 +60,22 @@ public final class Clone implements Serializable
     @Nullable
     private static Map<String, Clone> commons;
 
+    /**
+     * Amount of objects cloned with references tracking.
+     *
+     * @see #getTrackedClones()
+     */
+    @NotNull
+    private static final AtomicLong trackedClones = new AtomicLong ( 0 );
+
+    /**
+     * Amount of objects cloned without references tracking.
+     *
+     * @see #getUntrackedClones()
+     */
+    @NotNull
+    private static final AtomicLong untrackedClones = new AtomicLong ( 0 );
+
     /**
      * Unknown object types case resolver.
      * It is used to resolve clone outcome when cloned objects are not supported by behaviors.
@@ -112,7 +129,15 @@ public final class Clone implements Serializable
     @Nullable
     public <T> T clone ( @Nullable final T object )
     {
-        return new InternalClone ().clone ( object, 0 );
+        final InternalClone clone = new InternalClone ();
+        try
+        {
+            return clone.clone ( object, 0 );
+        }
+        finally
+        {
+            clone.release ();
+        }
     }
 
     /**
@@ -141,6 +166,16 @@ public final class Clone implements Serializable
      */
     private class InternalClone extends AbstractRecursiveClone
     {
+        /**
+         * Amount of objects cloned with references tracking within this operation.
+         */
+        private int tracked;
+
+        /**
+         * Amount of objects cloned without references tracking within this operation.
+         */
+        private int untracked;
+
         @Nullable
         @Override
         public <T> T clone ( @Nullable final T object, final int depth )
@@ -148,54 +183,64 @@ public final class Clone implements Serializable
             final T result;
             if ( object != null )
             {
-                // Checking cached copy references
-                final Object cached = retrieve ( object );
-                if ( cached == null )
+                // Trying to find fitting clone behavior
+                GlobalCloneBehavior resultBehavior = null;
+                for ( final GlobalCloneBehavior behavior : behaviors )
                 {
-                    // Trying to find fitting clone behavior
-                    Object cloneResult = null;
-                    GlobalCloneBehavior resultBehavior = null;
-                    for ( final GlobalCloneBehavior behavior : behaviors )
+                    // Checking that behavior supports object
+                    if ( behavior.supports ( this, object ) )
                     {
-                        // Checking that behavior supports object
-                        if ( behavior.supports ( this, object ) )
-                        {
-                            // Executing clone behavior
-                            cloneResult = behavior.clone ( this, object, depth );
-                            resultBehavior = behavior;
-                            break;
-                        }
+                        resultBehavior = behavior;
+                        break;
                     }
+                }
 
-                    // Resolving result object
-                    if ( resultBehavior != null )
+                // Resolving result object
+                if ( resultBehavior != null && !resultBehavior.isStorable () )
+                {
+                    /**
+                     * Values cloned by non-storable behaviors are never stored and cannot form cycles.
+                     * So there is no need to track their references, we simply execute clone behavior.
+                     */
+                    untracked++;
+                    result = ( T ) resultBehavior.clone ( this, object, depth );
+                }
+                else
+                {
+                    // Checking cached copy references
+                    tracked++;
+                    final Object cached = retrieve ( object );
+                    if ( cached == null )
                     {
-                        // Result acquired
-                        result = ( T ) cloneResult;
+                        if ( resultBehavior != null )
+                        {
+                            // Executing clone behavior
+                            result = ( T ) resultBehavior.clone ( this, object, depth );
 
-                        // Storing object if it not root
-                        if ( depth > 0 && resultBehavior.isStorable () )
+                            // Storing object if it not root
+                            if ( depth > 0 )
+                            {
+                                store ( object, result );
+                            }
+                        }
+                        else
                         {
-                            store ( object, result );
+                            // Unknown type, trying to resolve it
+                            result = ( T ) unknownResolver.resolve ( this, object );
+
+                            // Storing object if it not root
+                            if ( depth > 0 )
+                            {
+                                store ( object, result );
+                            }
                         }
                     }
                     else
                     {
-                        // Unknown type, trying to resolve it
-                        result = ( T ) unknownResolver.resolve ( this, object );
-
-                        // Storing object if it not root
-                        if ( depth > 0 )
-                        {
-                            store ( object, result );
-                        }
+                        // Returning cached copy reference
+                        result = ( T ) cached;
                     }
                 }
-                else
-                {
-                    // Returning cached copy reference
-                    result = ( T ) cached;
-                }
             }
             else
             {
@@ -205,6 +250,20 @@ public final class Clone implements Serializable
             return result;
         }
 
+        @Override
+        protected void release ()
+        {
+            super.release ();
+            if ( tracked > 0 )
+            {
+                trackedClones.addAndGet ( tracked );
+            }
+            if ( untracked > 0 )
+            {
+                untrackedClones.addAndGet ( untracked );
+            }
+        }
+
         @NotNull
         @Override
         public <T> T cloneFields ( @NotNull final T object, final int depth )
@@ -308,6 +367,37 @@ public final class Clone implements Serializable
         return clone;
     }
 
+    /**
+     * Returns amount of objects cloned with references tracking since last {@link #resetCounters()} call.
+     * These are objects that could potentially be referenced multiple times or form cycles within cloned structure.
+     *
+     * @return amount of objects cloned with references tracking
+     */
+    public static long getTrackedClones ()
+    {
+        return trackedClones.get ();
+    }
+
+    /**
+     * Returns amount of objects cloned without references tracking since last {@link #resetCounters()} call.
+     * These are objects cloned by non-storable {@link GlobalCloneBehavior}s, for instance basic immutable values.
+     *
+     * @return amount of objects cloned without references tracking
+     */
+    public static long getUntrackedClones ()
+    {
+        return untrackedClones.get ();
+    }
+
+    /**
+     * Resets tracked and untracked clones counters.
+     */
+    public static void resetCounters ()
+    {
+        trackedClones.set ( 0 );
+        untrackedClones.set ( 0 );
+    }
+
     /**
      * Returns common {@link Clone} instance by its indentifier.
      *
@@ -0,0 +1,243 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.api.clone;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Small open-addressing identity map used by {@link AbstractRecursiveClone} to track cloned object references.
+ * Keys are always compared by identity, keys and values are stored next to each other within single table array.
+ *
+ * Instances are reused per thread through {@link #acquire()} and {@link #release()} to avoid allocating new map for each clone.
+ * Nested clone operations on the same thread simply get a separate new instance while thread instance is in use.
+ *
+ * @author Mikle Garin
+ * @see AbstractRecursiveClone
+ */
+final class CloneReferences
+{
+    /**
+     * Default table capacity in entries, must be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 32;
+
+    /**
+     * Maximum table capacity in entries retained by thread instance between clone operations.
+     * Larger tables are dropped on {@link #release()} to avoid keeping memory used by a single large clone.
+     */
+    private static final int MAXIMUM_RETAINED_CAPACITY = 1024;
+
+    /**
+     * Thread {@link CloneReferences} instances.
+     */
+    @NotNull
+    private static final ThreadLocal<CloneReferences> references = new ThreadLocal<CloneReferences> ()
+    {
+        @Override
+        protected CloneReferences initialValue ()
+        {
+            return new CloneReferences ( true );
+        }
+    };
+
+    /**
+     * Whether or not this is a thread instance.
+     */
+    private final boolean threadInstance;
+
+    /**
+     * Whether or not thread instance is currently in use.
+     */
+    private boolean inUse;
+
+    /**
+     * Keys and values table, keys are at even indices and values are right after them.
+     */
+    @NotNull
+    private Object[] table;
+
+    /**
+     * Amount of stored entries.
+     */
+    private int size;
+
+    /**
+     * Constructs new {@link CloneReferences}.
+     *
+     * @param threadInstance whether or not this is a thread instance
+     */
+    private CloneReferences ( final boolean threadInstance )
+    {
+        this.threadInstance = threadInstance;
+        this.table = new Object[ DEFAULT_CAPACITY * 2 ];
+    }
+
+    /**
+     * Returns empty {@link CloneReferences} for the current thread.
+     * {@link #release()} must be called once {@link CloneReferences} are not needed anymore.
+     *
+     * @return empty {@link CloneReferences} for the current thread
+     */
+    @NotNull
+    public static CloneReferences acquire ()
+    {
+        final CloneReferences threadReferences = references.get ();
+        final CloneReferences result;
+        if ( !threadReferences.inUse )
+        {
+            threadReferences.inUse = true;
+            result = threadReferences;
+        }
+        else
+        {
+            result = new CloneReferences ( false );
+        }
+        return result;
+    }
+
+    /**
+     * Clears this {@link CloneReferences} and allows reusing them if they belong to the thread.
+     */
+    public void release ()
+    {
+        if ( threadInstance )
+        {
+            if ( table.length > MAXIMUM_RETAINED_CAPACITY * 2 )
+            {
+                table = new Object[ DEFAULT_CAPACITY * 2 ];
+            }
+            else if ( size > 0 )
+            {
+                Arrays.fill ( table, null );
+            }
+            size = 0;
+            inUse = false;
+        }
+    }
+
+    /**
+     * Returns amount of stored references.
+     *
+     * @return amount of stored references
+     */
+    public int size ()
+    {
+        return size;
+    }
+
+    /**
+     * Returns value stored for the specified object, {@code null} if there is none.
+     *
+     * @param object object to return value for
+     * @return value stored for the specified object, {@code null} if there is none
+     */
+    @Nullable
+    public Object get ( @NotNull final Object object )
+    {
+        Object value = null;
+        if ( size > 0 )
+        {
+            final Object[] table = this.table;
+            final int mask = table.length - 1;
+            int index = index ( object, mask );
+            Object key;
+            while ( ( key = table[ index ] ) != null )
+            {
+                if ( key == object )
+                {
+                    value = table[ index + 1 ];
+                    break;
+                }
+                index = ( index + 2 ) & mask;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Stores value for the specified object.
+     *
+     * @param object object to store value for
+     * @param value  value to store
+     */
+    public void put ( @NotNull final Object object, @Nullable final Object value )
+    {
+        final Object[] table = this.table;
+        final int mask = table.length - 1;
+        int index = index ( object, mask );
+        Object key;
+        while ( ( key = table[ index ] ) != null )
+        {
+            if ( key == object )
+            {
+                table[ index + 1 ] = value;
+                return;
+            }
+            index = ( index + 2 ) & mask;
+        }
+        table[ index ] = object;
+        table[ index + 1 ] = value;
+        size++;
+        if ( size * 3 > table.length )
+        {
+            resize ();
+        }
+    }
+
+    /**
+     * Doubles table capacity.
+     */
+    private void resize ()
+    {
+        final Object[] oldTable = table;
+        final Object[] newTable = new Object[ oldTable.length * 2 ];
+        final int mask = newTable.length - 1;
+        for ( int i = 0; i < oldTable.length; i += 2 )
+        {
+            final Object key = oldTable[ i ];
+            if ( key != null )
+            {
+                int index = index ( key, mask );
+                while ( newTable[ index ] != null )
+                {
+                    index = ( index + 2 ) & mask;
+                }
+                newTable[ index ] = key;
+                newTable[ index + 1 ] = oldTable[ i + 1 ];
+            }
+        }
+        table = newTable;
+    }
+
+    /**
+     * Returns table index for the specified object.
+     *
+     * @param object object to return table index for
+     * @param mask   table length mask
+     * @return table index for the specified object
+     */
+    private static int index ( @NotNull final Object object, final int mask )
+    {
+        // Same spreading as in IdentityHashMap, resulting index is always even
+        final int hash = System.identityHashCode ( object );
+        return ( ( hash << 1 ) - ( hash << 8 ) ) & mask;
+    }
+}
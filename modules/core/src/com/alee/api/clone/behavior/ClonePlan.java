@@ -0,0 +1,293 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.api.clone.behavior;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.clone.CloneException;
+import com.alee.api.clone.RecursiveClone;
+import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ModifierType;
+import com.alee.utils.reflection.Unsafe;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled clone plan for a single {@link Class} used by {@link ReflectionCloneBehavior}.
+ * It resolves cloned fields and their {@link PreserveOnClone} and {@link OmitOnClone} annotations only once,
+ * so that cloning objects of the same {@link Class} again only replays field copy operations.
+ *
+ * Primitive fields are copied directly without boxing since their values never need to be cloned.
+ *
+ * @author Mikle Garin
+ * @see ReflectionCloneBehavior
+ */
+final class ClonePlan
+{
+    /**
+     * {@link Class} this plan is compiled for.
+     */
+    @NotNull
+    private final Class type;
+
+    /**
+     * Whether or not any field values are cloned recursively.
+     * Object copy is only stored within {@link RecursiveClone} beforehand if they are, since only then it can be referenced again
+     * while its fields are being cloned. Otherwise the class is a leaf and its references don't need to be tracked here.
+     */
+    private final boolean recursive;
+
+    /**
+     * Operations performed on fields of cloned object.
+     */
+    @NotNull
+    private final FieldOperation[] operations;
+
+    /**
+     * Constructs new {@link ClonePlan}.
+     *
+     * @param type             {@link Class} to compile plan for
+     * @param ignoredModifiers modifiers of fields to ignore
+     */
+    public ClonePlan ( @NotNull final Class type, @NotNull final List<ModifierType> ignoredModifiers )
+    {
+        final List<Field> fields = ReflectUtils.getFields ( type );
+        final List<FieldOperation> operations = new ArrayList<FieldOperation> ( fields.size () );
+        for ( final Field field : fields )
+        {
+            if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+            {
+                final boolean preserve = field.getAnnotation ( PreserveOnClone.class ) != null;
+                final boolean omit = field.getAnnotation ( OmitOnClone.class ) != null;
+                if ( preserve && omit )
+                {
+                    // Ensure annotations are used properly and objective is clear
+                    throw new CloneException ( "Mutually exclusive annotations are used for field: " + field );
+                }
+                else if ( !omit )
+                {
+                    operations.add ( new FieldOperation ( field, preserve ) );
+                }
+            }
+        }
+        boolean recursive = false;
+        for ( final FieldOperation operation : operations )
+        {
+            recursive |= operation.isRecursive ();
+        }
+        this.type = type;
+        this.recursive = recursive;
+        this.operations = operations.toArray ( new FieldOperation[ operations.size () ] );
+    }
+
+    /**
+     * Returns {@link Class} this plan is compiled for.
+     *
+     * @return {@link Class} this plan is compiled for
+     */
+    @NotNull
+    public Class getType ()
+    {
+        return type;
+    }
+
+    /**
+     * Returns clone of the specified object.
+     *
+     * @param clone  {@link RecursiveClone} used on fields values
+     * @param object object to clone
+     * @param depth  clone calls stack depth
+     * @param <O>    cloned object type
+     * @return clone of the specified object
+     */
+    @NotNull
+    public <O> O clone ( @NotNull final RecursiveClone clone, @NotNull final O object, final int depth )
+    {
+        /**
+         * Creating object instance copy.
+         * {@link Unsafe} is used to instantiate objects without calling their constructors.
+         * This is important to avoid any unwanted field changes within the resulting object.
+         */
+        final O copy = ( O ) Unsafe.allocateInstance ( type );
+
+        /**
+         * Cloning field values.
+         */
+        if ( recursive )
+        {
+            // Storing object copy
+            clone.store ( object, copy );
+        }
+
+        // Cloning all field values excluding ones with ignored modifiers or annotated with OmitFieldClone
+        for ( final FieldOperation operation : operations )
+        {
+            operation.apply ( clone, object, copy, depth );
+        }
+
+        return copy;
+    }
+
+    /**
+     * Resolved field clone operation.
+     */
+    private static final class FieldOperation
+    {
+        /**
+         * Cloned {@link Field}.
+         */
+        @NotNull
+        private final Field field;
+
+        /**
+         * {@link Field} type.
+         */
+        @NotNull
+        private final Class<?> fieldType;
+
+        /**
+         * Whether or not {@link Field} value should be preserved instead of being cloned.
+         */
+        private final boolean preserve;
+
+        /**
+         * Constructs new {@link FieldOperation}.
+         *
+         * @param field    cloned {@link Field}
+         * @param preserve whether or not {@link Field} value should be preserved instead of being cloned
+         */
+        public FieldOperation ( @NotNull final Field field, final boolean preserve )
+        {
+            this.field = field;
+            this.fieldType = field.getType ();
+            this.preserve = preserve;
+        }
+
+        /**
+         * Returns whether or not {@link Field} value is cloned recursively.
+         *
+         * @return {@code true} if {@link Field} value is cloned recursively, {@code false} otherwise
+         */
+        public boolean isRecursive ()
+        {
+            return !preserve && !fieldType.isPrimitive ();
+        }
+
+        /**
+         * Copies {@link Field} value from the original object into its copy.
+         *
+         * @param clone  {@link RecursiveClone} used on field value
+         * @param object original object
+         * @param copy   object copy
+         * @param depth  clone calls stack depth
+         */
+        public void apply ( @NotNull final RecursiveClone clone, @NotNull final Object object, @NotNull final Object copy,
+                            final int depth )
+        {
+            if ( fieldType.isPrimitive () )
+            {
+                try
+                {
+                    // Copying primitive value
+                    copyPrimitive ( object, copy );
+                }
+                catch ( final Exception e )
+                {
+                    // Something went totally wrong
+                    throw new CloneException ( "Unable to clone object field: " + field, e );
+                }
+            }
+            else if ( preserve )
+            {
+                try
+                {
+                    // Preserving original object field value
+                    field.set ( copy, field.get ( object ) );
+                }
+                catch ( final Exception e )
+                {
+                    // Something went totally wrong
+                    throw new CloneException ( "Unable to preserve object field: " + field, e );
+                }
+            }
+            else
+            {
+                try
+                {
+                    // Retrieving original object field value
+                    final Object value = field.get ( object );
+
+                    // Creating value clone if possible
+                    final Object valueCopy = clone.clone ( value, depth + 1 );
+
+                    // Updating field
+                    field.set ( copy, valueCopy );
+                }
+                catch ( final Exception e )
+                {
+                    // Something went totally wrong
+                    throw new CloneException ( "Unable to clone object field: " + field, e );
+                }
+            }
+        }
+
+        /**
+         * Copies primitive {@link Field} value from the original object into its copy without boxing it.
+         *
+         * @param object original object
+         * @param copy   object copy
+         * @throws IllegalAccessException if {@link Field} is inaccessible
+         */
+        private void copyPrimitive ( @NotNull final Object object, @NotNull final Object copy ) throws IllegalAccessException
+        {
+            if ( fieldType == int.class )
+            {
+                field.setInt ( copy, field.getInt ( object ) );
+            }
+            else if ( fieldType == boolean.class )
+            {
+                field.setBoolean ( copy, field.getBoolean ( object ) );
+            }
+            else if ( fieldType == float.class )
+            {
+                field.setFloat ( copy, field.getFloat ( object ) );
+            }
+            else if ( fieldType == double.class )
+            {
+                field.setDouble ( copy, field.getDouble ( object ) );
+            }
+            else if ( fieldType == long.class )
+            {
+                field.setLong ( copy, field.getLong ( object ) );
+            }
+            else if ( fieldType == char.class )
+            {
+                field.setChar ( copy, field.getChar ( object ) );
+            }
+            else if ( fieldType == byte.class )
+            {
+                field.setByte ( copy, field.getByte ( object ) );
+            }
+            else
+            {
+                field.setShort ( copy, field.getShort ( object ) );
+            }
+        }
+    }
+}
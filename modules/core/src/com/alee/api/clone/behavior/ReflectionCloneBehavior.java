@@ -18,16 +18,14 @@
 package com.alee.api.clone.behavior;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.Clone;
-import com.alee.api.clone.CloneException;
 import com.alee.api.clone.GlobalCloneBehavior;
 import com.alee.api.clone.RecursiveClone;
 import com.alee.utils.CollectionUtils;
-import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ClassCache;
 import com.alee.utils.reflection.ModifierType;
-import com.alee.utils.reflection.Unsafe;
 
-import java.lang.reflect.Field;
 import java.util.List;
 
 /**
@@ -52,6 +50,14 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
     @NotNull
     private final List<ModifierType> ignoredModifiers;
 
+    /**
+     * {@link ClonePlan}s compiled for each cloned {@link Class}.
+     * Field accessors and annotation decisions are resolved only once per {@link Class} and then simply replayed.
+     * {@link ClassCache} is used to avoid preventing plugin classes from being unloaded.
+     */
+    @Nullable
+    private transient volatile ClassCache<ClonePlan> plans;
+
     /**
      * Constructs new {@link ReflectionCloneBehavior} ignoring fields with specified modifiers.
      *
@@ -74,74 +80,40 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
     @Override
     public O clone ( @NotNull final RecursiveClone clone, @NotNull final O object, final int depth )
     {
-        /**
-         * Creating object instance copy.
-         * {@link Unsafe} is used to instantiate objects without calling their constructors.
-         * This is important to avoid any unwanted field changes within the resulting object.
-         */
-        final O copy = ( O ) Unsafe.allocateInstance ( object.getClass () );
+        return ( O ) getPlans ().get ( object.getClass () ).clone ( clone, object, depth );
+    }
 
-        /**
-         * Cloning field values.
-         */
-        final List<Field> fields = ReflectUtils.getFields ( object );
-        if ( !fields.isEmpty () )
+    /**
+     * Returns {@link ClonePlan}s cache.
+     * It is initialized lazily since {@link ReflectionCloneBehavior} might be deserialized as a part of {@link Clone}.
+     *
+     * @return {@link ClonePlan}s cache
+     */
+    @NotNull
+    private ClassCache<ClonePlan> getPlans ()
+    {
+        ClassCache<ClonePlan> plans = this.plans;
+        if ( plans == null )
         {
-            // Storing object copy
-            clone.store ( object, copy );
-
-            // Cloning all field values excluding ones with ignored modifiers or annotated with OmitFieldClone
-            for ( final Field field : fields )
+            synchronized ( this )
             {
-                if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+                plans = this.plans;
+                if ( plans == null )
                 {
-                    final boolean preserve = field.getAnnotation ( PreserveOnClone.class ) != null;
-                    final boolean omit = field.getAnnotation ( OmitOnClone.class ) != null;
-                    if ( preserve && omit )
-                    {
-                        // Ensure annotations are used properly and objective is clear
-                        throw new CloneException ( "Mutually exclusive annotations are used for field: " + field );
-                    }
-                    else if ( preserve )
+                    plans = new ClassCache<ClonePlan> ()
                     {
-                        try
+                        @NotNull
+                        @Override
+                        protected ClonePlan computeValue ( @NotNull final Class<?> type )
                         {
-                            // Retrieving original object field value
-                            final Object value = field.get ( object );
-
-                            // Updating field
-                            ReflectUtils.setFieldValue ( copy, field, value );
+                            return new ClonePlan ( type, ignoredModifiers );
                         }
-                        catch ( final Exception e )
-                        {
-                            // Something went totally wrong
-                            throw new CloneException ( "Unable to preserve object field: " + field, e );
-                        }
-                    }
-                    else if ( !omit )
-                    {
-                        try
-                        {
-                            // Retrieving original object field value
-                            final Object value = field.get ( object );
-
-                            // Creating value clone if possible
-                            final Object valueCopy = clone.clone ( value, depth + 1 );
-
-                            // Updating field
-                            ReflectUtils.setFieldValue ( copy, field, valueCopy );
-                        }
-                        catch ( final Exception e )
-                        {
-                            // Something went totally wrong
-                            throw new CloneException ( "Unable to clone object field: " + field, e );
-                        }
-                    }
+                    };
+                    this.plans = plans;
                 }
             }
         }
-
-        return copy;
+        return plans;
     }
 
     @Override
@@ -0,0 +1,237 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.api.merge.behavior;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.merge.Merge;
+import com.alee.api.merge.MergeException;
+import com.alee.api.merge.RecursiveMerge;
+import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ModifierType;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled merge plan for a single {@link Class} used by {@link ReflectionMergeBehavior}.
+ * It resolves merged fields and their {@link OmitOnMerge}, {@link OverwriteOnMerge} and {@link PreserveOnMerge} annotations
+ * only once, so that merging objects of the same {@link Class} again only replays field merge operations.
+ *
+ * @author Mikle Garin
+ * @see ReflectionMergeBehavior
+ */
+final class MergePlan
+{
+    /**
+     * {@link Class} this plan is compiled for.
+     */
+    @NotNull
+    private final Class type;
+
+    /**
+     * Operations performed on fields of merged objects.
+     */
+    @NotNull
+    private final FieldOperation[] operations;
+
+    /**
+     * Constructs new {@link MergePlan}.
+     *
+     * @param type             {@link Class} to compile plan for
+     * @param ignoredModifiers modifiers of fields to ignore
+     */
+    public MergePlan ( @NotNull final Class type, @NotNull final List<ModifierType> ignoredModifiers )
+    {
+        final List<Field> fields = ReflectUtils.getFields ( type );
+        final List<FieldOperation> operations = new ArrayList<FieldOperation> ( fields.size () );
+        for ( final Field field : fields )
+        {
+            if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+            {
+                if ( field.getAnnotation ( OmitOnMerge.class ) != null )
+                {
+                    operations.add ( new FieldOperation ( field, Action.omit ) );
+                }
+                else if ( field.getAnnotation ( PreserveOnMerge.class ) == null )
+                {
+                    final boolean overwrite = field.getAnnotation ( OverwriteOnMerge.class ) != null;
+                    operations.add ( new FieldOperation ( field, overwrite ? Action.overwrite : Action.merge ) );
+                }
+            }
+        }
+        this.type = type;
+        this.operations = operations.toArray ( new FieldOperation[ operations.size () ] );
+    }
+
+    /**
+     * Returns {@link Class} this plan is compiled for.
+     *
+     * @return {@link Class} this plan is compiled for
+     */
+    @NotNull
+    public Class getType ()
+    {
+        return type;
+    }
+
+    /**
+     * Merges field values of merged object into base object.
+     *
+     * @param merge  {@link RecursiveMerge} used on field values
+     * @param base   base object
+     * @param merged object to merge
+     * @param depth  merge calls stack depth
+     */
+    public void merge ( @NotNull final RecursiveMerge merge, @NotNull final Object base, @NotNull final Object merged,
+                        final int depth )
+    {
+        for ( final FieldOperation operation : operations )
+        {
+            operation.apply ( merge, base, merged, depth );
+        }
+    }
+
+    /**
+     * Field merge actions.
+     */
+    private static enum Action
+    {
+        /**
+         * Field value is reset to its default value, see {@link OmitOnMerge}.
+         */
+        omit,
+
+        /**
+         * Field value is overwritten, see {@link OverwriteOnMerge}.
+         */
+        overwrite,
+
+        /**
+         * Field values are merged.
+         */
+        merge
+    }
+
+    /**
+     * Resolved field merge operation.
+     */
+    private static final class FieldOperation
+    {
+        /**
+         * Merged {@link Field}.
+         */
+        @NotNull
+        private final Field field;
+
+        /**
+         * {@link Field} type.
+         */
+        @NotNull
+        private final Class<?> fieldType;
+
+        /**
+         * {@link Action} performed on {@link Field}.
+         */
+        @NotNull
+        private final Action action;
+
+        /**
+         * Default {@link Field} value used for {@link Action#omit}.
+         */
+        @Nullable
+        private final Object defaultValue;
+
+        /**
+         * Constructs new {@link FieldOperation}.
+         *
+         * @param field  merged {@link Field}
+         * @param action {@link Action} performed on {@link Field}
+         */
+        public FieldOperation ( @NotNull final Field field, @NotNull final Action action )
+        {
+            this.field = field;
+            this.fieldType = field.getType ();
+            this.action = action;
+            this.defaultValue = fieldType.isPrimitive () ? ReflectUtils.getDefaultPrimitiveValue ( fieldType ) : null;
+        }
+
+        /**
+         * Applies this operation to the base object.
+         *
+         * @param merge  {@link RecursiveMerge} used on field values
+         * @param base   base object
+         * @param merged object to merge
+         * @param depth  merge calls stack depth
+         */
+        public void apply ( @NotNull final RecursiveMerge merge, @NotNull final Object base, @NotNull final Object merged,
+                            final int depth )
+        {
+            if ( action == Action.omit )
+            {
+                try
+                {
+                    // Nullifying field value
+                    field.set ( base, defaultValue );
+                }
+                catch ( final Exception e )
+                {
+                    // Throwing merge exception
+                    final String message = "Unable to omit field {%s} value";
+                    throw new MergeException ( String.format ( message, field ), e );
+                }
+            }
+            else
+            {
+                try
+                {
+                    // Resolving merge result
+                    final Object mergeResult;
+                    final Object baseValue = field.get ( base );
+                    final Object mergedValue = field.get ( merged );
+                    if ( action == Action.merge )
+                    {
+                        /**
+                         * Allowing {@link Merge} to merge field values.
+                         * It is important to delegate this task to {@link Merge} as soon as possible to preserve its behavior.
+                         */
+                        mergeResult = merge.merge ( fieldType, baseValue, mergedValue, depth + 1 );
+                    }
+                    else
+                    {
+                        /**
+                         * Allowing {@link Merge} to overwrite field value.
+                         * We have to rely on {@link Merge} due to merged object possibly being {@code null}.
+                         */
+                        mergeResult = merge.overwrite ( baseValue, mergedValue );
+                    }
+
+                    // Saving merged value
+                    field.set ( base, mergeResult );
+                }
+                catch ( final Exception e )
+                {
+                    // Throwing merge exception
+                    final String message = "Unable to merge field {%s} values for objects {%s} and {%s}";
+                    throw new MergeException ( String.format ( message, field, base, merged ), e );
+                }
+            }
+        }
+    }
+}
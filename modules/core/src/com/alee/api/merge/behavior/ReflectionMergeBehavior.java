@@ -18,13 +18,13 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.merge.*;
 import com.alee.utils.CollectionUtils;
-import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ClassCache;
 import com.alee.utils.reflection.ClassRelationType;
 import com.alee.utils.reflection.ModifierType;
 
-import java.lang.reflect.Field;
 import java.util.List;
 
 /**
@@ -53,6 +53,14 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
     @NotNull
     private final List<ModifierType> ignoredModifiers;
 
+    /**
+     * {@link MergePlan}s compiled for each merged {@link Class}.
+     * Field accessors and annotation decisions are resolved only once per {@link Class} and then simply replayed.
+     * {@link ClassCache} is used to avoid preventing plugin classes from being unloaded.
+     */
+    @Nullable
+    private transient volatile ClassCache<MergePlan> plans;
+
     /**
      * Constructs new {@link ReflectionMergeBehavior} ignoring fields with specified modifiers.
      *
@@ -86,81 +94,7 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
         if ( relation.isSame () || relation.isAncestor () )
         {
             // Using fields from merged object as it is either an instance of the same or parent class
-            final List<Field> fields = ReflectUtils.getFields ( merged.getClass () );
-
-            // Continue only if there are any fields to merge
-            if ( CollectionUtils.notEmpty ( fields ) )
-            {
-                // Performing merge for each separate field
-                for ( final Field field : fields )
-                {
-                    // Ensure that this field should not be ignored
-                    if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
-                    {
-                        final Class<?> fieldType = field.getType ();
-                        if ( field.getAnnotation ( OmitOnMerge.class ) != null )
-                        {
-                            try
-                            {
-                                // Retrieving default value
-                                final Object value;
-                                if ( fieldType.isPrimitive () )
-                                {
-                                    value = ReflectUtils.getDefaultPrimitiveValue ( fieldType );
-                                }
-                                else
-                                {
-                                    value = null;
-                                }
-
-                                // Nullifying field value
-                                ReflectUtils.setFieldValue ( base, field, value );
-                            }
-                            catch ( final Exception e )
-                            {
-                                // Throwing merge exception
-                                final String message = "Unable to omit field {%s} value";
-                                throw new MergeException ( String.format ( message, field ), e );
-                            }
-                        }
-                        else if ( field.getAnnotation ( PreserveOnMerge.class ) == null )
-                        {
-                            try
-                            {
-                                // Resolving merge result
-                                final Object mergeResult;
-                                final Object baseValue = field.get ( base );
-                                final Object mergedValue = field.get ( merged );
-                                if ( field.getAnnotation ( OverwriteOnMerge.class ) == null )
-                                {
-                                    /**
-                                     * Allowing {@link Merge} to merge field values.
-                                     * It is important to delegate this task to {@link Merge} as soon as possible to preserve its behavior.
-                                     */
-                                    mergeResult = merge.merge ( fieldType, baseValue, mergedValue, depth + 1 );
-                                }
-                                else
-                                {
-                                    /**
-                                     * Allowing {@link Merge} to overwrite field value.
-                                     * We have to rely on {@link Merge} due to merged object possibly being {@code null}.
-                                     */
-                                    mergeResult = merge.overwrite ( baseValue, mergedValue );
-                                }
-
-                                // Saving merged value
-                                ReflectUtils.setFieldValue ( base, field, mergeResult );
-                            }
-                            catch ( final Exception e )
-                            {
-                                // Throwing merge exception
-                                final String message = "Unable to merge field {%s} values for objects {%s} and {%s}";
-                                throw new MergeException ( String.format ( message, field, base, merged ), e );
-                            }
-                        }
-                    }
-                }
-            }
+            getPlans ().get ( merged.getClass () ).merge ( merge, base, merged, depth );
 
             // Return base object where we merged field values
             result = base;
@@ -174,6 +108,39 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
         return result;
     }
 
+    /**
+     * Returns {@link MergePlan}s cache.
+     * It is initialized lazily since {@link ReflectionMergeBehavior} might be deserialized as a part of {@link Merge}.
+     *
+     * @return {@link MergePlan}s cache
+     */
+    @NotNull
+    private ClassCache<MergePlan> getPlans ()
+    {
+        ClassCache<MergePlan> plans = this.plans;
+        if ( plans == null )
+        {
+            synchronized ( this )
+            {
+                plans = this.plans;
+                if ( plans == null )
+                {
+                    plans = new ClassCache<MergePlan> ()
+                    {
+                        @NotNull
+                        @Override
+                        protected MergePlan computeValue ( @NotNull final Class<?> type )
+                        {
+                            return new MergePlan ( type, ignoredModifiers );
+                        }
+                    };
+                    this.plans = plans;
+                }
+            }
+        }
+        return plans;
+    }
+
     /**
      * Behavior policy.
      */
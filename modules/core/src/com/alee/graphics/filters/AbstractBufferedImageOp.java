@@ -16,12 +16,17 @@
 
 package com.alee.graphics.filters;
 
+import com.alee.utils.concurrent.DaemonThreadFactory;
+
 import java.awt.*;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.BufferedImageOp;
 import java.awt.image.ColorModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
 
 /**
  * A convenience class which implements those methods of BufferedImageOp which are rarely changed.
@@ -30,6 +35,190 @@ import java.awt.image.ColorModel;
  */
 public abstract class AbstractBufferedImageOp implements BufferedImageOp
 {
+    /**
+     * Minimum amount of pixels in the image for it to be filtered in parallel.
+     * Smaller images are filtered faster in the calling thread.
+     */
+    public static final int PARALLEL_THRESHOLD = 128 * 128;
+
+    /**
+     * Amount of row bands each worker thread gets when image is filtered in parallel.
+     * Having a few bands per thread evens out the load when some bands are more expensive than others.
+     */
+    private static final int BANDS_PER_THREAD = 4;
+
+    /**
+     * Time in seconds idle {@link #executor} threads are kept alive.
+     */
+    private static final long KEEP_ALIVE = 5L;
+
+    /**
+     * {@link ExecutorService} used to filter row bands in parallel.
+     * It is created lazily when first image is filtered in parallel and its threads are stopped once they stay idle for a while.
+     */
+    private static ThreadPoolExecutor executor;
+
+    /**
+     * Whether or not current thread is one of the {@link #executor} threads.
+     * Nested parallel filtering is performed in the calling thread to avoid waiting for the same executor.
+     */
+    private static final ThreadLocal<Boolean> worker = new ThreadLocal<Boolean> ();
+
+    /**
+     * Whether or not large images should be filtered in parallel by this filter.
+     * It is disabled by default since filter implementation have to support concurrent calls for that to work correctly.
+     */
+    private boolean parallel = false;
+
+    /**
+     * Returns whether or not large images are filtered in parallel by this filter.
+     *
+     * @return {@code true} if large images are filtered in parallel by this filter, {@code false} otherwise
+     */
+    public boolean isParallel ()
+    {
+        return parallel;
+    }
+
+    /**
+     * Sets whether or not large images should be filtered in parallel by this filter.
+     * Parallel filtering produces exactly the same pixels as filtering in a single thread, but it should only be enabled if all
+     * methods of this filter can be called concurrently, for instance {@link PointFilter#filterRGB(int, int, int)}.
+     * It only has effect on multi-core systems.
+     *
+     * @param parallel whether or not large images should be filtered in parallel by this filter
+     */
+    public void setParallel ( final boolean parallel )
+    {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns {@link ExecutorService} used to filter row bands in parallel.
+     *
+     * @return {@link ExecutorService} used to filter row bands in parallel
+     */
+    private static synchronized ExecutorService getExecutor ()
+    {
+        if ( executor == null )
+        {
+            final int threads = Runtime.getRuntime ().availableProcessors ();
+            executor = new ThreadPoolExecutor ( threads, threads, KEEP_ALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable> (),
+                    new DaemonThreadFactory ( "ImageFilter" ) );
+            executor.allowCoreThreadTimeOut ( true );
+        }
+        return executor;
+    }
+
+    /**
+     * Filters all rows of the image of the specified size, splitting them into bands processed in parallel if possible.
+     * Each band only writes its own output rows but can read any input rows, so kernels reaching into neighbouring bands
+     * do not need any special edge handling and produce exactly the same result as single-threaded filtering.
+     *
+     * Rows are only filtered in parallel if it is enabled for this filter, see {@link #setParallel(boolean)}.
+     *
+     * @param width  image width
+     * @param height amount of rows to filter
+     * @param rows   {@link Rows} filter
+     */
+    protected void filterRows ( final int width, final int height, final Rows rows )
+    {
+        filterRows ( parallel, width, height, rows );
+    }
+
+    /**
+     * Filters all rows of the image of the specified size, splitting them into bands processed in parallel if requested and possible.
+     *
+     * @param parallel whether or not rows should be filtered in parallel
+     * @param width    image width
+     * @param height   amount of rows to filter
+     * @param rows     {@link Rows} filter
+     * @see #filterRows(int, int, Rows)
+     */
+    protected static void filterRows ( final boolean parallel, final int width, final int height, final Rows rows )
+    {
+        final int bands = Math.min ( height, Runtime.getRuntime ().availableProcessors () * BANDS_PER_THREAD );
+        if ( parallel && bands > 1 && ( long ) width * height >= PARALLEL_THRESHOLD && worker.get () == null )
+        {
+            // Submitting all bands except the first one which is filtered in the calling thread
+            final ExecutorService executor = getExecutor ();
+            final List<Future<?>> futures = new ArrayList<Future<?>> ( bands - 1 );
+            for ( int band = 1; band < bands; band++ )
+            {
+                final int fromY = height * band / bands;
+                final int toY = height * ( band + 1 ) / bands;
+                futures.add ( executor.submit ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        worker.set ( Boolean.TRUE );
+                        try
+                        {
+                            rows.filter ( fromY, toY );
+                        }
+                        finally
+                        {
+                            worker.remove ();
+                        }
+                    }
+                } ) );
+            }
+            RuntimeException failure = null;
+            try
+            {
+                rows.filter ( 0, height / bands );
+            }
+            catch ( final RuntimeException e )
+            {
+                failure = e;
+            }
+
+            // Waiting for all bands to finish, even if interrupted, since their output is written into shared arrays
+            boolean interrupted = false;
+            for ( final Future<?> future : futures )
+            {
+                while ( true )
+                {
+                    try
+                    {
+                        future.get ();
+                        break;
+                    }
+                    catch ( final InterruptedException e )
+                    {
+                        interrupted = true;
+                    }
+                    catch ( final ExecutionException e )
+                    {
+                        if ( failure == null )
+                        {
+                            final Throwable cause = e.getCause ();
+                            if ( cause instanceof Error )
+                            {
+                                throw ( Error ) cause;
+                            }
+                            failure = cause instanceof RuntimeException ? ( RuntimeException ) cause : new RuntimeException ( cause );
+                        }
+                        break;
+                    }
+                }
+            }
+            if ( interrupted )
+            {
+                Thread.currentThread ().interrupt ();
+            }
+            if ( failure != null )
+            {
+                throw failure;
+            }
+        }
+        else
+        {
+            rows.filter ( 0, height );
+        }
+    }
+
     @Override
     public BufferedImage createCompatibleDestImage ( final BufferedImage src, ColorModel dstCM )
     {
@@ -67,31 +256,37 @@ public abstract class AbstractBufferedImageOp implements BufferedImageOp
     /**
      * A convenience method for getting ARGB pixels from an image.
      * This tries to avoid the performance penalty of BufferedImage.getRGB managing the image.
+     *
+     * @see PixelBuffers#getPixels(BufferedImage, int, int, int, int, int[])
      */
     public int[] getRGB ( final BufferedImage image, final int x, final int y, final int width, final int height, final int[] pixels )
     {
-        final int type = image.getType ();
-        if ( type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_RGB )
-        {
-            return ( int[] ) image.getRaster ().getDataElements ( x, y, width, height, pixels );
-        }
-        return image.getRGB ( x, y, width, height, pixels, 0, width );
+        return PixelBuffers.getPixels ( image, x, y, width, height, pixels );
     }
 
     /**
      * A convenience method for setting ARGB pixels in an image.
      * This tries to avoid the performance penalty of BufferedImage.setRGB managing the image.
+     *
+     * @see PixelBuffers#setPixels(BufferedImage, int, int, int, int, int[])
      */
     public void setRGB ( final BufferedImage image, final int x, final int y, final int width, final int height, final int[] pixels )
     {
-        final int type = image.getType ();
-        if ( type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_RGB )
-        {
-            image.getRaster ().setDataElements ( x, y, width, height, pixels );
-        }
-        else
-        {
-            image.setRGB ( x, y, width, height, pixels, 0, width );
-        }
+        PixelBuffers.setPixels ( image, x, y, width, height, pixels );
+    }
+
+    /**
+     * Filter for a band of image rows.
+     * It can be called concurrently for different bands, so it must only write into rows of its own band.
+     */
+    protected interface Rows
+    {
+        /**
+         * Filters rows within the specified range.
+         *
+         * @param fromY first row to filter, inclusive
+         * @param toY   last row to filter, exclusive
+         */
+        public void filter ( int fromY, int toY );
     }
-}
\ No newline at end of file
+}
@@ -94,34 +94,86 @@ public class BoxBlurFilter extends AbstractBufferedImageOp
             dst = createCompatibleDestImage ( src, null );
         }
 
-        final int[] inPixels = new int[ width * height ];
-        final int[] outPixels = new int[ width * height ];
+        final int[] inPixels = PixelBuffers.acquire ( width * height );
+        final int[] outPixels = PixelBuffers.acquire ( width * height );
         getRGB ( src, 0, 0, width, height, inPixels );
 
         for ( int i = 0; i < iterations; i++ )
         {
-            blur ( inPixels, outPixels, width, height, hRadius );
-            blur ( outPixels, inPixels, height, width, vRadius );
+            blur ( inPixels, outPixels, width, height, hRadius, false, isParallel () );
+            blur ( outPixels, inPixels, height, width, vRadius, false, isParallel () );
         }
 
         setRGB ( dst, 0, 0, width, height, inPixels );
+        PixelBuffers.release ( inPixels );
+        PixelBuffers.release ( outPixels );
         return dst;
     }
 
     public static void blur ( final int[] in, final int[] out, final int width, final int height, final int radius )
     {
-        final int widthMinus1 = width - 1;
+        blur ( in, out, width, height, radius, false );
+    }
+
+    /**
+     * Blurs rows with a box of the specified radius and writes them transposed into the output pixels.
+     *
+     * @param in     input pixels
+     * @param out    output pixels, transposed
+     * @param width  input width
+     * @param height input height
+     * @param radius box radius
+     * @param round  whether or not averaged values should be rounded instead of being truncated,
+     *               rounding avoids darkening the image when multiple passes are performed
+     */
+    public static void blur ( final int[] in, final int[] out, final int width, final int height, final int radius, final boolean round )
+    {
+        blur ( in, out, width, height, radius, round, false );
+    }
+
+    /**
+     * Blurs rows with a box of the specified radius and writes them transposed into the output pixels.
+     *
+     * @param in       input pixels
+     * @param out      output pixels, transposed
+     * @param width    input width
+     * @param height   input height
+     * @param radius   box radius
+     * @param round    whether or not averaged values should be rounded instead of being truncated
+     * @param parallel whether or not rows should be blurred in parallel
+     */
+    protected static void blur ( final int[] in, final int[] out, final int width, final int height, final int radius,
+                                 final boolean round, final boolean parallel )
+    {
         final int tableSize = 2 * radius + 1;
         final int[] divide = new int[ 256 * tableSize ];
 
+        final int bias = round ? tableSize / 2 : 0;
         for ( int i = 0; i < 256 * tableSize; i++ )
         {
-            divide[ i ] = i / tableSize;
+            divide[ i ] = ( i + bias ) / tableSize;
         }
 
-        int inIndex = 0;
+        filterRows ( parallel, width, height, new Rows ()
+        {
+            @Override
+            public void filter ( final int fromY, final int toY )
+            {
+                blur ( in, out, width, height, radius, divide, fromY, toY );
+            }
+        } );
+    }
+
+    /**
+     * Blurs rows within the specified range and writes them transposed into the output pixels.
+     */
+    private static void blur ( final int[] in, final int[] out, final int width, final int height, final int radius, final int[] divide,
+                               final int fromY, final int toY )
+    {
+        final int widthMinus1 = width - 1;
+        int inIndex = fromY * width;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = fromY; y < toY; y++ )
         {
             int outIndex = y;
             int ta = 0, tr = 0, tg = 0, tb = 0;
@@ -107,13 +107,15 @@ public class ConvolveFilter extends AbstractBufferedImageOp
             dst = createCompatibleDestImage ( src, null );
         }
 
-        final int[] inPixels = new int[ width * height ];
-        final int[] outPixels = new int[ width * height ];
+        final int[] inPixels = PixelBuffers.acquire ( width * height );
+        final int[] outPixels = PixelBuffers.acquire ( width * height );
         getRGB ( src, 0, 0, width, height, inPixels );
 
-        convolve ( kernel, inPixels, outPixels, width, height, alpha, edgeAction );
+        convolve ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, isParallel () );
 
         setRGB ( dst, 0, 0, width, height, outPixels );
+        PixelBuffers.release ( inPixels );
+        PixelBuffers.release ( outPixels );
         return dst;
     }
 
@@ -157,18 +159,27 @@ public class ConvolveFilter extends AbstractBufferedImageOp
     }
 
     public static void convolve ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height, final boolean alpha, final int edgeAction )
+    {
+        convolve ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, false );
+    }
+
+    /**
+     * Convolve with the specified kernel, in parallel if requested
+     */
+    protected static void convolve ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height,
+                                     final boolean alpha, final int edgeAction, final boolean parallel )
     {
         if ( kernel.getHeight () == 1 )
         {
-            convolveH ( kernel, inPixels, outPixels, width, height, alpha, edgeAction );
+            convolveH ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, parallel );
         }
         else if ( kernel.getWidth () == 1 )
         {
-            convolveV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction );
+            convolveV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, parallel );
         }
         else
         {
-            convolveHV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction );
+            convolveHV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, parallel );
         }
     }
 
@@ -177,14 +188,40 @@ public class ConvolveFilter extends AbstractBufferedImageOp
      */
     public static void convolveHV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height, final boolean alpha, final int edgeAction )
     {
-        int index = 0;
+        convolveHV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, false );
+    }
+
+    /**
+     * Convolve with a 2D kernel, in parallel if requested
+     */
+    protected static void convolveHV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height,
+                                       final boolean alpha, final int edgeAction, final boolean parallel )
+    {
         final float[] matrix = kernel.getKernelData ( null );
+        filterRows ( parallel, width, height, new Rows ()
+        {
+            @Override
+            public void filter ( final int fromY, final int toY )
+            {
+                convolveHV ( kernel, matrix, inPixels, outPixels, width, height, alpha, edgeAction, fromY, toY );
+            }
+        } );
+    }
+
+    /**
+     * Convolve rows within the specified range with a 2D kernel
+     */
+    private static void convolveHV ( final Kernel kernel, final float[] matrix, final int[] inPixels, final int[] outPixels,
+                                     final int width, final int height, final boolean alpha, final int edgeAction,
+                                     final int fromY, final int toY )
+    {
+        int index = fromY * width;
         final int rows = kernel.getHeight ();
         final int cols = kernel.getWidth ();
         final int rows2 = rows / 2;
         final int cols2 = cols / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = fromY; y < toY; y++ )
         {
             for ( int x = 0; x < width; x++ )
             {
@@ -255,12 +292,37 @@ public class ConvolveFilter extends AbstractBufferedImageOp
      */
     public static void convolveH ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height, final boolean alpha, final int edgeAction )
     {
-        int index = 0;
+        convolveH ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, false );
+    }
+
+    /**
+     * Convolve with a kernel consisting of one row, in parallel if requested
+     */
+    protected static void convolveH ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height,
+                                      final boolean alpha, final int edgeAction, final boolean parallel )
+    {
         final float[] matrix = kernel.getKernelData ( null );
+        filterRows ( parallel, width, height, new Rows ()
+        {
+            @Override
+            public void filter ( final int fromY, final int toY )
+            {
+                convolveH ( kernel, matrix, inPixels, outPixels, width, height, alpha, edgeAction, fromY, toY );
+            }
+        } );
+    }
+
+    /**
+     * Convolve rows within the specified range with a kernel consisting of one row
+     */
+    private static void convolveH ( final Kernel kernel, final float[] matrix, final int[] inPixels, final int[] outPixels, final int width,
+                                    final int height, final boolean alpha, final int edgeAction, final int fromY, final int toY )
+    {
+        int index = fromY * width;
         final int cols = kernel.getWidth ();
         final int cols2 = cols / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = fromY; y < toY; y++ )
         {
             final int iOffset = y * width;
             for ( int x = 0; x < width; x++ )
@@ -316,12 +378,37 @@ public class ConvolveFilter extends AbstractBufferedImageOp
      */
     public static void convolveV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height, final boolean alpha, final int edgeAction )
     {
-        int index = 0;
+        convolveV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, false );
+    }
+
+    /**
+     * Convolve with a kernel consisting of one column, in parallel if requested
+     */
+    protected static void convolveV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height,
+                                      final boolean alpha, final int edgeAction, final boolean parallel )
+    {
         final float[] matrix = kernel.getKernelData ( null );
+        filterRows ( parallel, width, height, new Rows ()
+        {
+            @Override
+            public void filter ( final int fromY, final int toY )
+            {
+                convolveV ( kernel, matrix, inPixels, outPixels, width, height, alpha, edgeAction, fromY, toY );
+            }
+        } );
+    }
+
+    /**
+     * Convolve rows within the specified range with a kernel consisting of one column
+     */
+    private static void convolveV ( final Kernel kernel, final float[] matrix, final int[] inPixels, final int[] outPixels, final int width,
+                                    final int height, final boolean alpha, final int edgeAction, final int fromY, final int toY )
+    {
+        int index = fromY * width;
         final int rows = kernel.getHeight ();
         final int rows2 = rows / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = fromY; y < toY; y++ )
         {
             for ( int x = 0; x < width; x++ )
             {
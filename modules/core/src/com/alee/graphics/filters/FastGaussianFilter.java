@@ -0,0 +1,152 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * A filter which approximates Gaussian blur with three successive box blurs.
+ * Box widths are chosen to match the variance of the kernel used by {@link GaussianFilter} with the same radius.
+ * Each box blur pass is performed with a running sum, so unlike {@link GaussianFilter} per-pixel cost doesn't depend on the radius.
+ * Result differs from the exact Gaussian blur only by a few color levels, which is unnoticeable for shadows and similar effects.
+ *
+ * @author Mikle Garin
+ * @see GaussianFilter
+ * @see BoxBlurFilter
+ */
+public class FastGaussianFilter extends AbstractBufferedImageOp
+{
+    /**
+     * Amount of box blur passes.
+     */
+    public static final int PASSES = 3;
+
+    /**
+     * Minimum radius approximated with box blurs.
+     * Smaller radii are blurred with exact Gaussian kernel since box widths are too coarse for them and exact kernel is cheap anyway.
+     */
+    public static final float MIN_RADIUS = 4;
+
+    /**
+     * Blur radius.
+     */
+    protected float radius;
+
+    /**
+     * Construct a fast Gaussian filter.
+     */
+    public FastGaussianFilter ()
+    {
+        this ( 2 );
+    }
+
+    /**
+     * Construct a fast Gaussian filter.
+     *
+     * @param radius blur radius in pixels
+     */
+    public FastGaussianFilter ( final float radius )
+    {
+        setRadius ( radius );
+    }
+
+    /**
+     * Set the radius of the blur.
+     *
+     * @param radius the radius of the blur in pixels.
+     */
+    public void setRadius ( final float radius )
+    {
+        this.radius = radius;
+    }
+
+    /**
+     * Get the radius of the blur.
+     *
+     * @return the radius
+     */
+    public float getRadius ()
+    {
+        return radius;
+    }
+
+    @Override
+    public BufferedImage filter ( final BufferedImage src, BufferedImage dst )
+    {
+        if ( radius < MIN_RADIUS )
+        {
+            final GaussianFilter filter = new GaussianFilter ( radius );
+            filter.setParallel ( isParallel () );
+            dst = filter.filter ( src, dst );
+        }
+        else
+        {
+            final int width = src.getWidth ();
+            final int height = src.getHeight ();
+
+            if ( dst == null )
+            {
+                dst = createCompatibleDestImage ( src, null );
+            }
+
+            final int[] inPixels = PixelBuffers.acquire ( width * height );
+            final int[] outPixels = PixelBuffers.acquire ( width * height );
+            getRGB ( src, 0, 0, width, height, inPixels );
+
+            for ( final int boxRadius : getBoxRadii ( radius, PASSES ) )
+            {
+                BoxBlurFilter.blur ( inPixels, outPixels, width, height, boxRadius, true, isParallel () );
+                BoxBlurFilter.blur ( outPixels, inPixels, height, width, boxRadius, true, isParallel () );
+            }
+
+            setRGB ( dst, 0, 0, width, height, inPixels );
+            PixelBuffers.release ( inPixels );
+            PixelBuffers.release ( outPixels );
+        }
+        return dst;
+    }
+
+    /**
+     * Returns box blur radii approximating Gaussian blur with the specified radius.
+     * Gaussian standard deviation is considered to be one third of the radius, same as in {@link GaussianFilter#makeKernel(float)}.
+     * Boxes have one of two neighbouring odd widths, amount of each is chosen to match Gaussian variance as close as possible.
+     *
+     * @param radius Gaussian blur radius
+     * @param passes amount of box blur passes
+     * @return box blur radii approximating Gaussian blur with the specified radius
+     */
+    public static int[] getBoxRadii ( final float radius, final int passes )
+    {
+        final double sigma = radius / 3.0;
+        final double variance = 12 * sigma * sigma;
+        int lower = ( int ) Math.floor ( Math.sqrt ( variance / passes + 1 ) );
+        if ( lower % 2 == 0 )
+        {
+            lower--;
+        }
+        final int upper = lower + 2;
+        final double lowerCountIdeal = ( variance - passes * lower * lower - 4 * passes * lower - 3 * passes ) / ( -4.0 * lower - 4 );
+        final long lowerCount = Math.round ( lowerCountIdeal );
+        final int[] radii = new int[ passes ];
+        for ( int i = 0; i < passes; i++ )
+        {
+            radii[ i ] = ( ( i < lowerCount ? lower : upper ) - 1 ) / 2;
+        }
+        return radii;
+    }
+}
@@ -80,25 +80,53 @@ public class GaussianFilter extends ConvolveFilter
             dst = createCompatibleDestImage ( src, null );
         }
 
-        final int[] inPixels = new int[ width * height ];
-        final int[] outPixels = new int[ width * height ];
-        src.getRGB ( 0, 0, width, height, inPixels, 0, width );
+        final int[] inPixels = PixelBuffers.acquire ( width * height );
+        final int[] outPixels = PixelBuffers.acquire ( width * height );
+        getRGB ( src, 0, 0, width, height, inPixels );
 
-        convolveAndTranspose ( kernel, inPixels, outPixels, width, height, alpha, CLAMP_EDGES );
-        convolveAndTranspose ( kernel, outPixels, inPixels, height, width, alpha, CLAMP_EDGES );
+        convolveAndTranspose ( kernel, inPixels, outPixels, width, height, alpha, CLAMP_EDGES, isParallel () );
+        convolveAndTranspose ( kernel, outPixels, inPixels, height, width, alpha, CLAMP_EDGES, isParallel () );
 
-        dst.setRGB ( 0, 0, width, height, inPixels, 0, width );
+        setRGB ( dst, 0, 0, width, height, inPixels );
+        PixelBuffers.release ( inPixels );
+        PixelBuffers.release ( outPixels );
         return dst;
     }
 
     public static void convolveAndTranspose ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width,
                                               final int height, final boolean alpha, final int edgeAction )
+    {
+        convolveAndTranspose ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, false );
+    }
+
+    /**
+     * Convolve rows and write them transposed into the output pixels, in parallel if requested.
+     */
+    protected static void convolveAndTranspose ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width,
+                                                 final int height, final boolean alpha, final int edgeAction, final boolean parallel )
     {
         final float[] matrix = kernel.getKernelData ( null );
+        filterRows ( parallel, width, height, new Rows ()
+        {
+            @Override
+            public void filter ( final int fromY, final int toY )
+            {
+                convolveAndTranspose ( kernel, matrix, inPixels, outPixels, width, height, alpha, edgeAction, fromY, toY );
+            }
+        } );
+    }
+
+    /**
+     * Convolve rows within the specified range and write them transposed into the output pixels.
+     */
+    private static void convolveAndTranspose ( final Kernel kernel, final float[] matrix, final int[] inPixels, final int[] outPixels,
+                                               final int width, final int height, final boolean alpha, final int edgeAction,
+                                               final int fromY, final int toY )
+    {
         final int cols = kernel.getWidth ();
         final int cols2 = cols / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = fromY; y < toY; y++ )
         {
             int index = y;
             final int iOffset = y * width;
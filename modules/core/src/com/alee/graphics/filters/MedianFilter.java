@@ -83,14 +83,31 @@ public class MedianFilter extends WholeImageFilter
     @Override
     protected int[] filterPixels ( final int width, final int height, final int[] inPixels, final Rectangle transformedSpace )
     {
-        int index = 0;
+        final int[] outPixels = new int[ width * height ];
+        filterRows ( width, height, new Rows ()
+        {
+            @Override
+            public void filter ( final int fromY, final int toY )
+            {
+                filterPixels ( width, height, inPixels, outPixels, fromY, toY );
+            }
+        } );
+        return outPixels;
+    }
+
+    /**
+     * Filters rows within the specified range.
+     */
+    private void filterPixels ( final int width, final int height, final int[] inPixels, final int[] outPixels,
+                                final int fromY, final int toY )
+    {
+        int index = fromY * width;
         final int[] argb = new int[ 9 ];
         final int[] r = new int[ 9 ];
         final int[] g = new int[ 9 ];
         final int[] b = new int[ 9 ];
-        final int[] outPixels = new int[ width * height ];
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = fromY; y < toY; y++ )
         {
             for ( int x = 0; x < width; x++ )
             {
@@ -125,7 +142,6 @@ public class MedianFilter extends WholeImageFilter
                 outPixels[ index++ ] = argb[ rgbMedian ( r, g, b ) ];
             }
         }
-        return outPixels;
     }
 
     @Override
@@ -0,0 +1,256 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import com.alee.utils.UtilityException;
+
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Fast bulk access to pixels of images backed by {@link java.awt.image.DataBufferInt} and a small pool of reusable pixel buffers.
+ *
+ * Pixels of {@link BufferedImage#TYPE_INT_ARGB}, {@link BufferedImage#TYPE_INT_ARGB_PRE} and {@link BufferedImage#TYPE_INT_RGB}
+ * images are copied directly between their {@link java.awt.image.DataBufferInt} and {@code int[]} arrays row by row,
+ * instead of being converted one by one through the {@link java.awt.image.ColorModel} as {@link BufferedImage#getRGB} does.
+ * Premultiplied pixels are converted into non-premultiplied ARGB values in place when read,
+ * and are premultiplied within a pooled scratch buffer when written, so the provided array stays intact.
+ *
+ * Backing {@code int[]} of the image is never exposed directly since that makes image unmanaged and prevents its acceleration.
+ *
+ * @author Mikle Garin
+ */
+public final class PixelBuffers
+{
+    /**
+     * Maximum amount of pixel buffers kept in the pool.
+     */
+    private static final int POOL_SIZE = 8;
+
+    /**
+     * Pooled pixel buffers, most recently released ones first.
+     * Buffers are softly referenced so that they can be collected under memory pressure.
+     */
+    private static final LinkedList<SoftReference<int[]>> pool = new LinkedList<SoftReference<int[]>> ();
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private PixelBuffers ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns pixel buffer of the specified length, either pooled or newly created one.
+     * Content of the returned buffer is undefined.
+     * Buffer should be returned into pool using {@link #release(int[])} once it is not used anymore.
+     *
+     * @param length buffer length
+     * @return pixel buffer of the specified length
+     */
+    public static int[] acquire ( final int length )
+    {
+        synchronized ( pool )
+        {
+            final Iterator<SoftReference<int[]>> iterator = pool.iterator ();
+            while ( iterator.hasNext () )
+            {
+                final int[] buffer = iterator.next ().get ();
+                if ( buffer == null )
+                {
+                    iterator.remove ();
+                }
+                else if ( buffer.length == length )
+                {
+                    iterator.remove ();
+                    return buffer;
+                }
+            }
+        }
+        return new int[ length ];
+    }
+
+    /**
+     * Returns pixel buffer into the pool.
+     * Buffer must not be used after it is released.
+     *
+     * @param buffer pixel buffer to release
+     */
+    public static void release ( final int[] buffer )
+    {
+        synchronized ( pool )
+        {
+            pool.addFirst ( new SoftReference<int[]> ( buffer ) );
+            if ( pool.size () > POOL_SIZE )
+            {
+                pool.removeLast ();
+            }
+        }
+    }
+
+    /**
+     * Returns whether or not pixels of the specified image can be accessed directly.
+     *
+     * @param image image to check
+     * @return {@code true} if pixels of the specified image can be accessed directly, {@code false} otherwise
+     */
+    public static boolean isDirect ( final BufferedImage image )
+    {
+        final int type = image.getType ();
+        return type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_ARGB_PRE || type == BufferedImage.TYPE_INT_RGB;
+    }
+
+    /**
+     * Returns non-premultiplied ARGB pixels from the specified image area.
+     * Result is the same as {@link BufferedImage#getRGB(int, int, int, int, int[], int, int)} provides.
+     *
+     * @param image  image to read pixels from
+     * @param x      area X coordinate
+     * @param y      area Y coordinate
+     * @param width  area width
+     * @param height area height
+     * @param pixels array to read pixels into or {@code null} to create new one
+     * @return non-premultiplied ARGB pixels from the specified image area
+     */
+    public static int[] getPixels ( final BufferedImage image, final int x, final int y, final int width, final int height,
+                                    final int[] pixels )
+    {
+        final int[] result;
+        final int type = image.getType ();
+        if ( isDirect ( image ) )
+        {
+            result = ( int[] ) image.getRaster ().getDataElements ( x, y, width, height, pixels );
+            final int length = width * height;
+            if ( type == BufferedImage.TYPE_INT_ARGB_PRE )
+            {
+                unpremultiply ( result, 0, length );
+            }
+            else if ( type == BufferedImage.TYPE_INT_RGB )
+            {
+                for ( int i = 0; i < length; i++ )
+                {
+                    result[ i ] |= 0xff000000;
+                }
+            }
+        }
+        else
+        {
+            result = image.getRGB ( x, y, width, height, pixels, 0, width );
+        }
+        return result;
+    }
+
+    /**
+     * Sets non-premultiplied ARGB pixels into the specified image area.
+     * Result is the same as {@link BufferedImage#setRGB(int, int, int, int, int[], int, int)} provides.
+     *
+     * Specified array is never modified, pixels for {@link BufferedImage#TYPE_INT_ARGB_PRE} images are premultiplied
+     * within a pooled scratch buffer.
+     *
+     * @param image  image to write pixels into
+     * @param x      area X coordinate
+     * @param y      area Y coordinate
+     * @param width  area width
+     * @param height area height
+     * @param pixels non-premultiplied ARGB pixels
+     */
+    public static void setPixels ( final BufferedImage image, final int x, final int y, final int width, final int height,
+                                   final int[] pixels )
+    {
+        if ( isDirect ( image ) )
+        {
+            if ( image.getType () == BufferedImage.TYPE_INT_ARGB_PRE )
+            {
+                final int length = width * height;
+                final int[] premultiplied = acquire ( length );
+                System.arraycopy ( pixels, 0, premultiplied, 0, length );
+                premultiply ( premultiplied, 0, length );
+                image.getRaster ().setDataElements ( x, y, width, height, premultiplied );
+                release ( premultiplied );
+            }
+            else
+            {
+                image.getRaster ().setDataElements ( x, y, width, height, pixels );
+            }
+        }
+        else
+        {
+            image.setRGB ( x, y, width, height, pixels, 0, width );
+        }
+    }
+
+    /**
+     * Converts non-premultiplied ARGB pixels into premultiplied ones in place.
+     *
+     * @param pixels pixels to convert
+     * @param offset first pixel index
+     * @param length amount of pixels to convert
+     */
+    public static void premultiply ( final int[] pixels, final int offset, final int length )
+    {
+        final int end = offset + length;
+        for ( int i = offset; i < end; i++ )
+        {
+            final int rgb = pixels[ i ];
+            final int a = rgb >>> 24;
+            if ( a == 0 )
+            {
+                pixels[ i ] = 0;
+            }
+            else if ( a != 255 )
+            {
+                final int r = ( ( rgb >> 16 & 0xff ) * a + 127 ) / 255;
+                final int g = ( ( rgb >> 8 & 0xff ) * a + 127 ) / 255;
+                final int b = ( ( rgb & 0xff ) * a + 127 ) / 255;
+                pixels[ i ] = a << 24 | r << 16 | g << 8 | b;
+            }
+        }
+    }
+
+    /**
+     * Converts premultiplied ARGB pixels into non-premultiplied ones in place.
+     *
+     * @param pixels pixels to convert
+     * @param offset first pixel index
+     * @param length amount of pixels to convert
+     */
+    public static void unpremultiply ( final int[] pixels, final int offset, final int length )
+    {
+        final int end = offset + length;
+        for ( int i = offset; i < end; i++ )
+        {
+            final int rgb = pixels[ i ];
+            final int a = rgb >>> 24;
+            if ( a == 0 )
+            {
+                pixels[ i ] = 0;
+            }
+            else if ( a != 255 )
+            {
+                final int half = a / 2;
+                final int r = Math.min ( 255, ( ( rgb >> 16 & 0xff ) * 255 + half ) / a );
+                final int g = Math.min ( 255, ( ( rgb >> 8 & 0xff ) * 255 + half ) / a );
+                final int b = Math.min ( 255, ( ( rgb & 0xff ) * 255 + half ) / a );
+                pixels[ i ] = a << 24 | r << 16 | g << 8 | b;
+            }
+        }
+    }
+}
@@ -17,7 +17,6 @@
 package com.alee.graphics.filters;
 
 import java.awt.image.BufferedImage;
-import java.awt.image.WritableRaster;
 
 /**
  * An abstract superclass for point filters.
@@ -34,31 +33,42 @@ public abstract class PointFilter extends AbstractBufferedImageOp
     {
         final int width = src.getWidth ();
         final int height = src.getHeight ();
-        final int type = src.getType ();
-        final WritableRaster srcRaster = src.getRaster ();
 
         if ( dst == null )
         {
             dst = createCompatibleDestImage ( src, null );
         }
-        final WritableRaster dstRaster = dst.getRaster ();
 
         setDimensions ( width, height );
 
-        final int[] inPixels = new int[ width ];
-        for ( int y = 0; y < height; y++ )
+        if ( PixelBuffers.isDirect ( src ) && PixelBuffers.isDirect ( dst ) )
         {
-            // We try to avoid calling getRGB on images as it causes them to become un-managed, causing horrible performance problems.
-            if ( type == BufferedImage.TYPE_INT_ARGB )
+            // Pixels are copied directly from and into the image rasters, which also keeps images managed
+            final BufferedImage target = dst;
+            filterRows ( width, height, new Rows ()
             {
-                srcRaster.getDataElements ( 0, y, width, 1, inPixels );
-                for ( int x = 0; x < width; x++ )
+                @Override
+                public void filter ( final int fromY, final int toY )
                 {
-                    inPixels[ x ] = filterRGB ( x, y, inPixels[ x ] );
+                    final int[] inPixels = PixelBuffers.acquire ( width );
+                    for ( int y = fromY; y < toY; y++ )
+                    {
+                        getRGB ( src, 0, y, width, 1, inPixels );
+                        for ( int x = 0; x < width; x++ )
+                        {
+                            inPixels[ x ] = filterRGB ( x, y, inPixels[ x ] );
+                        }
+                        setRGB ( target, 0, y, width, 1, inPixels );
+                    }
+                    PixelBuffers.release ( inPixels );
                 }
-                dstRaster.setDataElements ( 0, y, width, 1, inPixels );
-            }
-            else
+            } );
+        }
+        else
+        {
+            // Color model conversions are not guaranteed to be thread-safe, so other image types are filtered in a single thread
+            final int[] inPixels = new int[ width ];
+            for ( int y = 0; y < height; y++ )
             {
                 src.getRGB ( 0, y, width, 1, inPixels, 0, width );
                 for ( int x = 0; x < width; x++ )
@@ -76,5 +86,15 @@ public abstract class PointFilter extends AbstractBufferedImageOp
     {
     }
 
+    /**
+     * Filters single pixel.
+     * Note that this method can only be called concurrently for pixels from different rows of a large image
+     * if parallel filtering is enabled for this filter through {@link #setParallel(boolean)}.
+     *
+     * @param x   pixel X coordinate
+     * @param y   pixel Y coordinate
+     * @param rgb pixel ARGB value
+     * @return filtered pixel ARGB value
+     */
     public abstract int filterRGB ( int x, int y, int rgb );
 }
\ No newline at end of file
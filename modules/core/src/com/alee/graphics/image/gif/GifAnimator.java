@@ -0,0 +1,314 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.image.gif;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Shared animation clock for all animated {@link GifIcon}s.
+ * Single daemon {@link Thread} advances frames of all registered {@link GifIcon}s in the order of their frame change times.
+ * Frame change times are aligned to {@link #TICK} so that icons with similar delays change frames together,
+ * and all {@link GifIcon}s changed within a tick are updated within a single Event Dispatch Thread call.
+ *
+ * @author Mikle Garin
+ * @see GifIcon#startAnimation()
+ * @see GifIcon#stopAnimation()
+ */
+final class GifAnimator
+{
+    /**
+     * Animation tick length in milliseconds.
+     * GIF frame delays are specified in hundredths of a second, so this is the smallest meaningful step.
+     */
+    public static final long TICK = 10;
+
+    /**
+     * Delay used for frames that have no delay specified, in milliseconds.
+     */
+    public static final int DEFAULT_DELAY = 100;
+
+    /**
+     * Lock for all animator state.
+     */
+    @NotNull
+    private static final Object lock = new Object ();
+
+    /**
+     * Scheduled frame changes ordered by their time.
+     */
+    @NotNull
+    private static final PriorityQueue<Schedule> queue = new PriorityQueue<Schedule> ();
+
+    /**
+     * Scheduled frame changes of animated {@link GifIcon}s.
+     */
+    @NotNull
+    private static final Map<GifIcon, Schedule> schedules = new IdentityHashMap<GifIcon, Schedule> ();
+
+    /**
+     * {@link GifIcon}s with changed frames waiting to be updated on the Event Dispatch Thread.
+     */
+    @NotNull
+    private static final Set<GifIcon> changed = Collections.newSetFromMap ( new IdentityHashMap<GifIcon, Boolean> () );
+
+    /**
+     * Animation {@link Thread}, it is created when first {@link GifIcon} is animated.
+     */
+    private static Thread animator;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private GifAnimator ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns whether or not specified {@link GifIcon} is animated.
+     *
+     * @param icon {@link GifIcon}
+     * @return {@code true} if specified {@link GifIcon} is animated, {@code false} otherwise
+     */
+    public static boolean isAnimated ( @NotNull final GifIcon icon )
+    {
+        synchronized ( lock )
+        {
+            return schedules.containsKey ( icon );
+        }
+    }
+
+    /**
+     * Starts animating specified {@link GifIcon} from its currently displayed frame.
+     *
+     * @param icon {@link GifIcon} to animate
+     */
+    public static void start ( @NotNull final GifIcon icon )
+    {
+        synchronized ( lock )
+        {
+            if ( !schedules.containsKey ( icon ) )
+            {
+                final Schedule schedule = new Schedule ( icon, align ( time () + getDelay ( icon ) ) );
+                schedules.put ( icon, schedule );
+                queue.add ( schedule );
+                if ( animator == null )
+                {
+                    animator = new DaemonThreadFactory ( "GifAnimator" ).newThread ( new Runnable ()
+                    {
+                        @Override
+                        public void run ()
+                        {
+                            animate ();
+                        }
+                    } );
+                    animator.start ();
+                }
+                lock.notifyAll ();
+            }
+        }
+    }
+
+    /**
+     * Stops animating specified {@link GifIcon}.
+     *
+     * @param icon {@link GifIcon} to stop animating
+     */
+    public static void stop ( @NotNull final GifIcon icon )
+    {
+        synchronized ( lock )
+        {
+            final Schedule schedule = schedules.remove ( icon );
+            if ( schedule != null )
+            {
+                queue.remove ( schedule );
+            }
+            changed.remove ( icon );
+        }
+    }
+
+    /**
+     * Animation loop.
+     */
+    private static void animate ()
+    {
+        final List<Schedule> due = new ArrayList<Schedule> ();
+        while ( true )
+        {
+            // Waiting for the next tick with frame changes
+            final long now;
+            synchronized ( lock )
+            {
+                long time = time ();
+                while ( queue.isEmpty () || queue.peek ().time > time )
+                {
+                    try
+                    {
+                        lock.wait ( queue.isEmpty () ? 0 : queue.peek ().time - time );
+                    }
+                    catch ( final InterruptedException ignored )
+                    {
+                        // Animator is never interrupted intentionally
+                    }
+                    time = time ();
+                }
+                now = time;
+                while ( !queue.isEmpty () && queue.peek ().time <= now )
+                {
+                    due.add ( queue.poll () );
+                }
+            }
+
+            // Advancing frames outside of the lock since streaming icons might need to decode them
+            for ( final Iterator<Schedule> iterator = due.iterator (); iterator.hasNext (); )
+            {
+                final Schedule schedule = iterator.next ();
+                try
+                {
+                    schedule.icon.nextFrame ();
+                }
+                catch ( final Exception e )
+                {
+                    // Failed icon is no longer animated to keep other icons running
+                    LoggerFactory.getLogger ( GifAnimator.class ).error ( "Unable to switch GifIcon frame", e );
+                    stop ( schedule.icon );
+                    iterator.remove ();
+                }
+            }
+
+            // Scheduling next frame changes and a single Event Dispatch Thread update for this tick
+            synchronized ( lock )
+            {
+                final boolean dispatch = changed.isEmpty ();
+                for ( final Schedule schedule : due )
+                {
+                    if ( schedules.get ( schedule.icon ) == schedule )
+                    {
+                        schedule.time = align ( Math.max ( now, schedule.time + getDelay ( schedule.icon ) ) );
+                        queue.add ( schedule );
+                        changed.add ( schedule.icon );
+                    }
+                }
+                if ( dispatch && !changed.isEmpty () )
+                {
+                    CoreSwingUtils.invokeLater ( new Runnable ()
+                    {
+                        @Override
+                        public void run ()
+                        {
+                            dispatch ();
+                        }
+                    } );
+                }
+            }
+            due.clear ();
+        }
+    }
+
+    /**
+     * Informs all {@link GifIcon}s with changed frames.
+     * This is always called on the Event Dispatch Thread.
+     */
+    private static void dispatch ()
+    {
+        final List<GifIcon> icons;
+        synchronized ( lock )
+        {
+            icons = new ArrayList<GifIcon> ( changed );
+            changed.clear ();
+        }
+        for ( final GifIcon icon : icons )
+        {
+            icon.frameChanged ();
+        }
+    }
+
+    /**
+     * Returns delay of the currently displayed {@link GifIcon} frame.
+     *
+     * @param icon {@link GifIcon}
+     * @return delay of the currently displayed {@link GifIcon} frame
+     */
+    private static int getDelay ( @NotNull final GifIcon icon )
+    {
+        final int delay = icon.getFrameDelay ( icon.getDisplayedFrame () );
+        return delay == 0 ? DEFAULT_DELAY : delay;
+    }
+
+    /**
+     * Returns specified time aligned to the next tick.
+     *
+     * @param time time in milliseconds
+     * @return specified time aligned to the next tick
+     */
+    private static long align ( final long time )
+    {
+        return ( time + TICK - 1 ) / TICK * TICK;
+    }
+
+    /**
+     * Returns current monotonic time in milliseconds.
+     *
+     * @return current monotonic time in milliseconds
+     */
+    private static long time ()
+    {
+        return System.nanoTime () / 1000000L;
+    }
+
+    /**
+     * Scheduled frame change of a single {@link GifIcon}.
+     */
+    private static final class Schedule implements Comparable<Schedule>
+    {
+        /**
+         * Animated {@link GifIcon}.
+         */
+        @NotNull
+        private final GifIcon icon;
+
+        /**
+         * Next frame change time.
+         */
+        private long time;
+
+        /**
+         * Constructs new {@link Schedule}.
+         *
+         * @param icon animated {@link GifIcon}
+         * @param time next frame change time
+         */
+        public Schedule ( @NotNull final GifIcon icon, final long time )
+        {
+            this.icon = icon;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo ( @NotNull final Schedule other )
+        {
+            return time < other.time ? -1 : time > other.time ? 1 : 0;
+        }
+    }
+}
@@ -20,13 +20,21 @@ package com.alee.graphics.image.gif;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
-import java.io.IOException;
+import java.io.*;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
+ * GIF decoder that can work in two modes.
+ *
+ * Eager mode decodes all frames into separate {@link BufferedImage}s while reading the GIF.
+ *
+ * Streaming mode only keeps compressed GIF data and parses frame headers while reading the GIF.
+ * Frames are decoded on demand into a small ring of reused {@link BufferedImage}s, which is much cheaper for long animations.
+ * Frame images returned in this mode are only valid until {@link #RING_SIZE} more frames are decoded.
+ *
  * @author Kevin Weiner, FM Software; LZW decoder adapted from John Cristy's ImageMagick.
  * @version 1.01 July 2001
  */
@@ -47,7 +55,15 @@ public class GifDecoder
      */
     public static final int STATUS_OPEN_ERROR = 2;
 
-    private BufferedInputStream in;
+    /**
+     * Amount of reused frame images in streaming mode.
+     * Each frame might depend on two previous frames due to disposal methods, so at least three are required.
+     * Images are reused in round-robin order, so decoding next frame never overwrites the last decoded one.
+     */
+    public static final int RING_SIZE = 3;
+
+    private final boolean streaming;  // whether frames are decoded on demand
+    private InputStream in;
     private int status;
 
     private int width;            // full image width
@@ -96,6 +112,62 @@ public class GifDecoder
     private ArrayList frames;
     private int frameCount;
 
+    // streaming mode data
+    private List<FrameHeader> headers;      // headers of frames read from current file
+    private BufferedImage[] ring;           // reused frame images
+    private int[] ringFrames;               // indices of frames stored in ring images, -1 for none
+    private int ringSlot;                   // ring image to decode next frame into
+    private int decodedFrame;               // index of the last decoded frame
+    private int[] frameColors;              // active color table of the decoded frame
+
+    /**
+     * Constructs new eager {@link GifDecoder}.
+     */
+    public GifDecoder ()
+    {
+        this ( false );
+    }
+
+    /**
+     * Constructs new {@link GifDecoder}.
+     *
+     * @param streaming whether frames should be decoded on demand instead of being decoded all at once
+     */
+    public GifDecoder ( final boolean streaming )
+    {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Returns whether or not frames are decoded on demand.
+     *
+     * @return {@code true} if frames are decoded on demand, {@code false} otherwise
+     */
+    public boolean isStreaming ()
+    {
+        return streaming;
+    }
+
+    /**
+     * Returns logical screen width.
+     *
+     * @return logical screen width
+     */
+    public int getWidth ()
+    {
+        return width;
+    }
+
+    /**
+     * Returns logical screen height.
+     *
+     * @return logical screen height
+     */
+    public int getHeight ()
+    {
+        return height;
+    }
+
     /**
      * Returns pixel aspect ratio.
      *
@@ -117,13 +189,14 @@ public class GifDecoder
         delay = -1;
         if ( n >= 0 && n < frameCount )
         {
-            delay = ( ( GifFrame ) frames.get ( n ) ).delay;
+            delay = streaming ? headers.get ( n ).delay : ( ( GifFrame ) frames.get ( n ) ).delay;
         }
         return delay;
     }
 
     /**
      * Gets the image contents of frame n.
+     * In streaming mode frame is decoded on demand and returned image is reused for other frames later on.
      *
      * @param n frame number
      * @return {@link BufferedImage} representation of frame, or {@code null} if n is invalid
@@ -133,7 +206,32 @@ public class GifDecoder
         BufferedImage bi = null;
         if ( n >= 0 && n < frameCount )
         {
-            bi = ( ( GifFrame ) frames.get ( n ) ).bufferedImage;
+            bi = streaming ? decodeFrame ( n ) : ( ( GifFrame ) frames.get ( n ) ).bufferedImage;
+        }
+        return bi;
+    }
+
+    /**
+     * Gets copy of the image contents of frame n.
+     * In streaming mode frame is decoded separately from the first one, so reused frame images stay intact.
+     *
+     * @param n frame number
+     * @return {@link BufferedImage} copy of frame, or {@code null} if n is invalid
+     */
+    public BufferedImage getFrameCopy ( final int n )
+    {
+        BufferedImage bi = null;
+        if ( n >= 0 && n < frameCount )
+        {
+            if ( streaming )
+            {
+                bi = decodeFrameCopy ( n );
+            }
+            else
+            {
+                final BufferedImage image = ( ( GifFrame ) frames.get ( n ) ).bufferedImage;
+                bi = new BufferedImage ( image.getColorModel (), image.copyData ( null ), image.isAlphaPremultiplied (), null );
+            }
         }
         return bi;
     }
@@ -177,7 +275,15 @@ public class GifDecoder
         init ();
         if ( is != null )
         {
-            in = is;
+            if ( streaming )
+            {
+                // Compressed data is kept to decode frames later on
+                in = new GifData ( readFully ( is ) );
+            }
+            else
+            {
+                in = is;
+            }
             readHeader ();
             if ( !err () )
             {
@@ -203,6 +309,31 @@ public class GifDecoder
         return status;
     }
 
+    /**
+     * Returns all remaining bytes from the specified {@link InputStream}.
+     *
+     * @param is {@link InputStream} to read
+     * @return all remaining bytes from the specified {@link InputStream}
+     */
+    private byte[] readFully ( final InputStream is )
+    {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream ();
+        try
+        {
+            final byte[] buffer = new byte[ 8192 ];
+            int count;
+            while ( ( count = is.read ( buffer ) ) != -1 )
+            {
+                data.write ( buffer, 0, count );
+            }
+        }
+        catch ( final IOException e )
+        {
+            status = STATUS_FORMAT_ERROR;
+        }
+        return data.toByteArray ();
+    }
+
     /**
      * Reads GIF file from specified source (file or URL string)
      *
@@ -215,16 +346,17 @@ public class GifDecoder
         try
         {
             name = name.trim ();
+            final BufferedInputStream stream;
             if ( name.indexOf ( "://" ) > 0 )
             {
                 final URL url = new URL ( name );
-                in = new BufferedInputStream ( url.openStream () );
+                stream = new BufferedInputStream ( url.openStream () );
             }
             else
             {
-                in = new BufferedInputStream ( new FileInputStream ( name ) );
+                stream = new BufferedInputStream ( new FileInputStream ( name ) );
             }
-            status = read ( in );
+            status = read ( stream );
         }
         catch ( final IOException e )
         {
@@ -407,6 +539,11 @@ public class GifDecoder
         status = STATUS_OK;
         frameCount = 0;
         frames = new ArrayList ();
+        headers = new ArrayList<FrameHeader> ();
+        ring = null;
+        ringFrames = null;
+        ringSlot = 0;
+        decodedFrame = -1;
         gct = null;
         lct = null;
     }
@@ -646,6 +783,13 @@ public class GifDecoder
                 bgColor = 0;
             }
         }
+
+        if ( streaming )
+        {
+            readFrameHeader ();
+            return;
+        }
+
         int save = 0;
         if ( transparency )
         {
@@ -687,6 +831,205 @@ public class GifDecoder
         resetFrame ();
     }
 
+    /**
+     * Remembers current frame header and skips frame data in streaming mode.
+     */
+    @SuppressWarnings ( "MethodWithMultipleReturnPoints" )
+    protected void readFrameHeader ()
+    {
+        if ( act == null )
+        {
+            status = STATUS_FORMAT_ERROR;   // no color table defined
+            return;
+        }
+
+        final FrameHeader header = new FrameHeader ( ( ( GifData ) in ).getPosition (), ix, iy, iw, ih, interlace, act,
+                transparency, transIndex, dispose, delay, bgColor );
+
+        read ();    // LZW minimum code size
+        skip ();    // image data
+
+        if ( err () )
+        {
+            return;
+        }
+
+        frameCount++;
+        headers.add ( header );
+        lct = null;
+    }
+
+    /**
+     * Returns frame decoded on demand in streaming mode.
+     * Frames are decoded sequentially, so decoding restarts from the first frame if requested frame is older than the ring.
+     *
+     * @param n frame number
+     * @return {@link BufferedImage} representation of frame
+     */
+    protected synchronized BufferedImage decodeFrame ( final int n )
+    {
+        if ( ring == null )
+        {
+            ring = new BufferedImage[ RING_SIZE ];
+            ringFrames = new int[ RING_SIZE ];
+            for ( int i = 0; i < RING_SIZE; i++ )
+            {
+                ring[ i ] = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB_PRE );
+                ringFrames[ i ] = -1;
+            }
+        }
+        if ( getRingSlot ( n ) == -1 )
+        {
+            if ( n < decodedFrame )
+            {
+                decodedFrame = -1;
+            }
+            while ( decodedFrame < n )
+            {
+                decodedFrame++;
+                renderFrame ( decodedFrame );
+            }
+        }
+        return ring[ getRingSlot ( n ) ];
+    }
+
+    /**
+     * Returns copy of the frame decoded separately from the ring in streaming mode.
+     * All frames up to the requested one are decoded into temporary pixel arrays.
+     *
+     * @param n frame number
+     * @return {@link BufferedImage} copy of the frame
+     */
+    protected synchronized BufferedImage decodeFrameCopy ( final int n )
+    {
+        final int[][] frames = new int[ Math.min ( n + 1, RING_SIZE ) ][ width * height ];
+        for ( int i = 0; i <= n; i++ )
+        {
+            final int[] last = i > 0 ? frames[ ( i - 1 ) % frames.length ] : null;
+            final int[] beforeLast = i > 1 ? frames[ ( i - 2 ) % frames.length ] : null;
+            renderFrame ( i, frames[ i % frames.length ], last, beforeLast );
+        }
+        final BufferedImage copy = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB_PRE );
+        copy.getRaster ().setDataElements ( 0, 0, width, height, frames[ n % frames.length ] );
+        return copy;
+    }
+
+    /**
+     * Returns index of the ring image containing specified frame or {@code -1} if it is not in the ring.
+     *
+     * @param n frame number
+     * @return index of the ring image containing specified frame or {@code -1} if it is not in the ring
+     */
+    protected int getRingSlot ( final int n )
+    {
+        int slot = -1;
+        for ( int i = 0; i < RING_SIZE; i++ )
+        {
+            if ( ringFrames[ i ] == n )
+            {
+                slot = i;
+                break;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns pixels of the ring image containing specified frame or {@code null} if it is not in the ring.
+     *
+     * @param n frame number
+     * @return pixels of the ring image containing specified frame or {@code null} if it is not in the ring
+     */
+    protected int[] getRingPixels ( final int n )
+    {
+        final int slot = getRingSlot ( n );
+        return slot != -1 ? ( ( DataBufferInt ) ring[ slot ].getRaster ().getDataBuffer () ).getData () : null;
+    }
+
+    /**
+     * Renders frame into the next ring image in streaming mode.
+     * Previous frames must already be rendered since they are used according to their disposal methods.
+     *
+     * @param n frame number
+     */
+    protected void renderFrame ( final int n )
+    {
+        final int slot = ringSlot;
+        ringSlot = ( ringSlot + 1 ) % RING_SIZE;
+        ringFrames[ slot ] = -1;
+        final int[] dest = ( ( DataBufferInt ) ring[ slot ].getRaster ().getDataBuffer () ).getData ();
+        final int[] lastPixels = n > 0 ? getRingPixels ( n - 1 ) : null;
+        final int[] beforeLastPixels = n > 1 ? getRingPixels ( n - 2 ) : null;
+        renderFrame ( n, dest, lastPixels, beforeLastPixels );
+        ringFrames[ slot ] = n;
+    }
+
+    /**
+     * Renders frame into the specified pixels in streaming mode.
+     *
+     * @param n                frame number
+     * @param dest             frame image pixels
+     * @param lastPixels       pixels of the previous frame or {@code null} if there is none
+     * @param beforeLastPixels pixels of the frame before previous one or {@code null} if there is none
+     */
+    protected void renderFrame ( final int n, final int[] dest, final int[] lastPixels, final int[] beforeLastPixels )
+    {
+        final FrameHeader header = headers.get ( n );
+        final FrameHeader last = n > 0 ? headers.get ( n - 1 ) : null;
+
+        // fill in starting image contents based on last image's dispose code
+        final int lastFrameDispose = last != null ? last.dispose : 0;
+        final int[] prev;
+        if ( lastFrameDispose == 3 )
+        {
+            // use image before last
+            prev = beforeLastPixels;
+        }
+        else if ( lastFrameDispose > 0 )
+        {
+            prev = lastPixels;
+        }
+        else
+        {
+            prev = null;
+        }
+        if ( prev != null )
+        {
+            System.arraycopy ( prev, 0, dest, 0, width * height );
+            if ( lastFrameDispose == 2 )
+            {
+                // fill last image rect area with background color, transparent or opaque one
+                final int c = header.transparency ? 0 : 0xff000000 | last.bgColor;
+                final int x1 = Math.max ( 0, last.ix );
+                final int x2 = Math.min ( width, last.ix + last.iw );
+                final int y2 = Math.min ( height, last.iy + last.ih );
+                for ( int y = Math.max ( 0, last.iy ); y < y2 && x1 < x2; y++ )
+                {
+                    Arrays.fill ( dest, y * width + x1, y * width + x2, c );
+                }
+            }
+        }
+        else
+        {
+            Arrays.fill ( dest, 0 );
+        }
+
+        // decode frame data
+        ix = header.ix;
+        iy = header.iy;
+        iw = header.iw;
+        ih = header.ih;
+        interlace = header.interlace;
+        if ( frameColors == null )
+        {
+            frameColors = new int[ 256 ];
+        }
+        act = header.colorTable ( frameColors );
+        ( ( GifData ) in ).seek ( header.offset );
+        decodeImageData ();
+        drawPixels ( dest );
+    }
+
     /**
      * Reads Logical Screen Descriptor
      */
@@ -804,6 +1147,16 @@ public class GifDecoder
             }
         }
 
+        drawPixels ( dest );
+    }
+
+    /**
+     * Draws decoded pixels of current frame onto the frame image pixels.
+     *
+     * @param dest frame image pixels
+     */
+    protected void drawPixels ( final int[] dest )
+    {
         // copy each source line to the appropriate place in the destination
         int pass = 1;
         int inc = 8;
@@ -880,4 +1233,93 @@ public class GifDecoder
     {
         return status;
     }
-}
\ No newline at end of file
+
+    /**
+     * Header of a single frame remembered in streaming mode.
+     */
+    private static final class FrameHeader
+    {
+        private final int offset;           // frame data offset
+        private final int ix, iy, iw, ih;   // frame image rectangle
+        private final boolean interlace;    // interlace flag
+        private final int[] table;          // frame color table
+        private final boolean transparency; // use transparent color
+        private final int transIndex;       // transparent color index
+        private final int dispose;          // disposal method
+        private final int delay;            // delay in milliseconds
+        private final int bgColor;          // background color
+
+        /**
+         * Constructs new {@link FrameHeader}.
+         */
+        private FrameHeader ( final int offset, final int ix, final int iy, final int iw, final int ih, final boolean interlace,
+                              final int[] table, final boolean transparency, final int transIndex, final int dispose,
+                              final int delay, final int bgColor )
+        {
+            this.offset = offset;
+            this.ix = ix;
+            this.iy = iy;
+            this.iw = iw;
+            this.ih = ih;
+            this.interlace = interlace;
+            this.table = table;
+            this.transparency = transparency;
+            this.transIndex = transIndex;
+            this.dispose = dispose;
+            this.delay = delay;
+            this.bgColor = bgColor;
+        }
+
+        /**
+         * Returns active color table for this frame with transparent color applied.
+         *
+         * @param colors array to copy colors into
+         * @return active color table for this frame with transparent color applied
+         */
+        private int[] colorTable ( final int[] colors )
+        {
+            System.arraycopy ( table, 0, colors, 0, 256 );
+            if ( transparency )
+            {
+                colors[ transIndex ] = 0;
+            }
+            return colors;
+        }
+    }
+
+    /**
+     * In-memory GIF data that allows returning to frame data offsets.
+     */
+    private static final class GifData extends ByteArrayInputStream
+    {
+        /**
+         * Constructs new {@link GifData}.
+         *
+         * @param data GIF data
+         */
+        private GifData ( final byte[] data )
+        {
+            super ( data );
+        }
+
+        /**
+         * Returns current read position.
+         *
+         * @return current read position
+         */
+        private int getPosition ()
+        {
+            return pos;
+        }
+
+        /**
+         * Moves read position to the specified offset.
+         *
+         * @param offset new read position
+         */
+        private void seek ( final int offset )
+        {
+            pos = offset;
+        }
+    }
+}
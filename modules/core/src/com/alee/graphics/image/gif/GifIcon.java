@@ -31,10 +31,19 @@ import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Simple GIF {@link Icon} implementation.
  *
+ * Animation of all {@link GifIcon}s is performed by a single shared {@link GifAnimator} clock.
+ * Frame changes are reported to {@link FrameChangeListener}s on the Event Dispatch Thread.
+ * Components this {@link GifIcon} was painted on are repainted automatically on frame changes,
+ * cell renderers painted through {@link CellRendererPane} are repainted within the component that uses them.
+ * Animation is paused once it is no longer painted on any visible component and has no {@link FrameChangeListener}s,
+ * until it gets painted again.
+ *
  * @author Mikle Garin
  * @see GifDecoder
  * @see GifEncoder
@@ -43,10 +52,18 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
 {
     /**
      * {@link List} of all {@link GifFrame}s in this {@link GifIcon}.
+     * It is empty if frames are decoded on demand by {@link #decoder}.
      */
     @NotNull
     protected final List<GifFrame> frames;
 
+    /**
+     * Streaming {@link GifDecoder} that decodes frames on demand.
+     * It is {@code null} if all frames are decoded upfront and stored in {@link #frames}.
+     */
+    @Nullable
+    protected final GifDecoder decoder;
+
     /**
      * {@link GifIcon} loading status.
      *
@@ -65,13 +82,31 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     /**
      * Currently displayed {@link GifFrame} index.
      */
-    protected transient int displayedFrame;
+    protected transient volatile int displayedFrame;
 
     /**
-     * Daemon {@link Thread} that handles {@link GifIcon} animation.
+     * Last frame decoded by streaming {@link #decoder}.
+     * It is published once decoding is finished, so it can be painted without waiting for or triggering any decoding.
+     * It is {@code null} if all frames are decoded upfront and stored in {@link #frames}.
      */
     @Nullable
-    protected transient Thread gifAnimator;
+    protected transient volatile DecodedFrame decodedFrame;
+
+    /**
+     * Areas of {@link Component}s this {@link GifIcon} was painted on since the last frame change.
+     */
+    @NotNull
+    protected final transient Map<Component, Rectangle> paintedAreas = new WeakHashMap<Component, Rectangle> ( 1 );
+
+    /**
+     * Whether or not this {@link GifIcon} was painted on any {@link Component} at least once.
+     */
+    protected transient volatile boolean painted;
+
+    /**
+     * Whether or not animation was paused because this {@link GifIcon} is not displayed anymore.
+     */
+    protected transient volatile boolean paused;
 
     /**
      * Constructs new {@link GifIcon}.
@@ -83,19 +118,44 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
         this ( resource.getInputStream () );
     }
 
+    /**
+     * Constructs new {@link GifIcon}.
+     *
+     * @param resource  GIF {@link Resource}
+     * @param streaming whether or not frames should be decoded on demand instead of being decoded all at once
+     */
+    public GifIcon ( @NotNull final Resource resource, final boolean streaming )
+    {
+        this ( resource.getInputStream (), streaming );
+    }
+
     /**
      * Constructs new {@link GifIcon}.
      *
      * @param inputStream GIF {@link InputStream}
      */
     public GifIcon ( @NotNull final InputStream inputStream )
+    {
+        this ( inputStream, false );
+    }
+
+    /**
+     * Constructs new {@link GifIcon}.
+     * Streaming {@link GifIcon} only keeps compressed GIF data and a few decoded frames in memory,
+     * which is preferable for long animations, but each frame is decoded again whenever animation loops.
+     *
+     * @param inputStream GIF {@link InputStream}
+     * @param streaming   whether or not frames should be decoded on demand instead of being decoded all at once
+     */
+    public GifIcon ( @NotNull final InputStream inputStream, final boolean streaming )
     {
         this.frames = new ArrayList<GifFrame> ();
 
-        final GifDecoder gifDecoder = new GifDecoder ();
+        final GifDecoder gifDecoder = new GifDecoder ( streaming );
         this.status = gifDecoder.read ( inputStream instanceof BufferedInputStream
                 ? ( BufferedInputStream ) inputStream
                 : new BufferedInputStream ( inputStream ) );
+        this.decoder = streaming ? gifDecoder : null;
 
         this.listeners = new ArrayList<FrameChangeListener> ();
 
@@ -104,9 +164,16 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
             if ( gifDecoder.getFrameCount () > 0 )
             {
                 this.displayedFrame = 0;
-                for ( int i = 0; i < gifDecoder.getFrameCount (); i++ )
+                if ( streaming )
                 {
-                    frames.add ( new GifFrame ( gifDecoder.getFrame ( i ), gifDecoder.getDelay ( i ) ) );
+                    this.decodedFrame = new DecodedFrame ( 0, gifDecoder.getFrame ( 0 ) );
+                }
+                else
+                {
+                    for ( int i = 0; i < gifDecoder.getFrameCount (); i++ )
+                    {
+                        frames.add ( new GifFrame ( gifDecoder.getFrame ( i ), gifDecoder.getDelay ( i ) ) );
+                    }
                 }
                 startAnimation ();
             }
@@ -141,6 +208,7 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
         if ( frames.size () > 0 )
         {
             this.frames = frames;
+            this.decoder = null;
             this.status = GifDecoder.STATUS_OK;
             this.listeners = new ArrayList<FrameChangeListener> ();
             this.displayedFrame = 0;
@@ -172,22 +240,47 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
      */
     public int getFrameCount ()
     {
-        return frames.size ();
+        return decoder != null ? decoder.getFrameCount () : frames.size ();
+    }
+
+    /**
+     * Returns whether or not frames are decoded on demand.
+     *
+     * @return {@code true} if frames are decoded on demand, {@code false} otherwise
+     */
+    public boolean isStreaming ()
+    {
+        return decoder != null;
     }
 
     /**
      * Returns copy of the {@link List} of all {@link GifFrame}s in this {@link GifIcon}.
+     * Note that for streaming {@link GifIcon} this decodes and copies all frames.
      *
      * @return copy of the {@link List} of all {@link GifFrame}s in this {@link GifIcon}
      */
     @NotNull
     public List<GifFrame> getFrames ()
     {
-        return CollectionUtils.copy ( frames );
+        final List<GifFrame> copy;
+        if ( decoder != null )
+        {
+            copy = new ArrayList<GifFrame> ( getFrameCount () );
+            for ( int i = 0; i < getFrameCount (); i++ )
+            {
+                copy.add ( getFrame ( i ) );
+            }
+        }
+        else
+        {
+            copy = CollectionUtils.copy ( frames );
+        }
+        return copy;
     }
 
     /**
      * Returns {@link GifFrame} at the specified index.
+     * For streaming {@link GifIcon} returned {@link GifFrame} contains copy of the frame image decoded separately from animation.
      *
      * @param index {@link GifFrame} index
      * @return {@link GifFrame} at the specified index
@@ -195,7 +288,27 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     @NotNull
     public GifFrame getFrame ( final int index )
     {
-        return frames.get ( index );
+        final GifFrame frame;
+        if ( decoder != null )
+        {
+            frame = new GifFrame ( decoder.getFrameCopy ( index ), getFrameDelay ( index ) );
+        }
+        else
+        {
+            frame = frames.get ( index );
+        }
+        return frame;
+    }
+
+    /**
+     * Returns display delay of the frame at the specified index.
+     *
+     * @param index frame index
+     * @return display delay of the frame at the specified index
+     */
+    protected int getFrameDelay ( final int index )
+    {
+        return decoder != null ? decoder.getDelay ( index ) : frames.get ( index ).delay;
     }
 
     /**
@@ -210,76 +323,105 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
 
     /**
      * Returns currently displayed {@link BufferedImage}.
+     * For streaming {@link GifIcon} returned {@link BufferedImage} is reused by the {@link #decoder} for other frames later on.
      *
      * @return currently displayed {@link BufferedImage}
      */
     @NotNull
     public BufferedImage getDisplayedImage ()
     {
-        return frames.get ( displayedFrame ).bufferedImage;
+        final DecodedFrame decoded = decodedFrame;
+        return decoded != null ? decoded.image : frames.get ( displayedFrame ).bufferedImage;
+    }
+
+    /**
+     * Changes displayed frame.
+     * For streaming {@link GifIcon} frame is decoded and published before it is displayed.
+     *
+     * @param index new displayed frame index
+     */
+    protected void setDisplayedFrame ( final int index )
+    {
+        if ( decoder != null )
+        {
+            decodedFrame = new DecodedFrame ( index, decoder.getFrame ( index ) );
+        }
+        displayedFrame = index;
     }
 
     /**
-     * Starts animation {@link Thread}.
+     * Starts animation.
      */
     public void startAnimation ()
     {
-        if ( getFrameCount () > 1 && gifAnimator == null )
+        if ( getFrameCount () > 1 && !GifAnimator.isAnimated ( this ) )
         {
-            displayedFrame = 0;
-            gifAnimator = new Thread ( new Runnable ()
-            {
-                @Override
-                public void run ()
-                {
-                    try
-                    {
-                        while ( true )
-                        {
-                            final int delay = frames.get ( displayedFrame ).delay;
-                            Thread.sleep ( delay == 0 ? 100 : delay );
-
-                            // Refresh displayed frame
-                            if ( displayedFrame == getFrameCount () - 1 )
-                            {
-                                displayedFrame = 0;
-                            }
-                            else
-                            {
-                                displayedFrame++;
-                            }
-
-                            fireFrameChanged ( displayedFrame );
-                        }
-                    }
-                    catch ( final InterruptedException ignored )
-                    {
-                        // Animation interrupted
-                    }
-                }
-            } );
-            gifAnimator.setDaemon ( true );
-            gifAnimator.start ();
+            setDisplayedFrame ( 0 );
+            paused = false;
+            GifAnimator.start ( this );
         }
     }
 
     /**
-     * Stops animation {@link Thread}.
+     * Stops animation.
      */
     public void stopAnimation ()
     {
-        if ( gifAnimator != null && gifAnimator.isAlive () )
+        paused = false;
+        GifAnimator.stop ( this );
+    }
+
+    /**
+     * Returns whether or not this {@link GifIcon} is currently animated.
+     * Animation is not running when it was stopped or paused because this {@link GifIcon} is not displayed anymore.
+     *
+     * @return {@code true} if this {@link GifIcon} is currently animated, {@code false} otherwise
+     */
+    public boolean isAnimated ()
+    {
+        return GifAnimator.isAnimated ( this );
+    }
+
+    /**
+     * Switches displayed frame to the next one.
+     * This is called by {@link GifAnimator} outside of the Event Dispatch Thread.
+     */
+    protected void nextFrame ()
+    {
+        setDisplayedFrame ( displayedFrame == getFrameCount () - 1 ? 0 : displayedFrame + 1 );
+    }
+
+    /**
+     * Informs about displayed frame change and repaints visible areas this {@link GifIcon} was painted on.
+     * Animation is paused if this {@link GifIcon} was not painted on any visible {@link Component} since the last frame change
+     * and there are no {@link FrameChangeListener}s that might display it in some other way.
+     * This is called by {@link GifAnimator} on the Event Dispatch Thread.
+     */
+    protected void frameChanged ()
+    {
+        boolean visible = !painted;
+        synchronized ( paintedAreas )
         {
-            gifAnimator.interrupt ();
-            try
+            for ( final Map.Entry<Component, Rectangle> entry : paintedAreas.entrySet () )
             {
-                gifAnimator.join ();
-                gifAnimator = null;
-            }
-            catch ( final InterruptedException ignored )
-            {
-                //
+                final Component component = entry.getKey ();
+                if ( component != null && component.isShowing () )
+                {
+                    final Rectangle area = entry.getValue ();
+                    component.repaint ( area.x, area.y, area.width, area.height );
+                    visible = true;
+                }
             }
+            paintedAreas.clear ();
+        }
+        if ( visible || CollectionUtils.notEmpty ( listeners ) )
+        {
+            fireFrameChanged ( displayedFrame );
+        }
+        else
+        {
+            paused = true;
+            GifAnimator.stop ( this );
         }
     }
 
@@ -288,20 +430,43 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     {
         if ( getFrameCount () > 0 )
         {
-            g.drawImage ( frames.get ( displayedFrame ).bufferedImage, x, y, c );
+            g.drawImage ( getDisplayedImage (), x, y, c );
+        }
+        if ( c != null )
+        {
+            // Cell renderers are never showing, so area is remembered for the component they are painted for
+            final Rectangle area = new Rectangle ( x, y, getIconWidth (), getIconHeight () );
+            final Container rendererPane = SwingUtilities.getAncestorOfClass ( CellRendererPane.class, c );
+            final Component owner = rendererPane != null && rendererPane.getParent () != null ? rendererPane.getParent () : c;
+            if ( owner != c )
+            {
+                area.setBounds ( SwingUtilities.convertRectangle ( c, area, owner ) );
+            }
+            synchronized ( paintedAreas )
+            {
+                final Rectangle paintedArea = paintedAreas.get ( owner );
+                paintedAreas.put ( owner, paintedArea != null ? paintedArea.union ( area ) : area );
+            }
+            painted = true;
+            if ( paused )
+            {
+                // Resuming animation paused while this icon wasn't displayed
+                paused = false;
+                GifAnimator.start ( this );
+            }
         }
     }
 
     @Override
     public int getIconWidth ()
     {
-        return frames.get ( displayedFrame ).bufferedImage.getWidth ();
+        return decoder != null ? decoder.getWidth () : frames.get ( displayedFrame ).bufferedImage.getWidth ();
     }
 
     @Override
     public int getIconHeight ()
     {
-        return frames.get ( displayedFrame ).bufferedImage.getHeight ();
+        return decoder != null ? decoder.getHeight () : frames.get ( displayedFrame ).bufferedImage.getHeight ();
     }
 
     /**
@@ -326,6 +491,7 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
 
     /**
      * Fires displayed {@link GifFrame} change.
+     * For streaming {@link GifIcon} provided {@link GifFrame} image of the displayed frame is reused for other frames later on.
      *
      * @param index new displayed {@link GifFrame} index
      */
@@ -333,7 +499,9 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     {
         if ( CollectionUtils.notEmpty ( listeners ) )
         {
-            final GifFrame frame = getFrame ( index );
+            final DecodedFrame decoded = decodedFrame;
+            final GifFrame frame = decoded != null && decoded.index == index ?
+                    new GifFrame ( decoded.image, getFrameDelay ( index ) ) : getFrame ( index );
             for ( final FrameChangeListener listener : listeners )
             {
                 listener.frameChanged ( this, index, frame );
@@ -350,7 +518,7 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     @Override
     public GifIcon createDisabledCopy ()
     {
-        return new GifIcon ( CollectionUtils.asList ( frames.get ( 0 ).createDisabledCopy () ) );
+        return new GifIcon ( CollectionUtils.asList ( getFrame ( 0 ).createDisabledCopy () ) );
     }
 
     /**
@@ -363,6 +531,35 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     @Override
     public GifIcon createTransparentCopy ( final float opacity )
     {
-        return new GifIcon ( CollectionUtils.asList ( frames.get ( 0 ).createTransparentCopy ( opacity ) ) );
+        return new GifIcon ( CollectionUtils.asList ( getFrame ( 0 ).createTransparentCopy ( opacity ) ) );
+    }
+
+    /**
+     * Frame decoded by streaming {@link GifIcon#decoder}.
+     */
+    protected static final class DecodedFrame
+    {
+        /**
+         * Frame index.
+         */
+        protected final int index;
+
+        /**
+         * Frame {@link BufferedImage} reused by the {@link GifIcon#decoder} for other frames later on.
+         */
+        @NotNull
+        protected final BufferedImage image;
+
+        /**
+         * Constructs new {@link DecodedFrame}.
+         *
+         * @param index frame index
+         * @param image frame {@link BufferedImage}
+         */
+        public DecodedFrame ( final int index, @NotNull final BufferedImage image )
+        {
+            this.index = index;
+            this.image = image;
+        }
     }
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.resource.Resource;
 import com.alee.api.ui.DisabledCopySupplier;
 import com.alee.api.ui.TransparentCopySupplier;
+import com.alee.graphics.filters.BlurType;
+import com.alee.graphics.filters.PixelBuffers;
 import com.alee.graphics.filters.ShadowFilter;
 import com.alee.utils.collection.ImmutableList;
 import com.mortennobel.imagescaling.ResampleOp;
@@ -585,14 +587,22 @@ public final class ImageUtils
         // Creating image copy
         final BufferedImage disabledCopy = createCompatibleImage ( bufferedImage );
 
-        // Painting original image as semi-transparent
-        final Graphics2D g2d = disabledCopy.createGraphics ();
-        GraphicsUtils.setupAlphaComposite ( g2d, 0.7f );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
-        g2d.dispose ();
+        if ( PixelBuffers.isDirect ( bufferedImage ) && PixelBuffers.isDirect ( disabledCopy ) )
+        {
+            // Transforming pixels directly
+            copyPixels ( bufferedImage, disabledCopy, 0.7f, true );
+        }
+        else
+        {
+            // Painting original image as semi-transparent
+            final Graphics2D g2d = disabledCopy.createGraphics ();
+            GraphicsUtils.setupAlphaComposite ( g2d, 0.7f );
+            g2d.drawImage ( bufferedImage, 0, 0, null );
+            g2d.dispose ();
 
-        // Applying grayscale filter
-        GRAYSCALE_FILTER.filter ( disabledCopy, disabledCopy );
+            // Applying grayscale filter
+            GRAYSCALE_FILTER.filter ( disabledCopy, disabledCopy );
+        }
 
         return disabledCopy;
     }
@@ -701,14 +711,68 @@ public final class ImageUtils
                 Transparency.TRANSLUCENT
         );
 
-        final Graphics2D g2d = transparentCopy.createGraphics ();
-        GraphicsUtils.setupAlphaComposite ( g2d, opacity );
-        g2d.drawImage ( bufferedImage, 0, 0, null );
-        g2d.dispose ();
+        if ( PixelBuffers.isDirect ( bufferedImage ) && !bufferedImage.isAlphaPremultiplied () &&
+                PixelBuffers.isDirect ( transparentCopy ) )
+        {
+            // Premultiplied images are painted faster by Java2D since it doesn't need to divide by alpha
+            copyPixels ( bufferedImage, transparentCopy, opacity, false );
+        }
+        else
+        {
+            final Graphics2D g2d = transparentCopy.createGraphics ();
+            GraphicsUtils.setupAlphaComposite ( g2d, opacity );
+            g2d.drawImage ( bufferedImage, 0, 0, null );
+            g2d.dispose ();
+        }
 
         return transparentCopy;
     }
 
+    /**
+     * Copies pixels of the source {@link BufferedImage} into destination one made semi-transparent and optionally grayscale.
+     * Result is the same as painting source {@link BufferedImage} with the specified opacity on destination one,
+     * which means that pixels are painted over black background if destination {@link BufferedImage} is opaque.
+     * Both {@link BufferedImage}s must be supported by {@link PixelBuffers#isDirect(BufferedImage)}.
+     *
+     * @param src       source {@link BufferedImage}
+     * @param dst       destination {@link BufferedImage} of the same size
+     * @param opacity   opacity value, must be between 0 and 1
+     * @param grayscale whether or not pixels should also be converted into grayscale
+     */
+    static void copyPixels ( @NotNull final BufferedImage src, @NotNull final BufferedImage dst, final float opacity,
+                                     final boolean grayscale )
+    {
+        final int width = src.getWidth ();
+        final int height = src.getHeight ();
+        final int alpha = Math.round ( opacity * 255 );
+        final boolean opaque = dst.getTransparency () == Transparency.OPAQUE;
+        final int[] pixels = PixelBuffers.getPixels ( src, 0, 0, width, height, PixelBuffers.acquire ( width * height ) );
+        for ( int i = 0; i < width * height; i++ )
+        {
+            final int rgb = pixels[ i ];
+            final int a = ( ( rgb >>> 24 ) * alpha + 127 ) / 255;
+            int result;
+            if ( opaque )
+            {
+                final int r = ( ( rgb >> 16 & 0xff ) * a + 127 ) / 255;
+                final int g = ( ( rgb >> 8 & 0xff ) * a + 127 ) / 255;
+                final int b = ( ( rgb & 0xff ) * a + 127 ) / 255;
+                result = 0xff000000 | r << 16 | g << 8 | b;
+            }
+            else
+            {
+                result = a != 0 ? a << 24 | rgb & 0xffffff : 0;
+            }
+            if ( grayscale )
+            {
+                result = result & 0xff000000 | GrayscaleTable.gray ( result ) * 0x010101;
+            }
+            pixels[ i ] = result;
+        }
+        PixelBuffers.setPixels ( dst, 0, 0, width, height, pixels );
+        PixelBuffers.release ( pixels );
+    }
+
     /**
      * Returns new {@link BufferedImage} with the specified {@link Icon} painted on it within the specified {@link Shape}.
      *
@@ -872,17 +936,22 @@ public final class ImageUtils
         int red = 0;
         int green = 0;
         int blue = 0;
-        for ( int i = 0; i < image.getWidth (); i++ )
+        final int width = image.getWidth ();
+        final int height = image.getHeight ();
+        final int[] row = PixelBuffers.acquire ( width );
+        for ( int j = 0; j < height; j++ )
         {
-            for ( int j = 0; j < image.getHeight (); j++ )
+            PixelBuffers.getPixels ( image, 0, j, width, 1, row );
+            for ( int i = 0; i < width; i++ )
             {
-                final int rgb = image.getRGB ( i, j );
+                final int rgb = row[ i ];
                 red += rgb >> 16 & 0xFF;
                 green += rgb >> 8 & 0xFF;
                 blue += rgb & 0xFF;
             }
         }
-        final int count = image.getWidth () * image.getHeight ();
+        PixelBuffers.release ( row );
+        final int count = width * height;
         return new Color ( red / count, green / count, blue / count );
     }
 
@@ -1026,6 +1095,25 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage createShadowImage ( final int width, final int height, @NotNull final Shape shape, final int shadowWidth,
                                                     final float opacity, final boolean clip )
+    {
+        return createShadowImage ( width, height, shape, shadowWidth, opacity, clip, BlurType.gaussian );
+    }
+
+    /**
+     * Returns shadow image based on provided shape.
+     *
+     * @param width       shadow image width
+     * @param height      shadow image height
+     * @param shape       shadow shape
+     * @param shadowWidth shadow width
+     * @param opacity     shadow opacity
+     * @param clip        whether or not should clip shadow form
+     * @param blur        {@link BlurType} used for the shadow
+     * @return shadow image based on provided shape
+     */
+    @NotNull
+    public static BufferedImage createShadowImage ( final int width, final int height, @NotNull final Shape shape, final int shadowWidth,
+                                                    final float opacity, final boolean clip, @NotNull final BlurType blur )
     {
         // Creating template image
         final BufferedImage bi = createCompatibleImage ( width, height, Transparency.TRANSLUCENT );
@@ -1037,6 +1125,7 @@ public final class ImageUtils
 
         // Creating shadow image
         final ShadowFilter sf = new ShadowFilter ( shadowWidth, 0, 0, opacity );
+        sf.setBlurType ( blur );
         final BufferedImage shadow = sf.filter ( bi, null );
 
         // Clipping shadow image
@@ -1166,4 +1255,50 @@ public final class ImageUtils
         }
         return imageString;
     }
-}
\ No newline at end of file
+
+    /**
+     * Lookup tables for converting sRGB colors into grayscale the same way {@link #GRAYSCALE_FILTER} does.
+     * Gray level is the relative luminance of linearized sRGB components with D50-adapted weights encoded back into sRGB.
+     */
+    private static final class GrayscaleTable
+    {
+        /**
+         * Linearized sRGB component values scaled to 0..65535 range.
+         */
+        private static final int[] LINEAR = new int[ 256 ];
+
+        /**
+         * sRGB-encoded gray levels for linear luminance values in 0..65535 range.
+         */
+        private static final byte[] ENCODED = new byte[ 65536 ];
+
+        static
+        {
+            for ( int i = 0; i < LINEAR.length; i++ )
+            {
+                final double c = i / 255.0;
+                final double linear = c <= 0.04045 ? c / 12.92 : Math.pow ( ( c + 0.055 ) / 1.055, 2.4 );
+                LINEAR[ i ] = ( int ) Math.round ( linear * 65535 );
+            }
+            for ( int i = 0; i < ENCODED.length; i++ )
+            {
+                final double linear = i / 65535.0;
+                final double c = linear <= 0.0031308 ? linear * 12.92 : 1.055 * Math.pow ( linear, 1 / 2.4 ) - 0.055;
+                ENCODED[ i ] = ( byte ) Math.round ( c * 255 );
+            }
+        }
+
+        /**
+         * Returns gray level for the specified RGB color.
+         *
+         * @param rgb RGB color
+         * @return gray level for the specified RGB color
+         */
+        public static int gray ( final int rgb )
+        {
+            // Weights are 0.2225, 0.7169 and 0.0606 scaled to 32768 total
+            final int luminance = 7291 * LINEAR[ rgb >> 16 & 0xff ] + 23492 * LINEAR[ rgb >> 8 & 0xff ] + 1985 * LINEAR[ rgb & 0xff ] >> 15;
+            return ENCODED[ luminance ] & 0xff;
+        }
+    }
+}
@@ -20,6 +20,8 @@ package com.alee.utils;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.utils.collection.ImmutableList;
+import com.alee.utils.general.CacheKey;
+import com.alee.utils.reflection.ClassCache;
 import com.alee.utils.reflection.FieldHelper;
 import com.alee.utils.reflection.ModifierType;
 import com.alee.utils.reflection.ReflectionException;
@@ -29,6 +31,8 @@ import java.lang.reflect.*;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This class provides a set of utilities to simplify work with Reflection API.
@@ -51,14 +55,18 @@ public final class ReflectUtils
     private static boolean safeMethodsLoggingEnabled = false;
 
     /**
-     * Fields lookup cache.
+     * Reflection lookup caches for each {@link Class}.
+     * {@link ClassCache} is used to avoid preventing plugin classes from being unloaded.
      */
-    private static final Map<Class, Map<String, Field>> fieldsLookupCache = new HashMap<Class, Map<String, Field>> ();
-
-    /**
-     * Methods lookup cache.
-     */
-    private static final Map<Class, Map<String, Method>> methodsLookupCache = new HashMap<Class, Map<String, Method>> ();
+    private static final ClassCache<ClassData> classData = new ClassCache<ClassData> ()
+    {
+        @NotNull
+        @Override
+        protected ClassData computeValue ( @NotNull final Class<?> type )
+        {
+            return new ClassData ();
+        }
+    };
 
     /**
      * {@code jdk.internal.loader.BuiltinClassLoader} class available starting from Java 9.
@@ -289,7 +297,31 @@ public final class ReflectUtils
      */
     public static List<Field> getFields ( final Class clazz, final ModifierType... ignoredModifiers )
     {
-        return getFields ( clazz, new HashSet<String> (), ignoredModifiers );
+        // Modifiers mask used as cache key
+        int mask = 0;
+        for ( final ModifierType modifier : ignoredModifiers )
+        {
+            mask |= 1 << modifier.ordinal ();
+        }
+
+        // Retrieving cached fields
+        final ConcurrentMap<Integer, Field[]> fieldsCache = classData.get ( clazz ).fields;
+        Field[] fields = fieldsCache.get ( mask );
+        if ( fields == null )
+        {
+            final List<Field> found = getFields ( clazz, new HashSet<String> (), ignoredModifiers );
+            fields = found.toArray ( new Field[ found.size () ] );
+            final Field[] existing = fieldsCache.putIfAbsent ( mask, fields );
+            if ( existing != null )
+            {
+                fields = existing;
+            }
+        }
+
+        // Returning modifiable copy
+        final List<Field> result = new ArrayList<Field> ( fields.length );
+        Collections.addAll ( result, fields );
+        return result;
     }
 
     /**
@@ -661,22 +693,9 @@ public final class ReflectUtils
     @NotNull
     public static Field getField ( @NotNull final Class<?> classType, @NotNull final String fieldName ) throws NoSuchFieldException
     {
-        // Field key
-        final String canonicalName = classType.getCanonicalName ();
-        final String key = canonicalName + "." + fieldName;
-
-        // Checking cache existence
-        Field field = null;
-        Map<String, Field> classFieldsCache = fieldsLookupCache.get ( classType );
-        if ( classFieldsCache != null )
-        {
-            field = classFieldsCache.get ( key );
-        }
-        else
-        {
-            classFieldsCache = new HashMap<String, Field> ( 1 );
-            fieldsLookupCache.put ( classType, classFieldsCache );
-        }
+        // Checking cache
+        final ConcurrentMap<String, Field> classFieldsCache = classData.get ( classType ).namedFields;
+        Field field = classFieldsCache.get ( fieldName );
 
         // Updating cache
         if ( field == null )
@@ -698,11 +717,16 @@ public final class ReflectUtils
             else
             {
                 final String msg = "Field '%s' not found in class: %s";
-                throw new NoSuchFieldException ( String.format ( msg, fieldName, canonicalName ) );
+                throw new NoSuchFieldException ( String.format ( msg, fieldName, classType.getCanonicalName () ) );
             }
 
             // Caching field
-            classFieldsCache.put ( key, field );
+            // Field cached by another thread in the meantime is used instead to keep single instance
+            final Field existing = classFieldsCache.putIfAbsent ( fieldName, field );
+            if ( existing != null )
+            {
+                field = existing;
+            }
         }
 
         return field;
@@ -946,27 +970,47 @@ public final class ReflectUtils
     public static void setFieldValue ( final Object object, final Field field, final Object value )
             throws IllegalAccessException
     {
-        // Making field accessible
-        if ( !field.isAccessible () )
+        // Removing final modifier if needed
+        // Modifiers are only changed on a separate copy of the field since provided one might be cached and used by other threads
+        final Field actualField;
+        final int modifiers = field.getModifiers ();
+        if ( ModifierType.FINAL.is ( modifiers ) )
         {
-            field.setAccessible ( true );
+            // todo This shouldn't really be called ever by WebLaF itself under normal circumstances
+            actualField = copyField ( field );
+            FieldHelper.setFieldModifiers ( actualField, modifiers & ~Modifier.FINAL );
+        }
+        else
+        {
+            actualField = field;
         }
 
-        // Removing final modifier if needed
-        final int oldModifiers = field.getModifiers ();
-        if ( ModifierType.FINAL.is ( oldModifiers ) )
+        // Making field accessible
+        if ( !actualField.isAccessible () )
         {
-            // todo This shouldn't really be called ever by WebLaF itself under normal circumstances
-            FieldHelper.setFieldModifiers ( field, oldModifiers & ~Modifier.FINAL );
+            actualField.setAccessible ( true );
         }
 
         // Updating field value
-        field.set ( object, value );
+        actualField.set ( object, value );
+    }
 
-        // Restoring final modifier if it was removed
-        if ( ModifierType.FINAL.is ( oldModifiers ) )
+    /**
+     * Returns separate copy of the specified {@link Field}.
+     *
+     * @param field {@link Field} to copy
+     * @return separate copy of the specified {@link Field}
+     */
+    @NotNull
+    private static Field copyField ( @NotNull final Field field )
+    {
+        try
+        {
+            return field.getDeclaringClass ().getDeclaredField ( field.getName () );
+        }
+        catch ( final NoSuchFieldException e )
         {
-            FieldHelper.setFieldModifiers ( field, oldModifiers );
+            throw new ReflectionException ( "Unable to copy field: " + field, e );
         }
     }
 
@@ -1828,30 +1872,40 @@ public final class ReflectUtils
             throws NoSuchMethodException
     {
         // Method key
-        final Class[] classTypes = getClassTypes ( arguments );
-        final String key = aClass.getCanonicalName () + "." + methodName + argumentTypesToString ( classTypes );
-
-        // Checking cache
-        Method method = null;
-        Map<String, Method> classMethodsCache = methodsLookupCache.get ( aClass );
-        if ( classMethodsCache != null )
-        {
-            method = classMethodsCache.get ( key );
-        }
-        else
+        // Thread-local key is acquired from the stack since method lookup might cause nested lookups
+        final CacheKey key = CacheKey.acquire ().add ( methodName ).add ( arguments.length );
+        try
         {
-            classMethodsCache = new HashMap<String, Method> ( 1 );
-            methodsLookupCache.put ( aClass, classMethodsCache );
-        }
+            for ( final Object argument : arguments )
+            {
+                key.add ( argument != null ? argument.getClass () : null );
+            }
 
-        // Updating cache
-        if ( method == null )
+            // Checking cache
+            final ConcurrentMap<CacheKey, Method> classMethodsCache = classData.get ( aClass ).methods;
+            Method method = classMethodsCache.get ( key );
+
+            // Updating cache
+            if ( method == null )
+            {
+                method = getMethodImpl ( aClass, methodName, arguments );
+                if ( isCacheable ( aClass, arguments ) )
+                {
+                    final Method existing = classMethodsCache.putIfAbsent ( key.copy (), method );
+                    if ( existing != null )
+                    {
+                        method = existing;
+                    }
+                }
+            }
+
+            return method;
+        }
+        finally
         {
-            method = getMethodImpl ( aClass, methodName, arguments );
-            classMethodsCache.put ( key, method );
+            // Releasing key and argument classes it references
+            key.release ();
         }
-
-        return method;
     }
 
     /**
@@ -1937,6 +1991,41 @@ public final class ReflectUtils
                 topClass.getCanonicalName () + "." + methodName + argumentTypesToString ( types ) );
     }
 
+    /**
+     * Returns whether or not method lookup result for the specified arguments can be cached within {@link Class} data.
+     * Lookup key references argument classes, so they must be visible from the {@link Class} {@link ClassLoader}.
+     * Otherwise cached key would prevent argument classes, for instance plugin ones, from being unloaded.
+     *
+     * @param aClass    object class
+     * @param arguments method arguments
+     * @return {@code true} if method lookup result for the specified arguments can be cached, {@code false} otherwise
+     */
+    private static boolean isCacheable ( @NotNull final Class aClass, @NotNull final Object[] arguments )
+    {
+        boolean cacheable = true;
+        for ( final Object argument : arguments )
+        {
+            if ( argument != null )
+            {
+                final ClassLoader argumentLoader = argument.getClass ().getClassLoader ();
+                if ( argumentLoader != null )
+                {
+                    ClassLoader loader = aClass.getClassLoader ();
+                    while ( loader != null && loader != argumentLoader )
+                    {
+                        loader = loader.getParent ();
+                    }
+                    if ( loader == null )
+                    {
+                        cacheable = false;
+                        break;
+                    }
+                }
+            }
+        }
+        return cacheable;
+    }
+
     /**
      * Returns text representation for array of argument types.
      *
@@ -2311,4 +2400,28 @@ public final class ReflectUtils
             ) );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reflection lookup caches for single {@link Class}.
+     */
+    private static final class ClassData
+    {
+        /**
+         * {@link Field}s of {@link Class} and all of its superclasses mapped by ignored modifiers mask.
+         */
+        @NotNull
+        private final ConcurrentMap<Integer, Field[]> fields = new ConcurrentHashMap<Integer, Field[]> ( 2 );
+
+        /**
+         * {@link Field}s mapped by their names.
+         */
+        @NotNull
+        private final ConcurrentMap<String, Field> namedFields = new ConcurrentHashMap<String, Field> ( 4 );
+
+        /**
+         * {@link Method}s mapped by their name and argument types.
+         */
+        @NotNull
+        private final ConcurrentMap<CacheKey, Method> methods = new ConcurrentHashMap<CacheKey, Method> ( 4 );
+    }
+}
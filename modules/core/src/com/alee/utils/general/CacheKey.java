@@ -0,0 +1,470 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.general;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Structural cache key built from a sequence of primitive and immutable values.
+ * Unlike string keys built from settings it doesn't require any allocations to be filled and compared.
+ *
+ * Values are stored as a single sequence, so keys with the same values added in a different order are never equal.
+ * Primitive values are stored as {@code int}s, mutable {@link Rectangle}s and {@link Dimension}s are stored by their coordinates.
+ * {@link CacheKeyPart}s are stored by the values they add, so they are never referenced by the key.
+ * Any other objects are stored as references and compared through {@link Object#equals(Object)}, so they must be immutable.
+ *
+ * Thread-local temporary {@link CacheKey} provided by {@link #temporary()} can be used to look up cached values without allocations.
+ * It must never be stored, {@link #copy()} should be used to create {@link CacheKey} that can be stored within cache instead.
+ * Lookups that might cause nested lookups on the same thread should use {@link #acquire()} and {@link #release()} instead.
+ *
+ * @author Mikle Garin
+ */
+public final class CacheKey
+{
+    /**
+     * Thread-local temporary {@link CacheKey}s.
+     */
+    @NotNull
+    private static final ThreadLocal<CacheKey> temporary = new ThreadLocal<CacheKey> ()
+    {
+        @Override
+        protected CacheKey initialValue ()
+        {
+            return new CacheKey ();
+        }
+    };
+
+    /**
+     * Thread-local stacks of temporary {@link CacheKey}s provided by {@link #acquire()}.
+     */
+    @NotNull
+    private static final ThreadLocal<TemporaryKeys> acquired = new ThreadLocal<TemporaryKeys> ()
+    {
+        @Override
+        protected TemporaryKeys initialValue ()
+        {
+            return new TemporaryKeys ();
+        }
+    };
+
+    /**
+     * Marker placed into {@link #objects} at positions of primitive key values.
+     */
+    @NotNull
+    private static final Object PRIMITIVE = new Object ();
+
+    /**
+     * Primitive key values.
+     * Values at positions of key objects are always {@code 0}.
+     */
+    @NotNull
+    private int[] values;
+
+    /**
+     * Immutable key objects or {@link #PRIMITIVE} marker at positions of primitive key values.
+     */
+    @NotNull
+    private Object[] objects;
+
+    /**
+     * Amount of key values.
+     */
+    private int size;
+
+    /**
+     * Key hash code.
+     */
+    private int hash;
+
+    /**
+     * Constructs new empty {@link CacheKey}.
+     */
+    public CacheKey ()
+    {
+        this ( new int[ 16 ], new Object[ 16 ], 0, 0 );
+    }
+
+    /**
+     * Constructs new {@link CacheKey}.
+     *
+     * @param values  primitive key values
+     * @param objects immutable key objects and primitive key values markers
+     * @param size    amount of key values
+     * @param hash    key hash code
+     */
+    private CacheKey ( @NotNull final int[] values, @NotNull final Object[] objects, final int size, final int hash )
+    {
+        this.values = values;
+        this.objects = objects;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns empty thread-local temporary {@link CacheKey}.
+     * It can only be used to look up cached values, {@link #copy()} must be used to store it.
+     *
+     * @return empty thread-local temporary {@link CacheKey}
+     */
+    @NotNull
+    public static CacheKey temporary ()
+    {
+        return temporary.get ().reset ();
+    }
+
+    /**
+     * Returns empty thread-local temporary {@link CacheKey} that is not used by any enclosing lookup on the current thread.
+     * Unlike {@link #temporary()} it can be used for lookups that might cause nested lookups on the same thread.
+     * It can only be used to look up cached values, {@link #copy()} must be used to store it.
+     * It must be released through {@link #release()} once lookup is finished.
+     *
+     * @return empty thread-local temporary {@link CacheKey} that is not used by any enclosing lookup on the current thread
+     */
+    @NotNull
+    public static CacheKey acquire ()
+    {
+        return acquired.get ().push ();
+    }
+
+    /**
+     * Releases this {@link CacheKey} previously provided by {@link #acquire()}.
+     * Keys must be released on the same thread in the reverse order of their acquisition.
+     */
+    public void release ()
+    {
+        acquired.get ().pop ( this );
+    }
+
+    /**
+     * Resets this {@link CacheKey} to be empty.
+     *
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    public CacheKey reset ()
+    {
+        Arrays.fill ( objects, 0, size, null );
+        size = 0;
+        hash = 0;
+        return this;
+    }
+
+    /**
+     * Adds {@code int} value into this {@link CacheKey}.
+     *
+     * @param value {@code int} value
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    public CacheKey add ( final int value )
+    {
+        ensureCapacity ();
+        values[ size ] = value;
+        objects[ size ] = PRIMITIVE;
+        size++;
+        hash = 31 * hash + value;
+        return this;
+    }
+
+    /**
+     * Adds {@code boolean} value into this {@link CacheKey}.
+     *
+     * @param value {@code boolean} value
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    public CacheKey add ( final boolean value )
+    {
+        return add ( value ? 1 : 0 );
+    }
+
+    /**
+     * Adds {@code float} value into this {@link CacheKey}.
+     *
+     * @param value {@code float} value
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    public CacheKey add ( final float value )
+    {
+        return add ( Float.floatToIntBits ( value ) );
+    }
+
+    /**
+     * Adds {@link Rectangle} coordinates into this {@link CacheKey}.
+     *
+     * @param rectangle {@link Rectangle}
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    public CacheKey add ( @NotNull final Rectangle rectangle )
+    {
+        return add ( rectangle.x ).add ( rectangle.y ).add ( rectangle.width ).add ( rectangle.height );
+    }
+
+    /**
+     * Adds {@link Dimension} into this {@link CacheKey}.
+     *
+     * @param dimension {@link Dimension}
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    public CacheKey add ( @NotNull final Dimension dimension )
+    {
+        return add ( dimension.width ).add ( dimension.height );
+    }
+
+    /**
+     * Adds object into this {@link CacheKey}.
+     * Boxed primitives, {@link Rectangle}s, {@link Dimension}s, {@link CacheKeyPart}s and arrays are added through their values.
+     * Any other object must be immutable and must properly implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     *
+     * @param object object
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    public CacheKey add ( @Nullable final Object object )
+    {
+        final CacheKey key;
+        if ( object instanceof Integer )
+        {
+            key = add ( ( int ) ( Integer ) object );
+        }
+        else if ( object instanceof Boolean )
+        {
+            key = add ( ( boolean ) ( Boolean ) object );
+        }
+        else if ( object instanceof Float )
+        {
+            key = add ( ( float ) ( Float ) object );
+        }
+        else if ( object instanceof Rectangle )
+        {
+            key = add ( ( Rectangle ) object );
+        }
+        else if ( object instanceof Dimension )
+        {
+            key = add ( ( Dimension ) object );
+        }
+        else if ( object instanceof CacheKeyPart )
+        {
+            // Part class is added first to distinguish it from plain values and other parts
+            key = addObject ( object.getClass () );
+            ( ( CacheKeyPart ) object ).addTo ( key );
+        }
+        else if ( object instanceof Object[] )
+        {
+            key = addAll ( ( Object[] ) object );
+        }
+        else
+        {
+            key = addObject ( object );
+        }
+        return key;
+    }
+
+    /**
+     * Adds object reference into this {@link CacheKey}.
+     *
+     * @param object object
+     * @return this {@link CacheKey}
+     */
+    @NotNull
+    private CacheKey addObject ( @Nullable final Object object )
+    {
+        ensureCapacity ();
+        values[ size ] = 0;
+        objects[ size ] = object;
+        size++;
+        hash = 31 * hash + ( object != null ? object.hashCode () : 0 );
+        return this;
+    }
+
+    /**
+     * Ensures that there is space for one more key value.
+     */
+    private void ensureCapacity ()
+    {
+        if ( size == values.length )
+        {
+            final int capacity = Math.max ( 8, values.length * 2 );
+            values = Arrays.copyOf ( values, capacity );
+            objects = Arrays.copyOf ( objects, capacity );
+        }
+    }
+
+    /**
+     * Adds all objects into this {@link CacheKey}.
+     * Array length is added as well to distinguish different amounts of objects.
+     *
+     * @param objects objects
+     * @return this {@link CacheKey}
+     * @see #add(Object)
+     */
+    @NotNull
+    public CacheKey addAll ( @Nullable final Object... objects )
+    {
+        if ( objects != null )
+        {
+            add ( objects.length );
+            for ( final Object object : objects )
+            {
+                add ( object );
+            }
+        }
+        else
+        {
+            add ( -1 );
+        }
+        return this;
+    }
+
+    /**
+     * Returns copy of this {@link CacheKey} that can be stored within cache.
+     *
+     * @return copy of this {@link CacheKey} that can be stored within cache
+     */
+    @NotNull
+    public CacheKey copy ()
+    {
+        return new CacheKey ( Arrays.copyOf ( values, size ), Arrays.copyOf ( objects, size ), size, hash );
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( object == this )
+        {
+            equals = true;
+        }
+        else if ( object instanceof CacheKey )
+        {
+            final CacheKey other = ( CacheKey ) object;
+            if ( hash == other.hash && size == other.size )
+            {
+                boolean same = true;
+                for ( int i = 0; i < size && same; i++ )
+                {
+                    same = values[ i ] == other.values[ i ] &&
+                            ( objects[ i ] == other.objects[ i ] || objects[ i ] != null && objects[ i ].equals ( other.objects[ i ] ) );
+                }
+                equals = same;
+            }
+            else
+            {
+                equals = false;
+            }
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
+
+    @NotNull
+    @Override
+    public String toString ()
+    {
+        final StringBuilder builder = new StringBuilder ( "[" );
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( i > 0 )
+            {
+                builder.append ( ", " );
+            }
+            builder.append ( objects[ i ] == PRIMITIVE ? values[ i ] : objects[ i ] );
+        }
+        return builder.append ( "]" ).toString ();
+    }
+
+    /**
+     * Stack of temporary {@link CacheKey}s used by nested lookups on a single thread.
+     * {@link CacheKey}s are kept for reuse once they are released.
+     */
+    private static final class TemporaryKeys
+    {
+        /**
+         * Temporary {@link CacheKey}s.
+         */
+        @NotNull
+        private CacheKey[] keys;
+
+        /**
+         * Amount of currently acquired {@link CacheKey}s.
+         */
+        private int depth;
+
+        /**
+         * Constructs new {@link TemporaryKeys}.
+         */
+        public TemporaryKeys ()
+        {
+            this.keys = new CacheKey[ 4 ];
+            this.depth = 0;
+        }
+
+        /**
+         * Returns next empty {@link CacheKey}.
+         *
+         * @return next empty {@link CacheKey}
+         */
+        @NotNull
+        public CacheKey push ()
+        {
+            if ( depth == keys.length )
+            {
+                keys = Arrays.copyOf ( keys, keys.length * 2 );
+            }
+            CacheKey key = keys[ depth ];
+            if ( key == null )
+            {
+                key = new CacheKey ();
+                keys[ depth ] = key;
+            }
+            depth++;
+            return key.reset ();
+        }
+
+        /**
+         * Releases last acquired {@link CacheKey}.
+         *
+         * @param key {@link CacheKey} to release
+         */
+        public void pop ( @NotNull final CacheKey key )
+        {
+            if ( depth == 0 || keys[ depth - 1 ] != key )
+            {
+                throw new IllegalStateException ( "Only last acquired temporary key can be released" );
+            }
+            depth--;
+            key.reset ();
+        }
+    }
+}
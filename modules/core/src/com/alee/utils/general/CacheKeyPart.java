@@ -0,0 +1,37 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.general;
+
+import com.alee.api.annotations.NotNull;
+
+/**
+ * Value that is added into {@link CacheKey} through its own primitive and immutable values instead of being referenced by it.
+ * It should be implemented by values that are used within {@link CacheKey}s but cannot guarantee their own immutability.
+ *
+ * @author Mikle Garin
+ * @see CacheKey#add(Object)
+ */
+public interface CacheKeyPart
+{
+    /**
+     * Adds values of this part into the specified {@link CacheKey}.
+     *
+     * @param key {@link CacheKey} to add values into
+     */
+    public void addTo ( @NotNull CacheKey key );
+}
@@ -0,0 +1,249 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.reflection;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lazily computed value associated with each {@link Class}, similar to JDK7 {@code java.lang.ClassValue}.
+ * Values are computed once per {@link Class} and can be safely retrieved from any thread.
+ *
+ * Values are stored within {@link ConcurrentHashMap} under {@link WeakReference}s to their {@link Class}es through {@link SoftReference}s.
+ * Cached values do not prevent unused classes and their {@link ClassLoader}s from being unloaded, which is important for plugin classes.
+ * Values referencing their {@link Class} only keep it loaded until memory is needed, after that they are computed again on demand.
+ *
+ * Cached values are retrieved without any locking, lock is only taken to compute missing values.
+ * Entries of unloaded classes are removed whenever some value is computed or removed.
+ *
+ * @param <V> value type
+ * @author Mikle Garin
+ */
+public abstract class ClassCache<V>
+{
+    /**
+     * Values cache.
+     * Either {@link ClassKey}s or {@link LookupKey}s can be used to retrieve values, but only {@link ClassKey}s are stored.
+     */
+    @NotNull
+    private final ConcurrentMap<Object, SoftReference<V>> values;
+
+    /**
+     * {@link ReferenceQueue} for {@link ClassKey}s of unloaded classes.
+     */
+    @NotNull
+    private final ReferenceQueue<Class<?>> queue;
+
+    /**
+     * Constructs new {@link ClassCache}.
+     */
+    public ClassCache ()
+    {
+        this.values = new ConcurrentHashMap<Object, SoftReference<V>> ();
+        this.queue = new ReferenceQueue<Class<?>> ();
+    }
+
+    /**
+     * Returns value for the specified {@link Class}.
+     * Value is computed if it doesn't exist yet.
+     *
+     * @param type {@link Class} to return value for
+     * @return value for the specified {@link Class}
+     */
+    @NotNull
+    public V get ( @NotNull final Class<?> type )
+    {
+        final V value = getCached ( new LookupKey ( type ) );
+        return value != null ? value : compute ( type );
+    }
+
+    /**
+     * Removes value for the specified {@link Class}.
+     * It will be computed again next time it is requested.
+     *
+     * @param type {@link Class} to remove value for
+     */
+    public synchronized void remove ( @NotNull final Class<?> type )
+    {
+        expungeStaleEntries ();
+        values.remove ( new LookupKey ( type ) );
+    }
+
+    /**
+     * Returns value for the specified {@link Class}, computing it if it doesn't exist yet.
+     * Value is checked again under the lock since it might have been computed by another thread.
+     *
+     * @param type {@link Class} to return value for
+     * @return value for the specified {@link Class}
+     */
+    @NotNull
+    private synchronized V compute ( @NotNull final Class<?> type )
+    {
+        expungeStaleEntries ();
+        V value = getCached ( new LookupKey ( type ) );
+        if ( value == null )
+        {
+            value = computeValue ( type );
+            values.put ( new ClassKey ( type, queue ), new SoftReference<V> ( value ) );
+        }
+        return value;
+    }
+
+    /**
+     * Returns cached value for the specified key.
+     *
+     * @param key {@link Class} key
+     * @return cached value for the specified key, {@code null} if it doesn't exist or was cleared
+     */
+    @Nullable
+    private V getCached ( @NotNull final LookupKey key )
+    {
+        final SoftReference<V> reference = values.get ( key );
+        return reference != null ? reference.get () : null;
+    }
+
+    /**
+     * Removes entries of unloaded classes.
+     */
+    private void expungeStaleEntries ()
+    {
+        Reference<? extends Class<?>> reference;
+        while ( ( reference = queue.poll () ) != null )
+        {
+            values.remove ( reference );
+        }
+    }
+
+    /**
+     * Returns newly computed value for the specified {@link Class}.
+     *
+     * @param type {@link Class} to compute value for
+     * @return newly computed value for the specified {@link Class}
+     */
+    @NotNull
+    protected abstract V computeValue ( @NotNull Class<?> type );
+
+    /**
+     * Stored key weakly referencing {@link Class}.
+     * It is only equal to itself and keys of the same {@link Class}.
+     */
+    private static final class ClassKey extends WeakReference<Class<?>>
+    {
+        /**
+         * {@link Class} identity hash code.
+         */
+        private final int hash;
+
+        /**
+         * Constructs new {@link ClassKey}.
+         *
+         * @param type  {@link Class}
+         * @param queue {@link ReferenceQueue} to register this key with
+         */
+        public ClassKey ( @NotNull final Class<?> type, @NotNull final ReferenceQueue<Class<?>> queue )
+        {
+            super ( type, queue );
+            this.hash = System.identityHashCode ( type );
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            final boolean equals;
+            if ( object == this )
+            {
+                equals = true;
+            }
+            else if ( object instanceof LookupKey )
+            {
+                equals = get () == ( ( LookupKey ) object ).type;
+            }
+            else if ( object instanceof ClassKey )
+            {
+                final Class<?> type = get ();
+                equals = type != null && type == ( ( ClassKey ) object ).get ();
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+    }
+
+    /**
+     * Temporary key strongly referencing {@link Class}.
+     * It is only used to look up values and is never stored.
+     */
+    private static final class LookupKey
+    {
+        /**
+         * {@link Class}.
+         */
+        @NotNull
+        private final Class<?> type;
+
+        /**
+         * Constructs new {@link LookupKey}.
+         *
+         * @param type {@link Class}
+         */
+        public LookupKey ( @NotNull final Class<?> type )
+        {
+            this.type = type;
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return System.identityHashCode ( type );
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            final boolean equals;
+            if ( object instanceof ClassKey )
+            {
+                equals = ( ( ClassKey ) object ).get () == type;
+            }
+            else if ( object instanceof LookupKey )
+            {
+                equals = ( ( LookupKey ) object ).type == type;
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+    }
+}
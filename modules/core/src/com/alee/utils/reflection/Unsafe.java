@@ -21,6 +21,7 @@ import com.alee.utils.ReflectUtils;
 
 import java.io.*;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.WeakHashMap;
 
@@ -37,6 +38,18 @@ public final class Unsafe
      */
     private static Map<Class, byte[]> serializedDataCache;
 
+    /**
+     * {@code sun.misc.Unsafe#theUnsafe} instance.
+     * It is resolved only once and then reused for all {@code sun.misc.Unsafe} allocations.
+     */
+    private static volatile Object theUnsafe;
+
+    /**
+     * {@code sun.misc.Unsafe#allocateInstance(Class)} {@link Method}.
+     * It is resolved only once and then reused for all {@code sun.misc.Unsafe} allocations.
+     */
+    private static volatile Method allocateInstance;
+
     /**
      * Returns new {@link Class} instance.
      * Uses {@code sun.misc.Unsafe} whenever it is possible to avoid using {@link Class} constructor.
@@ -104,9 +117,15 @@ public final class Unsafe
     private static <T> T allocateInstanceThroughUnsafe ( final Class<T> clazz )
             throws ClassNotFoundException, NoSuchFieldException, IllegalAccessException, NoSuchMethodException, InvocationTargetException
     {
-        final Class<?> unsafe = ReflectUtils.getClass ( "sun.misc.Unsafe" );
-        final Object theUnsafe = ReflectUtils.getStaticFieldValue ( unsafe, "theUnsafe" );
-        return ReflectUtils.callMethod ( theUnsafe, "allocateInstance", clazz );
+        Method allocateInstance = Unsafe.allocateInstance;
+        if ( allocateInstance == null )
+        {
+            final Class<?> unsafe = ReflectUtils.getClass ( "sun.misc.Unsafe" );
+            theUnsafe = ReflectUtils.getStaticFieldValue ( unsafe, "theUnsafe" );
+            allocateInstance = unsafe.getMethod ( "allocateInstance", Class.class );
+            Unsafe.allocateInstance = allocateInstance;
+        }
+        return ( T ) allocateInstance.invoke ( theUnsafe, clazz );
     }
 
     /**
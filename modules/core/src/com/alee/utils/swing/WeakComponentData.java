@@ -39,6 +39,10 @@ import java.util.Set;
  *
  * Note that stored data cannot be {@code null} at any point as {@code null} is considered to be no data case.
  *
+ * Data reads are not synchronized as they go directly to {@link JComponent} client properties and never touch the {@link Set} of
+ * {@link JComponent}s, so frequently used {@link #get(JComponent)} and {@link #contains(JComponent)} calls are contention-free and
+ * don't allocate anything. Only data modifications and {@link JComponent}s enumeration are synchronized.
+ *
  * @param <C> {@link JComponent} type
  * @param <D> data type
  * @author Mikle Garin
@@ -94,13 +98,14 @@ public class WeakComponentData<C extends JComponent, D>
 
     /**
      * Returns whether or not specified {@link JComponent} has data of this kind stored within.
+     * Since stored data is never {@code null} it is the same as checking whether or not {@link #get(JComponent)} returns data.
      *
      * @param component {@link JComponent} to check data in
      * @return {@code true} if specified {@link JComponent} has data of this kind stored within, {@code false} otherwise
      */
-    public synchronized boolean contains ( @NotNull final C component )
+    public boolean contains ( @NotNull final C component )
     {
-        return components.contains ( component );
+        return get ( component ) != null;
     }
 
     /**
@@ -111,7 +116,7 @@ public class WeakComponentData<C extends JComponent, D>
      * @return data stored in the {@link JComponent}
      */
     @Nullable
-    public synchronized D get ( @NotNull final C component )
+    public D get ( @NotNull final C component )
     {
         return ( D ) component.getClientProperty ( key );
     }
@@ -186,8 +191,12 @@ public class WeakComponentData<C extends JComponent, D>
         if ( data != null )
         {
             // Saving new data
+            // Component is already in the set if it had any data
             component.putClientProperty ( key, data );
-            components.add ( component );
+            if ( oldData == null )
+            {
+                components.add ( component );
+            }
         }
         else
         {
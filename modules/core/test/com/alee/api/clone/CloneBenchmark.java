@@ -0,0 +1,107 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.api.clone;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Simple benchmark measuring {@link Clone#deep()} throughput on a small object graph.
+ * Graph contains primitive fields, immutable values, AWT values, a list and a nested object of the same type.
+ * It is not run as a part of the test suite, launch it manually to compare results.
+ *
+ * @author Mikle Garin
+ */
+public final class CloneBenchmark
+{
+    /**
+     * Amount of measured rounds.
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * Amount of clones performed within each round.
+     */
+    private static final int CLONES = 200000;
+
+    /**
+     * Result sink preventing dead code elimination.
+     */
+    private static int sink = 0;
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        final Data data = new Data ();
+        data.child = new Data ();
+
+        final Clone clone = Clone.deep ();
+        for ( int round = 0; round < ROUNDS; round++ )
+        {
+            final long start = System.nanoTime ();
+            for ( int i = 0; i < CLONES; i++ )
+            {
+                sink += clone.clone ( data ).number;
+            }
+            final long time = System.nanoTime () - start;
+            System.out.println ( String.format ( "Round %d: %.0f clones/s", round + 1, CLONES * 1000000000d / time ) );
+        }
+        System.out.println ( "Sink: " + sink );
+    }
+
+    /**
+     * Cloned data object.
+     */
+    public static final class Data implements Cloneable
+    {
+        /**
+         * Primitive fields.
+         */
+        private int number = 1;
+        private long time = 2L;
+        private double ratio = 3d;
+        private boolean enabled = true;
+
+        /**
+         * Immutable value.
+         */
+        private String text = "text";
+
+        /**
+         * AWT values.
+         */
+        private Dimension size = new Dimension ( 1, 2 );
+        private Insets margin = new Insets ( 1, 2, 3, 4 );
+
+        /**
+         * List of values.
+         */
+        private List<String> values = new ArrayList<String> ( Arrays.asList ( "1", "2" ) );
+
+        /**
+         * Nested object.
+         */
+        private Data child;
+    }
+}
@@ -21,6 +21,7 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.behavior.BasicCloneBehavior;
 import com.alee.api.clone.behavior.OmitOnClone;
+import com.alee.api.clone.behavior.PreserveOnClone;
 import com.alee.api.clone.unknownresolver.ExceptionUnknownResolver;
 import com.alee.api.jdk.Objects;
 import com.alee.utils.CollectionUtils;
@@ -147,6 +148,107 @@ public final class CloneTest
         }
     }
 
+    /**
+     * Testing {@link Clone#deep()} configuration on objects with various primitive fields.
+     * Each object is cloned multiple times to make sure that replayed clone plans produce the same result.
+     */
+    @Test
+    public void primitivesObjectClone ()
+    {
+        final Clone clone = Clone.deep ();
+
+        final PrimitivesTestObject object = new PrimitivesTestObject (
+                ( byte ) 1, ( short ) 2, 'c', 4, 5L, 6.0f, 7.0d, true, "text", new Dimension ( 8, 9 )
+        );
+        for ( int i = 0; i < 3; i++ )
+        {
+            final PrimitivesTestObject copy = clone.nonNullClone ( object );
+            checkCloneResult ( copy, object );
+            if ( copy == object || copy.dimension == object.dimension )
+            {
+                throw new CloneException ( "Primitives object clone has failed" );
+            }
+        }
+    }
+
+    /**
+     * Testing {@link Clone#deep()} configuration on objects with fields annotated with {@link PreserveOnClone}.
+     * These tests are important as outcome of predefined configurations shouldn't normally be changed.
+     */
+    @Test
+    public void preservedObjectClone ()
+    {
+        final Clone clone = Clone.deep ();
+
+        final PreservedTestObject object = new PreservedTestObject (
+                CollectionUtils.asList ( "1", "2" ),
+                CollectionUtils.asList ( "3", "4" )
+        );
+        for ( int i = 0; i < 3; i++ )
+        {
+            final PreservedTestObject copy = clone.nonNullClone ( object );
+            checkCloneResult ( copy, object );
+            if ( copy.preserved != object.preserved || copy.cloned == object.cloned )
+            {
+                throw new CloneException ( "Preserved object clone has failed" );
+            }
+        }
+    }
+
+    /**
+     * Testing {@link Clone#deep()} configuration on objects inheriting fields from their superclasses.
+     * These tests are important as outcome of predefined configurations shouldn't normally be changed.
+     */
+    @Test
+    public void inheritedObjectClone ()
+    {
+        final Clone clone = Clone.deep ();
+
+        for ( int i = 0; i < 3; i++ )
+        {
+            checkCloneResult (
+                    clone.clone ( new InheritedTestObject ( true, "text", 1, CollectionUtils.asList ( "1", "2" ), 3 ) ),
+                    new InheritedTestObject ( false, "text", null, CollectionUtils.asList ( "1", "2" ), 3 )
+            );
+        }
+    }
+
+    /**
+     * Testing {@link Clone#deep()} configuration on object with mutually exclusive field annotations.
+     * Exception is expected on each attempt, not only on the first one.
+     */
+    @Test
+    public void exclusiveObjectClone ()
+    {
+        final Clone clone = Clone.deep ();
+
+        for ( int i = 0; i < 3; i++ )
+        {
+            checkCloneException ( clone, new ExclusiveTestObject (), CloneException.class );
+        }
+    }
+
+    /**
+     * Testing {@link Clone#deep()} configuration on object that references the same objects multiple times.
+     * Shared references must remain shared within the clone, including ones between separate leaf objects.
+     */
+    @Test
+    public void sharedReferencesClone ()
+    {
+        final Clone clone = Clone.deep ();
+
+        final List<String> list = CollectionUtils.asList ( "1", "2" );
+        final PreservedTestObject leaf = new PreservedTestObject ( list, list );
+        final List<Object> object = CollectionUtils.<Object>asList ( list, list, leaf, leaf );
+        final List<Object> copy = clone.nonNullClone ( object );
+        if ( copy.get ( 0 ) == list || copy.get ( 0 ) != copy.get ( 1 ) || copy.get ( 2 ) == leaf || copy.get ( 2 ) != copy.get ( 3 ) ||
+                ( ( PreservedTestObject ) copy.get ( 2 ) ).preserved != list ||
+                ( ( PreservedTestObject ) copy.get ( 2 ) ).cloned != copy.get ( 0 ) )
+        {
+            throw new CloneException ( "Shared references clone has failed" );
+        }
+    }
+
     /**
      * Asserts clone result.
      *
@@ -296,4 +398,242 @@ public final class CloneTest
             return list;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Sample object with primitive fields for cloning.
+     */
+    public static class PrimitivesTestObject implements Cloneable
+    {
+        /**
+         * Sample {@code byte} data.
+         */
+        private final byte b;
+
+        /**
+         * Sample {@code short} data.
+         */
+        private final short s;
+
+        /**
+         * Sample {@code char} data.
+         */
+        private final char c;
+
+        /**
+         * Sample {@code int} data.
+         */
+        private final int i;
+
+        /**
+         * Sample {@code long} data.
+         */
+        private final long l;
+
+        /**
+         * Sample {@code float} data.
+         */
+        private final float f;
+
+        /**
+         * Sample {@code double} data.
+         */
+        private final double d;
+
+        /**
+         * Sample {@code boolean} data.
+         */
+        private final boolean bool;
+
+        /**
+         * Sample {@link String} data.
+         */
+        @NotNull
+        private final String text;
+
+        /**
+         * Sample {@link Dimension} data.
+         */
+        @NotNull
+        private final Dimension dimension;
+
+        /**
+         * Constructs new {@link PrimitivesTestObject}.
+         *
+         * @param b         sample {@code byte} data
+         * @param s         sample {@code short} data
+         * @param c         sample {@code char} data
+         * @param i         sample {@code int} data
+         * @param l         sample {@code long} data
+         * @param f         sample {@code float} data
+         * @param d         sample {@code double} data
+         * @param bool      sample {@code boolean} data
+         * @param text      sample {@link String} data
+         * @param dimension sample {@link Dimension} data
+         */
+        public PrimitivesTestObject ( final byte b, final short s, final char c, final int i, final long l, final float f,
+                                      final double d, final boolean bool, @NotNull final String text,
+                                      @NotNull final Dimension dimension )
+        {
+            this.b = b;
+            this.s = s;
+            this.c = c;
+            this.i = i;
+            this.l = l;
+            this.f = f;
+            this.d = d;
+            this.bool = bool;
+            this.text = text;
+            this.dimension = dimension;
+        }
+
+        /**
+         * Overridden to properly compare all data within {@link #checkCloneResult(Object, Object)}.
+         */
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            final boolean equals;
+            if ( object instanceof PrimitivesTestObject )
+            {
+                final PrimitivesTestObject other = ( PrimitivesTestObject ) object;
+                equals = b == other.b && s == other.s && c == other.c && i == other.i && l == other.l &&
+                        Float.compare ( f, other.f ) == 0 && Double.compare ( d, other.d ) == 0 && bool == other.bool &&
+                        Objects.equals ( text, other.text ) && Objects.equals ( dimension, other.dimension );
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+
+        @NotNull
+        @Override
+        public String toString ()
+        {
+            return getClass ().getSimpleName () + "[" +
+                    "b=" + b + ", " +
+                    "s=" + s + ", " +
+                    "c=" + c + ", " +
+                    "i=" + i + ", " +
+                    "l=" + l + ", " +
+                    "f=" + f + ", " +
+                    "d=" + d + ", " +
+                    "bool=" + bool + ", " +
+                    "text='" + text + "', " +
+                    "dimension=" + dimension +
+                    "]";
+        }
+    }
+
+    /**
+     * Sample object with preserved field for cloning.
+     */
+    public static class PreservedTestObject implements Cloneable
+    {
+        /**
+         * Sample preserved {@link List} data.
+         */
+        @NotNull
+        @PreserveOnClone
+        private final List<String> preserved;
+
+        /**
+         * Sample cloned {@link List} data.
+         */
+        @NotNull
+        private final List<String> cloned;
+
+        /**
+         * Constructs new {@link PreservedTestObject}.
+         *
+         * @param preserved sample preserved {@link List} data
+         * @param cloned    sample cloned {@link List} data
+         */
+        public PreservedTestObject ( @NotNull final List<String> preserved, @NotNull final List<String> cloned )
+        {
+            this.preserved = preserved;
+            this.cloned = cloned;
+        }
+
+        /**
+         * Overridden to properly compare all data within {@link #checkCloneResult(Object, Object)}.
+         */
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            return object instanceof PreservedTestObject &&
+                    CollectionUtils.equals ( preserved, ( ( PreservedTestObject ) object ).preserved, true ) &&
+                    CollectionUtils.equals ( cloned, ( ( PreservedTestObject ) object ).cloned, true );
+        }
+
+        @NotNull
+        @Override
+        public String toString ()
+        {
+            return getClass ().getSimpleName () + "[" +
+                    "preserved=" + preserved + ", " +
+                    "cloned=" + cloned +
+                    "]";
+        }
+    }
+
+    /**
+     * Sample object inheriting fields from {@link TestObject} for cloning.
+     */
+    public static class InheritedTestObject extends TestObject
+    {
+        /**
+         * Sample {@code int} data.
+         */
+        private final int value;
+
+        /**
+         * Constructs new {@link InheritedTestObject}.
+         *
+         * @param bool   sample {@code boolean} data
+         * @param text   sample {@link String} data
+         * @param number sample {@link Integer} data
+         * @param list   sample {@link List} data
+         * @param value  sample {@code int} data
+         */
+        public InheritedTestObject ( final boolean bool, @NotNull final String text, @Nullable final Integer number,
+                                     @NotNull final List<String> list, final int value )
+        {
+            super ( bool, text, number, list );
+            this.value = value;
+        }
+
+        /**
+         * Overridden to properly compare all data within {@link #checkCloneResult(Object, Object)}.
+         */
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            return object instanceof InheritedTestObject &&
+                    super.equals ( object ) &&
+                    value == ( ( InheritedTestObject ) object ).value;
+        }
+
+        @NotNull
+        @Override
+        public String toString ()
+        {
+            return super.toString () + "[value=" + value + "]";
+        }
+    }
+
+    /**
+     * Sample object with mutually exclusive field annotations for cloning.
+     */
+    public static class ExclusiveTestObject implements Cloneable
+    {
+        /**
+         * Sample {@link String} data.
+         */
+        @Nullable
+        @OmitOnClone
+        @PreserveOnClone
+        private String text;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests ensuring that {@link FastGaussianFilter} stays visually close to exact {@link GaussianFilter}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class FastGaussianFilterTest
+{
+    /**
+     * Blur radii to check.
+     */
+    private static final int[] RADII = { 2, 3, 4, 6, 8, 12, 16, 24, 32, 48, 64 };
+
+    /**
+     * Maximum allowed difference of a single color component.
+     */
+    private static final int MAX_DIFFERENCE = 12;
+
+    /**
+     * Maximum allowed mean difference of color components.
+     */
+    private static final double MAX_MEAN_DIFFERENCE = 1.5;
+
+    /**
+     * Box radii approximation test.
+     */
+    @Test
+    public void boxRadii ()
+    {
+        for ( final int radius : RADII )
+        {
+            final int[] radii = FastGaussianFilter.getBoxRadii ( radius, FastGaussianFilter.PASSES );
+            assertEquals ( FastGaussianFilter.PASSES, radii.length );
+
+            // Variance of box blurs sequence should be close to Gaussian one
+            double variance = 0;
+            for ( final int boxRadius : radii )
+            {
+                final int size = boxRadius * 2 + 1;
+                variance += ( size * size - 1 ) / 12.0;
+            }
+            final double sigma = radius / 3.0;
+            assertEquals ( "Variance mismatch for radius " + radius, sigma * sigma, variance, sigma * 1.5 );
+        }
+    }
+
+    /**
+     * Blur difference test.
+     */
+    @Test
+    public void blurDifference ()
+    {
+        for ( final int radius : RADII )
+        {
+            final BufferedImage image = createShadowTemplate ( radius );
+            final BufferedImage exact = new GaussianFilter ( radius ).filter ( image, null );
+            final BufferedImage fast = new FastGaussianFilter ( radius ).filter ( image, null );
+            assertSimilar ( "Blur radius " + radius, exact, fast );
+        }
+    }
+
+    /**
+     * Blur difference test for coloured translucent image.
+     */
+    @Test
+    public void translucentBlurDifference ()
+    {
+        for ( final int radius : RADII )
+        {
+            final BufferedImage image = createColoredTemplate ( radius );
+            final BufferedImage exact = new GaussianFilter ( radius ).filter ( image, null );
+            final BufferedImage fast = new FastGaussianFilter ( radius ).filter ( image, null );
+            assertSimilar ( "Translucent blur radius " + radius, exact, fast );
+        }
+    }
+
+    /**
+     * Shadow difference test for coloured translucent image.
+     */
+    @Test
+    public void translucentShadowDifference ()
+    {
+        for ( final int radius : RADII )
+        {
+            final BufferedImage image = createColoredTemplate ( radius );
+
+            final ShadowFilter filter = new ShadowFilter ( radius, 0, 0, 0.7f );
+            filter.setShadowColor ( 0xff3060c0 );
+            final BufferedImage exact = filter.filter ( image, null );
+            filter.setBlurType ( BlurType.box );
+            final BufferedImage fast = filter.filter ( image, null );
+
+            assertSimilar ( "Translucent shadow radius " + radius, exact, fast );
+        }
+    }
+
+    /**
+     * Shadow difference test.
+     */
+    @Test
+    public void shadowDifference ()
+    {
+        for ( final int radius : RADII )
+        {
+            final BufferedImage image = createShadowTemplate ( radius );
+
+            final ShadowFilter filter = new ShadowFilter ( radius, 0, 0, 1f );
+            final BufferedImage exact = filter.filter ( image, null );
+            filter.setBlurType ( BlurType.box );
+            final BufferedImage fast = filter.filter ( image, null );
+
+            assertSimilar ( "Shadow radius " + radius, exact, fast );
+        }
+    }
+
+    /**
+     * Returns image with a rounded shape to build shadow for.
+     *
+     * @param radius shadow radius
+     * @return image with a rounded shape to build shadow for
+     */
+    private static BufferedImage createShadowTemplate ( final int radius )
+    {
+        final BufferedImage image = new BufferedImage ( radius * 6 + 80, radius * 6 + 50, BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D g2d = image.createGraphics ();
+        g2d.setRenderingHint ( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+        g2d.setPaint ( Color.BLACK );
+        g2d.fillRoundRect ( radius * 3, radius * 3, 80, 50, 12, 12 );
+        g2d.dispose ();
+        return image;
+    }
+
+    /**
+     * Returns image with overlapping coloured translucent shapes on a partially transparent background.
+     *
+     * @param radius blur radius
+     * @return image with overlapping coloured translucent shapes on a partially transparent background
+     */
+    private static BufferedImage createColoredTemplate ( final int radius )
+    {
+        final int offset = radius * 3;
+        final BufferedImage image = new BufferedImage ( offset * 2 + 120, offset * 2 + 80, BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D g2d = image.createGraphics ();
+        g2d.setRenderingHint ( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+        g2d.setPaint ( new Color ( 255, 255, 255, 40 ) );
+        g2d.fillRect ( 0, 0, image.getWidth (), image.getHeight () );
+        g2d.setPaint ( new GradientPaint ( offset, offset, new Color ( 220, 30, 30, 255 ), offset + 80, offset + 50,
+                new Color ( 30, 200, 60, 120 ) ) );
+        g2d.fillRoundRect ( offset, offset, 80, 50, 12, 12 );
+        g2d.setPaint ( new Color ( 40, 80, 230, 160 ) );
+        g2d.fillOval ( offset + 50, offset + 30, 70, 50 );
+        g2d.setPaint ( new Color ( 250, 210, 20, 90 ) );
+        g2d.fillRect ( offset + 20, offset + 60, 40, 20 );
+        g2d.dispose ();
+        return image;
+    }
+
+    /**
+     * Asserts that images differ only slightly.
+     *
+     * @param message message prefix
+     * @param exact   exact image
+     * @param fast    approximated image
+     */
+    private static void assertSimilar ( final String message, final BufferedImage exact, final BufferedImage fast )
+    {
+        final int width = exact.getWidth ();
+        final int height = exact.getHeight ();
+        final int[] expected = exact.getRGB ( 0, 0, width, height, null, 0, width );
+        final int[] actual = fast.getRGB ( 0, 0, width, height, null, 0, width );
+        int max = 0;
+        long total = 0;
+        for ( int i = 0; i < expected.length; i++ )
+        {
+            for ( int shift = 0; shift < 32; shift += 8 )
+            {
+                final int difference = Math.abs ( ( ( expected[ i ] >>> shift ) & 0xff ) - ( ( actual[ i ] >>> shift ) & 0xff ) );
+                max = Math.max ( max, difference );
+                total += difference;
+            }
+        }
+        final double mean = ( double ) total / ( expected.length * 4 );
+        assertTrue ( message + " maximum difference is " + max, max <= MAX_DIFFERENCE );
+        assertTrue ( message + " mean difference is " + mean, mean <= MAX_MEAN_DIFFERENCE );
+    }
+}
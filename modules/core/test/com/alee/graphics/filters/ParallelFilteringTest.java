@@ -0,0 +1,134 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests ensuring that parallel filtering in {@link AbstractBufferedImageOp} produces exactly the same pixels as serial one.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ParallelFilteringTest
+{
+    /**
+     * Tests that parallel filtering is disabled by default.
+     */
+    @Test
+    public void serialByDefault ()
+    {
+        assertFalse ( new GaussianFilter ( 7 ).isParallel () );
+        assertFalse ( new BoxBlurFilter ( 3, 5, 2 ).isParallel () );
+        assertFalse ( new GrayscaleFilter ().isParallel () );
+    }
+
+    /**
+     * Convolution filters test.
+     */
+    @Test
+    public void convolveFilters ()
+    {
+        assertIdentical ( new ConvolveFilter ( new float[]{ 0.1f, 0.1f, 0.1f, 0.1f, 0.2f, 0.1f, 0.1f, 0.1f, 0.1f } ) );
+        assertIdentical ( new ConvolveFilter ( 1, 5, new float[]{ 0.1f, 0.2f, 0.4f, 0.2f, 0.1f } ) );
+        assertIdentical ( new ConvolveFilter ( 5, 1, new float[]{ 0.1f, 0.2f, 0.4f, 0.2f, 0.1f } ) );
+        assertIdentical ( new SharpenFilter () );
+        assertIdentical ( new GaussianFilter ( 7 ) );
+    }
+
+    /**
+     * Blur filters test.
+     */
+    @Test
+    public void blurFilters ()
+    {
+        assertIdentical ( new BoxBlurFilter ( 3, 5, 2 ) );
+        assertIdentical ( new MedianFilter () );
+        assertIdentical ( new ReduceNoiseFilter () );
+        assertIdentical ( new ShadowFilter ( 6, 2, 2, 0.5f ) );
+    }
+
+    /**
+     * Point filters test.
+     */
+    @Test
+    public void pointFilters ()
+    {
+        assertIdentical ( new GrayscaleFilter () );
+        assertIdentical ( new ContrastFilter ( 1.2f, 0.8f ) );
+        assertIdentical ( new OpacityFilter ( 77 ) );
+        assertIdentical ( new RGBAdjustFilter ( 0.2f, -0.3f, 0.1f ) );
+    }
+
+    /**
+     * Asserts that parallel filtering produces exactly the same pixels as serial one.
+     * Image size is chosen to exceed {@link AbstractBufferedImageOp#PARALLEL_THRESHOLD} and to be split into uneven row bands.
+     *
+     * @param filter {@link AbstractBufferedImageOp} to check
+     */
+    private static void assertIdentical ( final AbstractBufferedImageOp filter )
+    {
+        final BufferedImage image = createImage ( 317, 203 );
+
+        filter.setParallel ( false );
+        final int[] serial = getPixels ( filter.filter ( image, null ) );
+
+        filter.setParallel ( true );
+        final int[] parallel = getPixels ( filter.filter ( image, null ) );
+
+        assertArrayEquals ( filter.getClass ().getSimpleName () + " parallel result differs", serial, parallel );
+    }
+
+    /**
+     * Returns new image filled with random semi-transparent pixels.
+     *
+     * @param width  image width
+     * @param height image height
+     * @return new image filled with random semi-transparent pixels
+     */
+    private static BufferedImage createImage ( final int width, final int height )
+    {
+        final BufferedImage image = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+        final int[] pixels = ( ( DataBufferInt ) image.getRaster ().getDataBuffer () ).getData ();
+        final Random random = new Random ( 42 );
+        for ( int i = 0; i < pixels.length; i++ )
+        {
+            pixels[ i ] = random.nextInt ();
+        }
+        return image;
+    }
+
+    /**
+     * Returns image pixels.
+     *
+     * @param image image to retrieve pixels from
+     * @return image pixels
+     */
+    private static int[] getPixels ( final BufferedImage image )
+    {
+        return image.getRGB ( 0, 0, image.getWidth (), image.getHeight (), null, 0, image.getWidth () );
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link PixelBuffers}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class PixelBuffersTest
+{
+    /**
+     * Test image width.
+     */
+    private static final int WIDTH = 67;
+
+    /**
+     * Test image height.
+     */
+    private static final int HEIGHT = 41;
+
+    /**
+     * Image types with direct pixels access.
+     */
+    private static final int[] TYPES = {
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_INT_ARGB_PRE,
+            BufferedImage.TYPE_INT_RGB
+    };
+
+    /**
+     * Pixels reading test.
+     */
+    @Test
+    public void getPixels ()
+    {
+        for ( final int type : TYPES )
+        {
+            final BufferedImage image = createImage ( type );
+            final int[] expected = image.getRGB ( 3, 5, WIDTH - 7, HEIGHT - 9, null, 0, WIDTH - 7 );
+            final int[] actual = PixelBuffers.getPixels ( image, 3, 5, WIDTH - 7, HEIGHT - 9, null );
+            assertArrayEquals ( "Image type " + type, expected, actual );
+        }
+    }
+
+    /**
+     * Pixels writing test.
+     */
+    @Test
+    public void setPixels ()
+    {
+        for ( final int type : TYPES )
+        {
+            final int[] pixels = createPixels ( ( WIDTH - 7 ) * ( HEIGHT - 9 ) );
+            final int[] original = pixels.clone ();
+
+            final BufferedImage expected = new BufferedImage ( WIDTH, HEIGHT, type );
+            expected.setRGB ( 3, 5, WIDTH - 7, HEIGHT - 9, pixels, 0, WIDTH - 7 );
+
+            final BufferedImage actual = new BufferedImage ( WIDTH, HEIGHT, type );
+            PixelBuffers.setPixels ( actual, 3, 5, WIDTH - 7, HEIGHT - 9, pixels );
+
+            assertArrayEquals (
+                    "Image type " + type,
+                    expected.getRGB ( 0, 0, WIDTH, HEIGHT, null, 0, WIDTH ),
+                    actual.getRGB ( 0, 0, WIDTH, HEIGHT, null, 0, WIDTH )
+            );
+            assertArrayEquals ( "Image type " + type + " source pixels", original, pixels );
+        }
+    }
+
+    /**
+     * Premultiplied filtering test.
+     */
+    @Test
+    public void premultipliedFiltering ()
+    {
+        final BufferedImage image = createImage ( BufferedImage.TYPE_INT_ARGB_PRE );
+        final ContrastFilter filter = new ContrastFilter ( 1.1f, 1.3f );
+        final BufferedImage actual = filter.filter ( image, null );
+
+        final BufferedImage expected = new BufferedImage ( WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE );
+        final int[] pixels = image.getRGB ( 0, 0, WIDTH, HEIGHT, null, 0, WIDTH );
+        for ( int i = 0; i < pixels.length; i++ )
+        {
+            pixels[ i ] = filter.filterRGB ( 0, 0, pixels[ i ] );
+        }
+        expected.setRGB ( 0, 0, WIDTH, HEIGHT, pixels, 0, WIDTH );
+
+        assertEquals ( BufferedImage.TYPE_INT_ARGB_PRE, actual.getType () );
+        assertArrayEquals (
+                expected.getRGB ( 0, 0, WIDTH, HEIGHT, null, 0, WIDTH ),
+                actual.getRGB ( 0, 0, WIDTH, HEIGHT, null, 0, WIDTH )
+        );
+    }
+
+    /**
+     * Buffers pool test.
+     */
+    @Test
+    public void pool ()
+    {
+        final int[] buffer = PixelBuffers.acquire ( 1234 );
+        assertEquals ( 1234, buffer.length );
+        PixelBuffers.release ( buffer );
+
+        final int[] other = PixelBuffers.acquire ( 4321 );
+        assertEquals ( 4321, other.length );
+        assertNotSame ( buffer, other );
+
+        assertSame ( buffer, PixelBuffers.acquire ( 1234 ) );
+        assertNotSame ( buffer, PixelBuffers.acquire ( 1234 ) );
+    }
+
+    /**
+     * Returns new image of the specified type filled with random pixels.
+     *
+     * @param type image type
+     * @return new image of the specified type filled with random pixels
+     */
+    private static BufferedImage createImage ( final int type )
+    {
+        final BufferedImage image = new BufferedImage ( WIDTH, HEIGHT, type );
+        image.setRGB ( 0, 0, WIDTH, HEIGHT, createPixels ( WIDTH * HEIGHT ), 0, WIDTH );
+        return image;
+    }
+
+    /**
+     * Returns random ARGB pixels.
+     *
+     * @param length amount of pixels
+     * @return random ARGB pixels
+     */
+    private static int[] createPixels ( final int length )
+    {
+        final Random random = new Random ( length );
+        final int[] pixels = new int[ length ];
+        for ( int i = 0; i < pixels.length; i++ )
+        {
+            pixels[ i ] = random.nextInt ();
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Simple benchmark comparing {@link ShadowFilter} performance with different {@link BlurType}s across shadow radii.
+ * It is not run as a part of the test suite, launch it manually to compare results.
+ *
+ * @author Mikle Garin
+ */
+public final class ShadowBlurBenchmark
+{
+    /**
+     * Shadow radii to measure.
+     */
+    private static final int[] RADII = { 2, 4, 8, 16, 32, 64 };
+
+    /**
+     * Amount of warmup iterations for each radius.
+     */
+    private static final int WARMUP = 5;
+
+    /**
+     * Amount of measured iterations for each radius.
+     */
+    private static final int ITERATIONS = 20;
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        System.out.println ( String.format ( "%6s %12s %12s %8s", "radius", "gaussian ms", "box ms", "speedup" ) );
+        for ( final int radius : RADII )
+        {
+            final BufferedImage image = createShadowTemplate ( radius );
+            final double gaussian = measure ( image, radius, BlurType.gaussian );
+            final double box = measure ( image, radius, BlurType.box );
+            System.out.println ( String.format ( "%6d %12.2f %12.2f %7.1fx", radius, gaussian, box, gaussian / box ) );
+        }
+    }
+
+    /**
+     * Returns average time of shadow creation in milliseconds.
+     *
+     * @param image    image to create shadow for
+     * @param radius   shadow radius
+     * @param blurType {@link BlurType}
+     * @return average time of shadow creation in milliseconds
+     */
+    private static double measure ( final BufferedImage image, final int radius, final BlurType blurType )
+    {
+        final ShadowFilter filter = new ShadowFilter ( radius, 0, 0, 0.5f );
+        filter.setBlurType ( blurType );
+        for ( int i = 0; i < WARMUP; i++ )
+        {
+            filter.filter ( image, null );
+        }
+        final long start = System.nanoTime ();
+        for ( int i = 0; i < ITERATIONS; i++ )
+        {
+            filter.filter ( image, null );
+        }
+        return ( System.nanoTime () - start ) / 1000000.0 / ITERATIONS;
+    }
+
+    /**
+     * Returns popup-like image with a rounded shape to build shadow for.
+     *
+     * @param radius shadow radius
+     * @return popup-like image with a rounded shape to build shadow for
+     */
+    private static BufferedImage createShadowTemplate ( final int radius )
+    {
+        final BufferedImage image = new BufferedImage ( 400 + radius * 2, 300 + radius * 2, BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D g2d = image.createGraphics ();
+        g2d.setRenderingHint ( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+        g2d.setPaint ( Color.BLACK );
+        g2d.fillRoundRect ( radius, radius, 400, 300, 8, 8 );
+        g2d.dispose ();
+        return image;
+    }
+}
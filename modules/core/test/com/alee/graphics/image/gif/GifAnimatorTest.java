@@ -0,0 +1,277 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.image.gif;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link GifAnimator} shared animation clock.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class GifAnimatorTest
+{
+    /**
+     * Frame delay in milliseconds.
+     */
+    private static final int DELAY = 20;
+
+    /**
+     * Maximum time to wait for animation changes in milliseconds.
+     */
+    private static final long TIMEOUT = 5000;
+
+    /**
+     * Shared animation clock test.
+     */
+    @Test
+    public void sharedClock () throws InterruptedException
+    {
+        final List<GifIcon> icons = new ArrayList<GifIcon> ();
+        final CountDownLatch latch = new CountDownLatch ( 32 );
+        final AtomicBoolean edt = new AtomicBoolean ( true );
+        for ( int i = 0; i < 32; i++ )
+        {
+            final GifIcon icon = createIcon ( 3 );
+            icon.addFrameChangeListener ( new FrameChangeListener ()
+            {
+                private boolean changed = false;
+
+                @Override
+                public void frameChanged ( final GifIcon icon, final int index, final GifFrame frame )
+                {
+                    edt.compareAndSet ( true, SwingUtilities.isEventDispatchThread () );
+                    if ( !changed )
+                    {
+                        changed = true;
+                        latch.countDown ();
+                    }
+                }
+            } );
+            icon.startAnimation ();
+            icons.add ( icon );
+        }
+        try
+        {
+            assertTrue ( "All icons should be animated", latch.await ( TIMEOUT, TimeUnit.MILLISECONDS ) );
+            assertTrue ( "Frame changes should be reported on EDT", edt.get () );
+            assertEquals ( "Single animation thread should be used", 1, countAnimatorThreads () );
+        }
+        finally
+        {
+            for ( final GifIcon icon : icons )
+            {
+                icon.stopAnimation ();
+            }
+        }
+    }
+
+    /**
+     * Animation stop test.
+     */
+    @Test
+    public void stopAnimation () throws InterruptedException
+    {
+        final GifIcon icon = createIcon ( 4 );
+        icon.startAnimation ();
+        assertTrue ( icon.isAnimated () );
+        waitFor ( icon, true, false );
+        icon.stopAnimation ();
+        assertFalse ( icon.isAnimated () );
+        final int frame = icon.getDisplayedFrame ();
+        Thread.sleep ( DELAY * 5 );
+        assertEquals ( "Stopped icon should keep its frame", frame, icon.getDisplayedFrame () );
+    }
+
+    /**
+     * Hidden icon pause test.
+     */
+    @Test
+    public void hiddenIconPause () throws InterruptedException
+    {
+        final GifIcon icon = createIcon ( 2 );
+        final JLabel label = new JLabel ( icon );
+        paint ( icon, label );
+        icon.startAnimation ();
+        waitFor ( icon, false, true );
+        assertFalse ( "Icon painted only on hidden component should be paused", icon.isAnimated () );
+
+        paint ( icon, label );
+        assertTrue ( "Painted icon should be resumed", icon.isAnimated () );
+        icon.stopAnimation ();
+        assertFalse ( icon.isAnimated () );
+
+        paint ( icon, label );
+        assertFalse ( "Stopped icon should not be resumed by painting", icon.isAnimated () );
+    }
+
+    /**
+     * {@link JList} cell renderer test.
+     */
+    @Test
+    public void listRenderer () throws InterruptedException
+    {
+        final GifIcon icon = createIcon ( 3 );
+        final CountDownLatch latch = new CountDownLatch ( 3 );
+        icon.addFrameChangeListener ( new FrameChangeListener ()
+        {
+            @Override
+            public void frameChanged ( final GifIcon icon, final int index, final GifFrame frame )
+            {
+                latch.countDown ();
+            }
+        } );
+        final JList<Icon> list = new JList<Icon> ( new Icon[]{ new ImageIcon (), icon, new ImageIcon (), icon } );
+        final Rectangle[] areas = new Rectangle[ 3 ];
+        try
+        {
+            SwingUtilities.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    list.setSize ( list.getPreferredSize () );
+                    final BufferedImage image = new BufferedImage ( list.getWidth (), list.getHeight (), BufferedImage.TYPE_INT_ARGB );
+                    final Graphics2D g2d = image.createGraphics ();
+                    list.paint ( g2d );
+                    g2d.dispose ();
+                    synchronized ( icon.paintedAreas )
+                    {
+                        areas[ 0 ] = icon.paintedAreas.get ( list );
+                    }
+                    areas[ 1 ] = list.getCellBounds ( 1, 1 );
+                    areas[ 2 ] = list.getCellBounds ( 3, 3 );
+                }
+            } );
+        }
+        catch ( final InvocationTargetException e )
+        {
+            throw new RuntimeException ( e.getCause () );
+        }
+        try
+        {
+            assertNotNull ( "Icon area should be remembered for the list", areas[ 0 ] );
+            assertTrue ( "Icon area should start within the first cell with icon", areas[ 1 ].contains ( areas[ 0 ].getLocation () ) );
+            final Point end = new Point ( areas[ 0 ].x + areas[ 0 ].width - 1, areas[ 0 ].y + areas[ 0 ].height - 1 );
+            assertTrue ( "Icon area should end within the last cell with icon", areas[ 2 ].contains ( end ) );
+            assertTrue ( "Renderer icon should report frame changes", latch.await ( TIMEOUT, TimeUnit.MILLISECONDS ) );
+            assertTrue ( "Renderer icon with listeners should not be paused", icon.isAnimated () );
+        }
+        finally
+        {
+            icon.stopAnimation ();
+        }
+    }
+
+    /**
+     * Waits until specified {@link GifIcon} switches frame or stops being animated.
+     *
+     * @param icon    {@link GifIcon}
+     * @param frame   whether or not to wait for frame switch
+     * @param stopped whether or not to wait for animation stop
+     */
+    private static void waitFor ( final GifIcon icon, final boolean frame, final boolean stopped ) throws InterruptedException
+    {
+        final int initial = icon.getDisplayedFrame ();
+        final long end = System.currentTimeMillis () + TIMEOUT;
+        while ( System.currentTimeMillis () < end &&
+                !( frame && icon.getDisplayedFrame () != initial ) && !( stopped && !icon.isAnimated () ) )
+        {
+            Thread.sleep ( 5 );
+        }
+    }
+
+    /**
+     * Paints specified {@link GifIcon} on the specified {@link Component} on EDT.
+     *
+     * @param icon      {@link GifIcon} to paint
+     * @param component {@link Component} to paint on
+     */
+    private static void paint ( final GifIcon icon, final Component component ) throws InterruptedException
+    {
+        try
+        {
+            SwingUtilities.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    final BufferedImage image = new BufferedImage ( 10, 10, BufferedImage.TYPE_INT_ARGB );
+                    final Graphics2D g2d = image.createGraphics ();
+                    icon.paintIcon ( component, g2d, 0, 0 );
+                    g2d.dispose ();
+                }
+            } );
+        }
+        catch ( final InvocationTargetException e )
+        {
+            throw new RuntimeException ( e.getCause () );
+        }
+    }
+
+    /**
+     * Returns amount of running {@link GifAnimator} threads.
+     *
+     * @return amount of running {@link GifAnimator} threads
+     */
+    private static int countAnimatorThreads ()
+    {
+        int count = 0;
+        for ( final Thread thread : Thread.getAllStackTraces ().keySet () )
+        {
+            if ( thread.isAlive () && thread.getName ().startsWith ( "GifAnimator" ) )
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns new {@link GifIcon} with the specified amount of frames.
+     *
+     * @param frames amount of frames
+     * @return new {@link GifIcon} with the specified amount of frames
+     */
+    private static GifIcon createIcon ( final int frames )
+    {
+        final List<GifFrame> list = new ArrayList<GifFrame> ( frames );
+        for ( int i = 0; i < frames; i++ )
+        {
+            final BufferedImage image = new BufferedImage ( 10, 10, BufferedImage.TYPE_INT_ARGB );
+            image.setRGB ( i, i, 0xff000000 | i * 0x102030 );
+            list.add ( new GifFrame ( image, DELAY ) );
+        }
+        return new GifIcon ( list );
+    }
+}
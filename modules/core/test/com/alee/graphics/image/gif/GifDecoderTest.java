@@ -0,0 +1,372 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.image.gif;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.imageio.*;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests ensuring that streaming {@link GifDecoder} mode provides the same frames as eager one.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class GifDecoderTest
+{
+    /**
+     * Logical screen width.
+     */
+    private static final int WIDTH = 40;
+
+    /**
+     * Logical screen height.
+     */
+    private static final int HEIGHT = 30;
+
+    /**
+     * GIF disposal methods.
+     */
+    private static final String[] DISPOSAL_METHODS = { "none", "doNotDispose", "restoreToBackgroundColor", "restoreToPrevious" };
+
+    /**
+     * Disposal methods test.
+     */
+    @Test
+    public void disposalMethods () throws IOException
+    {
+        for ( int seed = 0; seed < 4; seed++ )
+        {
+            final byte[] gif = createGif ( seed, 16, false );
+            final GifDecoder eager = read ( gif, false );
+            assertEquals ( 16, eager.getFrameCount () );
+            assertFramesEqual ( eager, read ( gif, true ), 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15 );
+        }
+    }
+
+    /**
+     * Interlaced frames test.
+     */
+    @Test
+    public void interlacedFrames () throws IOException
+    {
+        final byte[] gif = createGif ( 7, 8, true );
+        assertFramesEqual ( read ( gif, false ), read ( gif, true ), 0, 1, 2, 3, 4, 5, 6, 7 );
+    }
+
+    /**
+     * Random frames access test.
+     */
+    @Test
+    public void randomAccess () throws IOException
+    {
+        final byte[] gif = createGif ( 11, 12, false );
+        assertFramesEqual ( read ( gif, false ), read ( gif, true ), 7, 2, 11, 0, 5, 5, 4, 3, 10, 9, 8, 1, 11, 0 );
+    }
+
+    /**
+     * Animation loop test.
+     */
+    @Test
+    public void animationLoop () throws IOException
+    {
+        final byte[] gif = createGif ( 5, 10, false );
+        final GifDecoder eager = read ( gif, false );
+        final GifDecoder streaming = read ( gif, true );
+        for ( int loop = 0; loop < 3; loop++ )
+        {
+            for ( int index = 0; index < streaming.getFrameCount (); index++ )
+            {
+                final BufferedImage displayed = streaming.getFrame ( index );
+                final int next = ( index + 1 ) % streaming.getFrameCount ();
+                assertNotSame ( "Displayed frame " + index + " was overwritten", displayed, streaming.getFrame ( next ) );
+                assertArrayEquals ( "Frame " + index, getPixels ( eager.getFrame ( index ) ), getPixels ( displayed ) );
+            }
+        }
+    }
+
+    /**
+     * Frame copies test.
+     */
+    @Test
+    public void frameCopies () throws IOException
+    {
+        final byte[] gif = createGif ( 13, 10, false );
+        final GifDecoder eager = read ( gif, false );
+        final GifDecoder streaming = read ( gif, true );
+        final BufferedImage displayed = streaming.getFrame ( 6 );
+        final int[] pixels = getPixels ( displayed );
+        for ( final int index : new int[]{ 9, 0, 6, 3, 1, 8 } )
+        {
+            final BufferedImage copy = streaming.getFrameCopy ( index );
+            assertNotSame ( displayed, copy );
+            assertArrayEquals ( "Frame " + index, getPixels ( eager.getFrame ( index ) ), getPixels ( copy ) );
+            assertArrayEquals ( "Frame " + index + " eager copy", getPixels ( eager.getFrame ( index ) ),
+                    getPixels ( eager.getFrameCopy ( index ) ) );
+        }
+        assertArrayEquals ( "Displayed frame was overwritten", pixels, getPixels ( displayed ) );
+        assertSame ( "Displayed frame was evicted", displayed, streaming.getFrame ( 6 ) );
+        assertNull ( streaming.getFrameCopy ( 10 ) );
+    }
+
+    /**
+     * Streaming {@link GifIcon} test.
+     */
+    @Test
+    public void streamingIcon () throws IOException
+    {
+        final byte[] gif = createGif ( 9, 6, false );
+        final GifIcon eager = new GifIcon ( new ByteArrayInputStream ( gif ) );
+        final GifIcon streaming = new GifIcon ( new ByteArrayInputStream ( gif ), true );
+        try
+        {
+            streaming.stopAnimation ();
+            final BufferedImage displayed = streaming.getDisplayedImage ();
+            final int[] pixels = getPixels ( displayed );
+
+            assertFalse ( eager.isStreaming () );
+            assertTrue ( streaming.isStreaming () );
+            assertEquals ( eager.getFrameCount (), streaming.getFrameCount () );
+            assertEquals ( eager.getIconWidth (), streaming.getIconWidth () );
+            assertEquals ( eager.getIconHeight (), streaming.getIconHeight () );
+            for ( int index = eager.getFrameCount () - 1; index >= 0; index-- )
+            {
+                final GifFrame expected = eager.getFrame ( index );
+                final GifFrame actual = streaming.getFrame ( index );
+                assertEquals ( expected.delay, actual.delay );
+                assertArrayEquals ( "Frame " + index, getPixels ( expected.bufferedImage ), getPixels ( actual.bufferedImage ) );
+            }
+            assertSame ( displayed, streaming.getDisplayedImage () );
+            assertArrayEquals ( pixels, getPixels ( displayed ) );
+            assertArrayEquals ( getPixels ( eager.getFrame ( streaming.getDisplayedFrame () ).bufferedImage ), pixels );
+        }
+        finally
+        {
+            eager.stopAnimation ();
+            streaming.stopAnimation ();
+        }
+    }
+
+    /**
+     * First frame test.
+     */
+    @Test
+    public void firstFrame () throws IOException
+    {
+        final BufferedImage image = createFrame ( new Random ( 3 ), WIDTH, HEIGHT );
+        final byte[] gif = createGif ( new BufferedImage[]{ image }, new int[]{ 0 }, new int[]{ 0 }, new String[]{ "none" }, -1, false );
+        for ( final boolean streaming : new boolean[]{ false, true } )
+        {
+            final GifDecoder decoder = read ( gif, streaming );
+            assertEquals ( GifDecoder.STATUS_OK, decoder.getStatus () );
+            assertEquals ( 1, decoder.getFrameCount () );
+            assertArrayEquals ( getPixels ( image ), getPixels ( decoder.getFrame ( 0 ) ) );
+        }
+    }
+
+    /**
+     * Asserts that both decoders provide equal frames in the specified order.
+     *
+     * @param eager     eager {@link GifDecoder}
+     * @param streaming streaming {@link GifDecoder}
+     * @param order     frames order
+     */
+    private static void assertFramesEqual ( final GifDecoder eager, final GifDecoder streaming, final int... order )
+    {
+        assertEquals ( GifDecoder.STATUS_OK, eager.getStatus () );
+        assertEquals ( GifDecoder.STATUS_OK, streaming.getStatus () );
+        assertTrue ( streaming.isStreaming () );
+        assertEquals ( eager.getFrameCount (), streaming.getFrameCount () );
+        assertEquals ( eager.getLoopCount (), streaming.getLoopCount () );
+        for ( final int index : order )
+        {
+            assertEquals ( "Frame " + index + " delay", eager.getDelay ( index ), streaming.getDelay ( index ) );
+            assertArrayEquals ( "Frame " + index, getPixels ( eager.getFrame ( index ) ), getPixels ( streaming.getFrame ( index ) ) );
+        }
+    }
+
+    /**
+     * Returns {@link GifDecoder} that have read specified GIF data.
+     *
+     * @param gif       GIF data
+     * @param streaming whether or not {@link GifDecoder} should be streaming
+     * @return {@link GifDecoder} that have read specified GIF data
+     */
+    private static GifDecoder read ( final byte[] gif, final boolean streaming )
+    {
+        final GifDecoder decoder = new GifDecoder ( streaming );
+        decoder.read ( new BufferedInputStream ( new ByteArrayInputStream ( gif ) ) );
+        return decoder;
+    }
+
+    /**
+     * Returns animated GIF data with random frames covering all disposal methods.
+     *
+     * @param seed       random seed
+     * @param frames     frames amount
+     * @param interlaced whether or not frames should be interlaced
+     * @return animated GIF data with random frames covering all disposal methods
+     * @throws IOException if GIF cannot be written
+     */
+    private static byte[] createGif ( final int seed, final int frames, final boolean interlaced ) throws IOException
+    {
+        final Random random = new Random ( seed );
+        final BufferedImage[] images = new BufferedImage[ frames ];
+        final int[] xs = new int[ frames ];
+        final int[] ys = new int[ frames ];
+        final String[] disposals = new String[ frames ];
+        for ( int i = 0; i < frames; i++ )
+        {
+            final int width = i == 0 ? WIDTH : 5 + random.nextInt ( WIDTH - 5 );
+            final int height = i == 0 ? HEIGHT : 5 + random.nextInt ( HEIGHT - 5 );
+            images[ i ] = createFrame ( random, width, height );
+            xs[ i ] = i == 0 ? 0 : random.nextInt ( WIDTH - width + 1 );
+            ys[ i ] = i == 0 ? 0 : random.nextInt ( HEIGHT - height + 1 );
+            disposals[ i ] = DISPOSAL_METHODS[ random.nextInt ( DISPOSAL_METHODS.length ) ];
+        }
+        return createGif ( images, xs, ys, disposals, seed % 2 == 0 ? 0 : -1, interlaced );
+    }
+
+    /**
+     * Returns animated GIF data with the specified frames.
+     *
+     * @param images      frame images
+     * @param xs          frame X coordinates
+     * @param ys          frame Y coordinates
+     * @param disposals   frame disposal methods
+     * @param transparent transparent color index or {@code -1} to not use transparency
+     * @param interlaced  whether or not frames should be interlaced
+     * @return animated GIF data with the specified frames
+     * @throws IOException if GIF cannot be written
+     */
+    private static byte[] createGif ( final BufferedImage[] images, final int[] xs, final int[] ys, final String[] disposals,
+                                      final int transparent, final boolean interlaced ) throws IOException
+    {
+        final ByteArrayOutputStream gif = new ByteArrayOutputStream ();
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName ( "gif" ).next ();
+        final ImageOutputStream output = ImageIO.createImageOutputStream ( gif );
+        writer.setOutput ( output );
+        writer.prepareWriteSequence ( null );
+        for ( int i = 0; i < images.length; i++ )
+        {
+            final ImageWriteParam param = writer.getDefaultWriteParam ();
+            param.setProgressiveMode ( interlaced ? ImageWriteParam.MODE_DEFAULT : ImageWriteParam.MODE_DISABLED );
+            final IIOMetadata metadata = writer.getDefaultImageMetadata ( new ImageTypeSpecifier ( images[ i ] ), param );
+            final String format = metadata.getNativeMetadataFormatName ();
+            final IIOMetadataNode root = ( IIOMetadataNode ) metadata.getAsTree ( format );
+
+            final IIOMetadataNode descriptor = getNode ( root, "ImageDescriptor" );
+            descriptor.setAttribute ( "imageLeftPosition", Integer.toString ( xs[ i ] ) );
+            descriptor.setAttribute ( "imageTopPosition", Integer.toString ( ys[ i ] ) );
+
+            final IIOMetadataNode control = getNode ( root, "GraphicControlExtension" );
+            control.setAttribute ( "disposalMethod", disposals[ i ] );
+            control.setAttribute ( "userInputFlag", "FALSE" );
+            control.setAttribute ( "transparentColorFlag", transparent >= 0 ? "TRUE" : "FALSE" );
+            control.setAttribute ( "transparentColorIndex", Integer.toString ( Math.max ( 0, transparent ) ) );
+            control.setAttribute ( "delayTime", Integer.toString ( 5 + i ) );
+
+            metadata.setFromTree ( format, root );
+            writer.writeToSequence ( new IIOImage ( images[ i ], null, metadata ), param );
+        }
+        writer.endWriteSequence ();
+        output.close ();
+        return gif.toByteArray ();
+    }
+
+    /**
+     * Returns existing or newly added child {@link IIOMetadataNode} with the specified name.
+     *
+     * @param root root {@link IIOMetadataNode}
+     * @param name child node name
+     * @return existing or newly added child {@link IIOMetadataNode} with the specified name
+     */
+    private static IIOMetadataNode getNode ( final IIOMetadataNode root, final String name )
+    {
+        for ( int i = 0; i < root.getLength (); i++ )
+        {
+            if ( root.item ( i ).getNodeName ().equals ( name ) )
+            {
+                return ( IIOMetadataNode ) root.item ( i );
+            }
+        }
+        final IIOMetadataNode node = new IIOMetadataNode ( name );
+        root.appendChild ( node );
+        return node;
+    }
+
+    /**
+     * Returns new indexed frame image with its own random palette and random rectangles.
+     *
+     * @param random {@link Random}
+     * @param width  frame width
+     * @param height frame height
+     * @return new indexed frame image with its own random palette and random rectangles
+     */
+    private static BufferedImage createFrame ( final Random random, final int width, final int height )
+    {
+        final byte[] r = new byte[ 16 ];
+        final byte[] g = new byte[ 16 ];
+        final byte[] b = new byte[ 16 ];
+        random.nextBytes ( r );
+        random.nextBytes ( g );
+        random.nextBytes ( b );
+        final IndexColorModel colorModel = new IndexColorModel ( 4, 16, r, g, b );
+        final BufferedImage image = new BufferedImage ( width, height, BufferedImage.TYPE_BYTE_INDEXED, colorModel );
+        for ( int i = 0; i < 6; i++ )
+        {
+            final int x = random.nextInt ( width );
+            final int y = random.nextInt ( height );
+            final int index = random.nextInt ( 16 );
+            for ( int px = x; px < Math.min ( width, x + 1 + random.nextInt ( width ) ); px++ )
+            {
+                for ( int py = y; py < Math.min ( height, y + 1 + random.nextInt ( height ) ); py++ )
+                {
+                    image.getRaster ().setSample ( px, py, 0, index );
+                }
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Returns ARGB pixels of the specified image.
+     *
+     * @param image {@link Image}
+     * @return ARGB pixels of the specified image
+     */
+    private static int[] getPixels ( final BufferedImage image )
+    {
+        return image.getRGB ( 0, 0, image.getWidth (), image.getHeight (), null, 0, image.getWidth () );
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils;
+
+import com.alee.graphics.filters.ContrastFilter;
+import com.alee.graphics.filters.GrayscaleFilter;
+import com.alee.graphics.filters.OpacityFilter;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * Simple benchmark for common pixel transformations of {@link ImageUtils} and point filters.
+ * Each transformation is measured for {@link BufferedImage#TYPE_INT_ARGB} and {@link BufferedImage#TYPE_INT_ARGB_PRE} images.
+ * It is not run as a part of the test suite, launch it manually to compare results.
+ *
+ * @author Mikle Garin
+ */
+public final class ImageTransformBenchmark
+{
+    /**
+     * Measured image sizes.
+     */
+    private static final int[] SIZES = { 16, 64, 512 };
+
+    /**
+     * Image types to measure.
+     */
+    private static final int[] TYPES = { BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_INT_ARGB_PRE };
+
+    /**
+     * Minimum time spent on each measurement in nanoseconds.
+     */
+    private static final long DURATION = 500000000L;
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        System.out.println ( String.format ( "%-11s %5s %9s %12s", "transform", "size", "type", "us/image" ) );
+        for ( final int size : SIZES )
+        {
+            for ( final int type : TYPES )
+            {
+                final BufferedImage image = createImage ( size, type );
+                final String typeName = type == BufferedImage.TYPE_INT_ARGB ? "argb" : "argb_pre";
+                for ( final Transform transform : Transform.values () )
+                {
+                    final double time = measure ( transform, image );
+                    System.out.println ( String.format ( "%-11s %5d %9s %12.2f", transform, size, typeName, time ) );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns average transformation time in microseconds.
+     *
+     * @param transform {@link Transform}
+     * @param image     {@link BufferedImage} to transform
+     * @return average transformation time in microseconds
+     */
+    private static double measure ( final Transform transform, final BufferedImage image )
+    {
+        // Warming up
+        long start = System.nanoTime ();
+        while ( System.nanoTime () - start < DURATION )
+        {
+            transform.apply ( image );
+        }
+
+        // Measuring
+        int iterations = 0;
+        start = System.nanoTime ();
+        while ( System.nanoTime () - start < DURATION )
+        {
+            transform.apply ( image );
+            iterations++;
+        }
+        return ( System.nanoTime () - start ) / 1000.0 / iterations;
+    }
+
+    /**
+     * Returns new image of the specified type filled with random semi-transparent pixels.
+     *
+     * @param size image size
+     * @param type image type
+     * @return new image of the specified type filled with random semi-transparent pixels
+     */
+    private static BufferedImage createImage ( final int size, final int type )
+    {
+        final BufferedImage image = new BufferedImage ( size, size, type );
+        final Random random = new Random ( size );
+        final int[] pixels = new int[ size * size ];
+        for ( int i = 0; i < pixels.length; i++ )
+        {
+            pixels[ i ] = random.nextInt ();
+        }
+        image.setRGB ( 0, 0, size, size, pixels, 0, size );
+        return image;
+    }
+
+    /**
+     * Measured transformations.
+     */
+    private enum Transform
+    {
+        grayscale
+                {
+                    private final GrayscaleFilter filter = new GrayscaleFilter ();
+
+                    @Override
+                    public void apply ( final BufferedImage image )
+                    {
+                        filter.filter ( image, null );
+                    }
+                },
+        opacity
+                {
+                    private final OpacityFilter filter = new OpacityFilter ( 0x80 );
+
+                    @Override
+                    public void apply ( final BufferedImage image )
+                    {
+                        filter.filter ( image, null );
+                    }
+                },
+        contrast
+                {
+                    private final ContrastFilter filter = new ContrastFilter ( 1.1f, 1.3f );
+
+                    @Override
+                    public void apply ( final BufferedImage image )
+                    {
+                        filter.filter ( image, null );
+                    }
+                },
+        transparent
+                {
+                    @Override
+                    public void apply ( final BufferedImage image )
+                    {
+                        ImageUtils.createTransparentCopy ( image, 0.5f );
+                    }
+                },
+        disabled
+                {
+                    @Override
+                    public void apply ( final BufferedImage image )
+                    {
+                        ImageUtils.createDisabledCopy ( image );
+                    }
+                };
+
+        /**
+         * Applies transformation to the specified image.
+         *
+         * @param image {@link BufferedImage} to transform
+         */
+        public abstract void apply ( BufferedImage image );
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.*;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorConvertOp;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link ImageUtils} pixel transformations.
+ * Results are compared with the same transformations performed through Java2D painting.
+ * Plain {@link BufferedImage}s are used as destination instead of compatible ones, so tests do not require a screen.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ImageUtilsTest
+{
+    /**
+     * Maximum allowed difference of a single premultiplied color component.
+     */
+    private static final int MAX_DIFFERENCE = 2;
+
+    /**
+     * Maximum allowed difference of a single premultiplied color component after grayscale conversion.
+     * {@link ColorConvertOp} rounds gray values slightly differently from the table used by {@link ImageUtils}.
+     */
+    private static final int MAX_GRAYSCALE_DIFFERENCE = 3;
+
+    /**
+     * Image types to test.
+     */
+    private static final int[] TYPES = {
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_INT_ARGB_PRE,
+            BufferedImage.TYPE_INT_RGB
+    };
+
+    /**
+     * Transparent copy test.
+     */
+    @Test
+    public void transparentCopy ()
+    {
+        for ( final int type : TYPES )
+        {
+            for ( final int copyType : TYPES )
+            {
+                final BufferedImage image = createImage ( type );
+                final BufferedImage actual = new BufferedImage ( 73, 37, copyType );
+                ImageUtils.copyPixels ( image, actual, 0.45f, false );
+                final BufferedImage expected = paint ( image, new BufferedImage ( 73, 37, copyType ), 0.45f );
+                assertSimilar ( "Image type " + type + " into " + copyType, expected, actual, MAX_DIFFERENCE );
+            }
+        }
+    }
+
+    /**
+     * Disabled copy test.
+     */
+    @Test
+    public void disabledCopy ()
+    {
+        final ColorConvertOp grayscale = new ColorConvertOp ( ColorSpace.getInstance ( ColorSpace.CS_GRAY ), null );
+        for ( final int type : TYPES )
+        {
+            for ( final int copyType : TYPES )
+            {
+                final BufferedImage image = createImage ( type );
+                final BufferedImage actual = new BufferedImage ( 73, 37, copyType );
+                ImageUtils.copyPixels ( image, actual, 0.7f, true );
+                final BufferedImage expected = paint ( image, new BufferedImage ( 73, 37, copyType ), 0.7f );
+                grayscale.filter ( expected, expected );
+                assertSimilar ( "Image type " + type + " into " + copyType, expected, actual, MAX_GRAYSCALE_DIFFERENCE );
+            }
+        }
+    }
+
+    /**
+     * Dominant color test.
+     */
+    @Test
+    public void dominantColor ()
+    {
+        final BufferedImage image = new BufferedImage ( 30, 20, BufferedImage.TYPE_INT_ARGB_PRE );
+        final Graphics2D g2d = image.createGraphics ();
+        g2d.setPaint ( new Color ( 200, 100, 50 ) );
+        g2d.fillRect ( 0, 0, 15, 20 );
+        g2d.setPaint ( new Color ( 100, 50, 150 ) );
+        g2d.fillRect ( 15, 0, 15, 20 );
+        g2d.dispose ();
+        assertEquals ( new Color ( 150, 75, 100 ), ImageUtils.getDominantColor ( image ) );
+    }
+
+    /**
+     * Returns destination image with source image painted on it using the specified opacity.
+     *
+     * @param src     source image
+     * @param dst     destination image
+     * @param opacity painting opacity
+     * @return destination image with source image painted on it using the specified opacity
+     */
+    private static BufferedImage paint ( final BufferedImage src, final BufferedImage dst, final float opacity )
+    {
+        final Graphics2D g2d = dst.createGraphics ();
+        g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.SRC_OVER, opacity ) );
+        g2d.drawImage ( src, 0, 0, null );
+        g2d.dispose ();
+        return dst;
+    }
+
+    /**
+     * Returns new image of the specified type filled with random pixels.
+     *
+     * @param type image type
+     * @return new image of the specified type filled with random pixels
+     */
+    private static BufferedImage createImage ( final int type )
+    {
+        final Random random = new Random ( type );
+        final int[] pixels = new int[ 73 * 37 ];
+        for ( int i = 0; i < pixels.length; i++ )
+        {
+            pixels[ i ] = random.nextInt ();
+        }
+        final BufferedImage image = new BufferedImage ( 73, 37, type );
+        image.setRGB ( 0, 0, 73, 37, pixels, 0, 73 );
+        return image;
+    }
+
+    /**
+     * Asserts that premultiplied components of image pixels differ only slightly.
+     *
+     * @param message    message prefix
+     * @param expected   expected image
+     * @param actual     actual image
+     * @param difference maximum allowed difference of a single premultiplied color component
+     */
+    private static void assertSimilar ( final String message, final BufferedImage expected, final BufferedImage actual,
+                                        final int difference )
+    {
+        assertEquals ( message + " transparency", expected.getTransparency (), actual.getTransparency () );
+        final int[] expectedPixels = expected.getRGB ( 0, 0, 73, 37, null, 0, 73 );
+        final int[] actualPixels = actual.getRGB ( 0, 0, 73, 37, null, 0, 73 );
+        for ( int i = 0; i < expectedPixels.length; i++ )
+        {
+            final int expectedAlpha = expectedPixels[ i ] >>> 24;
+            final int actualAlpha = actualPixels[ i ] >>> 24;
+            assertTrue ( message + " alpha at " + i, Math.abs ( expectedAlpha - actualAlpha ) <= difference );
+            for ( int shift = 0; shift < 24; shift += 8 )
+            {
+                final int e = ( expectedPixels[ i ] >> shift & 0xff ) * expectedAlpha / 255;
+                final int a = ( actualPixels[ i ] >> shift & 0xff ) * actualAlpha / 255;
+                assertTrue ( message + " color at " + i + ": " + e + " vs " + a, Math.abs ( e - a ) <= difference );
+            }
+        }
+    }
+}
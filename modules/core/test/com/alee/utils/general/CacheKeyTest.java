@@ -0,0 +1,161 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.general;
+
+import com.alee.api.annotations.NotNull;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link CacheKey}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class CacheKeyTest
+{
+    /**
+     * Checks that keys with the same values are equal.
+     */
+    @Test
+    public void sameValues ()
+    {
+        final CacheKey key = new CacheKey ().add ( 1 ).add ( "a" ).add ( new Rectangle ( 1, 2, 3, 4 ) ).add ( 0.5f );
+        final CacheKey other = new CacheKey ().add ( 1 ).add ( "a" ).add ( new Rectangle ( 1, 2, 3, 4 ) ).add ( 0.5f );
+        assertEquals ( key, other );
+        assertEquals ( key.hashCode (), other.hashCode () );
+        assertEquals ( key, other.copy () );
+    }
+
+    /**
+     * Checks that keys with the same values added in a different order are not equal.
+     */
+    @Test
+    public void valuesOrder ()
+    {
+        assertNotEquals ( new CacheKey ().add ( 1 ).add ( "a" ), new CacheKey ().add ( "a" ).add ( 1 ) );
+        assertNotEquals ( new CacheKey ().add ( 1 ).add ( "a" ).add ( 2 ), new CacheKey ().add ( 1 ).add ( 2 ).add ( "a" ) );
+    }
+
+    /**
+     * Checks that primitive values are never equal to objects.
+     */
+    @Test
+    public void valuesKind ()
+    {
+        assertNotEquals ( new CacheKey ().add ( 0 ), new CacheKey ().add ( ( Object ) null ) );
+        assertNotEquals ( new CacheKey ().add ( 0 ).add ( "a" ), new CacheKey ().add ( ( Object ) null ).add ( "a" ) );
+    }
+
+    /**
+     * Checks that {@link CacheKeyPart}s are stored by their values.
+     */
+    @Test
+    public void keyParts ()
+    {
+        final Part part = new Part ( 1 );
+        final CacheKey key = new CacheKey ().add ( part ).copy ();
+        part.value = 2;
+        assertEquals ( key, new CacheKey ().add ( new Part ( 1 ) ) );
+        assertNotEquals ( key, new CacheKey ().add ( part ) );
+        assertNotEquals ( key, new CacheKey ().add ( 1 ) );
+    }
+
+    /**
+     * Checks that temporary key is reset and its copy is not affected by further changes.
+     */
+    @Test
+    public void temporaryKey ()
+    {
+        final CacheKey copy = CacheKey.temporary ().add ( 1 ).add ( "a" ).copy ();
+        assertEquals ( copy, CacheKey.temporary ().add ( 1 ).add ( "a" ) );
+        assertNotEquals ( copy, CacheKey.temporary ().add ( 1 ).add ( "b" ) );
+        assertEquals ( copy, new CacheKey ().add ( 1 ).add ( "a" ) );
+    }
+
+    /**
+     * Checks that nested acquired keys are not shared and are reused once released.
+     */
+    @Test
+    public void acquiredKeys ()
+    {
+        final CacheKey outer = CacheKey.acquire ().add ( 1 ).add ( "a" );
+        final CacheKey inner = CacheKey.acquire ().add ( 2 );
+        assertNotSame ( outer, inner );
+        assertEquals ( new CacheKey ().add ( 1 ).add ( "a" ), outer );
+        inner.release ();
+
+        final CacheKey reused = CacheKey.acquire ();
+        assertSame ( inner, reused );
+        assertEquals ( new CacheKey (), reused );
+        assertEquals ( new CacheKey ().add ( 1 ).add ( "a" ), outer );
+        reused.release ();
+        outer.release ();
+    }
+
+    /**
+     * Checks that acquired keys can only be released in the reverse order of their acquisition.
+     */
+    @Test ( expected = IllegalStateException.class )
+    public void acquiredKeysOrder ()
+    {
+        final CacheKey outer = CacheKey.acquire ();
+        final CacheKey inner = CacheKey.acquire ();
+        try
+        {
+            outer.release ();
+        }
+        finally
+        {
+            inner.release ();
+            outer.release ();
+        }
+    }
+
+    /**
+     * Mutable {@link CacheKeyPart} implementation.
+     */
+    private static final class Part implements CacheKeyPart
+    {
+        /**
+         * Part value.
+         */
+        private int value;
+
+        /**
+         * Constructs new {@link Part}.
+         *
+         * @param value part value
+         */
+        public Part ( final int value )
+        {
+            this.value = value;
+        }
+
+        @Override
+        public void addTo ( @NotNull final CacheKey key )
+        {
+            key.add ( value );
+        }
+    }
+}
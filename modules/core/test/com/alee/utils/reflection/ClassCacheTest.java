@@ -0,0 +1,123 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.reflection;
+
+import com.alee.api.annotations.NotNull;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link ClassCache}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ClassCacheTest
+{
+    /**
+     * Checks that values are computed once per {@link Class} and computed again once removed.
+     */
+    @Test
+    public void values ()
+    {
+        final CountingCache cache = new CountingCache ();
+        final Object string = cache.get ( String.class );
+        final Object integer = cache.get ( Integer.class );
+        assertNotSame ( string, integer );
+        assertSame ( string, cache.get ( String.class ) );
+        assertSame ( integer, cache.get ( Integer.class ) );
+        assertEquals ( 2, cache.computed.get () );
+
+        cache.remove ( String.class );
+        assertNotSame ( string, cache.get ( String.class ) );
+        assertSame ( integer, cache.get ( Integer.class ) );
+        assertEquals ( 3, cache.computed.get () );
+    }
+
+    /**
+     * Checks that value is only computed once when it is requested from multiple threads at once.
+     *
+     * @throws InterruptedException if test thread was interrupted
+     */
+    @Test
+    public void concurrentValues () throws InterruptedException
+    {
+        final CountingCache cache = new CountingCache ();
+        final int threadsCount = 8;
+        final Object[] values = new Object[ threadsCount ];
+        final CountDownLatch start = new CountDownLatch ( 1 );
+        final Thread[] threads = new Thread[ threadsCount ];
+        for ( int i = 0; i < threadsCount; i++ )
+        {
+            final int index = i;
+            threads[ i ] = new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    try
+                    {
+                        start.await ();
+                        values[ index ] = cache.get ( ClassCacheTest.class );
+                    }
+                    catch ( final InterruptedException e )
+                    {
+                        Thread.currentThread ().interrupt ();
+                    }
+                }
+            } );
+            threads[ i ].start ();
+        }
+        start.countDown ();
+        for ( final Thread thread : threads )
+        {
+            thread.join ();
+        }
+        assertEquals ( 1, cache.computed.get () );
+        for ( final Object value : values )
+        {
+            assertSame ( values[ 0 ], value );
+        }
+    }
+
+    /**
+     * {@link ClassCache} counting computed values.
+     */
+    private static final class CountingCache extends ClassCache<Object>
+    {
+        /**
+         * Amount of computed values.
+         */
+        @NotNull
+        private final AtomicInteger computed = new AtomicInteger ( 0 );
+
+        @NotNull
+        @Override
+        protected Object computeValue ( @NotNull final Class<?> type )
+        {
+            computed.incrementAndGet ();
+            return new Object ();
+        }
+    }
+}
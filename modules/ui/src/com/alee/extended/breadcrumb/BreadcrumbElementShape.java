@@ -26,6 +26,7 @@ import com.alee.painter.decoration.WebDecoration;
 import com.alee.painter.decoration.shadow.ShadowType;
 import com.alee.painter.decoration.shape.*;
 import com.alee.utils.ShapeUtils;
+import com.alee.utils.general.CacheKey;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
@@ -44,6 +45,12 @@ import java.awt.*;
 public class BreadcrumbElementShape<C extends JComponent, D extends WebDecoration<C, D>, I extends BreadcrumbElementShape<C, D, I>>
         extends AbstractShape<C, D, I> implements IPartialShape<C, D, I>
 {
+    /**
+     * {@link Shape} identifiers for each {@link ShapeType}.
+     */
+    @NotNull
+    private static final String[] SHAPE_IDS = ShapeUtils.createShapeIds ( "BreadcrumbElementShape" );
+
     /**
      * todo 1. Add proper stretch settings to preserve shadow between components of different width
      */
@@ -131,6 +138,12 @@ public class BreadcrumbElementShape<C extends JComponent, D extends WebDecoratio
         return round != null ? round : new Round ();
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public boolean isPaintTop ( @NotNull final C c, @NotNull final D d )
     {
@@ -243,7 +256,7 @@ public class BreadcrumbElementShape<C extends JComponent, D extends WebDecoratio
         );
 
         // Creating actual shape
-        return ShapeUtils.getShape ( breadcrumb, "BreadcrumbElementShape." + type, new Supplier<Shape> ()
+        return ShapeUtils.getShape ( breadcrumb, SHAPE_IDS[ type.ordinal () ], new Supplier<Shape> ()
         {
             @Override
             public Shape get ()
@@ -344,7 +357,8 @@ public class BreadcrumbElementShape<C extends JComponent, D extends WebDecoratio
                 }
                 return shape;
             }
-        }, bounds, sw, sides, corners, round, cornerWidth, overlap, ltr );
+        }, CacheKey.temporary ().add ( bounds ).add ( sw ).add ( sides ).add ( corners ).add ( round )
+                .add ( cornerWidth ).add ( overlap ).add ( ltr ) );
     }
 
     @NotNull
@@ -86,6 +86,12 @@ public class Gripper<C extends JComponent, D extends IDecoration<C, D>, I extend
         return id != null ? id : "gripper";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public boolean isEmpty ( @NotNull final C c, @NotNull final D d )
     {
@@ -68,6 +68,12 @@ public class MixedIcon<C extends AbstractButton, D extends IDecoration<C, D>, I
         return id != null ? id : "mixed";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public boolean isEmpty ( @NotNull final C c, @NotNull final D d )
     {
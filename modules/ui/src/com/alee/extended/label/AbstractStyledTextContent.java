@@ -133,6 +133,15 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
         super.deactivate ( c, d );
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * This content stores component-specific text ranges.
+         */
+        return false;
+    }
+
     /**
      * Returns whether or not ignore style font color settings.
      *
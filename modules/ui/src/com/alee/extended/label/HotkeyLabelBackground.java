@@ -79,6 +79,12 @@ public class HotkeyLabelBackground<C extends WebHotkeyLabel, D extends IDecorati
         return id != null ? id : "hotkey-background";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     /**
      * Returns shape round.
      *
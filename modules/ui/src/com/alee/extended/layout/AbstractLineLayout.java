@@ -26,6 +26,7 @@ import com.alee.utils.swing.ZOrderComparator;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -36,7 +37,7 @@ import java.util.Map;
  *
  * @author Mikle Garin
  */
-public abstract class AbstractLineLayout extends AbstractLayoutManager implements SwingConstants
+public abstract class AbstractLineLayout extends AbstractLayoutManager implements SwingConstants, Serializable
 {
     /**
      * Positions component at the leading side of the container.
@@ -731,6 +732,25 @@ public abstract class AbstractLineLayout extends AbstractLayoutManager implement
         return c;
     }
 
+    /**
+     * Restores transient components maps upon deserialization since they are not serialized.
+     *
+     * @return this {@link AbstractLineLayout}
+     */
+    @NotNull
+    protected Object readResolve ()
+    {
+        if ( constraints == null )
+        {
+            constraints = new HashMap<Component, String> ( 10 );
+        }
+        if ( components == null )
+        {
+            components = new HashMap<String, List<Component>> ( 4 );
+        }
+        return this;
+    }
+
     /**
      * Returns either {@link #HORIZONTAL} or {@link #VERTICAL} orientation for {@link Container}.
      *
@@ -84,6 +84,12 @@ public class MemoryBarBackground<C extends WebMemoryBar, D extends IDecoration<C
         return id != null ? id : "memory-background";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     /**
      * Returns progress shape round.
      *
@@ -35,6 +35,12 @@ import com.thoughtworks.xstream.annotations.XStreamAlias;
 public class MemoryBarText<C extends WebMemoryBar, D extends IDecoration<C, D>, I extends MemoryBarText<C, D, I>>
         extends AbstractTextContent<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Nullable
     @Override
     protected String getText ( @NotNull final C c, @NotNull final D d )
@@ -172,6 +172,15 @@ public class ProgressOverlayBackground<C extends WebCanvas, D extends IDecoratio
         stopAnimation ( c, d, false );
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * This background stores component-specific animation state.
+         */
+        return false;
+    }
+
     @Override
     public float getOpacity ( @NotNull final C c, @NotNull final D d )
     {
@@ -40,6 +40,12 @@ import java.awt.*;
 public class ProgressOverlayShape<C extends WebCanvas, D extends WebDecoration<C, D>, I extends ProgressOverlayShape<C, D, I>>
         extends AbstractShape<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     public Shape getShape ( @NotNull final ShapeType type, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d )
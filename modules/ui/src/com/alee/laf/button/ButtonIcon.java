@@ -38,6 +38,12 @@ import javax.swing.*;
 public class ButtonIcon<C extends AbstractButton, D extends IDecoration<C, D>, I extends ButtonIcon<C, D, I>>
         extends AbstractIconContent<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Nullable
     @Override
     protected Icon getIcon ( @NotNull final C c, @NotNull final D d )
@@ -62,6 +62,12 @@ public class CheckIcon<C extends AbstractButton, D extends IDecoration<C, D>, I
         return id != null ? id : "check";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public boolean isEmpty ( @NotNull final C c, @NotNull final D d )
     {
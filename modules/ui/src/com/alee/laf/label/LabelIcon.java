@@ -38,6 +38,12 @@ import javax.swing.*;
 public class LabelIcon<C extends JLabel, D extends IDecoration<C, D>, I extends LabelIcon<C, D, I>>
         extends AbstractIconContent<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Nullable
     @Override
     protected Icon getIcon ( @NotNull final C c, @NotNull final D d )
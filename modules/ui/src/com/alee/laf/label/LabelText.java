@@ -36,6 +36,12 @@ import javax.swing.*;
 @XStreamAlias ( "LabelText" )
 public class LabelText<C extends JLabel, D extends IDecoration<C, D>, I extends LabelText<C, D, I>> extends AbstractTextContent<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Nullable
     @Override
     protected String getText ( @NotNull final C c, @NotNull final D d )
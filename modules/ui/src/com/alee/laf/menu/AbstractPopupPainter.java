@@ -20,6 +20,7 @@ package com.alee.laf.menu;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Supplier;
+import com.alee.graphics.filters.BlurType;
 import com.alee.managers.style.Bounds;
 import com.alee.managers.style.BoundsType;
 import com.alee.managers.style.PainterShapeProvider;
@@ -30,6 +31,7 @@ import com.alee.utils.ColorUtils;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.ProprietaryUtils;
 import com.alee.utils.ShapeUtils;
+import com.alee.utils.general.CacheKey;
 import com.alee.utils.general.Pair;
 import com.alee.utils.ninepatch.NinePatchIcon;
 
@@ -398,7 +400,8 @@ public abstract class AbstractPopupPainter<C extends JComponent, U extends Compo
             final Pair<Integer, Integer> ver = new Pair<Integer, Integer> ( b.y + shadeWidth * 2, b.y + b.height - shadeWidth * 2 );
             final StretchInfo info = new StretchInfo ( hor, ver );
             final Shape shape = getBorderShape ( popup, popupSize, true );
-            shade = WebShadow.getShadowIcon ( info, b, shadeWidth, opacity, Color.BLACK, shape, popupStyle, cornerSide, relativeCorner );
+            shade = WebShadow.getShadowIcon ( info, b, shadeWidth, opacity, Color.BLACK, BlurType.gaussian, shape,
+                    popupStyle, cornerSide, relativeCorner );
             shade.paintIcon ( g2d, getShadeBounds ( popupSize ) );
         }
         else
@@ -544,15 +547,17 @@ public abstract class AbstractPopupPainter<C extends JComponent, U extends Compo
     }
 
     /**
-     * Returns an array of shape settings cached along with the shape.
+     * Returns key of shape settings cached along with the shape.
      *
      * @param popup     popup component
      * @param popupSize popup size
-     * @return an array of shape settings cached along with the shape
+     * @return key of shape settings cached along with the shape
      */
-    protected Object[] getCachedShapeSettings ( final C popup, final Dimension popupSize )
+    @NotNull
+    protected CacheKey getCachedShapeSettings ( final C popup, final Dimension popupSize )
     {
-        return new Object[]{ round, shadeWidth, cornerWidth, cornerSide, relativeCorner, cornerAlignment, popupSize, ltr };
+        return CacheKey.temporary ().add ( round ).add ( shadeWidth ).add ( cornerWidth ).add ( cornerSide ).add ( relativeCorner )
+                .add ( cornerAlignment ).add ( popupSize ).add ( ltr );
     }
 
     /**
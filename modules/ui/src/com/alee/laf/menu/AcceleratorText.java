@@ -46,6 +46,12 @@ public class AcceleratorText<C extends JMenuItem, D extends IDecoration<C, D>, I
         return id != null ? id : "accelerator";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     protected Color getColor ( @NotNull final C c, @NotNull final D d )
@@ -48,6 +48,12 @@ public class MenuItemLayout<C extends JMenuItem, D extends IDecoration<C, D>, I
     @XStreamAsAttribute
     protected Boolean alignTextByIcons;
 
+    @Override
+    public boolean isShareable ()
+    {
+        return isContentShareable ();
+    }
+
     @Override
     protected boolean isAlignTextByIcons ( @NotNull final C c, @NotNull final D d )
     {
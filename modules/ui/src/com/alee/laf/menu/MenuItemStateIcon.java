@@ -45,6 +45,12 @@ public class MenuItemStateIcon<C extends JMenuItem, D extends IDecoration<C, D>,
         return id != null ? id : "menu-item-state-icon";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Nullable
     @Override
     protected Icon getIcon ( @NotNull final C c, @NotNull final D d )
@@ -37,6 +37,12 @@ import javax.swing.*;
 public class SimpleMenuItemLayout<C extends JComponent, D extends IDecoration<C, D>, I extends SimpleMenuItemLayout<C, D, I>>
         extends AbstractMenuItemLayout<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return isContentShareable ();
+    }
+
     @Override
     protected boolean isAlignTextByIcons ( @NotNull final C c, @NotNull final D d )
     {
@@ -37,6 +37,12 @@ import javax.swing.*;
 public class ProgressBarText<C extends JProgressBar, D extends IDecoration<C, D>, I extends ProgressBarText<C, D, I>>
         extends AbstractTextContent<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public boolean isEmpty ( @NotNull final C c, @NotNull final D d )
     {
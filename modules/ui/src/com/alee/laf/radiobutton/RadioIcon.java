@@ -62,6 +62,12 @@ public class RadioIcon<C extends AbstractButton, D extends IDecoration<C, D>, I
         return id != null ? id : "radio";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public boolean isEmpty ( @NotNull final C c, @NotNull final D d )
     {
@@ -37,6 +37,12 @@ import javax.swing.*;
 public class ToolTipText<C extends JToolTip, D extends IDecoration<C, D>, I extends ToolTipText<C, D, I>>
         extends AbstractTextContent<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Nullable
     @Override
     protected String getText ( @NotNull final C c, @NotNull final D d )
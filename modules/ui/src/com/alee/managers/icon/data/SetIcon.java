@@ -49,13 +49,23 @@ public class SetIcon<C extends JComponent, D extends IDecoration<C, D>, I extend
     @XStreamAsAttribute
     protected String icon;
 
+    /**
+     * Returns whether or not set icon ID is specified.
+     *
+     * @return {@code true} if set icon ID is specified, {@code false} otherwise
+     */
+    public boolean hasIconId ()
+    {
+        return TextUtils.notEmpty ( icon );
+    }
+
     /**
      * Returns set icon ID.
      *
      * @return set icon ID
      */
     @NotNull
-    protected String getIconId ()
+    public String getIconId ()
     {
         if ( TextUtils.isEmpty ( icon ) )
         {
@@ -64,6 +74,12 @@ public class SetIcon<C extends JComponent, D extends IDecoration<C, D>, I extend
         return icon;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Nullable
     @Override
     protected Icon getIcon ( @NotNull final C c, @NotNull final D d )
@@ -63,7 +63,7 @@ public abstract class AbstractIconSet implements IconSet, Overwriting, Cloneable
     @Nullable
     @OmitOnClone
     @OmitOnMerge
-    protected transient Map<String, Icon> cache;
+    protected transient volatile Map<String, Icon> cache;
 
     /**
      * Constructs new {@link AbstractIconSet}.
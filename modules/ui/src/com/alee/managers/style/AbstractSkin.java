@@ -70,8 +70,11 @@ public abstract class AbstractSkin implements Skin
     @Override
     public void updateSkin ( @NotNull final JComponent component )
     {
-        // todo Provide optimized update sequence for cases when painter is not changed?
-        removeSkin ( component );
+        // Style removal is only performed when it cannot be skipped to switch styles without reinstalling painter
+        if ( !isIncrementalUpdateSupported () )
+        {
+            removeSkin ( component );
+        }
         applySkin ( component );
     }
 
@@ -80,4 +83,18 @@ public abstract class AbstractSkin implements Skin
     {
         getStyle ( component ).remove ( component );
     }
+
+    /**
+     * Returns whether or not this skin can be updated on the component without being removed from it first.
+     * In that case {@link #updateSkin(JComponent)} only calls {@link #applySkin(JComponent)}, so component is switched to its new
+     * style incrementally and keeps its painter whenever possible.
+     * Skin implementations that override {@link #removeSkin(JComponent)} and rely on it being called on each update should override
+     * this method to return {@code false}.
+     *
+     * @return {@code true} if this skin can be updated on the component without being removed from it first, {@code false} otherwise
+     */
+    protected boolean isIncrementalUpdateSupported ()
+    {
+        return true;
+    }
 }
\ No newline at end of file
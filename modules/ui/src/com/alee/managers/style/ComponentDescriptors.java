@@ -0,0 +1,237 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable snapshot of {@link ComponentDescriptor}s registered within {@link StyleManager}.
+ * Registration changes never modify existing snapshot, they create a new one instead.
+ * That allows {@link StyleManager} to read {@link ComponentDescriptor}s without any locks.
+ *
+ * The only mutable part of snapshot is {@link #resolved} cache of {@link ComponentDescriptor}s resolved for {@link JComponent} classes.
+ * It is filled lazily and concurrently on reads, but it only ever contains values derived from this snapshot registrations.
+ *
+ * @author Mikle Garin
+ * @see StyleManager
+ */
+final class ComponentDescriptors
+{
+    /**
+     * Marker for {@link JComponent} classes that have no {@link ComponentDescriptor}.
+     */
+    @NotNull
+    private static final Object NONE = new Object ();
+
+    /**
+     * Registered {@link ComponentDescriptor}s in registration order.
+     */
+    @NotNull
+    private final List<ComponentDescriptor> list;
+
+    /**
+     * Registered {@link ComponentDescriptor}s by their identifiers.
+     */
+    @NotNull
+    private final Map<String, ComponentDescriptor> byIdentifier;
+
+    /**
+     * Registered {@link ComponentDescriptor}s by their {@link JComponent} classes.
+     */
+    @NotNull
+    private final Map<Class, ComponentDescriptor> byClass;
+
+    /**
+     * {@link ComponentDescriptor}s resolved for {@link JComponent} classes, including ones that only inherit them.
+     * {@link #NONE} is stored for {@link JComponent} classes that have no {@link ComponentDescriptor}.
+     */
+    @NotNull
+    private final ConcurrentHashMap<Class, Object> resolved;
+
+    /**
+     * Constructs new empty {@link ComponentDescriptors}.
+     */
+    public ComponentDescriptors ()
+    {
+        this (
+                new ArrayList<ComponentDescriptor> ( 0 ),
+                new HashMap<String, ComponentDescriptor> ( 0 ),
+                new HashMap<Class, ComponentDescriptor> ( 0 )
+        );
+    }
+
+    /**
+     * Constructs new {@link ComponentDescriptors}.
+     *
+     * @param list         registered {@link ComponentDescriptor}s in registration order
+     * @param byIdentifier registered {@link ComponentDescriptor}s by their identifiers
+     * @param byClass      registered {@link ComponentDescriptor}s by their {@link JComponent} classes
+     */
+    private ComponentDescriptors ( @NotNull final List<ComponentDescriptor> list,
+                                   @NotNull final Map<String, ComponentDescriptor> byIdentifier,
+                                   @NotNull final Map<Class, ComponentDescriptor> byClass )
+    {
+        this.list = list;
+        this.byIdentifier = byIdentifier;
+        this.byClass = byClass;
+        this.resolved = new ConcurrentHashMap<Class, Object> ( Math.max ( 16, list.size () * 2 ) );
+    }
+
+    /**
+     * Returns amount of registered {@link ComponentDescriptor}s.
+     *
+     * @return amount of registered {@link ComponentDescriptor}s
+     */
+    public int size ()
+    {
+        return list.size ();
+    }
+
+    /**
+     * Returns unmodifiable {@link List} of registered {@link ComponentDescriptor}s in registration order.
+     *
+     * @return unmodifiable {@link List} of registered {@link ComponentDescriptor}s in registration order
+     */
+    @NotNull
+    public List<ComponentDescriptor> getDescriptors ()
+    {
+        return Collections.unmodifiableList ( list );
+    }
+
+    /**
+     * Returns {@link ComponentDescriptor} registered with the specified identifier.
+     *
+     * @param id {@link ComponentDescriptor} identifier
+     * @return {@link ComponentDescriptor} registered with the specified identifier
+     */
+    @Nullable
+    public ComponentDescriptor get ( @NotNull final String id )
+    {
+        return byIdentifier.get ( id );
+    }
+
+    /**
+     * Returns whether or not {@link ComponentDescriptor} with the specified identifier is registered.
+     *
+     * @param id {@link ComponentDescriptor} identifier
+     * @return {@code true} if {@link ComponentDescriptor} with the specified identifier is registered, {@code false} otherwise
+     */
+    public boolean contains ( @NotNull final String id )
+    {
+        return byIdentifier.containsKey ( id );
+    }
+
+    /**
+     * Returns {@link ComponentDescriptor} for the specified {@link JComponent} class.
+     * It is either {@link ComponentDescriptor} registered for that class or for its closest {@link JComponent} superclass.
+     *
+     * @param componentClass {@link JComponent} class to find {@link ComponentDescriptor} for
+     * @return {@link ComponentDescriptor} for the specified {@link JComponent} class
+     */
+    @Nullable
+    public ComponentDescriptor resolve ( @NotNull final Class componentClass )
+    {
+        Object descriptor = resolved.get ( componentClass );
+        if ( descriptor == null )
+        {
+            descriptor = byClass.get ( componentClass );
+            if ( descriptor == null )
+            {
+                // Only check descriptors for JComponent superclass types
+                final Class superclass = componentClass.getSuperclass ();
+                if ( superclass != null && JComponent.class.isAssignableFrom ( superclass ) )
+                {
+                    descriptor = resolve ( superclass );
+                }
+                if ( descriptor == null )
+                {
+                    descriptor = NONE;
+                }
+            }
+            resolved.put ( componentClass, descriptor );
+        }
+        return descriptor != NONE ? ( ComponentDescriptor ) descriptor : null;
+    }
+
+    /**
+     * Returns new {@link ComponentDescriptors} with the specified {@link ComponentDescriptor} registered.
+     * It replaces any other {@link ComponentDescriptor} registered for the same {@link JComponent} class.
+     *
+     * @param descriptor {@link ComponentDescriptor} to register
+     * @return new {@link ComponentDescriptors} with the specified {@link ComponentDescriptor} registered
+     */
+    @NotNull
+    public ComponentDescriptors register ( @NotNull final ComponentDescriptor descriptor )
+    {
+        // Removing existing descriptor with same class
+        final ComponentDescriptor toRemove = byClass.get ( descriptor.getComponentClass () );
+        final ComponentDescriptors base = toRemove != null ? unregister ( toRemove ) : this;
+
+        // Saving new descriptor
+        final List<ComponentDescriptor> list = new ArrayList<ComponentDescriptor> ( base.list.size () + 1 );
+        list.addAll ( base.list );
+        list.add ( descriptor );
+
+        // Caching descriptor
+        final Map<String, ComponentDescriptor> byIdentifier = new HashMap<String, ComponentDescriptor> ( base.byIdentifier );
+        byIdentifier.put ( descriptor.getId (), descriptor );
+        final Map<Class, ComponentDescriptor> byClass = new HashMap<Class, ComponentDescriptor> ( base.byClass );
+        byClass.put ( descriptor.getComponentClass (), descriptor );
+
+        return new ComponentDescriptors ( list, byIdentifier, byClass );
+    }
+
+    /**
+     * Returns new {@link ComponentDescriptors} with the specified {@link ComponentDescriptor} unregistered.
+     *
+     * @param descriptor {@link ComponentDescriptor} to unregister
+     * @return new {@link ComponentDescriptors} with the specified {@link ComponentDescriptor} unregistered
+     */
+    @NotNull
+    public ComponentDescriptors unregister ( @NotNull final ComponentDescriptor descriptor )
+    {
+        // Removing descriptor
+        final List<ComponentDescriptor> list = new ArrayList<ComponentDescriptor> ( this.list );
+        list.remove ( descriptor );
+
+        // Removing descriptor cache by identifier
+        final Map<String, ComponentDescriptor> byIdentifier = new HashMap<String, ComponentDescriptor> ( this.byIdentifier );
+        if ( byIdentifier.get ( descriptor.getId () ) == descriptor )
+        {
+            byIdentifier.remove ( descriptor.getId () );
+        }
+
+        // Removing descriptor cache by class
+        final Map<Class, ComponentDescriptor> byClass = new HashMap<Class, ComponentDescriptor> ( this.byClass );
+        final Iterator<ComponentDescriptor> byClassIterator = byClass.values ().iterator ();
+        while ( byClassIterator.hasNext () )
+        {
+            if ( byClassIterator.next () == descriptor )
+            {
+                byClassIterator.remove ();
+            }
+        }
+
+        return new ComponentDescriptors ( list, byIdentifier, byClass );
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+/**
+ * Marker interface for style values that are never modified once they are parsed from the skin.
+ * Instances of classes implementing this interface are shared across all styled objects instead of being cloned for each of them.
+ *
+ * Only implement this interface if all users of the value treat it as read-only data.
+ * Any runtime modifications must be performed on a separate copy of the value, for instance {@link com.alee.api.merge.Merge#deep()}
+ * result or {@link com.alee.api.clone.Clone#deep()} copy.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
+ * @see com.alee.managers.style.data.SharedValues
+ * @see StyleManager
+ */
+public interface Shareable
+{
+    /**
+     * Doesn't have any methods.
+     */
+}
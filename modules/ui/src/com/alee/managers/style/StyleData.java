@@ -498,6 +498,9 @@ public final class StyleData implements PropertyChangeListener
             // Saving new style identifier
             this.styleId = styleId;
 
+            // Invalidating complete identifiers of style children
+            StyleId.invalidateCompleteIds ();
+
             // Removing child reference from old parent style data
             final JComponent oldParent = old.getParent ();
             if ( oldParent != null )
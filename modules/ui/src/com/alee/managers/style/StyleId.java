@@ -9,6 +9,7 @@ import com.alee.utils.CoreSwingUtils;
 import javax.swing.*;
 import java.awt.*;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This object encapsulates style identifier of a single {@link JComponent}.
@@ -998,6 +999,15 @@ public final class StyleId implements Identifiable
     public static final ChildStyleId styleeditorStatusDelay = ChildStyleId.of ( "delay" );
     public static final ChildStyleId styleeditorStatusToggle = ChildStyleId.of ( "toggle" );
 
+    /**
+     * Complete style identifiers version.
+     * It is incremented whenever any previously computed complete style identifier might become outdated.
+     *
+     * @see #invalidateCompleteIds()
+     */
+    @NotNull
+    private static final AtomicInteger completeIdsVersion = new AtomicInteger ( 0 );
+
     /**
      * Style identifier.
      * Identifies specific {@link JComponent} style.
@@ -1020,6 +1030,15 @@ public final class StyleId implements Identifiable
     @Nullable
     private final WeakReference<JComponent> parent;
 
+    /**
+     * Memoized complete style identifier.
+     * It is computed on the first {@link #getCompleteId()} call and reused until {@link #completeIdsVersion} changes.
+     *
+     * @see #getCompleteId()
+     */
+    @Nullable
+    private volatile CompleteId completeId;
+
     /**
      * Constructs new {@link StyleId}.
      *
@@ -1076,8 +1095,16 @@ public final class StyleId implements Identifiable
     // todo @NotNull
     public String getCompleteId ()
     {
+        final int version = completeIdsVersion.get ();
         final JComponent parent = getParent ();
-        return parent != null ? get ( parent ).getPathId ( parent ) + styleSeparator + getId () : getId ();
+        CompleteId completeId = this.completeId;
+        if ( completeId == null || completeId.version != version || completeId.hasParent != ( parent != null ) )
+        {
+            final String id = parent != null ? get ( parent ).getPathId ( parent ) + styleSeparator + getId () : getId ();
+            completeId = new CompleteId ( id, version, parent != null );
+            this.completeId = completeId;
+        }
+        return completeId.id;
     }
 
     /**
@@ -1100,6 +1127,16 @@ public final class StyleId implements Identifiable
         return parent != null ? get ( parent ).getPathId ( parent ) + styleSeparator + fullId : fullId;
     }
 
+    /**
+     * Invalidates all memoized complete style identifiers.
+     * Should be called whenever style identifier of any component or any {@link ComponentDescriptor} changes,
+     * since that might affect complete style identifiers of its style children.
+     */
+    static void invalidateCompleteIds ()
+    {
+        completeIdsVersion.incrementAndGet ();
+    }
+
     /**
      * Sets this {@link StyleId} into specified {@link JComponent}.
      *
@@ -1265,4 +1302,40 @@ public final class StyleId implements Identifiable
     {
         return getCompleteId ( CoreSwingUtils.getNonNullRootPane ( window ) );
     }
-}
\ No newline at end of file
+
+    /**
+     * Memoized complete style identifier.
+     */
+    private static final class CompleteId
+    {
+        /**
+         * Complete style identifier.
+         */
+        @Nullable
+        private final String id;
+
+        /**
+         * {@link #completeIdsVersion} this complete style identifier was computed for.
+         */
+        private final int version;
+
+        /**
+         * Whether or not parent styleable component was available when this complete style identifier was computed.
+         */
+        private final boolean hasParent;
+
+        /**
+         * Constructs new {@link CompleteId}.
+         *
+         * @param id        complete style identifier
+         * @param version   {@link #completeIdsVersion} this complete style identifier was computed for
+         * @param hasParent whether or not parent styleable component was available
+         */
+        public CompleteId ( @Nullable final String id, final int version, final boolean hasParent )
+        {
+            this.id = id;
+            this.version = version;
+            this.hasParent = hasParent;
+        }
+    }
+}
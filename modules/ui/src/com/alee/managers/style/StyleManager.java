@@ -163,30 +163,23 @@ public final class StyleManager
     private static final EventListenerList listenerList = new EventListenerList ();
 
     /**
-     * List of registered {@link ComponentDescriptor}s.
-     * These are widely used across WebLaF to provide various common information about existing components.
-     * {@link ComponentDescriptor}s were introduced to allow easy customization of component base supported by WebLaF.
-     * You can introduce an absolutely new {@link JComponent} implementation by simply registering {@link ComponentDescriptor} for it.
-     */
-    @NotNull
-    private static final List<ComponentDescriptor> descriptors = new ArrayList<ComponentDescriptor> ( 60 );
-
-    /**
-     * {@link ComponentDescriptor}s cached by their identifiers.
-     * This cache contains only {@link ComponentDescriptor}s which exist in {@link #descriptors} list.
-     * Whenever some {@link ComponentDescriptor} is unregistered or replaced by another one it is also cleared from this cache.
+     * Lock for {@link ComponentDescriptor}s registration changes.
+     * It is never used on {@link ComponentDescriptor}s read paths.
      */
     @NotNull
-    private static final Map<String, ComponentDescriptor> descriptorsByIdentifier = new HashMap<String, ComponentDescriptor> ( 60 );
+    private static final Object descriptorsLock = new Object ();
 
     /**
-     * {@link ComponentDescriptor}s cached by {@link JComponent} class.
-     * This cache contains only {@link ComponentDescriptor}s which exist in {@link #descriptors} list.
-     * Whenever some {@link ComponentDescriptor} is unregistered or replaced by another one it is also cleared from this cache.
+     * Current {@link ComponentDescriptors} snapshot.
+     * These are widely used across WebLaF to provide various common information about existing components.
+     * {@link ComponentDescriptor}s were introduced to allow easy customization of component base supported by WebLaF.
+     * You can introduce an absolutely new {@link JComponent} implementation by simply registering {@link ComponentDescriptor} for it.
+     *
+     * Snapshot is never modified once published, each registration change publishes a new one instead.
+     * That allows reading {@link ComponentDescriptor}s without any locks while keeping registration changes atomically visible.
      */
     @NotNull
-    private static final Map<Class<? extends JComponent>, ComponentDescriptor> descriptorsByClass =
-            new HashMap<Class<? extends JComponent>, ComponentDescriptor> ( 60 );
+    private static volatile ComponentDescriptors descriptors = new ComponentDescriptors ();
 
     /**
      * Various component style related data which includes:
@@ -223,6 +216,14 @@ public final class StyleManager
     @NotNull
     private static final Object skinLock = new Object ();
 
+    /**
+     * Currently running {@link StylePrewarm}s.
+     * They are cancelled whenever {@link Skin} changes since prepared styles will not be used anymore.
+     * Synchronized by {@link #skinLock}.
+     */
+    @NotNull
+    private static final List<StylePrewarm> prewarms = new ArrayList<StylePrewarm> ( 1 );
+
     /**
      * {@link LazyInstance} for default WebLaF {@link Skin}.
      * It can be specified before WebLaF is installed or any managers are initialized.
@@ -638,12 +639,8 @@ public final class StyleManager
         // Checking manager initialization
         mustBeInitialized ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
-        {
-            // Return descriptors count
-            return descriptors.size ();
-        }
+        // Return descriptors count
+        return descriptors.size ();
     }
 
     /**
@@ -657,12 +654,8 @@ public final class StyleManager
         // Checking manager initialization
         mustBeInitialized ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
-        {
-            // Return an immutable copy of the source list
-            return new ImmutableList<ComponentDescriptor> ( descriptors );
-        }
+        // Return an immutable copy of the source list
+        return new ImmutableList<ComponentDescriptor> ( descriptors.getDescriptors () );
     }
 
     /**
@@ -677,20 +670,16 @@ public final class StyleManager
         // Checking manager initialization
         mustBeInitialized ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
-        {
-            // Looking for descriptor
-            final ComponentDescriptor descriptor = descriptorsByIdentifier.get ( id );
-
-            // Ensure we found descriptor
-            if ( descriptor == null )
-            {
-                throw new StyleException ( "There is no descriptor registered with identifier: " + id );
-            }
+        // Looking for descriptor
+        final ComponentDescriptor descriptor = descriptors.get ( id );
 
-            return descriptor;
+        // Ensure we found descriptor
+        if ( descriptor == null )
+        {
+            throw new StyleException ( "There is no descriptor registered with identifier: " + id );
         }
+
+        return descriptor;
     }
 
     /**
@@ -718,57 +707,15 @@ public final class StyleManager
         // Checking manager initialization
         mustBeInitialized ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
-        {
-            // Looking for descriptor
-            final ComponentDescriptor descriptor = getDescriptorImpl ( componentClass );
+        // Looking for descriptor
+        final ComponentDescriptor descriptor = descriptors.resolve ( componentClass );
 
-            // Ensure we found descriptor
-            if ( descriptor == null )
-            {
-                throw new StyleException ( "There is no descriptor registered for: " + componentClass );
-            }
-
-            return descriptor;
-        }
-    }
-
-    /**
-     * Returns {@link ComponentDescriptor} for the specified {@link JComponent} class.
-     *
-     * @param componentClass {@link JComponent} class to find {@link ComponentDescriptor} for
-     * @return {@link ComponentDescriptor} for the specified {@link JComponent} class
-     */
-    @Nullable
-    private static ComponentDescriptor getDescriptorImpl ( @NotNull final Class<? extends JComponent> componentClass )
-    {
-        final ComponentDescriptor descriptor;
-        if ( descriptorsByClass.containsKey ( componentClass ) )
+        // Ensure we found descriptor
+        if ( descriptor == null )
         {
-            // Looking for registered descriptor
-            descriptor = descriptorsByClass.get ( componentClass );
+            throw new StyleException ( "There is no descriptor registered for: " + componentClass );
         }
-        else
-        {
-            // Only check descriptors for JComponent superclass types
-            final Class<?> superclass = componentClass.getSuperclass ();
-            if ( JComponent.class.isAssignableFrom ( superclass ) )
-            {
-                final Class<? extends JComponent> componentSuperClass = ( Class<? extends JComponent> ) superclass;
-
-                // Looking for component superclass descriptor
-                descriptor = getDescriptorImpl ( componentSuperClass );
 
-                // Caching descriptor
-                descriptorsByClass.put ( componentClass, descriptor );
-            }
-            else
-            {
-                // No descriptor
-                descriptor = null;
-            }
-        }
         return descriptor;
     }
 
@@ -780,7 +727,7 @@ public final class StyleManager
      */
     public static boolean isSupported ( @NotNull final String id )
     {
-        return TextUtils.notEmpty ( id ) && descriptorsByIdentifier.containsKey ( id );
+        return TextUtils.notEmpty ( id ) && descriptors.contains ( id );
     }
 
     /**
@@ -791,7 +738,7 @@ public final class StyleManager
      */
     public static boolean isSupported ( @NotNull final JComponent component )
     {
-        return getDescriptorImpl ( component.getClass () ) != null;
+        return descriptors.resolve ( component.getClass () ) != null;
     }
 
     /**
@@ -806,24 +753,14 @@ public final class StyleManager
         // Event Dispatch Thread check
         WebLookAndFeel.checkEventDispatchThread ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
+        // Synchronized by descriptors lock
+        synchronized ( descriptorsLock )
         {
-            final Class componentClass = descriptor.getComponentClass ();
+            // Publishing new descriptors snapshot
+            descriptors = descriptors.register ( descriptor );
 
-            // Removing existing descriptor with same class
-            final ComponentDescriptor toRemove = descriptorsByClass.get ( componentClass );
-            if ( toRemove != null )
-            {
-                unregisterComponentDescriptor ( toRemove );
-            }
-
-            // Saving new descriptor
-            descriptors.add ( descriptor );
-
-            // Caching descriptor
-            descriptorsByIdentifier.put ( descriptor.getId (), descriptor );
-            descriptorsByClass.put ( componentClass, descriptor );
+            // Invalidating complete identifiers that include descriptor identifiers
+            StyleId.invalidateCompleteIds ();
 
             // Updating UIDefaults
             if ( WebLookAndFeel.isInstalled () )
@@ -846,25 +783,14 @@ public final class StyleManager
         // Event Dispatch Thread check
         WebLookAndFeel.checkEventDispatchThread ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
+        // Synchronized by descriptors lock
+        synchronized ( descriptorsLock )
         {
-            // Removing descriptor
-            descriptors.remove ( descriptor );
+            // Publishing new descriptors snapshot
+            descriptors = descriptors.unregister ( descriptor );
 
-            // Removing descriptor cache by identifier
-            descriptorsByIdentifier.remove ( descriptor.getId () );
-
-            // Removing descriptor cache by class
-            final Iterator<Map.Entry<Class<? extends JComponent>, ComponentDescriptor>> byClassIterator =
-                    descriptorsByClass.entrySet ().iterator ();
-            while ( byClassIterator.hasNext () )
-            {
-                if ( byClassIterator.next ().getValue () == descriptor )
-                {
-                    byClassIterator.remove ();
-                }
-            }
+            // Invalidating complete identifiers that include descriptor identifiers
+            StyleId.invalidateCompleteIds ();
 
             // todo A way to restore default descriptors upon custom ones removal?
         }
@@ -1029,6 +955,13 @@ public final class StyleManager
                 throw new StyleException ( String.format ( "Skin is not supported in this system: %s", skin ) );
             }
 
+            // Cancelling styles preparation for previous skin
+            for ( final StylePrewarm prewarm : prewarms )
+            {
+                prewarm.cancel ();
+            }
+            prewarms.clear ();
+
             // Saving previously applied skin
             final Skin previousSkin = currentSkin;
 
@@ -1096,6 +1029,89 @@ public final class StyleManager
         IconManager.clearIconCaches ();
     }
 
+    /**
+     * Starts preparing styles for the specified component types in a background thread using currently applied {@link Skin}.
+     * Default style is prepared for each of the component types along with any of the specified styles that exist for that type.
+     * Only pure-data parts of the style application are performed in advance, see {@link StylePrewarm} for more details.
+     * Decoration merging is not pre-warmed, it still happens upon first use of each decorations combination.
+     * Preparation is automatically cancelled if {@link Skin} changes before it is finished.
+     *
+     * @param types    exact {@link JComponent} types to prepare styles for, styles are prepared separately for each of them
+     * @param styleIds additional {@link StyleId}s to prepare, only {@link StyleId}s without parent can be prepared in advance
+     * @param listener {@link StylePrewarmListener} to inform about progress, {@code null} if none
+     * @return started {@link StylePrewarm}
+     */
+    @NotNull
+    public static StylePrewarm prewarm ( @NotNull final List<Class<? extends JComponent>> types, @NotNull final List<StyleId> styleIds,
+                                         @Nullable final StylePrewarmListener listener )
+    {
+        // Checking manager initialization
+        mustBeInitialized ();
+
+        // Collecting styles to prepare
+        final List<ComponentDescriptor> descriptors = new ArrayList<ComponentDescriptor> ( types.size () * ( styleIds.size () + 1 ) );
+        final List<Class<? extends JComponent>> componentTypes =
+                new ArrayList<Class<? extends JComponent>> ( types.size () * ( styleIds.size () + 1 ) );
+        final List<String> completeIds = new ArrayList<String> ( types.size () * ( styleIds.size () + 1 ) );
+        for ( final Class<? extends JComponent> type : types )
+        {
+            final ComponentDescriptor descriptor = getDescriptor ( type );
+            final Set<String> typeIds = new LinkedHashSet<String> ( styleIds.size () + 1 );
+            typeIds.add ( descriptor.getDefaultStyleId ().getCompleteId () );
+            for ( final StyleId styleId : styleIds )
+            {
+                if ( styleId.getParent () == null )
+                {
+                    typeIds.add ( styleId.getCompleteId () );
+                }
+            }
+            for ( final String typeId : typeIds )
+            {
+                descriptors.add ( descriptor );
+                componentTypes.add ( type );
+                completeIds.add ( typeId );
+            }
+        }
+
+        // Synchronized by skin lock
+        final StylePrewarm prewarm;
+        synchronized ( skinLock )
+        {
+            final Skin skin = getSkin ();
+            final SkinInfo skinInfo = skin instanceof XmlSkin ? ( ( XmlSkin ) skin ).getSkinInfo () : null;
+            prewarm = new StylePrewarm ( skin, skinInfo, descriptors, componentTypes, completeIds, listener );
+            prewarms.add ( prewarm );
+        }
+        prewarm.start ();
+        return prewarm;
+    }
+
+    /**
+     * Starts preparing default styles for the specified component types in a background thread using currently applied {@link Skin}.
+     *
+     * @param types {@link JComponent} types to prepare styles for
+     * @return started {@link StylePrewarm}
+     * @see #prewarm(List, List, StylePrewarmListener)
+     */
+    @NotNull
+    public static StylePrewarm prewarm ( @NotNull final List<Class<? extends JComponent>> types )
+    {
+        return prewarm ( types, Collections.<StyleId>emptyList (), null );
+    }
+
+    /**
+     * Informs that specified {@link StylePrewarm} is done.
+     *
+     * @param prewarm {@link StylePrewarm} that is done
+     */
+    static void prewarmFinished ( @NotNull final StylePrewarm prewarm )
+    {
+        synchronized ( skinLock )
+        {
+            prewarms.remove ( prewarm );
+        }
+    }
+
     /**
      * Adds new {@link SkinExtension}s which will either be loaded right away if manager is initialized or later on if its not.
      * Manager initialization is not required to provide additional {@link SkinExtension}s.
@@ -0,0 +1,290 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.style.data.SkinInfo;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background preparation of skin styles for component types that are about to be used.
+ * It performs all parts of style application that only touch style data and do not require actual components:
+ * styles building and merging, resolution of style property setters, painter classes loading and
+ * loading of icons used by style decorations from skin icon sets.
+ * Actual style installation into components is still performed later on the Event Dispatch Thread, it simply gets cheaper.
+ *
+ * Note that decorations are not pre-warmed: merging of state decorations still happens in painters upon first use, since it depends
+ * on the actual component states. Built decorations are shared through {@link com.alee.painter.decoration.DecorationCache} though,
+ * so that cost is only paid once per style and states combination.
+ *
+ * Each {@link StylePrewarm} is bound to the {@link Skin} it was started for and is cancelled automatically when {@link Skin} changes.
+ * Use {@link StyleManager#prewarm(List, List, StylePrewarmListener)} to start new {@link StylePrewarm}.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
+ * @see StyleManager
+ * @see StylePrewarmListener
+ */
+public final class StylePrewarm
+{
+    /**
+     * {@link Skin} this {@link StylePrewarm} prepares styles for.
+     */
+    @NotNull
+    private final Skin skin;
+
+    /**
+     * {@link SkinInfo} to prepare styles in, {@code null} if {@link Skin} doesn't provide it.
+     */
+    @Nullable
+    private final SkinInfo skinInfo;
+
+    /**
+     * {@link ComponentDescriptor}s of the styles to prepare.
+     */
+    @NotNull
+    private final List<ComponentDescriptor> descriptors;
+
+    /**
+     * Exact {@link JComponent} types of the styles to prepare.
+     */
+    @NotNull
+    private final List<Class<? extends JComponent>> types;
+
+    /**
+     * Complete identifiers of the styles to prepare.
+     */
+    @NotNull
+    private final List<String> styleIds;
+
+    /**
+     * {@link StylePrewarmListener} to inform about progress, {@code null} if none.
+     */
+    @Nullable
+    private final StylePrewarmListener listener;
+
+    /**
+     * Amount of prepared styles.
+     */
+    @NotNull
+    private final AtomicInteger progress;
+
+    /**
+     * {@link CountDownLatch} released once this {@link StylePrewarm} is done.
+     */
+    @NotNull
+    private final CountDownLatch done;
+
+    /**
+     * Whether or not this {@link StylePrewarm} was cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Constructs new {@link StylePrewarm}.
+     *
+     * @param skin        {@link Skin} to prepare styles for
+     * @param skinInfo    {@link SkinInfo} to prepare styles in, {@code null} if {@link Skin} doesn't provide it
+     * @param descriptors {@link ComponentDescriptor}s of the styles to prepare
+     * @param types       exact {@link JComponent} types of the styles to prepare
+     * @param styleIds    complete identifiers of the styles to prepare
+     * @param listener    {@link StylePrewarmListener} to inform about progress, {@code null} if none
+     */
+    StylePrewarm ( @NotNull final Skin skin, @Nullable final SkinInfo skinInfo, @NotNull final List<ComponentDescriptor> descriptors,
+                   @NotNull final List<Class<? extends JComponent>> types, @NotNull final List<String> styleIds,
+                   @Nullable final StylePrewarmListener listener )
+    {
+        this.skin = skin;
+        this.skinInfo = skinInfo;
+        this.descriptors = descriptors;
+        this.types = types;
+        this.styleIds = styleIds;
+        this.listener = listener;
+        this.progress = new AtomicInteger ( 0 );
+        this.done = new CountDownLatch ( 1 );
+        this.cancelled = false;
+    }
+
+    /**
+     * Returns {@link Skin} this {@link StylePrewarm} prepares styles for.
+     *
+     * @return {@link Skin} this {@link StylePrewarm} prepares styles for
+     */
+    @NotNull
+    public Skin getSkin ()
+    {
+        return skin;
+    }
+
+    /**
+     * Returns total amount of styles to prepare.
+     *
+     * @return total amount of styles to prepare
+     */
+    public int getTotal ()
+    {
+        return styleIds.size ();
+    }
+
+    /**
+     * Returns amount of prepared styles.
+     *
+     * @return amount of prepared styles
+     */
+    public int getProgress ()
+    {
+        return progress.get ();
+    }
+
+    /**
+     * Returns whether or not this {@link StylePrewarm} is done.
+     * It is considered done when all styles are prepared or once it stops after being cancelled.
+     *
+     * @return {@code true} if this {@link StylePrewarm} is done, {@code false} otherwise
+     */
+    public boolean isDone ()
+    {
+        return done.getCount () == 0;
+    }
+
+    /**
+     * Returns whether or not this {@link StylePrewarm} was cancelled.
+     *
+     * @return {@code true} if this {@link StylePrewarm} was cancelled, {@code false} otherwise
+     */
+    public boolean isCancelled ()
+    {
+        return cancelled;
+    }
+
+    /**
+     * Cancels this {@link StylePrewarm}.
+     * Style that is being prepared at the moment will still be finished, but no other styles will be prepared.
+     */
+    public void cancel ()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Waits until this {@link StylePrewarm} is done.
+     * This should never be called on the Event Dispatch Thread.
+     *
+     * @throws InterruptedException if current thread was interrupted while waiting
+     */
+    public void waitFor () throws InterruptedException
+    {
+        done.await ();
+    }
+
+    /**
+     * Starts preparing styles in a background thread.
+     */
+    void start ()
+    {
+        new DaemonThreadFactory ( "StylePrewarm" ).newThread ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                prewarm ();
+            }
+        } ).start ();
+    }
+
+    /**
+     * Prepares all styles one by one unless cancelled.
+     */
+    private void prewarm ()
+    {
+        try
+        {
+            for ( int i = 0; i < styleIds.size () && !cancelled; i++ )
+            {
+                if ( skinInfo != null )
+                {
+                    final ComponentDescriptor descriptor = descriptors.get ( i );
+                    final String styleId = styleIds.get ( i );
+                    try
+                    {
+                        skinInfo.prepareStyle ( descriptor, types.get ( i ), styleId );
+                    }
+                    catch ( final Exception e )
+                    {
+                        // Preparation is optional, any issues will surface upon actual style application
+                        final String msg = "Unable to prepare style '%s' for component type: %s";
+                        LoggerFactory.getLogger ( StylePrewarm.class ).warn ( String.format ( msg, styleId, descriptor ), e );
+                    }
+                }
+                fireProgressChanged ( progress.incrementAndGet () );
+            }
+        }
+        finally
+        {
+            done.countDown ();
+            StyleManager.prewarmFinished ( this );
+            fireFinished ();
+        }
+    }
+
+    /**
+     * Informs {@link StylePrewarmListener} about progress change on the Event Dispatch Thread.
+     *
+     * @param progress amount of prepared styles
+     */
+    private void fireProgressChanged ( final int progress )
+    {
+        if ( listener != null )
+        {
+            CoreSwingUtils.invokeLater ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    listener.progressChanged ( StylePrewarm.this, progress, getTotal () );
+                }
+            } );
+        }
+    }
+
+    /**
+     * Informs {@link StylePrewarmListener} about completion on the Event Dispatch Thread.
+     */
+    private void fireFinished ()
+    {
+        if ( listener != null )
+        {
+            CoreSwingUtils.invokeLater ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    listener.finished ( StylePrewarm.this );
+                }
+            } );
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.api.annotations.NotNull;
+
+import java.util.EventListener;
+
+/**
+ * {@link StylePrewarm} progress listener.
+ * All methods are called on the Event Dispatch Thread.
+ *
+ * @author Mikle Garin
+ * @see StylePrewarm
+ * @see StyleManager#prewarm(java.util.List, java.util.List, StylePrewarmListener)
+ */
+public interface StylePrewarmListener extends EventListener
+{
+    /**
+     * Informs about {@link StylePrewarm} progress change.
+     *
+     * @param prewarm  {@link StylePrewarm}
+     * @param progress amount of prepared styles
+     * @param total    total amount of styles to prepare
+     */
+    public void progressChanged ( @NotNull StylePrewarm prewarm, int progress, int total );
+
+    /**
+     * Informs about {@link StylePrewarm} completion.
+     * It is also called when {@link StylePrewarm} was cancelled, use {@link StylePrewarm#isCancelled()} to check that.
+     *
+     * @param prewarm {@link StylePrewarm}
+     */
+    public void finished ( @NotNull StylePrewarm prewarm );
+}
@@ -0,0 +1,242 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.api.annotations.NotNull;
+
+/**
+ * Accumulated {@link StyleProfiler} measurements for a single style identifier or component {@link Class}.
+ * Instances returned by {@link StyleProfiler} are snapshots and are not updated afterwards.
+ *
+ * @author Mikle Garin
+ * @see StyleProfiler
+ */
+public final class StyleProfile
+{
+    /**
+     * Profile key, either complete style identifier or component {@link Class} name.
+     */
+    @NotNull
+    private final String key;
+
+    /**
+     * Amount of style applications.
+     */
+    private long applications;
+
+    /**
+     * Total time spent applying styles, in nanoseconds.
+     */
+    private long applicationTime;
+
+    /**
+     * Amount of style lookups.
+     */
+    private long lookups;
+
+    /**
+     * Total time spent looking up styles, in nanoseconds.
+     */
+    private long lookupTime;
+
+    /**
+     * Amount of objects cloned.
+     */
+    private long clones;
+
+    /**
+     * Amount of reflective calls.
+     */
+    private long reflectiveCalls;
+
+    /**
+     * Amount of painters instantiated.
+     */
+    private long painters;
+
+    /**
+     * Constructs new empty {@link StyleProfile}.
+     *
+     * @param key profile key, either complete style identifier or component {@link Class} name
+     */
+    StyleProfile ( @NotNull final String key )
+    {
+        this.key = key;
+    }
+
+    /**
+     * Constructs new {@link StyleProfile} snapshot.
+     *
+     * @param profile {@link StyleProfile} to copy
+     */
+    StyleProfile ( @NotNull final StyleProfile profile )
+    {
+        this.key = profile.key;
+        this.applications = profile.applications;
+        this.applicationTime = profile.applicationTime;
+        this.lookups = profile.lookups;
+        this.lookupTime = profile.lookupTime;
+        this.clones = profile.clones;
+        this.reflectiveCalls = profile.reflectiveCalls;
+        this.painters = profile.painters;
+    }
+
+    /**
+     * Records single style application.
+     *
+     * @param time            time spent, in nanoseconds
+     * @param clones          amount of objects cloned
+     * @param reflectiveCalls amount of reflective calls
+     * @param painters        amount of painters instantiated
+     */
+    void application ( final long time, final long clones, final long reflectiveCalls, final long painters )
+    {
+        this.applications++;
+        this.applicationTime += time;
+        record ( clones, reflectiveCalls, painters );
+    }
+
+    /**
+     * Records single style lookup.
+     *
+     * @param time            time spent, in nanoseconds
+     * @param clones          amount of objects cloned
+     * @param reflectiveCalls amount of reflective calls
+     * @param painters        amount of painters instantiated
+     */
+    void lookup ( final long time, final long clones, final long reflectiveCalls, final long painters )
+    {
+        this.lookups++;
+        this.lookupTime += time;
+        record ( clones, reflectiveCalls, painters );
+    }
+
+    /**
+     * Records operation counters.
+     *
+     * @param clones          amount of objects cloned
+     * @param reflectiveCalls amount of reflective calls
+     * @param painters        amount of painters instantiated
+     */
+    private void record ( final long clones, final long reflectiveCalls, final long painters )
+    {
+        this.clones += clones;
+        this.reflectiveCalls += reflectiveCalls;
+        this.painters += painters;
+    }
+
+    /**
+     * Returns profile key, either complete style identifier or component {@link Class} name.
+     *
+     * @return profile key, either complete style identifier or component {@link Class} name
+     */
+    @NotNull
+    public String getKey ()
+    {
+        return key;
+    }
+
+    /**
+     * Returns amount of style applications.
+     *
+     * @return amount of style applications
+     */
+    public long getApplications ()
+    {
+        return applications;
+    }
+
+    /**
+     * Returns total time spent applying styles, in nanoseconds.
+     *
+     * @return total time spent applying styles, in nanoseconds
+     */
+    public long getApplicationTime ()
+    {
+        return applicationTime;
+    }
+
+    /**
+     * Returns amount of style lookups.
+     *
+     * @return amount of style lookups
+     */
+    public long getLookups ()
+    {
+        return lookups;
+    }
+
+    /**
+     * Returns total time spent looking up styles, in nanoseconds.
+     *
+     * @return total time spent looking up styles, in nanoseconds
+     */
+    public long getLookupTime ()
+    {
+        return lookupTime;
+    }
+
+    /**
+     * Returns total time spent on both style applications and lookups, in nanoseconds.
+     *
+     * @return total time spent on both style applications and lookups, in nanoseconds
+     */
+    public long getTotalTime ()
+    {
+        return applicationTime + lookupTime;
+    }
+
+    /**
+     * Returns amount of objects cloned.
+     *
+     * @return amount of objects cloned
+     */
+    public long getClones ()
+    {
+        return clones;
+    }
+
+    /**
+     * Returns amount of reflective calls.
+     *
+     * @return amount of reflective calls
+     */
+    public long getReflectiveCalls ()
+    {
+        return reflectiveCalls;
+    }
+
+    /**
+     * Returns amount of painters instantiated.
+     *
+     * @return amount of painters instantiated
+     */
+    public long getPainters ()
+    {
+        return painters;
+    }
+
+    @NotNull
+    @Override
+    public String toString ()
+    {
+        final String format = "%s [applications=%d, applicationTime=%dns, lookups=%d, lookupTime=%dns, " +
+                "clones=%d, reflectiveCalls=%d, painters=%d]";
+        return String.format ( format, key, applications, applicationTime, lookups, lookupTime, clones, reflectiveCalls, painters );
+    }
+}
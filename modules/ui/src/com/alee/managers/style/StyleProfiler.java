@@ -0,0 +1,441 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.clone.Clone;
+import com.alee.managers.style.data.ComponentStyle;
+import com.alee.utils.UtilityException;
+
+import javax.swing.*;
+import java.util.*;
+
+/**
+ * Opt-in profiler for style lookups and applications.
+ * It records time spent, objects cloned, reflective calls and painters instantiated per complete style identifier and per component
+ * {@link Class}, which allows finding out which styles make a window slow to open.
+ *
+ * Profiler is disabled by default and costs a single volatile read per instrumented operation while it is disabled.
+ * It doesn't rely on any UI, so it can be used in headless environment and unit tests as well.
+ *
+ * Time and counters are inclusive, so operations performed within nested style applications are also counted for the outer one.
+ * Clones are counted through {@link Clone} counters, so objects cloned by other threads at the same time are also counted.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
+ * @see StyleProfile
+ * @see StyleManager
+ */
+public final class StyleProfiler
+{
+    /**
+     * Whether or not profiler is enabled.
+     */
+    private static volatile boolean enabled = false;
+
+    /**
+     * {@link StyleProfile}s by complete style identifier.
+     */
+    @NotNull
+    private static final Map<String, StyleProfile> styleProfiles = new HashMap<String, StyleProfile> ();
+
+    /**
+     * {@link StyleProfile}s by component {@link Class} name.
+     */
+    @NotNull
+    private static final Map<String, StyleProfile> componentProfiles = new HashMap<String, StyleProfile> ();
+
+    /**
+     * {@link Sample} currently recorded within each thread.
+     */
+    @NotNull
+    private static final ThreadLocal<Sample> current = new ThreadLocal<Sample> ();
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private StyleProfiler ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns whether or not profiler is enabled.
+     *
+     * @return {@code true} if profiler is enabled, {@code false} otherwise
+     */
+    public static boolean isEnabled ()
+    {
+        return enabled;
+    }
+
+    /**
+     * Sets whether or not profiler is enabled.
+     * Recorded {@link StyleProfile}s are kept when profiler is disabled, use {@link #reset()} to clear them.
+     *
+     * @param enabled whether or not profiler is enabled
+     */
+    public static void setEnabled ( final boolean enabled )
+    {
+        StyleProfiler.enabled = enabled;
+    }
+
+    /**
+     * Clears all recorded {@link StyleProfile}s.
+     */
+    public static void reset ()
+    {
+        synchronized ( styleProfiles )
+        {
+            styleProfiles.clear ();
+            componentProfiles.clear ();
+        }
+    }
+
+    /**
+     * Returns snapshot of {@link StyleProfile}s recorded per complete style identifier.
+     *
+     * @return snapshot of {@link StyleProfile}s recorded per complete style identifier
+     */
+    @NotNull
+    public static Map<String, StyleProfile> getStyleProfiles ()
+    {
+        synchronized ( styleProfiles )
+        {
+            return copy ( styleProfiles );
+        }
+    }
+
+    /**
+     * Returns snapshot of {@link StyleProfile}s recorded per component {@link Class} name.
+     *
+     * @return snapshot of {@link StyleProfile}s recorded per component {@link Class} name
+     */
+    @NotNull
+    public static Map<String, StyleProfile> getComponentProfiles ()
+    {
+        synchronized ( styleProfiles )
+        {
+            return copy ( componentProfiles );
+        }
+    }
+
+    /**
+     * Returns snapshot of the specified {@link StyleProfile}s.
+     *
+     * @param profiles {@link StyleProfile}s to copy
+     * @return snapshot of the specified {@link StyleProfile}s
+     */
+    @NotNull
+    private static Map<String, StyleProfile> copy ( @NotNull final Map<String, StyleProfile> profiles )
+    {
+        final Map<String, StyleProfile> copy = new HashMap<String, StyleProfile> ( profiles.size () );
+        for ( final Map.Entry<String, StyleProfile> entry : profiles.entrySet () )
+        {
+            copy.put ( entry.getKey (), new StyleProfile ( entry.getValue () ) );
+        }
+        return copy;
+    }
+
+    /**
+     * Returns text report for all recorded {@link StyleProfile}s.
+     * Profiles are sorted by total time spent, starting from the slowest ones.
+     *
+     * @return text report for all recorded {@link StyleProfile}s
+     */
+    @NotNull
+    public static String getReport ()
+    {
+        final StringBuilder report = new StringBuilder ();
+        appendReport ( report, "Style", getStyleProfiles () );
+        report.append ( "\n" );
+        appendReport ( report, "Component", getComponentProfiles () );
+        return report.toString ();
+    }
+
+    /**
+     * Appends report table for the specified {@link StyleProfile}s.
+     *
+     * @param report   report {@link StringBuilder}
+     * @param title    key column title
+     * @param profiles {@link StyleProfile}s
+     */
+    private static void appendReport ( @NotNull final StringBuilder report, @NotNull final String title,
+                                       @NotNull final Map<String, StyleProfile> profiles )
+    {
+        final List<StyleProfile> sorted = new ArrayList<StyleProfile> ( profiles.values () );
+        Collections.sort ( sorted, new Comparator<StyleProfile> ()
+        {
+            @Override
+            public int compare ( final StyleProfile p1, final StyleProfile p2 )
+            {
+                final long t1 = p1.getTotalTime ();
+                final long t2 = p2.getTotalTime ();
+                return t1 < t2 ? 1 : t1 > t2 ? -1 : p1.getKey ().compareTo ( p2.getKey () );
+            }
+        } );
+        int width = title.length ();
+        for ( final StyleProfile profile : sorted )
+        {
+            width = Math.max ( width, profile.getKey ().length () );
+        }
+        final String format = "%-" + width + "s %8s %10s %8s %10s %8s %10s %8s%n";
+        report.append ( String.format ( format, title, "applied", "apply ms", "lookups", "lookup ms",
+                "clones", "reflective", "painters" ) );
+        for ( final StyleProfile profile : sorted )
+        {
+            report.append ( String.format ( format, profile.getKey (),
+                    profile.getApplications (), millis ( profile.getApplicationTime () ),
+                    profile.getLookups (), millis ( profile.getLookupTime () ),
+                    profile.getClones (), profile.getReflectiveCalls (), profile.getPainters () ) );
+        }
+    }
+
+    /**
+     * Returns nanoseconds formatted as milliseconds.
+     *
+     * @param nanos nanoseconds
+     * @return nanoseconds formatted as milliseconds
+     */
+    @NotNull
+    private static String millis ( final long nanos )
+    {
+        return String.format ( Locale.ROOT, "%.3f", nanos / 1000000d );
+    }
+
+    /**
+     * Starts recording {@link ComponentStyle} application.
+     * Returned {@link Sample} must be stopped once application is finished, even if it has failed.
+     *
+     * @param style     {@link ComponentStyle} being applied
+     * @param component {@link JComponent} {@link ComponentStyle} is applied to
+     * @return started {@link Sample} or {@code null} if profiler is disabled
+     */
+    @Nullable
+    public static Sample startApplication ( @NotNull final ComponentStyle style, @NotNull final JComponent component )
+    {
+        return enabled ? start ( true, style, component ) : null;
+    }
+
+    /**
+     * Starts recording {@link ComponentStyle} lookup.
+     * Returned {@link Sample} must be stopped once lookup is finished, even if it has failed.
+     *
+     * @param component {@link JComponent} {@link ComponentStyle} is looked up for
+     * @return started {@link Sample} or {@code null} if profiler is disabled
+     */
+    @Nullable
+    public static Sample startLookup ( @NotNull final JComponent component )
+    {
+        return enabled ? start ( false, null, component ) : null;
+    }
+
+    /**
+     * Returns newly started {@link Sample}.
+     *
+     * @param application whether or not {@link ComponentStyle} application is recorded
+     * @param style       {@link ComponentStyle}, {@code null} if it is not yet known
+     * @param component   {@link JComponent}
+     * @return newly started {@link Sample}
+     */
+    @NotNull
+    private static Sample start ( final boolean application, @Nullable final ComponentStyle style, @NotNull final JComponent component )
+    {
+        final Sample sample = new Sample ( current.get (), application, style, component.getClass () );
+        current.set ( sample );
+        return sample;
+    }
+
+    /**
+     * Records single reflective call within currently recorded {@link Sample}.
+     */
+    public static void reflectiveCall ()
+    {
+        if ( enabled )
+        {
+            final Sample sample = current.get ();
+            if ( sample != null )
+            {
+                sample.reflectiveCalls++;
+            }
+        }
+    }
+
+    /**
+     * Records single painter instantiation within currently recorded {@link Sample}.
+     */
+    public static void painterCreated ()
+    {
+        if ( enabled )
+        {
+            final Sample sample = current.get ();
+            if ( sample != null )
+            {
+                sample.painters++;
+            }
+        }
+    }
+
+    /**
+     * Returns total amount of objects cloned so far.
+     *
+     * @return total amount of objects cloned so far
+     */
+    private static long clones ()
+    {
+        return Clone.getTrackedClones () + Clone.getUntrackedClones ();
+    }
+
+    /**
+     * Single recorded style operation.
+     */
+    public static final class Sample
+    {
+        /**
+         * Outer {@link Sample} recorded within the same thread.
+         */
+        @Nullable
+        private final Sample parent;
+
+        /**
+         * Whether or not {@link ComponentStyle} application is recorded.
+         */
+        private final boolean application;
+
+        /**
+         * {@link ComponentStyle}, {@code null} if it is not yet known.
+         */
+        @Nullable
+        private ComponentStyle style;
+
+        /**
+         * {@link JComponent} {@link Class}.
+         */
+        @NotNull
+        private final Class componentClass;
+
+        /**
+         * {@link System#nanoTime()} at which recording started.
+         */
+        private final long startTime;
+
+        /**
+         * Total amount of objects cloned at the moment recording started.
+         */
+        private final long startClones;
+
+        /**
+         * Amount of reflective calls.
+         */
+        private long reflectiveCalls;
+
+        /**
+         * Amount of painters instantiated.
+         */
+        private long painters;
+
+        /**
+         * Constructs new {@link Sample}.
+         *
+         * @param parent         outer {@link Sample} recorded within the same thread
+         * @param application    whether or not {@link ComponentStyle} application is recorded
+         * @param style          {@link ComponentStyle}, {@code null} if it is not yet known
+         * @param componentClass {@link JComponent} {@link Class}
+         */
+        private Sample ( @Nullable final Sample parent, final boolean application, @Nullable final ComponentStyle style,
+                         @NotNull final Class componentClass )
+        {
+            this.parent = parent;
+            this.application = application;
+            this.style = style;
+            this.componentClass = componentClass;
+            this.startClones = clones ();
+            this.startTime = System.nanoTime ();
+        }
+
+        /**
+         * Sets {@link ComponentStyle} this {@link Sample} is recorded for.
+         *
+         * @param style {@link ComponentStyle} this {@link Sample} is recorded for
+         */
+        public void setStyle ( @NotNull final ComponentStyle style )
+        {
+            this.style = style;
+        }
+
+        /**
+         * Stops recording and saves results.
+         * Results are saved even if profiler was disabled while recording.
+         */
+        public void stop ()
+        {
+            final long time = System.nanoTime () - startTime;
+            final long clones = clones () - startClones;
+
+            // Restoring outer sample
+            if ( parent != null )
+            {
+                current.set ( parent );
+                parent.reflectiveCalls += reflectiveCalls;
+                parent.painters += painters;
+            }
+            else
+            {
+                current.remove ();
+            }
+
+            // Saving results
+            synchronized ( styleProfiles )
+            {
+                if ( style != null )
+                {
+                    record ( styleProfiles, style.getCompleteId (), time, clones );
+                }
+                record ( componentProfiles, componentClass.getName (), time, clones );
+            }
+        }
+
+        /**
+         * Records results into {@link StyleProfile} under the specified key.
+         *
+         * @param profiles {@link StyleProfile}s
+         * @param key      {@link StyleProfile} key
+         * @param time     time spent, in nanoseconds
+         * @param clones   amount of objects cloned
+         */
+        private void record ( @NotNull final Map<String, StyleProfile> profiles, @NotNull final String key,
+                              final long time, final long clones )
+        {
+            StyleProfile profile = profiles.get ( key );
+            if ( profile == null )
+            {
+                profile = new StyleProfile ( key );
+                profiles.put ( key, profile );
+            }
+            if ( application )
+            {
+                profile.application ( time, clones, reflectiveCalls, painters );
+            }
+            else
+            {
+                profile.lookup ( time, clones, reflectiveCalls, painters );
+            }
+        }
+    }
+}
@@ -23,7 +23,7 @@ import com.alee.api.resource.Resource;
 import com.alee.managers.icon.set.IconSet;
 import com.alee.managers.style.data.ComponentStyle;
 import com.alee.managers.style.data.SkinInfo;
-import com.alee.utils.XmlUtils;
+import com.alee.managers.style.data.SkinSnapshot;
 
 import javax.swing.*;
 import java.util.List;
@@ -55,7 +55,7 @@ public class XmlSkin extends AbstractSkin
      */
     public XmlSkin ( @NotNull final Resource resource )
     {
-        this ( ( SkinInfo ) XmlUtils.fromXML ( resource ) );
+        this ( SkinSnapshot.load ( resource ) );
     }
 
     /**
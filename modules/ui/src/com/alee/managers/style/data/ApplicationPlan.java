@@ -0,0 +1,276 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.style.StyleException;
+import com.alee.managers.style.StyleProfiler;
+import com.alee.utils.ReflectUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled application plan for style properties of a single owner ({@link ComponentStyle} or {@link PainterStyle}).
+ * Each plan is bound to a specific target {@link Class} and caches resolved setter {@link Method} or {@link Field} for every property.
+ * That allows replaying property application without building setter names or relying on exception-driven lookup fallbacks.
+ *
+ * Resolved {@link Accessor}s also remember value {@link Class} they were resolved for, since setter lookup depends on it.
+ * In case property value type changes - {@link Accessor} is simply resolved again.
+ *
+ * @author Mikle Garin
+ * @see ComponentStyle
+ * @see PainterStyle
+ */
+final class ApplicationPlan
+{
+    /**
+     * Target {@link Class} this plan is compiled for.
+     */
+    @NotNull
+    private final Class type;
+
+    /**
+     * Resolved property {@link Accessor}s.
+     */
+    @NotNull
+    private final Map<String, Accessor> accessors;
+
+    /**
+     * Constructs new {@link ApplicationPlan}.
+     *
+     * @param type target {@link Class} this plan is compiled for
+     */
+    public ApplicationPlan ( @NotNull final Class type )
+    {
+        this.type = type;
+        this.accessors = new ConcurrentHashMap<String, Accessor> ( 8 );
+    }
+
+    /**
+     * Returns {@link ApplicationPlan} for the specified target {@link Class} from the plans cache.
+     * New {@link ApplicationPlan} is created and cached if it doesn't exist yet.
+     *
+     * @param plans {@link ApplicationPlan}s cache
+     * @param type  target {@link Class}
+     * @return {@link ApplicationPlan} for the specified target {@link Class}
+     */
+    @NotNull
+    public static ApplicationPlan get ( @NotNull final ConcurrentHashMap<Class, ApplicationPlan> plans, @NotNull final Class type )
+    {
+        ApplicationPlan plan = plans.get ( type );
+        if ( plan == null )
+        {
+            final ApplicationPlan newPlan = new ApplicationPlan ( type );
+            plan = plans.putIfAbsent ( type, newPlan );
+            if ( plan == null )
+            {
+                plan = newPlan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Returns target {@link Class} this plan is compiled for.
+     *
+     * @return target {@link Class} this plan is compiled for
+     */
+    @NotNull
+    public Class getType ()
+    {
+        return type;
+    }
+
+    /**
+     * Applies specified property value to the object.
+     *
+     * @param object   object to apply property value to
+     * @param property property name
+     * @param value    property value
+     * @throws InvocationTargetException if setter method invocation failed
+     * @throws IllegalAccessException    if setter method or field is not accessible
+     */
+    public void apply ( @NotNull final Object object, @NotNull final String property, @Nullable final Object value )
+            throws InvocationTargetException, IllegalAccessException
+    {
+        getAccessor ( property, value ).apply ( object, value );
+    }
+
+    /**
+     * Resolves and caches {@link Accessor} for the specified property and value without applying it.
+     * This is a pure-data operation that can be safely performed outside of the Event Dispatch Thread.
+     *
+     * @param property property name
+     * @param value    property value
+     */
+    public void prepare ( @NotNull final String property, @Nullable final Object value )
+    {
+        getAccessor ( property, value );
+    }
+
+    /**
+     * Returns whether or not {@link Accessor} for the specified property and value is already resolved.
+     *
+     * @param property property name
+     * @param value    property value
+     * @return {@code true} if {@link Accessor} for the specified property and value is already resolved, {@code false} otherwise
+     */
+    public boolean isPrepared ( @NotNull final String property, @Nullable final Object value )
+    {
+        final Accessor accessor = accessors.get ( property );
+        return accessor != null && accessor.valueType == ( value != null ? value.getClass () : null );
+    }
+
+    /**
+     * Returns {@link Accessor} for the specified property and value.
+     *
+     * @param property property name
+     * @param value    property value
+     * @return {@link Accessor} for the specified property and value
+     */
+    @NotNull
+    private Accessor getAccessor ( @NotNull final String property, @Nullable final Object value )
+    {
+        final Class valueType = value != null ? value.getClass () : null;
+        Accessor accessor = accessors.get ( property );
+        if ( accessor == null || accessor.valueType != valueType )
+        {
+            accessor = resolve ( property, value );
+            accessors.put ( property, accessor );
+        }
+        return accessor;
+    }
+
+    /**
+     * Returns newly resolved {@link Accessor} for the specified property and value.
+     *
+     * @param property property name
+     * @param value    property value
+     * @return newly resolved {@link Accessor} for the specified property and value
+     */
+    @NotNull
+    private Accessor resolve ( @NotNull final String property, @Nullable final Object value )
+    {
+        // Trying to find setter method first
+        Method setter;
+        try
+        {
+            setter = ReflectUtils.getMethod ( type, ReflectUtils.getSetterMethodName ( property ), new Object[]{ value } );
+        }
+        catch ( final NoSuchMethodException e )
+        {
+            setter = null;
+        }
+
+        // Looking for the field otherwise
+        Field field = null;
+        if ( setter == null )
+        {
+            try
+            {
+                field = ReflectUtils.getField ( type, property );
+            }
+            catch ( final NoSuchFieldException e )
+            {
+                // Property cannot be applied, this will be reported upon application
+            }
+        }
+
+        return new Accessor ( property, value != null ? value.getClass () : null, setter, field );
+    }
+
+    /**
+     * Resolved property accessor.
+     */
+    private static final class Accessor
+    {
+        /**
+         * Property name.
+         */
+        @NotNull
+        private final String property;
+
+        /**
+         * Value {@link Class} this {@link Accessor} was resolved for, {@code null} for {@code null} values.
+         */
+        @Nullable
+        private final Class valueType;
+
+        /**
+         * Setter {@link Method}, {@code null} if property is set through field.
+         */
+        @Nullable
+        private final Method setter;
+
+        /**
+         * Property {@link Field}, {@code null} if property is set through setter or cannot be set at all.
+         */
+        @Nullable
+        private final Field field;
+
+        /**
+         * Constructs new {@link Accessor}.
+         *
+         * @param property  property name
+         * @param valueType value {@link Class} this {@link Accessor} was resolved for
+         * @param setter    setter {@link Method}
+         * @param field     property {@link Field}
+         */
+        public Accessor ( @NotNull final String property, @Nullable final Class valueType, @Nullable final Method setter,
+                          @Nullable final Field field )
+        {
+            this.property = property;
+            this.valueType = valueType;
+            this.setter = setter;
+            this.field = field;
+        }
+
+        /**
+         * Applies property value to the specified object.
+         *
+         * @param object object to apply property value to
+         * @param value  property value
+         * @throws InvocationTargetException if setter method invocation failed
+         * @throws IllegalAccessException    if setter method or field is not accessible
+         */
+        public void apply ( @NotNull final Object object, @Nullable final Object value )
+                throws InvocationTargetException, IllegalAccessException
+        {
+            if ( setter != null )
+            {
+                StyleProfiler.reflectiveCall ();
+                setter.invoke ( object, value );
+            }
+            else if ( field != null )
+            {
+                StyleProfiler.reflectiveCall ();
+                ReflectUtils.setFieldValue ( object, field, value );
+            }
+            else
+            {
+                final String msg = "Unable to set `%s` object `%s` field value to: %s";
+                throw new StyleException ( String.format ( msg, object, property, value ) );
+            }
+        }
+    }
+}
@@ -22,20 +22,28 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.Clone;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
+import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.clone.behavior.PreserveOnClone;
 import com.alee.api.jdk.Objects;
 import com.alee.api.merge.Merge;
 import com.alee.extended.layout.AbstractLayoutManager;
+import com.alee.managers.icon.data.SetIcon;
 import com.alee.managers.style.ComponentDescriptor;
 import com.alee.managers.style.StyleException;
 import com.alee.managers.style.StyleId;
 import com.alee.managers.style.StyleManager;
+import com.alee.managers.style.StyleProfiler;
 import com.alee.painter.Painter;
 import com.alee.painter.PainterSupport;
+import com.alee.painter.ShareablePainter;
+import com.alee.painter.decoration.AbstractDecorationPainter;
+import com.alee.painter.decoration.DecorationUtils;
+import com.alee.painter.decoration.Decorations;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.LafUtils;
 import com.alee.utils.ReflectUtils;
 import com.alee.utils.swing.InsetsUIResource;
+import com.alee.utils.swing.WeakComponentData;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 import com.thoughtworks.xstream.annotations.XStreamConverter;
@@ -45,11 +53,17 @@ import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
 import java.awt.*;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Component style information class.
@@ -62,6 +76,36 @@ import java.util.Map;
 @XStreamConverter ( ComponentStyleConverter.class )
 public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Serializable
 {
+    /**
+     * {@link StyleState}s of {@link JComponent}s this class have ever applied styles to.
+     */
+    @NotNull
+    private static final WeakComponentData<JComponent, StyleState> states =
+            new WeakComponentData<JComponent, StyleState> ( "ComponentStyle.states", 200 );
+
+    /**
+     * {@link JComponent} {@link ComponentStyle} was last removed from.
+     * Its {@link StyleState} is kept until the end of the current event to reuse {@link Painter} if another {@link ComponentStyle} is
+     * applied to the same {@link JComponent} right away, which happens whenever {@link com.alee.managers.style.Skin} or
+     * {@link ComponentUI} is replaced. Afterwards it is discarded, so no style data is left within {@link JComponent}.
+     * It is only accessed from the Event Dispatch Thread.
+     */
+    @Nullable
+    private static WeakReference<JComponent> removedComponent;
+
+    /**
+     * {@link StyleState} of the {@link JComponent} {@link ComponentStyle} was last removed from.
+     * It is only accessed from the Event Dispatch Thread.
+     */
+    @Nullable
+    private static StyleState removedState;
+
+    /**
+     * Whether or not {@link #removedState} cleanup is scheduled.
+     * It is only accessed from the Event Dispatch Thread.
+     */
+    private static boolean removedCleanupScheduled;
+
     /**
      * Style component type.
      * Refers to identifier of a component this style belongs to.
@@ -121,6 +165,28 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     @PreserveOnClone
     private transient ComponentStyle parent;
 
+    /**
+     * Compiled {@link ApplicationPlan}s for component properties.
+     * This variable is only created in runtime on demand and is never cloned.
+     */
+    @OmitOnClone
+    private transient volatile ConcurrentHashMap<Class, ApplicationPlan> componentPlans;
+
+    /**
+     * Compiled {@link ApplicationPlan}s for component UI properties.
+     * This variable is only created in runtime on demand and is never cloned.
+     */
+    @OmitOnClone
+    private transient volatile ConcurrentHashMap<Class, ApplicationPlan> uiPlans;
+
+    /**
+     * {@link StyleDelta}s for switching to this {@link ComponentStyle} from other {@link ComponentStyle}s.
+     * Other {@link ComponentStyle}s are referenced weakly, so cached {@link StyleDelta}s never keep them in memory.
+     * This variable is only created in runtime on demand and is never cloned.
+     */
+    @OmitOnClone
+    private transient volatile Map<ComponentStyle, StyleDelta> deltas;
+
     /**
      * Returns supported component type.
      *
@@ -335,38 +401,245 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     /**
      * Applies this {@link ComponentStyle} to the specified {@link JComponent}.
      *
+     * If another {@link ComponentStyle} is currently applied to the {@link JComponent} and wasn't removed from it, only the
+     * {@link StyleDelta} between the two {@link ComponentStyle}s is applied whenever installed painter can be updated in place.
+     * In that case component layout is only invalidated if some of the changed properties might affect its size.
+     *
      * @param component {@link JComponent} to apply this {@link ComponentStyle} to
      */
     public void apply ( @NotNull final JComponent component )
     {
+        final StyleProfiler.Sample sample = StyleProfiler.startApplication ( this, component );
         try
         {
             final ComponentUI ui = getComponentUI ( component );
+            final ApplicationPlan componentPlan = ApplicationPlan.get ( getComponentPlans (), component.getClass () );
+            final ApplicationPlan uiPlan = ApplicationPlan.get ( getUIPlans (), ui.getClass () );
+            final Painter customPainter = StyleManager.getCustomPainter ( component );
+            final StyleState state = getState ( component );
+            final StyleDelta delta;
+            if ( state.style != null && state.style != this && state.ui == ui && customPainter == null &&
+                    state.painter != null && state.painter == PainterSupport.getPainter ( component ) )
+            {
+                // Switching from another style that is still applied
+                delta = StyleDelta.get ( getDeltas (), state.style, this );
+            }
+            else
+            {
+                // Applying style from scratch
+                delta = null;
+            }
+            if ( delta != null && delta.isPainterUpdatable () &&
+                    ( !delta.isDecorationsChanged () || state.painter instanceof AbstractDecorationPainter ) )
+            {
+                // Applying changed component properties
+                applyProperties ( component, componentPlan, delta.getComponentProperties () );
 
-            // Applying component properties
-            applyProperties ( component, appendEmptyComponentProperties ( getComponentProperties () ) );
+                // Applying changed UI properties
+                applyProperties ( ui, uiPlan, delta.getUIProperties () );
 
-            // Applying UI properties
-            applyProperties ( ui, getUIProperties () );
+                // Updating installed painter with changed properties
+                updatePainter ( state.painter, getPainterStyle (), delta.getPainterProperties () );
+                state.painterStyle = getPainterStyle ();
 
-            // Installing painter
-            // todo Only reapply settings if painter already exists?
-            // todo Update component instead of reinstalling painter if it is the same?
-            final Painter customPainter = StyleManager.getCustomPainter ( component );
-            final Painter painter = customPainter != null ? customPainter : createPainter ( getPainterStyle () );
-            PainterSupport.setPainter ( component, ui, painter );
+                // Invalidating component layout only if its size might have changed
+                if ( delta.isLayoutAffecting () )
+                {
+                    component.revalidate ();
+                }
+            }
+            else
+            {
+                // Uninstalling painter of the currently applied style, same as when style is removed
+                if ( state.style != null )
+                {
+                    PainterSupport.setPainter ( component, ui, null );
+                }
+
+                // Applying component properties
+                applyComponentProperties ( component, componentPlan );
+
+                // Applying UI properties
+                applyProperties ( ui, uiPlan, getUIProperties () );
+
+                // Installing painter
+                final Painter painter;
+                if ( customPainter == null )
+                {
+                    painter = getPainter ( state, getPainterStyle () );
+                }
+                else
+                {
+                    state.painterStyle = null;
+                    state.painter = null;
+                    painter = customPainter;
+                }
+                PainterSupport.setPainter ( component, ui, painter );
+            }
+            state.style = this;
+            state.ui = ui;
         }
         catch ( final Exception e )
         {
             throw new StyleException ( String.format ( "Unable to apply style '%s' to component: %s", getCompleteId (), component ), e );
         }
+        finally
+        {
+            if ( sample != null )
+            {
+                sample.stop ();
+            }
+        }
+    }
+
+    /**
+     * Returns {@link StyleState} of the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} to return {@link StyleState} for
+     * @return {@link StyleState} of the specified {@link JComponent}
+     */
+    @NotNull
+    private static StyleState getState ( @NotNull final JComponent component )
+    {
+        StyleState state = states.get ( component );
+        if ( state == null )
+        {
+            // Restoring state kept after style removal to reuse painter
+            if ( removedState != null && removedComponent != null && removedComponent.get () == component )
+            {
+                state = removedState;
+                removedComponent = null;
+                removedState = null;
+            }
+            else
+            {
+                state = new StyleState ();
+            }
+            states.set ( component, state );
+        }
+        return state;
+    }
+
+    /**
+     * Keeps {@link StyleState} of the {@link JComponent} {@link ComponentStyle} was removed from until the end of the current event.
+     *
+     * @param component {@link JComponent} {@link ComponentStyle} was removed from
+     * @param state     {@link StyleState} of the {@link JComponent}
+     */
+    private static void keepRemovedState ( @NotNull final JComponent component, @NotNull final StyleState state )
+    {
+        removedComponent = new WeakReference<JComponent> ( component );
+        removedState = state;
+        if ( !removedCleanupScheduled )
+        {
+            removedCleanupScheduled = true;
+            SwingUtilities.invokeLater ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    removedComponent = null;
+                    removedState = null;
+                    removedCleanupScheduled = false;
+                }
+            } );
+        }
+    }
+
+    /**
+     * Returns {@link Painter} for the {@link JComponent} with the specified {@link StyleState} and {@link PainterStyle}.
+     * {@link Painter} previously created for the {@link JComponent} is reused whenever it is possible, in that case all properties
+     * of the specified {@link PainterStyle} are applied to it again to reset any runtime modifications of those properties.
+     * Otherwise new {@link Painter} instance is created.
+     *
+     * {@link Painter} can only be reused if it has the same {@link Class} and all of its previous properties are overridden by the
+     * specified {@link PainterStyle}, since there is no way to restore default values of properties that are not specified anymore.
+     *
+     * {@link ShareablePainter}s are never remembered for reuse, since a single instance of them is used for all {@link JComponent}s
+     * with the same {@link PainterStyle} and should never be modified.
+     *
+     * @param state        {@link StyleState} of the {@link JComponent}
+     * @param painterStyle {@link PainterStyle}
+     * @return {@link Painter} for the {@link JComponent} with the specified {@link StyleState} and {@link PainterStyle}
+     * @throws NoSuchFieldException      when some painter settings could not be applied
+     * @throws NoSuchMethodException     when some painter settings could not be applied
+     * @throws InvocationTargetException when some painter settings could not be applied
+     * @throws IllegalAccessException    when some painter settings could not be applied
+     */
+    @NotNull
+    private Painter getPainter ( @NotNull final StyleState state, @NotNull final PainterStyle painterStyle )
+            throws InvocationTargetException, NoSuchMethodException, IllegalAccessException, NoSuchFieldException
+    {
+        final Painter painter;
+        if ( state.isReusable ( painterStyle ) )
+        {
+            // Reusing existing painter and applying all properties to it
+            painter = state.painter;
+            applyProperties ( painter, painterStyle.getApplicationPlan ( painter.getClass () ), painterStyle.getProperties () );
+        }
+        else
+        {
+            // Creating new painter
+            painter = createPainter ( painterStyle );
+        }
+
+        // Remembering painter for further reuse
+        if ( painter instanceof ShareablePainter )
+        {
+            state.painterStyle = null;
+            state.painter = null;
+        }
+        else
+        {
+            state.painterStyle = painterStyle;
+            state.painter = painter;
+        }
+
+        return painter;
+    }
+
+    /**
+     * Updates installed {@link Painter} with the specified changed properties of the {@link PainterStyle}.
+     * {@link Decorations} are replaced through {@link AbstractDecorationPainter#updateDecorations(Decorations)}, other properties are
+     * simply set into the {@link Painter}. Nested {@link PainterStyle}s are never changed here, so their painters are kept.
+     *
+     * @param painter      installed {@link Painter}
+     * @param painterStyle {@link PainterStyle} to update {@link Painter} with
+     * @param properties   changed properties of the {@link PainterStyle}
+     * @throws NoSuchFieldException      if property could not be set into painter
+     * @throws NoSuchMethodException     if property setter method could not be found
+     * @throws InvocationTargetException if property setter method invocation failed
+     * @throws IllegalAccessException    if property setter method is not accessible
+     */
+    private void updatePainter ( @NotNull final Painter painter, @NotNull final PainterStyle painterStyle,
+                                 @NotNull final Map<String, Object> properties )
+            throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException, InvocationTargetException
+    {
+        if ( properties.size () > 0 )
+        {
+            final ApplicationPlan plan = painterStyle.getApplicationPlan ( painter.getClass () );
+            for ( final Map.Entry<String, Object> entry : properties.entrySet () )
+            {
+                final Object value = entry.getValue ();
+                if ( value instanceof Decorations )
+                {
+                    ( ( AbstractDecorationPainter ) painter ).updateDecorations ( SharedValues.usable ( ( Decorations ) value ) );
+                }
+                else
+                {
+                    applyProperty ( painter, plan, entry.getKey (), value );
+                }
+            }
+        }
     }
 
     /**
      * Returns new {@link Painter} instance for the specified {@link PainterStyle}.
+     * New instance is created each time unless {@link Painter} implements {@link ShareablePainter}, in which case single instance is
+     * created for the {@link PainterStyle} and returned for all {@link JComponent}s using it.
      *
      * @param painterStyle {@link PainterStyle}
-     * @return new {@link Painter} instance for the specified {@link PainterStyle}
+     * @return {@link Painter} instance for the specified {@link PainterStyle}
      * @throws NoSuchFieldException      when some painter settings could not be applied
      * @throws NoSuchMethodException     when some painter settings could not be applied
      * @throws InvocationTargetException when some painter settings could not be applied
@@ -376,34 +649,242 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     private Painter createPainter ( @NotNull final PainterStyle painterStyle )
             throws InvocationTargetException, NoSuchMethodException, IllegalAccessException, NoSuchFieldException
     {
-        // Creating painter instance
-        // Be aware that all painters must have default constructor
-        final String painterClass = painterStyle.getPainterClass ();
-        final Painter painter = ReflectUtils.createInstanceSafely ( painterClass );
-        if ( painter == null )
+        final Painter sharedPainter = painterStyle.getSharedPainter ();
+        final Painter painter;
+        if ( sharedPainter == null )
         {
-            final String msg = "Unable to create painter '%s' in style '%s'";
-            throw new StyleException ( String.format ( msg, painterClass, getId () ) );
-        }
+            // Creating painter instance
+            // Be aware that all painters must have default constructor
+            final String painterClass = painterStyle.getPainterClass ();
+            StyleProfiler.reflectiveCall ();
+            painter = ReflectUtils.createInstanceSafely ( painterClass );
+            if ( painter == null )
+            {
+                final String msg = "Unable to create painter '%s' in style '%s'";
+                throw new StyleException ( String.format ( msg, painterClass, getId () ) );
+            }
+            StyleProfiler.painterCreated ();
 
-        // Applying painter properties
-        // These properties are applied only for style-provided painters
-        applyProperties ( painter, painterStyle.getProperties () );
+            // Applying painter properties
+            // These properties are applied only for style-provided painters
+            applyProperties ( painter, painterStyle.getApplicationPlan ( painter.getClass () ), painterStyle.getProperties () );
 
+            // Remembering stateless painter to share it with other components using the same style
+            if ( painter instanceof ShareablePainter )
+            {
+                painterStyle.setSharedPainter ( painter );
+            }
+        }
+        else
+        {
+            // Using shared painter instance
+            painter = sharedPainter;
+        }
         return painter;
     }
 
+    /**
+     * Prepares this {@link ComponentStyle} for application to components of the specified type in advance.
+     * It resolves {@link ApplicationPlan}s for all properties, loads painter classes and collects used {@link SetIcon} identifiers.
+     * This only touches style data and can be safely performed outside of the Event Dispatch Thread.
+     *
+     * Provided classes must be the exact ones this {@link ComponentStyle} will be applied to, since plans are compiled per {@link Class}.
+     *
+     * @param componentClass exact {@link JComponent} {@link Class}
+     * @param uiClass        exact {@link ComponentUI} {@link Class}
+     * @param iconIds        {@link Set} to put identifiers of used {@link SetIcon}s into
+     */
+    public void prepare ( @NotNull final Class componentClass, @NotNull final Class uiClass, @NotNull final Set<String> iconIds )
+    {
+        prepareProperties ( ApplicationPlan.get ( getComponentPlans (), componentClass ), getComponentProperties (), iconIds );
+        prepareProperties ( ApplicationPlan.get ( getUIPlans (), uiClass ), getUIProperties (), iconIds );
+        final PainterStyle painterStyle = getPainterStyle ();
+        if ( painterStyle != null )
+        {
+            preparePainter ( painterStyle, iconIds );
+        }
+    }
+
+    /**
+     * Returns whether or not this {@link ComponentStyle} is prepared for application to components of the specified type.
+     * It is only {@code true} when {@link ApplicationPlan}s for all component, UI and painter properties are already resolved.
+     *
+     * @param componentClass exact {@link JComponent} {@link Class}
+     * @param uiClass        exact {@link ComponentUI} {@link Class}
+     * @return {@code true} if this {@link ComponentStyle} is prepared for the specified type, {@code false} otherwise
+     */
+    public boolean isPrepared ( @NotNull final Class componentClass, @NotNull final Class uiClass )
+    {
+        final PainterStyle painterStyle = getPainterStyle ();
+        return isPrepared ( getComponentPlans ().get ( componentClass ), getComponentProperties () ) &&
+                isPrepared ( getUIPlans ().get ( uiClass ), getUIProperties () ) &&
+                ( painterStyle == null || isPainterPrepared ( painterStyle ) );
+    }
+
+    /**
+     * Returns whether or not specified {@link ApplicationPlan} is prepared for the specified properties.
+     *
+     * @param plan       {@link ApplicationPlan} to check, {@code null} if it doesn't exist
+     * @param properties properties to check {@link ApplicationPlan} for
+     * @return {@code true} if specified {@link ApplicationPlan} is prepared for the specified properties, {@code false} otherwise
+     */
+    private boolean isPrepared ( @Nullable final ApplicationPlan plan, @Nullable final Map<String, Object> properties )
+    {
+        boolean prepared = true;
+        if ( properties != null && properties.size () > 0 )
+        {
+            for ( final Map.Entry<String, Object> entry : properties.entrySet () )
+            {
+                final Object value = entry.getValue ();
+                if ( value instanceof PainterStyle ? !isPainterPrepared ( ( PainterStyle ) value ) :
+                        value != IgnoredValue.VALUE && ( plan == null || !plan.isPrepared ( entry.getKey (), value ) ) )
+                {
+                    prepared = false;
+                    break;
+                }
+            }
+        }
+        return prepared;
+    }
+
+    /**
+     * Returns whether or not {@link ApplicationPlan} for the specified {@link PainterStyle} properties is prepared.
+     *
+     * @param painterStyle {@link PainterStyle} to check
+     * @return {@code true} if {@link ApplicationPlan} for the specified {@link PainterStyle} properties is prepared, {@code false} otherwise
+     */
+    private boolean isPainterPrepared ( @NotNull final PainterStyle painterStyle )
+    {
+        final Class painterClass = ReflectUtils.getClassSafely ( painterStyle.getPainterClass () );
+        return painterClass != null && isPrepared ( painterStyle.getApplicationPlan ( painterClass ), painterStyle.getProperties () );
+    }
+
+    /**
+     * Prepares {@link ApplicationPlan} for the specified properties.
+     *
+     * @param plan       {@link ApplicationPlan} to prepare
+     * @param properties properties to prepare {@link ApplicationPlan} for
+     * @param iconIds    {@link Set} to put identifiers of used {@link SetIcon}s into
+     */
+    private void prepareProperties ( @NotNull final ApplicationPlan plan, @Nullable final Map<String, Object> properties,
+                                     @NotNull final Set<String> iconIds )
+    {
+        if ( properties != null )
+        {
+            for ( final Map.Entry<String, Object> entry : properties.entrySet () )
+            {
+                final Object value = entry.getValue ();
+                if ( value instanceof PainterStyle )
+                {
+                    preparePainter ( ( PainterStyle ) value, iconIds );
+                }
+                else if ( value != IgnoredValue.VALUE )
+                {
+                    if ( value instanceof Decorations )
+                    {
+                        DecorationUtils.collectIconIds ( ( Decorations ) value, iconIds );
+                    }
+                    plan.prepare ( entry.getKey (), value );
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads painter {@link Class} and prepares {@link ApplicationPlan} for its properties.
+     *
+     * @param painterStyle {@link PainterStyle} to prepare
+     * @param iconIds      {@link Set} to put identifiers of used {@link SetIcon}s into
+     */
+    private void preparePainter ( @NotNull final PainterStyle painterStyle, @NotNull final Set<String> iconIds )
+    {
+        final Class painterClass = ReflectUtils.getClassSafely ( painterStyle.getPainterClass () );
+        if ( painterClass != null )
+        {
+            prepareProperties ( painterStyle.getApplicationPlan ( painterClass ), painterStyle.getProperties (), iconIds );
+        }
+    }
+
+    /**
+     * Returns compiled {@link ApplicationPlan}s for component properties.
+     *
+     * @return compiled {@link ApplicationPlan}s for component properties
+     */
+    @NotNull
+    private ConcurrentHashMap<Class, ApplicationPlan> getComponentPlans ()
+    {
+        if ( componentPlans == null )
+        {
+            synchronized ( this )
+            {
+                if ( componentPlans == null )
+                {
+                    componentPlans = new ConcurrentHashMap<Class, ApplicationPlan> ( 2 );
+                }
+            }
+        }
+        return componentPlans;
+    }
+
+    /**
+     * Returns {@link StyleDelta}s for switching to this {@link ComponentStyle} from other {@link ComponentStyle}s.
+     *
+     * @return {@link StyleDelta}s for switching to this {@link ComponentStyle} from other {@link ComponentStyle}s
+     */
+    @NotNull
+    private Map<ComponentStyle, StyleDelta> getDeltas ()
+    {
+        Map<ComponentStyle, StyleDelta> deltas = this.deltas;
+        if ( deltas == null )
+        {
+            synchronized ( this )
+            {
+                deltas = this.deltas;
+                if ( deltas == null )
+                {
+                    // Source styles are referenced weakly to avoid keeping styles of replaced skins
+                    deltas = new WeakHashMap<ComponentStyle, StyleDelta> ( 2 );
+                    this.deltas = deltas;
+                }
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Returns compiled {@link ApplicationPlan}s for component UI properties.
+     *
+     * @return compiled {@link ApplicationPlan}s for component UI properties
+     */
+    @NotNull
+    private ConcurrentHashMap<Class, ApplicationPlan> getUIPlans ()
+    {
+        if ( uiPlans == null )
+        {
+            synchronized ( this )
+            {
+                if ( uiPlans == null )
+                {
+                    uiPlans = new ConcurrentHashMap<Class, ApplicationPlan> ( 2 );
+                }
+            }
+        }
+        return uiPlans;
+    }
+
     /**
      * Applies properties to specified object fields.
      *
      * @param object         object instance
+     * @param plan           {@link ApplicationPlan} compiled for the object {@link Class}
      * @param skinProperties skin properties to apply, these properties come from the skin
      * @throws NoSuchFieldException      if painter could not be set into object
      * @throws NoSuchMethodException     if painter setter method could not be found
      * @throws InvocationTargetException if painter setter method invocation failed
      * @throws IllegalAccessException    if painter setter method is not accessible
      */
-    private void applyProperties ( @NotNull final Object object, @Nullable final Map<String, Object> skinProperties )
+    private void applyProperties ( @NotNull final Object object, @NotNull final ApplicationPlan plan,
+                                   @Nullable final Map<String, Object> skinProperties )
             throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException, InvocationTargetException
     {
         // Applying merged properties
@@ -411,57 +892,75 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         {
             for ( final Map.Entry<String, Object> entry : skinProperties.entrySet () )
             {
-                final Object value = entry.getValue ();
-                if ( value instanceof PainterStyle )
-                {
-                    // PainterStyle is handled differently
-                    final Painter painter = createPainter ( ( PainterStyle ) value );
-                    setFieldValue ( object, entry.getKey (), painter );
-                }
-                else if ( entry.getKey ().equals ( "layout" ) && object instanceof Container )
+                applyProperty ( object, plan, entry.getKey (), entry.getValue () );
+            }
+        }
+    }
+
+    /**
+     * Applies single property to specified object field.
+     *
+     * @param object   object instance
+     * @param plan     {@link ApplicationPlan} compiled for the object {@link Class}
+     * @param property property name
+     * @param value    property value
+     * @throws NoSuchFieldException      if painter could not be set into object
+     * @throws NoSuchMethodException     if painter setter method could not be found
+     * @throws InvocationTargetException if painter setter method invocation failed
+     * @throws IllegalAccessException    if painter setter method is not accessible
+     */
+    private void applyProperty ( @NotNull final Object object, @NotNull final ApplicationPlan plan, @NotNull final String property,
+                                 @Nullable final Object value )
+            throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException, InvocationTargetException
+    {
+        if ( value instanceof PainterStyle )
+        {
+            // PainterStyle is handled differently
+            final Painter painter = createPainter ( ( PainterStyle ) value );
+            setFieldValue ( object, plan, property, painter );
+        }
+        else if ( property.equals ( "layout" ) && object instanceof Container )
+        {
+            // Ensure we do not replace LayoutManager provided by user
+            if ( value == null || value instanceof LayoutManager )
+            {
+                final Container container = ( Container ) object;
+                final LayoutManager oldLayout = container.getLayout ();
+                if ( isReplaceableLayout ( container, oldLayout ) || !( value instanceof UIResource ) )
                 {
-                    // Ensure we do not replace LayoutManager provided by user
-                    if ( value == null || value instanceof LayoutManager )
-                    {
-                        final Container container = ( Container ) object;
-                        final LayoutManager oldLayout = container.getLayout ();
-                        if ( isReplaceableLayout ( container, oldLayout ) || !( value instanceof UIResource ) )
-                        {
-                            // Creating clone of new layout manager
-                            // This is important to avoid same layout being set everywhere
-                            final LayoutManager newLayout = Clone.deep ().clone ( ( LayoutManager ) value );
-
-                            // Migrating layout manager settings if possible
-                            if ( newLayout != null && newLayout instanceof AbstractLayoutManager )
-                            {
-                                ( ( AbstractLayoutManager ) newLayout ).migrate ( container, oldLayout );
-                            }
-
-                            // Updating layout manager
-                            container.setLayout ( newLayout );
-                        }
-                    }
-                    else
+                    // Creating clone of new layout manager unless it is shareable
+                    // This is important to avoid same layout being set everywhere
+                    final LayoutManager newLayout = SharedValues.usable ( ( LayoutManager ) value );
+
+                    // Migrating layout manager settings if possible
+                    if ( newLayout != null && newLayout instanceof AbstractLayoutManager )
                     {
-                        throw new StyleException ( "Value provided for Container `layout` property is not LayoutManager" );
+                        ( ( AbstractLayoutManager ) newLayout ).migrate ( container, oldLayout );
                     }
-                }
-                else if ( entry.getKey ().equalsIgnoreCase ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) && object instanceof JComponent )
-                {
-                    // Temporary workaround for margin attribute
-                    PainterSupport.setMargin ( ( JComponent ) object, ( Insets ) entry.getValue () );
-                }
-                else if ( entry.getKey ().equalsIgnoreCase ( ComponentStyleConverter.PADDING_ATTRIBUTE ) && object instanceof JComponent )
-                {
-                    // Temporary workaround for padding attribute
-                    PainterSupport.setPadding ( ( JComponent ) object, ( Insets ) entry.getValue () );
-                }
-                else
-                {
-                    // Other fields are simply set through common means
-                    setFieldValue ( object, entry.getKey (), value );
+
+                    // Updating layout manager
+                    container.setLayout ( newLayout );
                 }
             }
+            else
+            {
+                throw new StyleException ( "Value provided for Container `layout` property is not LayoutManager" );
+            }
+        }
+        else if ( property.equalsIgnoreCase ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) && object instanceof JComponent )
+        {
+            // Temporary workaround for margin attribute
+            PainterSupport.setMargin ( ( JComponent ) object, ( Insets ) value );
+        }
+        else if ( property.equalsIgnoreCase ( ComponentStyleConverter.PADDING_ATTRIBUTE ) && object instanceof JComponent )
+        {
+            // Temporary workaround for padding attribute
+            PainterSupport.setPadding ( ( JComponent ) object, ( Insets ) value );
+        }
+        else
+        {
+            // Other fields are simply set through common means
+            setFieldValue ( object, plan, property, value );
         }
     }
 
@@ -479,23 +978,30 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     }
 
     /**
-     * Appends empty property values if required.
+     * Applies component properties to the specified {@link JComponent}.
+     * Empty margin and padding are applied last if they are not specified in the style.
+     * Style properties are never modified here, so style can be safely prepared outside of the Event Dispatch Thread at the same time.
      *
-     * @param properties property values
-     * @return modified property values
+     * @param component {@link JComponent} to apply component properties to
+     * @param plan      {@link ApplicationPlan} compiled for the {@link JComponent} {@link Class}
+     * @throws NoSuchFieldException      if property could not be set into component
+     * @throws NoSuchMethodException     if property setter method could not be found
+     * @throws InvocationTargetException if property setter method invocation failed
+     * @throws IllegalAccessException    if property setter method is not accessible
      */
-    @NotNull
-    protected Map<String, Object> appendEmptyComponentProperties ( @NotNull final Map<String, Object> properties )
+    private void applyComponentProperties ( @NotNull final JComponent component, @NotNull final ApplicationPlan plan )
+            throws NoSuchFieldException, NoSuchMethodException, IllegalAccessException, InvocationTargetException
     {
+        final Map<String, Object> properties = getComponentProperties ();
+        applyProperties ( component, plan, properties );
         if ( !properties.containsKey ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) )
         {
-            properties.put ( ComponentStyleConverter.MARGIN_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
+            applyProperty ( component, plan, ComponentStyleConverter.MARGIN_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
         }
         if ( !properties.containsKey ( ComponentStyleConverter.PADDING_ATTRIBUTE ) )
         {
-            properties.put ( ComponentStyleConverter.PADDING_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
+            applyProperty ( component, plan, ComponentStyleConverter.PADDING_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
         }
-        return properties;
     }
 
     /**
@@ -510,6 +1016,15 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
             // Uninstalling skin painters from the UI
             final ComponentUI ui = getComponentUI ( component );
             PainterSupport.setPainter ( component, ui, null );
+
+            // Style state is removed from the component, but its painter can still be reused if next style is applied right away
+            final StyleState state = states.clear ( component );
+            if ( state != null )
+            {
+                state.style = null;
+                state.ui = null;
+                keepRemovedState ( component, state );
+            }
         }
         catch ( final Exception e )
         {
@@ -521,59 +1036,27 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
      * Applies specified value to object field.
      * This method allows to access and modify even private object fields.
      * Note that this method might also work even if there is no real field with the specified name but there is fitting setter method.
+     * Setter method or field is resolved only once per object {@link Class} through the specified {@link ApplicationPlan}.
      *
      * @param object object instance
+     * @param plan   {@link ApplicationPlan} compiled for the object {@link Class}
      * @param field  object field
      * @param value  field value
      * @throws java.lang.reflect.InvocationTargetException if method throws an exception
      * @throws java.lang.IllegalAccessException            if method is inaccessible
      */
-    private void setFieldValue ( @NotNull final Object object, @NotNull final String field, @Nullable final Object value )
-            throws InvocationTargetException, IllegalAccessException
+    private void setFieldValue ( @NotNull final Object object, @NotNull final ApplicationPlan plan, @NotNull final String field,
+                                 @Nullable final Object value ) throws InvocationTargetException, IllegalAccessException
     {
         // Skipping value if it is marked as ignored
         if ( value != IgnoredValue.VALUE )
         {
             // Creating separate usable value to avoid source object modifications
-            // We have limited options here, so for now we simply clone objects which are defined as Cloneable
-            final Object usable;
-            if ( value instanceof Painter )
-            {
-                usable = value;
-            }
-            else
-            {
-                try
-                {
-                    usable = Clone.deep ().clone ( value );
-                }
-                catch ( final Exception e )
-                {
-                    final String msg = "Unable to clone value: %s";
-                    throw new StyleException ( String.format ( msg, value ), e );
-                }
-            }
+            // Values that can be shared are used as-is, all other values are cloned
+            final Object usable = SharedValues.usable ( value );
 
-            try
-            {
-                // todo Add more options on the method names here?
-                // Trying to use setter method to apply the specified value
-                final String setterMethod = ReflectUtils.getSetterMethodName ( field );
-                ReflectUtils.callMethod ( object, setterMethod, usable );
-            }
-            catch ( final NoSuchMethodException e )
-            {
-                try
-                {
-                    // Applying field value directly
-                    ReflectUtils.setFieldValue ( object, field, usable );
-                }
-                catch ( final Exception fe )
-                {
-                    final String msg = "Unable to set `%s` object `%s` field value to: %s";
-                    throw new StyleException ( String.format ( msg, object, field, usable ), fe );
-                }
-            }
+            // Applying value through resolved setter method or field
+            plan.apply ( object, field, usable );
         }
     }
 
@@ -854,10 +1337,104 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         return Clone.deep ().nonNullClone ( this );
     }
 
+    /**
+     * Reads {@link ComponentStyle} from the specified {@link ObjectInputStream}.
+     * Restores transient parent field for child {@link ComponentStyle}s since it is not serialized.
+     *
+     * @param inputStream {@link ObjectInputStream}
+     * @throws IOException            if an I/O error occurs while reading from the underlying {@link java.io.InputStream}
+     * @throws ClassNotFoundException if the class of a serialized object could not be found
+     */
+    private void readObject ( @NotNull final ObjectInputStream inputStream ) throws IOException, ClassNotFoundException
+    {
+        inputStream.defaultReadObject ();
+        if ( CollectionUtils.notEmpty ( getNestedStyles () ) )
+        {
+            for ( final ComponentStyle child : getNestedStyles () )
+            {
+                child.setParent ( this );
+            }
+        }
+    }
+
     @NotNull
     @Override
     public String toString ()
     {
         return "ComponentStyle [ id: " + getCompleteId () + " ]";
     }
+
+    /**
+     * Style state of a single {@link JComponent}.
+     */
+    private static final class StyleState
+    {
+        /**
+         * {@link ComponentStyle} currently applied to {@link JComponent}, {@code null} if it was removed.
+         */
+        @Nullable
+        private ComponentStyle style;
+
+        /**
+         * {@link ComponentUI} {@link ComponentStyle} was applied to, {@code null} if it was removed.
+         */
+        @Nullable
+        private ComponentUI ui;
+
+        /**
+         * {@link PainterStyle} {@link Painter} was created from or last updated with.
+         * It is {@code null} if custom {@link Painter} or {@link ShareablePainter} is used.
+         */
+        @Nullable
+        private PainterStyle painterStyle;
+
+        /**
+         * {@link Painter} created for {@link JComponent} from its style.
+         * It is kept until the end of the current event when style is removed from {@link JComponent} to be reused when next style is
+         * applied right away.
+         * It is {@code null} if custom {@link Painter} or {@link ShareablePainter} is used.
+         */
+        @Nullable
+        private Painter painter;
+
+        /**
+         * Returns whether or not {@link Painter} can be reused for the specified {@link PainterStyle}.
+         *
+         * @param painterStyle {@link PainterStyle} to check
+         * @return {@code true} if {@link Painter} can be reused for the specified {@link PainterStyle}, {@code false} otherwise
+         */
+        public boolean isReusable ( @NotNull final PainterStyle painterStyle )
+        {
+            final boolean reusable;
+            if ( this.painterStyle == null || this.painter == null )
+            {
+                reusable = false;
+            }
+            else if ( this.painterStyle == painterStyle )
+            {
+                reusable = true;
+            }
+            else if ( painter.getClass ().getCanonicalName ().equals ( painterStyle.getPainterClass () ) )
+            {
+                // Every property applied previously must be overridden
+                boolean overridden = true;
+                final Map<String, Object> properties = painterStyle.getProperties ();
+                for ( final Map.Entry<String, Object> entry : this.painterStyle.getProperties ().entrySet () )
+                {
+                    if ( entry.getValue () != IgnoredValue.VALUE &&
+                            ( !properties.containsKey ( entry.getKey () ) || properties.get ( entry.getKey () ) == IgnoredValue.VALUE ) )
+                    {
+                        overridden = false;
+                        break;
+                    }
+                }
+                reusable = overridden;
+            }
+            else
+            {
+                reusable = false;
+            }
+            return reusable;
+        }
+    }
 }
\ No newline at end of file
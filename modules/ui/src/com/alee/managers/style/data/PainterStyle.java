@@ -19,12 +19,17 @@ package com.alee.managers.style.data;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.merge.Overwriting;
+import com.alee.api.merge.behavior.OmitOnMerge;
+import com.alee.painter.Painter;
+import com.alee.painter.ShareablePainter;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 import com.thoughtworks.xstream.annotations.XStreamConverter;
 
 import java.io.Serializable;
 import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contains single {@link com.alee.painter.Painter} style data.
@@ -56,6 +61,23 @@ public final class PainterStyle implements Overwriting, Cloneable, Serializable
      */
     private LinkedHashMap<String, Object> properties;
 
+    /**
+     * Compiled {@link ApplicationPlan}s for painter properties.
+     * This variable is only created in runtime on demand and is never cloned or merged.
+     */
+    @OmitOnClone
+    @OmitOnMerge
+    private transient volatile ConcurrentHashMap<Class, ApplicationPlan> plans;
+
+    /**
+     * {@link ShareablePainter} instance used by all components with this {@link PainterStyle}.
+     * This variable is only created in runtime on demand and is never cloned or merged.
+     */
+    @Nullable
+    @OmitOnClone
+    @OmitOnMerge
+    private transient volatile Painter sharedPainter;
+
     @Override
     public boolean isOverwrite ()
     {
@@ -113,4 +135,47 @@ public final class PainterStyle implements Overwriting, Cloneable, Serializable
     {
         this.properties = properties;
     }
+
+    /**
+     * Returns compiled {@link ApplicationPlan} for painter properties and the specified painter {@link Class}.
+     *
+     * @param painterClass painter {@link Class}
+     * @return compiled {@link ApplicationPlan} for painter properties and the specified painter {@link Class}
+     */
+    @NotNull
+    ApplicationPlan getApplicationPlan ( @NotNull final Class painterClass )
+    {
+        if ( plans == null )
+        {
+            synchronized ( this )
+            {
+                if ( plans == null )
+                {
+                    plans = new ConcurrentHashMap<Class, ApplicationPlan> ( 1 );
+                }
+            }
+        }
+        return ApplicationPlan.get ( plans, painterClass );
+    }
+
+    /**
+     * Returns {@link ShareablePainter} instance used by all components with this {@link PainterStyle}.
+     *
+     * @return {@link ShareablePainter} instance used by all components with this {@link PainterStyle}, {@code null} if none created yet
+     */
+    @Nullable
+    Painter getSharedPainter ()
+    {
+        return sharedPainter;
+    }
+
+    /**
+     * Sets {@link ShareablePainter} instance used by all components with this {@link PainterStyle}.
+     *
+     * @param painter {@link ShareablePainter} instance used by all components with this {@link PainterStyle}
+     */
+    void setSharedPainter ( @NotNull final Painter painter )
+    {
+        this.sharedPainter = painter;
+    }
 }
\ No newline at end of file
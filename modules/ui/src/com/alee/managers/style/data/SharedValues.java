@@ -0,0 +1,237 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.clone.Clone;
+import com.alee.managers.style.Shareable;
+import com.alee.managers.style.StyleException;
+import com.alee.painter.Painter;
+import com.alee.utils.ReflectUtils;
+import com.alee.utils.UtilityException;
+import com.alee.utils.reflection.ModifierType;
+
+import java.awt.*;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility class that decides whether style property values can be shared across styled objects or have to be cloned.
+ * Values that are proven to be immutable or that implement {@link Shareable} are used as-is, any other values are deeply cloned.
+ *
+ * Value is considered to be immutable if its type is one of basic immutable types or extends {@link Color} or {@link Font}
+ * without declaring any additional instance fields. Decision is made only once per value {@link Class} and then cached.
+ *
+ * Sharing can be disabled through {@link #setEnabled(boolean)} in which case all values except {@link Painter}s are cloned.
+ * Shared and cloned values are counted so that you can see how many clones were avoided while styles are applied.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
+ * @see Shareable
+ * @see ComponentStyle
+ */
+public final class SharedValues
+{
+    /**
+     * Whether or not shared values mode is enabled.
+     */
+    private static boolean enabled = true;
+
+    /**
+     * Cached decisions on whether or not values of specific {@link Class} can be shared.
+     */
+    @NotNull
+    private static final Map<Class, Boolean> shareableTypes = new ConcurrentHashMap<Class, Boolean> ( 32 );
+
+    /**
+     * Amount of values that were shared instead of being cloned.
+     */
+    @NotNull
+    private static final AtomicLong shared = new AtomicLong ( 0 );
+
+    /**
+     * Amount of values that were cloned.
+     */
+    @NotNull
+    private static final AtomicLong cloned = new AtomicLong ( 0 );
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private SharedValues ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns whether or not shared values mode is enabled.
+     *
+     * @return {@code true} if shared values mode is enabled, {@code false} otherwise
+     */
+    public static boolean isEnabled ()
+    {
+        return enabled;
+    }
+
+    /**
+     * Sets whether or not shared values mode is enabled.
+     *
+     * @param enabled whether or not shared values mode is enabled
+     */
+    public static void setEnabled ( final boolean enabled )
+    {
+        SharedValues.enabled = enabled;
+    }
+
+    /**
+     * Returns value that can be safely used by a single styled object.
+     * It is either the value itself if it can be shared or its deep clone otherwise.
+     *
+     * @param value style property value
+     * @param <T>   value type
+     * @return value that can be safely used by a single styled object
+     */
+    @Nullable
+    public static <T> T usable ( @Nullable final T value )
+    {
+        final T usable;
+        if ( value == null || value instanceof Painter )
+        {
+            usable = value;
+        }
+        else if ( enabled && isShareable ( value ) )
+        {
+            shared.incrementAndGet ();
+            usable = value;
+        }
+        else
+        {
+            try
+            {
+                usable = Clone.deep ().clone ( value );
+                cloned.incrementAndGet ();
+            }
+            catch ( final Exception e )
+            {
+                final String msg = "Unable to clone value: %s";
+                throw new StyleException ( String.format ( msg, value ), e );
+            }
+        }
+        return usable;
+    }
+
+    /**
+     * Returns whether or not specified value can be shared across styled objects.
+     *
+     * @param value style property value
+     * @return {@code true} if specified value can be shared across styled objects, {@code false} otherwise
+     */
+    public static boolean isShareable ( @NotNull final Object value )
+    {
+        final Class<?> type = value.getClass ();
+        Boolean shareable = shareableTypes.get ( type );
+        if ( shareable == null )
+        {
+            shareable = isShareableType ( type );
+            shareableTypes.put ( type, shareable );
+        }
+        return shareable;
+    }
+
+    /**
+     * Returns whether or not values of the specified {@link Class} can be shared across styled objects.
+     *
+     * @param type value {@link Class}
+     * @return {@code true} if values of the specified {@link Class} can be shared across styled objects, {@code false} otherwise
+     */
+    private static boolean isShareableType ( @NotNull final Class<?> type )
+    {
+        return Shareable.class.isAssignableFrom ( type ) ||
+                ReflectUtils.isPrimitive ( type ) ||
+                type.isEnum () ||
+                type == String.class ||
+                type == Class.class ||
+                type == BigInteger.class ||
+                type == BigDecimal.class ||
+                type == BasicStroke.class ||
+                type == IgnoredValue.class ||
+                isImmutableExtension ( type, Color.class ) ||
+                isImmutableExtension ( type, Font.class );
+    }
+
+    /**
+     * Returns whether or not specified {@link Class} is an immutable type or its extension that doesn't declare any instance fields.
+     *
+     * @param type      value {@link Class}
+     * @param immutable base immutable {@link Class}
+     * @return {@code true} if specified {@link Class} is an immutable type or its extension without instance fields,
+     * {@code false} otherwise
+     */
+    private static boolean isImmutableExtension ( @NotNull final Class<?> type, @NotNull final Class<?> immutable )
+    {
+        boolean result = immutable.isAssignableFrom ( type );
+        Class<?> current = type;
+        while ( result && current != immutable )
+        {
+            for ( final Field field : current.getDeclaredFields () )
+            {
+                if ( !ModifierType.STATIC.is ( field.getModifiers () ) )
+                {
+                    result = false;
+                    break;
+                }
+            }
+            current = current.getSuperclass ();
+        }
+        return result;
+    }
+
+    /**
+     * Returns amount of values that were shared instead of being cloned.
+     *
+     * @return amount of values that were shared instead of being cloned
+     */
+    public static long getSharedCount ()
+    {
+        return shared.get ();
+    }
+
+    /**
+     * Returns amount of values that were cloned.
+     *
+     * @return amount of values that were cloned
+     */
+    public static long getClonedCount ()
+    {
+        return cloned.get ();
+    }
+
+    /**
+     * Resets shared and cloned values counters.
+     */
+    public static void resetCounters ()
+    {
+        shared.set ( 0 );
+        cloned.set ( 0 );
+    }
+}
@@ -20,7 +20,9 @@ package com.alee.managers.style.data;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
+import com.alee.api.resource.Resource;
 import com.alee.managers.icon.IconManager;
+import com.alee.managers.icon.data.SetIcon;
 import com.alee.managers.icon.set.IconSet;
 import com.alee.managers.style.*;
 import com.alee.utils.CollectionUtils;
@@ -32,6 +34,7 @@ import org.slf4j.LoggerFactory;
 import javax.swing.*;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Basic information about the skin and its styles.
@@ -47,6 +50,12 @@ import java.util.*;
 @XStreamConverter ( SkinInfoConverter.class )
 public final class SkinInfo implements Serializable
 {
+    /**
+     * Whether or not styles should be built lazily per component type.
+     * When enabled styles for each component type are only built upon the first request for that type.
+     */
+    private static boolean lazyStylesBuilding = false;
+
     /**
      * Unique skin ID.
      * Used to collect and manage skins within StyleManager.
@@ -112,13 +121,55 @@ public final class SkinInfo implements Serializable
      * It is automatically filled-in by the {@link com.alee.managers.style.data.SkinInfoConverter} with compiled styles.
      * It is not serialized and only available and used in runtime for performance reasons.
      */
-    private transient Map<String, Map<String, ComponentStyle>> stylesCache;
+    private transient volatile Map<String, Map<String, ComponentStyle>> stylesCache;
+
+    /**
+     * State of lazy styles building.
+     * It is only available while styles for some of the component types are not yet built.
+     */
+    @Nullable
+    private transient volatile LazyState lazyState;
 
     /**
      * Extensions already processed by this data.
      */
     private transient Map<String, Boolean> processedExtensions;
 
+    /**
+     * {@link Resource}s included into this skin.
+     * It is filled-in by the {@link com.alee.managers.style.data.SkinInfoConverter} and used to validate {@link SkinSnapshot}s.
+     */
+    @Nullable
+    private transient List<Resource> includedResources;
+
+    /**
+     * {@link Resource} this skin was read from.
+     * It is only specified when {@link SkinSnapshot} should be saved once styles cache is initialized.
+     */
+    @Nullable
+    private transient Resource snapshotResource;
+
+    /**
+     * Returns whether or not styles should be built lazily per component type.
+     *
+     * @return {@code true} if styles should be built lazily per component type, {@code false} otherwise
+     */
+    public static synchronized boolean isLazyStylesBuilding ()
+    {
+        return lazyStylesBuilding;
+    }
+
+    /**
+     * Sets whether or not styles should be built lazily per component type.
+     * Only affects {@link SkinInfo}s with styles cache which is not yet initialized.
+     *
+     * @param lazy whether or not styles should be built lazily per component type
+     */
+    public static synchronized void setLazyStylesBuilding ( final boolean lazy )
+    {
+        SkinInfo.lazyStylesBuilding = lazy;
+    }
+
     /**
      * Returns skin ID.
      *
@@ -408,6 +459,35 @@ public final class SkinInfo implements Serializable
      */
     @NotNull
     public ComponentStyle getStyle ( @NotNull final JComponent component )
+    {
+        final StyleProfiler.Sample sample = StyleProfiler.startLookup ( component );
+        try
+        {
+            final ComponentStyle style = findStyle ( component );
+            if ( sample != null )
+            {
+                sample.setStyle ( style );
+            }
+            return style;
+        }
+        finally
+        {
+            if ( sample != null )
+            {
+                sample.stop ();
+            }
+        }
+    }
+
+    /**
+     * Returns style for the specified supported component type.
+     *
+     * @param component component we are looking style for
+     * @return component style
+     * @see #getStyle(JComponent)
+     */
+    @NotNull
+    private ComponentStyle findStyle ( @NotNull final JComponent component )
     {
         // Lazily initializing style cache
         ensureCacheInitialized ();
@@ -415,7 +495,7 @@ public final class SkinInfo implements Serializable
         // Searching for appropriate style
         final ComponentStyle componentStyle;
         final ComponentDescriptor descriptor = StyleManager.getDescriptor ( component );
-        final Map<String, ComponentStyle> componentStyles = stylesCache.get ( descriptor.getId () );
+        final Map<String, ComponentStyle> componentStyles = getComponentStyles ( descriptor.getId () );
         if ( componentStyles != null )
         {
             final String styleId = StyleId.getCompleteId ( component );
@@ -455,31 +535,305 @@ public final class SkinInfo implements Serializable
         return componentStyle;
     }
 
+    /**
+     * Returns built styles for the specified component type.
+     * Styles are built on demand if lazy styles building is used and they are not built yet.
+     *
+     * @param type component type
+     * @return built styles for the specified component type or {@code null} if skin doesn't have any styles for it
+     */
+    @Nullable
+    private Map<String, ComponentStyle> getComponentStyles ( @NotNull final String type )
+    {
+        Map<String, ComponentStyle> componentStyles = stylesCache.get ( type );
+        if ( componentStyles == null )
+        {
+            // Component types skin has no styles for are remembered in lazy state
+            // That way repeated requests for such types do not have to wait for the lock
+            final LazyState state = lazyState;
+            if ( state != null && !state.missingTypes.contains ( type ) )
+            {
+                buildComponentStyles ( type );
+                componentStyles = stylesCache.get ( type );
+            }
+        }
+        return componentStyles;
+    }
+
+    /**
+     * Ensures that styles for the specified component type are built.
+     * This can be used to build styles for commonly used component types from a background thread in advance.
+     * It does nothing if lazy styles building is disabled since all styles are built at once in that case.
+     *
+     * @param type component type
+     */
+    public void prebuildStyles ( @NotNull final String type )
+    {
+        ensureCacheInitialized ();
+        if ( lazyState != null )
+        {
+            buildComponentStyles ( type );
+        }
+    }
+
+    /**
+     * Prepares style with the specified complete identifier for the specified component type in advance.
+     * That includes building styles for the component type, resolving style {@link ApplicationPlan}s, loading painter classes and
+     * loading {@link SetIcon}s used by the style from skin {@link IconSet}s.
+     * Only style data is touched here, so this can be performed from a background thread before components are actually styled.
+     *
+     * @param descriptor     {@link ComponentDescriptor} of the component type
+     * @param componentClass exact {@link JComponent} {@link Class} style will be applied to
+     * @param styleId        complete style identifier
+     * @return {@code true} if style was prepared, {@code false} if skin doesn't have such style for the component type
+     */
+    public boolean prepareStyle ( @NotNull final ComponentDescriptor descriptor, @NotNull final Class<? extends JComponent> componentClass,
+                                  @NotNull final String styleId )
+    {
+        ensureCacheInitialized ();
+        final boolean prepared;
+        final Map<String, ComponentStyle> componentStyles = getComponentStyles ( descriptor.getId () );
+        final ComponentStyle style = componentStyles != null ? componentStyles.get ( styleId ) : null;
+        if ( style != null )
+        {
+            final Set<String> iconIds = new HashSet<String> ();
+            style.prepare ( componentClass, descriptor.getUIClass (), iconIds );
+            final List<IconSet> iconSets = iconIds.isEmpty () ? Collections.<IconSet>emptyList () : getIconSetsSnapshot ();
+            for ( final String iconId : iconIds )
+            {
+                for ( final IconSet iconSet : iconSets )
+                {
+                    if ( iconSet.findIcon ( iconId ) != null )
+                    {
+                        break;
+                    }
+                }
+            }
+            prepared = true;
+        }
+        else
+        {
+            prepared = false;
+        }
+        return prepared;
+    }
+
+    /**
+     * Returns copy of skin icon sets.
+     * It is taken under the same lock extensions are applied under, so it can be safely iterated from any thread.
+     *
+     * @return copy of skin icon sets
+     */
+    @NotNull
+    private synchronized List<IconSet> getIconSetsSnapshot ()
+    {
+        return new ArrayList<IconSet> ( iconSets );
+    }
+
     /**
      * Performs skin cache initialization on demand.
      * This cache will contain all styles compiled into their final forms for actual usage in components.
      * It optimizes runtime routines a lot by just taking a bit more time at skin initialization.
+     *
+     * With lazy styles building only duplicate styles are merged here.
+     * Styles for each component type are built separately upon first request for that type.
      */
     private void ensureCacheInitialized ()
     {
         if ( stylesCache == null )
         {
-            // Creating cache map
-            stylesCache = new LinkedHashMap<String, Map<String, ComponentStyle>> ( StyleManager.getDescriptorsCount () );
+            synchronized ( this )
+            {
+                if ( stylesCache == null )
+                {
+                    if ( isLazyStylesBuilding () )
+                    {
+                        // Merging styles with the same ID
+                        mergeStyles ( styles, 0 );
+
+                        // Preparing lazy building state
+                        // It must be available before cache map is
+                        lazyState = new LazyState ( styles );
+                        stylesCache = new ConcurrentHashMap<String, Map<String, ComponentStyle>> ( StyleManager.getDescriptorsCount () );
+                    }
+                    else
+                    {
+                        // Creating cache map
+                        final Map<String, Map<String, ComponentStyle>> cache =
+                                new LinkedHashMap<String, Map<String, ComponentStyle>> ( StyleManager.getDescriptorsCount () );
+
+                        // Merging style overrides
+                        performOverride ( styles, 0 );
+
+                        // Building styles which extend some other styles
+                        // We have to merge these manually once to create complete styles
+                        buildStyles ( styles, 0 );
+
+                        // Generating skin info cache
+                        // Also merging all styles with the same ID
+                        gatherStyles ( styles, cache );
+                        stylesCache = cache;
+                    }
+
+                    // Saving skin snapshot to avoid reading and building styles next time
+                    if ( snapshotResource != null )
+                    {
+                        SkinSnapshot.save ( snapshotResource );
+                        snapshotResource = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds styles for the specified component type if they are not built yet.
+     * Only top-level styles containing styles of that type and styles they might depend on are built.
+     *
+     * @param type component type
+     */
+    private synchronized void buildComponentStyles ( @NotNull final String type )
+    {
+        final LazyState state = lazyState;
+        if ( state != null )
+        {
+            final List<Integer> indices = state.typeIndices.remove ( type );
+            if ( indices != null )
+            {
+                // Building top-level styles containing styles of this type
+                final Map<String, ComponentStyle> componentStyles = new LinkedHashMap<String, ComponentStyle> ( 1 );
+                for ( final Integer index : indices )
+                {
+                    buildStyle ( state, index );
+                }
 
-            // Merging style overrides
-            performOverride ( styles, 0 );
+                // Gathering styles in the same order they would be gathered if all styles were built at once
+                for ( final Integer index : indices )
+                {
+                    gatherStyles ( styles.get ( index ), type, componentStyles );
+                }
+                stylesCache.put ( type, componentStyles );
+            }
+            else if ( !stylesCache.containsKey ( type ) )
+            {
+                // Remembering that skin has no styles for this type
+                state.missingTypes.add ( type );
+            }
 
-            // Building styles which extend some other styles
-            // We have to merge these manually once to create complete styles
-            buildStyles ( styles, 0 );
+            // Dropping lazy state once all component types are built
+            if ( state.typeIndices.isEmpty () )
+            {
+                lazyState = null;
+            }
+        }
+    }
 
-            // Generating skin info cache
-            // Also merging all styles with the same ID
-            gatherStyles ( styles, stylesCache );
+    /**
+     * Ensures that styles for all component types are built.
+     */
+    private synchronized void ensureStylesBuilt ()
+    {
+        final LazyState state = lazyState;
+        if ( state != null )
+        {
+            while ( !state.typeIndices.isEmpty () )
+            {
+                buildComponentStyles ( state.typeIndices.keySet ().iterator ().next () );
+            }
         }
     }
 
+    /**
+     * Builds top-level style at the specified index if it is not built yet.
+     * Preceding top-level styles of any type used within this style are built first since they might be extended or overridden.
+     *
+     * @param state lazy styles building state
+     * @param index top-level style index
+     */
+    private void buildStyle ( @NotNull final LazyState state, final int index )
+    {
+        if ( !state.built[ index ] )
+        {
+            for ( final String type : state.types.get ( index ) )
+            {
+                final List<Integer> indices = state.styleIndices.get ( type );
+                if ( indices != null )
+                {
+                    for ( final Integer styleIndex : indices )
+                    {
+                        if ( styleIndex >= index )
+                        {
+                            break;
+                        }
+                        buildStyle ( state, styleIndex );
+                    }
+                }
+            }
+            performOverride ( styles, styles, index, index );
+            buildStyle ( styles, index, state.building, state.builtStyles );
+            state.built[ index ] = true;
+        }
+    }
+
+    /**
+     * Returns {@link Resource}s included into this skin.
+     *
+     * @return {@link Resource}s included into this skin
+     */
+    @NotNull
+    List<Resource> getIncludedResources ()
+    {
+        return includedResources != null ? includedResources : Collections.<Resource>emptyList ();
+    }
+
+    /**
+     * Adds {@link Resource}s included into this skin.
+     *
+     * @param resources {@link Resource}s included into this skin
+     */
+    void addIncludedResources ( @NotNull final List<Resource> resources )
+    {
+        if ( includedResources == null )
+        {
+            includedResources = new ArrayList<Resource> ( resources.size () );
+        }
+        includedResources.addAll ( resources );
+    }
+
+    /**
+     * Sets {@link Resource} this skin was read from to save {@link SkinSnapshot} once styles cache is initialized.
+     *
+     * @param resource {@link Resource} this skin was read from
+     */
+    void setSnapshotResource ( @Nullable final Resource resource )
+    {
+        this.snapshotResource = resource;
+    }
+
+    /**
+     * Returns initialized styles cache.
+     *
+     * @return initialized styles cache
+     */
+    @NotNull
+    Map<String, Map<String, ComponentStyle>> getStylesCache ()
+    {
+        ensureCacheInitialized ();
+        ensureStylesBuilt ();
+        return stylesCache;
+    }
+
+    /**
+     * Sets initialized styles cache.
+     * It is only used to restore styles cache from {@link SkinSnapshot}.
+     *
+     * @param stylesCache initialized styles cache
+     */
+    void setStylesCache ( @NotNull final Map<String, Map<String, ComponentStyle>> stylesCache )
+    {
+        this.stylesCache = stylesCache;
+    }
+
     /**
      * Applies specified {@link SkinExtension} to this {@link SkinInfo}.
      *
@@ -554,11 +908,15 @@ public final class SkinInfo implements Serializable
      * Performs skin cache update with applied extension data.
      * This method doesn't relod all caches, but adds styles provided by extension into the cache.
      * It is only called once per extension ID.
+     * All styles have to be built before extension is applied since extension styles might override any of them.
      *
      * @param extension applied extension data
      */
-    private void applyExtension ( @NotNull final SkinInfo extension )
+    private synchronized void applyExtension ( @NotNull final SkinInfo extension )
     {
+        // Ensuring all styles are built
+        ensureStylesBuilt ();
+
         // Applying icon sets
         applyIconSets ( extension.getIconSets () );
 
@@ -618,6 +976,21 @@ public final class SkinInfo implements Serializable
      * @param startIndex start index
      */
     private void performOverride ( @NotNull final List<ComponentStyle> styles, final int startIndex )
+    {
+        mergeStyles ( styles, startIndex );
+        for ( int i = startIndex; i < styles.size (); i++ )
+        {
+            performOverride ( styles, styles, i, i );
+        }
+    }
+
+    /**
+     * Merges top-level styles with the same type and ID into the first one of them.
+     *
+     * @param styles     styles to merge
+     * @param startIndex start index
+     */
+    private void mergeStyles ( @NotNull final List<ComponentStyle> styles, final int startIndex )
     {
         for ( int i = startIndex; i < styles.size (); i++ )
         {
@@ -634,11 +1007,6 @@ public final class SkinInfo implements Serializable
                 }
             }
         }
-
-        for ( int i = startIndex; i < styles.size (); i++ )
-        {
-            performOverride ( styles, styles, i, i );
-        }
     }
 
     /**
@@ -786,6 +1154,29 @@ public final class SkinInfo implements Serializable
         }
     }
 
+    /**
+     * Gathers styles of the specified component type into styles map.
+     *
+     * @param style           style to gather
+     * @param type            component type
+     * @param componentStyles styles map for the component type
+     */
+    private void gatherStyles ( @NotNull final ComponentStyle style, @NotNull final String type,
+                                @NotNull final Map<String, ComponentStyle> componentStyles )
+    {
+        // Adding this style into cache
+        if ( Objects.equals ( style.getType (), type ) )
+        {
+            componentStyles.put ( style.getCompleteId (), style );
+        }
+
+        // Adding child styles into cache
+        for ( final ComponentStyle nestedStyle : style.getNestedStyles () )
+        {
+            gatherStyles ( nestedStyle, type, componentStyles );
+        }
+    }
+
     /**
      * Builds specified styles.
      * This will resolve all style dependencies and overrides.
@@ -796,11 +1187,7 @@ public final class SkinInfo implements Serializable
     private void buildStyles ( @NotNull final List<ComponentStyle> styles, final int startIndex )
     {
         // Creating built style identifiers map
-        final Map<String, List<String>> builtStyles = new HashMap<String, List<String>> ();
-        for ( final ComponentDescriptor descriptor : StyleManager.getDescriptors () )
-        {
-            builtStyles.put ( descriptor.getId (), new ArrayList<String> ( 1 ) );
-        }
+        final Map<String, List<String>> builtStyles = createBuiltStyles ();
 
         // Special list that will keep only styles which are being built
         final List<String> building = new ArrayList<String> ();
@@ -812,6 +1199,22 @@ public final class SkinInfo implements Serializable
         }
     }
 
+    /**
+     * Returns new built style identifiers map.
+     *
+     * @return new built style identifiers map
+     */
+    @NotNull
+    private static Map<String, List<String>> createBuiltStyles ()
+    {
+        final Map<String, List<String>> builtStyles = new HashMap<String, List<String>> ();
+        for ( final ComponentDescriptor descriptor : StyleManager.getDescriptors () )
+        {
+            builtStyles.put ( descriptor.getId (), new ArrayList<String> ( 1 ) );
+        }
+        return builtStyles;
+    }
+
     /**
      * Builds style at the specified index on the level.
      * This will resolve all dependencies and overrides for the specified style.
@@ -932,4 +1335,147 @@ public final class SkinInfo implements Serializable
     {
         return getTitle () != null ? getTitle () : getId ();
     }
-}
\ No newline at end of file
+
+    /**
+     * State of lazy styles building.
+     * It keeps indices of top-level styles for each component type to build only styles required for that type.
+     */
+    private static final class LazyState
+    {
+        /**
+         * Whether or not top-level style at the index is already built.
+         */
+        @NotNull
+        private final boolean[] built;
+
+        /**
+         * Component types of top-level style and all its nested styles at the index.
+         */
+        @NotNull
+        private final List<Set<String>> types;
+
+        /**
+         * Ascending indices of top-level styles of each component type.
+         */
+        @NotNull
+        private final Map<String, List<Integer>> styleIndices;
+
+        /**
+         * Ascending indices of top-level styles which might contain styles of each component type once built.
+         * Only component types which are not yet built are kept here.
+         */
+        @NotNull
+        private final Map<String, List<Integer>> typeIndices;
+
+        /**
+         * Styles which are currently being built, used to determine cyclic references.
+         */
+        @NotNull
+        private final List<String> building;
+
+        /**
+         * IDs of styles which were already built.
+         */
+        @NotNull
+        private final Map<String, List<String>> builtStyles;
+
+        /**
+         * Component types skin doesn't have any styles for.
+         * It is checked without holding the lock, so it has to be thread-safe.
+         */
+        @NotNull
+        private final Set<String> missingTypes;
+
+        /**
+         * Constructs new {@link LazyState}.
+         *
+         * @param styles top-level styles
+         */
+        public LazyState ( @NotNull final List<ComponentStyle> styles )
+        {
+            this.built = new boolean[ styles.size () ];
+            this.types = new ArrayList<Set<String>> ( styles.size () );
+            this.styleIndices = new HashMap<String, List<Integer>> ();
+            this.typeIndices = new HashMap<String, List<Integer>> ();
+            this.building = new ArrayList<String> ();
+            this.builtStyles = createBuiltStyles ();
+            this.missingTypes = Collections.newSetFromMap ( new ConcurrentHashMap<String, Boolean> () );
+            final Map<String, Set<String>> inheritedTypes = new HashMap<String, Set<String>> ();
+            for ( int i = 0; i < styles.size (); i++ )
+            {
+                final ComponentStyle style = styles.get ( i );
+                add ( styleIndices, style.getType (), i );
+
+                // Collecting types of this style and all its nested styles
+                final Set<String> styleTypes = new HashSet<String> ( 1 );
+                collectTypes ( style, styleTypes );
+                types.add ( styleTypes );
+
+                // Adding types of nested styles which might be inherited from preceding styles
+                // Those will appear in this style once it is merged with the style it extends or overrides
+                final Set<String> allTypes = new HashSet<String> ( styleTypes );
+                final LinkedList<String> queue = new LinkedList<String> ( styleTypes );
+                while ( !queue.isEmpty () )
+                {
+                    final Set<String> inherited = inheritedTypes.get ( queue.removeFirst () );
+                    if ( inherited != null )
+                    {
+                        for ( final String type : inherited )
+                        {
+                            if ( allTypes.add ( type ) )
+                            {
+                                queue.add ( type );
+                            }
+                        }
+                    }
+                }
+                for ( final String type : allTypes )
+                {
+                    add ( typeIndices, type, i );
+                }
+
+                // Saving types any following style of the same type might inherit
+                Set<String> inherited = inheritedTypes.get ( style.getType () );
+                if ( inherited == null )
+                {
+                    inherited = new HashSet<String> ( allTypes.size () );
+                    inheritedTypes.put ( style.getType (), inherited );
+                }
+                inherited.addAll ( allTypes );
+            }
+        }
+
+        /**
+         * Collects component types of the specified style and all its nested styles.
+         *
+         * @param style style to collect component types for
+         * @param types collected component types
+         */
+        private static void collectTypes ( @NotNull final ComponentStyle style, @NotNull final Set<String> types )
+        {
+            types.add ( style.getType () );
+            for ( final ComponentStyle nestedStyle : style.getNestedStyles () )
+            {
+                collectTypes ( nestedStyle, types );
+            }
+        }
+
+        /**
+         * Adds index into the indices map under the specified component type.
+         *
+         * @param indices indices map
+         * @param type    component type
+         * @param index   index to add
+         */
+        private static void add ( @NotNull final Map<String, List<Integer>> indices, @NotNull final String type, final int index )
+        {
+            List<Integer> list = indices.get ( type );
+            if ( list == null )
+            {
+                list = new ArrayList<Integer> ( 1 );
+                indices.put ( type, list );
+            }
+            list.add ( index );
+        }
+    }
+}
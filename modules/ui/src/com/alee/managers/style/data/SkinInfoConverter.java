@@ -21,23 +21,28 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.merge.Merge;
 import com.alee.api.resource.ClassResource;
+import com.alee.api.resource.Resource;
 import com.alee.managers.icon.set.IconSet;
 import com.alee.managers.style.Skin;
 import com.alee.managers.style.StyleException;
 import com.alee.utils.ReflectUtils;
 import com.alee.utils.XmlUtils;
+import com.alee.utils.concurrent.DaemonThreadFactory;
 import com.alee.utils.xml.XStreamContext;
 import com.thoughtworks.xstream.converters.UnmarshallingContext;
 import com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
 import com.thoughtworks.xstream.converters.reflection.ReflectionProvider;
 import com.thoughtworks.xstream.io.HierarchicalStreamReader;
 import com.thoughtworks.xstream.mapper.Mapper;
+import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
 
 /**
  * Custom XStream converter for {@link com.alee.managers.style.data.SkinInfo} class.
@@ -78,6 +83,19 @@ public final class SkinInfoConverter extends ReflectionConverter
      */
     protected static final Map<String, Map<String, String>> resourceMap = new LinkedHashMap<String, Map<String, String>> ();
 
+    /**
+     * Whether or not included skin files should be read in parallel.
+     * It is disabled by default since parallel reading was only measured to add overhead on a single processor so far.
+     */
+    private static boolean parallelIncludes = false;
+
+    /**
+     * Marks threads reading included skin files.
+     * Any nested included skin files are read sequentially on those threads to avoid waiting on the same bounded pool.
+     */
+    @NotNull
+    private static final ThreadLocal<Boolean> readingInclude = new ThreadLocal<Boolean> ();
+
     /**
      * Constructs SkinInfoConverter with the specified mapper and reflection provider.
      *
@@ -109,6 +127,41 @@ public final class SkinInfoConverter extends ReflectionConverter
         nearClassMap.put ( src, xml );
     }
 
+    /**
+     * Returns whether or not included skin files are read in parallel.
+     *
+     * @return {@code true} if included skin files are read in parallel, {@code false} otherwise
+     */
+    public static synchronized boolean isParallelIncludes ()
+    {
+        return parallelIncludes;
+    }
+
+    /**
+     * Sets whether or not included skin files should be read in parallel.
+     * In either case included skin files are merged in the order they are declared in, so resulting skin is exactly the same.
+     * Included skin files are read on a separate pool of daemon threads created for each skin and shut down once it is read.
+     *
+     * @param parallel whether or not included skin files should be read in parallel
+     */
+    public static synchronized void setParallelIncludes ( final boolean parallel )
+    {
+        SkinInfoConverter.parallelIncludes = parallel;
+    }
+
+    /**
+     * Returns new {@link ExecutorService} for reading included skin files in parallel.
+     * It is limited to the amount of available processors and must be shut down once skin is read.
+     *
+     * @return new {@link ExecutorService} for reading included skin files in parallel
+     */
+    @NotNull
+    private static ExecutorService createIncludesExecutor ()
+    {
+        final int threads = Math.max ( 1, Runtime.getRuntime ().availableProcessors () );
+        return Executors.newFixedThreadPool ( threads, new DaemonThreadFactory ( "SkinInfoConverter" ) );
+    }
+
     @Override
     public boolean canConvert ( @NotNull final Class type )
     {
@@ -122,6 +175,10 @@ public final class SkinInfoConverter extends ReflectionConverter
         // Skin class provided for include skin or extension skin
         final String superSkinClass = ( String ) context.get ( SKIN_CLASS );
 
+        // Included skin files are never read in parallel from threads that are already reading included skin files
+        final boolean parallel = isParallelIncludes () && readingInclude.get () == null;
+        final ExecutorService executor = parallel ? createIncludesExecutor () : null;
+
         // Have to perform read in try-catch to properly cleanup skin class
         // Cleanup will only be performed if the skin was read by this specific method call
         try
@@ -137,9 +194,11 @@ public final class SkinInfoConverter extends ReflectionConverter
             final Object mdo = context.get ( META_DATA_ONLY_KEY );
             final boolean metaDataOnly = mdo != null && ( Boolean ) mdo;
 
-            // Creating component style
-            List<IconSet> iconSets = new ArrayList<IconSet> ( 1 );
-            final List<ComponentStyle> styles = new ArrayList<ComponentStyle> ( 10 );
+            final long start = System.nanoTime ();
+
+            // Skin parts in the order they are declared in
+            // Those can be icon sets, styles and included skins which might still be loading
+            final List<Object> parts = new ArrayList<Object> ( 10 );
             while ( reader.hasMoreChildren () )
             {
                 // Read next node
@@ -209,15 +268,15 @@ public final class SkinInfoConverter extends ReflectionConverter
                     final String className = reader.getValue ();
                     final Class realClass = mapper.realClass ( className );
                     final IconSet iconSet = readIconSet ( realClass );
-                    iconSets.add ( iconSet );
+                    parts.add ( iconSet );
                 }
                 else if ( nodeName.equals ( STYLE_NODE ) && !metaDataOnly )
                 {
                     // Reading separate style
-                    final ComponentStyle style = ( ComponentStyle ) context.convertAnother ( styles, ComponentStyle.class );
+                    final ComponentStyle style = ( ComponentStyle ) context.convertAnother ( parts, ComponentStyle.class );
 
                     // Simply adding additional style to the end
-                    styles.add ( style );
+                    parts.add ( style );
                 }
                 else if ( nodeName.equals ( INCLUDE_NODE ) && !metaDataOnly )
                 {
@@ -225,16 +284,55 @@ public final class SkinInfoConverter extends ReflectionConverter
                     final String nearClass = reader.getAttribute ( NEAR_CLASS_ATTRIBUTE );
                     final String path = reader.getValue ();
 
-                    // Reading included skin
-                    final SkinInfo include = readInclude ( skinInfo, nearClass, path );
+                    // Reading included skin either in parallel or right away
+                    parts.add ( readInclude ( skinInfo, nearClass, path, executor ) );
+                }
+                reader.moveUp ();
+            }
+
+            // Collecting skin parts in the order they were declared in
+            int includes = 0;
+            List<IconSet> iconSets = new ArrayList<IconSet> ( 1 );
+            final List<ComponentStyle> styles = new ArrayList<ComponentStyle> ( 10 );
+            for ( final Object part : parts )
+            {
+                if ( part instanceof IconSet )
+                {
+                    // Adding icon set
+                    iconSets.add ( ( IconSet ) part );
+                }
+                else if ( part instanceof ComponentStyle )
+                {
+                    // Adding separate style
+                    styles.add ( ( ComponentStyle ) part );
+                }
+                else
+                {
+                    // Waiting for included skin
+                    final Include include = ( Include ) part;
+                    final SkinInfo includeInfo = include.get ();
+
+                    // Saving included resources
+                    skinInfo.addIncludedResources ( Collections.<Resource>singletonList ( include.resource ) );
+                    skinInfo.addIncludedResources ( includeInfo.getIncludedResources () );
 
                     // Merging icon sets to avoid duplicates
-                    iconSets = Merge.basicRaw ().nonNullMerge ( iconSets, include.getIconSets () );
+                    iconSets = Merge.basicRaw ().nonNullMerge ( iconSets, includeInfo.getIconSets () );
 
                     // Simply adding additional styles to the end
-                    styles.addAll ( include.getStyles () );
+                    styles.addAll ( includeInfo.getStyles () );
+                    includes++;
                 }
-                reader.moveUp ();
+            }
+
+            // Logging included skin files reading time
+            if ( includes > 0 && readingInclude.get () == null )
+            {
+                final String msg = "Skin '%s' with %d included files read %s in %d ms";
+                final long time = ( System.nanoTime () - start ) / 1000000;
+                LoggerFactory.getLogger ( SkinInfoConverter.class ).debug (
+                        String.format ( msg, skinInfo.getId (), includes, parallel ? "in parallel" : "sequentially", time )
+                );
             }
 
             // Saving all read icon sets
@@ -252,6 +350,13 @@ public final class SkinInfoConverter extends ReflectionConverter
             // Restoring previous skin class value
             // This will also reset the skin class back to {@code null} if this is main skin
             context.put ( SKIN_CLASS, superSkinClass );
+
+            // Shutting down included skin files reading threads
+            // At this point all included skin files are either read or no longer needed
+            if ( executor != null )
+            {
+                executor.shutdownNow ();
+            }
         }
     }
 
@@ -275,15 +380,17 @@ public final class SkinInfoConverter extends ReflectionConverter
     }
 
     /**
-     * Returns included {@link SkinInfo}.
+     * Returns {@link Include} for the specified included skin file.
      *
      * @param parent    parent {@link SkinInfo}
      * @param nearClass canonical name of the class to look for included skin nearby
      * @param path      path to included skin
-     * @return included {@link SkinInfo}
+     * @param executor  {@link ExecutorService} to read included skin in parallel with, {@code null} to read it right away
+     * @return {@link Include} for the specified included skin file
      */
     @NotNull
-    private SkinInfo readInclude ( @NotNull final SkinInfo parent, @Nullable final String nearClass, @NotNull final String path )
+    private Include readInclude ( @NotNull final SkinInfo parent, @Nullable final String nearClass, @NotNull final String path,
+                                  @Nullable final ExecutorService executor )
     {
         // Constructing resource
         final ClassResource resource;
@@ -297,24 +404,49 @@ public final class SkinInfoConverter extends ReflectionConverter
         }
 
         // Reading skin part from included file
-        return loadSkinInfo ( parent, resource );
+        final String skinClass = parent.getSkinClass ();
+        final Include include;
+        if ( executor != null )
+        {
+            include = new Include ( resource, executor.submit ( new Callable<SkinInfo> ()
+            {
+                @Override
+                public SkinInfo call ()
+                {
+                    readingInclude.set ( true );
+                    try
+                    {
+                        return loadSkinInfo ( skinClass, resource );
+                    }
+                    finally
+                    {
+                        readingInclude.remove ();
+                    }
+                }
+            } ) );
+        }
+        else
+        {
+            include = new Include ( resource, loadSkinInfo ( skinClass, resource ) );
+        }
+        return include;
     }
 
     /**
      * Loads SkinInfo from the specified resource file.
      * It will use an XML from a predefined resources map if it exists there.
      *
-     * @param parent   parent {@link SkinInfo}
-     * @param resource XML resource file
+     * @param skinClass parent {@link SkinInfo} class canonical name
+     * @param resource  XML resource file
      * @return loaded SkinInfo
      */
     @NotNull
-    private SkinInfo loadSkinInfo ( @NotNull final SkinInfo parent, @NotNull final ClassResource resource )
+    private static SkinInfo loadSkinInfo ( @NotNull final String skinClass, @NotNull final ClassResource resource )
     {
         try
         {
             final SkinInfo skinInfo;
-            final XStreamContext context = new XStreamContext ( SKIN_CLASS, parent.getSkinClass () );
+            final XStreamContext context = new XStreamContext ( SKIN_CLASS, skinClass );
             final Map<String, String> nearClassMap = resourceMap.get ( resource.getClassName () );
             if ( nearClassMap != null )
             {
@@ -360,4 +492,91 @@ public final class SkinInfoConverter extends ReflectionConverter
             throw new StyleException ( String.format ( msg, className ), e );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Included skin file that is either already read or still being read in parallel.
+     */
+    private static final class Include
+    {
+        /**
+         * Included skin {@link Resource}.
+         */
+        @NotNull
+        private final ClassResource resource;
+
+        /**
+         * Included {@link SkinInfo}, {@code null} if it is being read in parallel.
+         */
+        @Nullable
+        private final SkinInfo skinInfo;
+
+        /**
+         * {@link Future} providing included {@link SkinInfo}, {@code null} if it is already read.
+         */
+        @Nullable
+        private final Future<SkinInfo> future;
+
+        /**
+         * Constructs new {@link Include} that is already read.
+         *
+         * @param resource included skin {@link Resource}
+         * @param skinInfo included {@link SkinInfo}
+         */
+        public Include ( @NotNull final ClassResource resource, @NotNull final SkinInfo skinInfo )
+        {
+            this.resource = resource;
+            this.skinInfo = skinInfo;
+            this.future = null;
+        }
+
+        /**
+         * Constructs new {@link Include} that is being read in parallel.
+         *
+         * @param resource included skin {@link Resource}
+         * @param future   {@link Future} providing included {@link SkinInfo}
+         */
+        public Include ( @NotNull final ClassResource resource, @NotNull final Future<SkinInfo> future )
+        {
+            this.resource = resource;
+            this.skinInfo = null;
+            this.future = future;
+        }
+
+        /**
+         * Returns included {@link SkinInfo}, waiting for it to be read if necessary.
+         *
+         * @return included {@link SkinInfo}
+         */
+        @NotNull
+        public SkinInfo get ()
+        {
+            final SkinInfo result;
+            if ( future != null )
+            {
+                try
+                {
+                    result = future.get ();
+                }
+                catch ( final InterruptedException e )
+                {
+                    final String msg = "Interrupted while reading included skin file '%s'";
+                    throw new StyleException ( String.format ( msg, resource.getPath () ), e );
+                }
+                catch ( final ExecutionException e )
+                {
+                    if ( e.getCause () instanceof StyleException )
+                    {
+                        throw ( StyleException ) e.getCause ();
+                    }
+                    final String msg = "Included skin file '%s' cannot be read";
+                    throw new StyleException ( String.format ( msg, resource.getPath () ), e.getCause () );
+                }
+            }
+            else
+            {
+                result = skinInfo;
+            }
+            return result;
+        }
+    }
+}
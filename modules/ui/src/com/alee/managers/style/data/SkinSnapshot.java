@@ -0,0 +1,779 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.resource.ClassResource;
+import com.alee.api.resource.FileResource;
+import com.alee.api.resource.Resource;
+import com.alee.api.resource.UrlResource;
+import com.alee.utils.FileUtils;
+import com.alee.utils.UtilityException;
+import com.alee.utils.XmlUtils;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+import org.slf4j.LoggerFactory;
+
+import java.awt.*;
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.*;
+import java.util.List;
+import java.util.jar.JarEntry;
+
+/**
+ * Utility class providing binary snapshots of fully built {@link SkinInfo}s.
+ * Snapshot contains {@link SkinInfo} along with its built styles cache, so loading it skips both XML parsing and styles building.
+ *
+ * Snapshots are disabled by default. They are only used once {@link #setDirectory(File)} is called with a directory owned by the
+ * application and accessible only by the current user, for example a directory within application settings in user home.
+ * Never use shared directories like system temporary directory, anyone able to write there would be able to provide skin data.
+ *
+ * Snapshot is saved in background once {@link SkinInfo} styles cache is built for the first time.
+ * Skin is read and built separately for that purpose, so snapshot never shares any data with {@link SkinInfo} used in runtime.
+ * Each snapshot starts with a plain data header containing a hash of skin {@link Resource} and all {@link Resource}s it includes.
+ * Resources packed into JAR files or located on the file system are hashed by their modification time and size.
+ * Snapshot is only deserialized if that hash and the hash of snapshot data both match and only known classes are allowed in it,
+ * any changes in skin XML files simply cause snapshot to be rebuilt. Parsing XML is only used as a fallback.
+ * Known classes are WebLaF style data, decoration, icon and value classes along with a few JDK value classes, so skins using
+ * custom decoration classes from other packages are not saved into snapshots and are always read from XML.
+ *
+ * Snapshots are not used when custom XML resources are provided through {@link SkinInfoConverter#addCustomResource}.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
+ * @see SkinInfo
+ * @see com.alee.managers.style.XmlSkin
+ */
+public final class SkinSnapshot
+{
+    /**
+     * Snapshot format identifier.
+     * It must be changed whenever snapshot structure changes.
+     */
+    @NotNull
+    private static final String FORMAT = "weblaf-skin-snapshot-2";
+
+    /**
+     * Snapshot files extension.
+     */
+    @NotNull
+    private static final String EXTENSION = ".snapshot";
+
+    /**
+     * Maximum amount of included {@link Resource}s snapshot can describe.
+     */
+    private static final int MAXIMUM_INCLUDES = 1024;
+
+    /**
+     * {@link ClassResource} type mark.
+     */
+    private static final byte CLASS_RESOURCE = 1;
+
+    /**
+     * {@link FileResource} type mark.
+     */
+    private static final byte FILE_RESOURCE = 2;
+
+    /**
+     * {@link UrlResource} type mark.
+     */
+    private static final byte URL_RESOURCE = 3;
+
+    /**
+     * Packages of classes allowed in snapshots.
+     * These are packages of WebLaF style data, decoration, icon and value classes used within built styles.
+     */
+    @NotNull
+    private static final String[] ALLOWED_PACKAGES = {
+            "com.alee.api.data.",
+            "com.alee.api.resource.",
+            "com.alee.extended.",
+            "com.alee.iconset.",
+            "com.alee.laf.",
+            "com.alee.managers.animation.easing.",
+            "com.alee.managers.icon.",
+            "com.alee.managers.style.",
+            "com.alee.painter.",
+            "com.alee.utils.swing."
+    };
+
+    /**
+     * Other classes allowed in snapshots.
+     */
+    @NotNull
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<String> ( Arrays.asList (
+            "java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Double", "java.lang.Enum", "java.lang.Float",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Number", "java.lang.Short", "java.lang.String",
+            "java.util.ArrayList", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.concurrent.ConcurrentHashMap",
+            "java.util.concurrent.ConcurrentHashMap$Segment", "java.util.concurrent.locks.AbstractOwnableSynchronizer",
+            "java.util.concurrent.locks.AbstractQueuedSynchronizer", "java.util.concurrent.locks.ReentrantLock",
+            "java.util.concurrent.locks.ReentrantLock$Sync", "java.util.concurrent.locks.ReentrantLock$NonfairSync",
+            "java.awt.Color", "java.awt.Dimension", "java.awt.Insets", "java.awt.Point", "java.awt.Rectangle",
+            "java.awt.geom.Point2D$Float", "java.awt.geom.Point2D$Double", "javax.swing.ImageIcon", "javax.swing.ScrollPaneLayout"
+    ) );
+
+    /**
+     * Directory where skin snapshots are stored, {@code null} if snapshots are disabled.
+     */
+    @Nullable
+    private static File directory = null;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private SkinSnapshot ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns whether or not skin snapshots are enabled.
+     *
+     * @return {@code true} if skin snapshots are enabled, {@code false} otherwise
+     */
+    public static synchronized boolean isEnabled ()
+    {
+        return directory != null;
+    }
+
+    /**
+     * Returns directory where skin snapshots are stored.
+     *
+     * @return directory where skin snapshots are stored, {@code null} if snapshots are disabled
+     */
+    @Nullable
+    public static synchronized File getDirectory ()
+    {
+        return directory;
+    }
+
+    /**
+     * Sets directory where skin snapshots are stored and enables snapshots.
+     * Directory must be owned by the application and must only be accessible by the current user.
+     * If directory doesn't exist it will be created with access restricted to its owner whenever that is supported.
+     *
+     * @param directory directory where skin snapshots are stored, {@code null} to disable snapshots
+     */
+    public static synchronized void setDirectory ( @Nullable final File directory )
+    {
+        SkinSnapshot.directory = directory;
+    }
+
+    /**
+     * Returns {@link SkinInfo} loaded from the snapshot of the specified skin {@link Resource} if it exists and is valid.
+     * Otherwise {@link SkinInfo} is read from the XML and snapshot is saved once its styles cache is built.
+     *
+     * @param resource skin XML {@link Resource}
+     * @return {@link SkinInfo} loaded either from the snapshot or from the XML
+     */
+    @NotNull
+    public static SkinInfo load ( @NotNull final Resource resource )
+    {
+        final File file = getFile ( resource );
+        SkinInfo skinInfo = file != null && file.isFile () ? read ( file, resource ) : null;
+        if ( skinInfo == null )
+        {
+            skinInfo = XmlUtils.fromXML ( resource );
+            if ( file != null )
+            {
+                skinInfo.setSnapshotResource ( resource );
+            }
+        }
+        return skinInfo;
+    }
+
+    /**
+     * Saves snapshot of the skin read from the specified {@link Resource} in background.
+     * Skin is read and built again in background to avoid sharing any data with {@link SkinInfo} that is already used.
+     *
+     * @param resource skin XML {@link Resource}
+     */
+    static void save ( @NotNull final Resource resource )
+    {
+        final File file = getFile ( resource );
+        if ( file != null )
+        {
+            new DaemonThreadFactory ( "SkinSnapshot" ).newThread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    write ( file, resource );
+                }
+            } ).start ();
+        }
+    }
+
+    /**
+     * Returns snapshot {@link File} for the specified skin {@link Resource}.
+     *
+     * @param resource skin XML {@link Resource}
+     * @return snapshot {@link File} for the specified skin {@link Resource}, {@code null} if snapshot cannot be used
+     */
+    @Nullable
+    static File getFile ( @NotNull final Resource resource )
+    {
+        final File directory = getDirectory ();
+        final File file;
+        if ( directory != null && SkinInfoConverter.resourceMap.isEmpty () )
+        {
+            final String key;
+            if ( resource instanceof ClassResource )
+            {
+                key = ( ( ClassResource ) resource ).getClassName () + "#" + ( ( ClassResource ) resource ).getPath ();
+            }
+            else if ( resource instanceof FileResource )
+            {
+                key = ( ( FileResource ) resource ).getPath ();
+            }
+            else if ( resource instanceof UrlResource )
+            {
+                key = ( ( UrlResource ) resource ).getUrl ();
+            }
+            else
+            {
+                key = null;
+            }
+            file = key != null ? new File ( directory, computeMD5 ( key ) + EXTENSION ) : null;
+        }
+        else
+        {
+            file = null;
+        }
+        return file;
+    }
+
+    /**
+     * Returns hash of the specified skin {@link Resource} and all {@link Resource}s it includes.
+     *
+     * @param resource skin XML {@link Resource}
+     * @param includes included {@link Resource}s
+     * @return hash of the specified skin {@link Resource} and all {@link Resource}s it includes
+     */
+    @NotNull
+    private static String getHash ( @NotNull final Resource resource, @NotNull final List<Resource> includes )
+    {
+        final StringBuilder stamps = new StringBuilder ( FORMAT );
+        stamps.append ( ";" ).append ( getStamp ( resource ) );
+        for ( final Resource include : includes )
+        {
+            stamps.append ( ";" ).append ( getStamp ( include ) );
+        }
+        return computeMD5 ( stamps.toString () );
+    }
+
+    /**
+     * Returns stamp identifying current state of the specified {@link Resource}.
+     * Resources located on the file system or within JAR files are identified by their location, modification time and size.
+     * Contents of any other resources are hashed instead.
+     *
+     * @param resource {@link Resource} to return stamp for
+     * @return stamp identifying current state of the specified {@link Resource}
+     */
+    @NotNull
+    private static String getStamp ( @NotNull final Resource resource )
+    {
+        String stamp = null;
+        try
+        {
+            final URL url;
+            if ( resource instanceof ClassResource )
+            {
+                final ClassResource classResource = ( ClassResource ) resource;
+                final ClassLoader classLoader = SkinSnapshot.class.getClassLoader ();
+                url = Class.forName ( classResource.getClassName (), false, classLoader ).getResource ( classResource.getPath () );
+            }
+            else if ( resource instanceof FileResource )
+            {
+                url = new File ( ( ( FileResource ) resource ).getPath () ).toURI ().toURL ();
+            }
+            else if ( resource instanceof UrlResource )
+            {
+                url = new URL ( ( ( UrlResource ) resource ).getUrl () );
+            }
+            else
+            {
+                url = null;
+            }
+            if ( url != null )
+            {
+                if ( "file".equals ( url.getProtocol () ) )
+                {
+                    final File file = new File ( url.toURI () );
+                    if ( file.isFile () )
+                    {
+                        stamp = url + "@" + file.lastModified () + ":" + file.length ();
+                    }
+                }
+                else if ( "jar".equals ( url.getProtocol () ) )
+                {
+                    final URLConnection connection = url.openConnection ();
+                    if ( connection instanceof JarURLConnection )
+                    {
+                        final JarEntry entry = ( ( JarURLConnection ) connection ).getJarEntry ();
+                        if ( entry != null && entry.getTime () != -1 )
+                        {
+                            stamp = url + "@" + entry.getTime () + ":" + entry.getSize () + ":" + entry.getCrc ();
+                        }
+                    }
+                }
+            }
+        }
+        catch ( final ClassNotFoundException e )
+        {
+            throw new UtilityException ( "Unable to find resource class: " + resource, e );
+        }
+        catch ( final URISyntaxException e )
+        {
+            throw new UtilityException ( "Unable to resolve resource file: " + resource, e );
+        }
+        catch ( final IOException e )
+        {
+            throw new UtilityException ( "Unable to open resource: " + resource, e );
+        }
+        return stamp != null ? stamp : FileUtils.computeMD5 ( resource );
+    }
+
+    /**
+     * Returns MD5 for the specified text.
+     *
+     * @param text text to compute MD5 for
+     * @return MD5 for the specified text
+     */
+    @NotNull
+    private static String computeMD5 ( @NotNull final String text )
+    {
+        try
+        {
+            return FileUtils.computeMD5 ( new ByteArrayInputStream ( text.getBytes ( "UTF-8" ) ) );
+        }
+        catch ( final UnsupportedEncodingException e )
+        {
+            throw new UtilityException ( "Unable to compute MD5 for text: " + text, e );
+        }
+    }
+
+    /**
+     * Returns {@link SkinInfo} read from the snapshot {@link File}.
+     *
+     * @param file     snapshot {@link File}
+     * @param resource skin XML {@link Resource}
+     * @return {@link SkinInfo} read from the snapshot {@link File}, {@code null} if snapshot is outdated or cannot be read
+     */
+    @Nullable
+    static SkinInfo read ( @NotNull final File file, @NotNull final Resource resource )
+    {
+        SkinInfo skinInfo = null;
+        try
+        {
+            // Reading and validating plain data header
+            final byte[] data;
+            final List<Resource> includes;
+            final DataInputStream input = new DataInputStream ( new BufferedInputStream ( new FileInputStream ( file ) ) );
+            try
+            {
+                if ( FORMAT.equals ( input.readUTF () ) )
+                {
+                    final String hash = input.readUTF ();
+                    includes = readIncludes ( input );
+                    if ( hash.equals ( getHash ( resource, includes ) ) )
+                    {
+                        final String dataHash = input.readUTF ();
+                        final int length = input.readInt ();
+                        if ( length < 0 || length > file.length () )
+                        {
+                            throw new IOException ( "Invalid snapshot data length: " + length );
+                        }
+                        data = new byte[ length ];
+                        input.readFully ( data );
+                        if ( !dataHash.equals ( FileUtils.computeMD5 ( new ByteArrayInputStream ( data ) ) ) )
+                        {
+                            throw new IOException ( "Snapshot data is corrupted" );
+                        }
+                    }
+                    else
+                    {
+                        data = null;
+                    }
+                }
+                else
+                {
+                    includes = null;
+                    data = null;
+                }
+            }
+            finally
+            {
+                input.close ();
+            }
+
+            // Reading snapshot data
+            if ( data != null )
+            {
+                final ObjectInputStream objects = new SnapshotInputStream ( new ByteArrayInputStream ( data ) );
+                try
+                {
+                    final SkinInfo snapshot = ( SkinInfo ) objects.readObject ();
+                    snapshot.setStylesCache ( ( Map<String, Map<String, ComponentStyle>> ) objects.readObject () );
+                    snapshot.addIncludedResources ( includes );
+                    skinInfo = snapshot;
+                }
+                finally
+                {
+                    objects.close ();
+                }
+            }
+        }
+        catch ( final Exception e )
+        {
+            final String msg = "Unable to read skin snapshot: %s";
+            LoggerFactory.getLogger ( SkinSnapshot.class ).warn ( String.format ( msg, file.getAbsolutePath () ), e );
+        }
+        return skinInfo;
+    }
+
+    /**
+     * Writes snapshot of the skin read from the specified {@link Resource} into the specified {@link File}.
+     * Snapshot is written into a temporary file first, so that incomplete snapshot is never used.
+     *
+     * @param file     snapshot {@link File}
+     * @param resource skin XML {@link Resource}
+     */
+    static void write ( @NotNull final File file, @NotNull final Resource resource )
+    {
+        File temp = null;
+        try
+        {
+            // Reading and building skin
+            final SkinInfo skinInfo = XmlUtils.fromXML ( resource );
+            final Map<String, Map<String, ComponentStyle>> stylesCache = skinInfo.getStylesCache ();
+            final List<Resource> includes = skinInfo.getIncludedResources ();
+
+            // Serializing snapshot data
+            final ByteArrayOutputStream data = new ByteArrayOutputStream ( 1024 * 1024 );
+            final ObjectOutputStream objects = new SnapshotOutputStream ( data );
+            try
+            {
+                objects.writeObject ( skinInfo );
+                objects.writeObject ( stylesCache );
+            }
+            finally
+            {
+                objects.close ();
+            }
+            final byte[] bytes = data.toByteArray ();
+
+            // Writing snapshot into temporary file
+            final File directory = file.getParentFile ();
+            if ( !directory.exists () )
+            {
+                if ( !directory.mkdirs () )
+                {
+                    throw new IOException ( "Unable to create directory: " + directory.getAbsolutePath () );
+                }
+                restrictAccess ( directory );
+            }
+            temp = File.createTempFile ( "skin", ".tmp", directory );
+            temp.deleteOnExit ();
+            final DataOutputStream output = new DataOutputStream ( new BufferedOutputStream ( new FileOutputStream ( temp ) ) );
+            try
+            {
+                output.writeUTF ( FORMAT );
+                output.writeUTF ( getHash ( resource, includes ) );
+                writeIncludes ( output, includes );
+                output.writeUTF ( FileUtils.computeMD5 ( new ByteArrayInputStream ( bytes ) ) );
+                output.writeInt ( bytes.length );
+                output.write ( bytes );
+            }
+            finally
+            {
+                output.close ();
+            }
+
+            // Replacing snapshot file
+            if ( file.exists () && !file.delete () || !temp.renameTo ( file ) )
+            {
+                throw new IOException ( "Unable to replace skin snapshot: " + file.getAbsolutePath () );
+            }
+        }
+        catch ( final Exception e )
+        {
+            final String msg = "Unable to write skin snapshot: %s";
+            LoggerFactory.getLogger ( SkinSnapshot.class ).warn ( String.format ( msg, file.getAbsolutePath () ), e );
+            if ( temp != null )
+            {
+                temp.delete ();
+            }
+        }
+    }
+
+    /**
+     * Restricts access to the specified directory to its owner.
+     *
+     * @param directory directory to restrict access to
+     */
+    private static void restrictAccess ( @NotNull final File directory )
+    {
+        directory.setReadable ( false, false );
+        directory.setWritable ( false, false );
+        directory.setExecutable ( false, false );
+        directory.setReadable ( true, true );
+        directory.setWritable ( true, true );
+        directory.setExecutable ( true, true );
+    }
+
+    /**
+     * Writes descriptions of included {@link Resource}s.
+     *
+     * @param output   {@link DataOutputStream} to write to
+     * @param includes included {@link Resource}s
+     * @throws IOException if an I/O error occurs or some {@link Resource} cannot be described
+     */
+    private static void writeIncludes ( @NotNull final DataOutputStream output, @NotNull final List<Resource> includes )
+            throws IOException
+    {
+        output.writeInt ( includes.size () );
+        for ( final Resource include : includes )
+        {
+            if ( include instanceof ClassResource )
+            {
+                output.writeByte ( CLASS_RESOURCE );
+                output.writeUTF ( ( ( ClassResource ) include ).getClassName () );
+                output.writeUTF ( ( ( ClassResource ) include ).getPath () );
+            }
+            else if ( include instanceof FileResource )
+            {
+                output.writeByte ( FILE_RESOURCE );
+                output.writeUTF ( ( ( FileResource ) include ).getPath () );
+            }
+            else if ( include instanceof UrlResource )
+            {
+                output.writeByte ( URL_RESOURCE );
+                output.writeUTF ( ( ( UrlResource ) include ).getUrl () );
+            }
+            else
+            {
+                throw new NotSerializableException ( "Unsupported included resource: " + include );
+            }
+        }
+    }
+
+    /**
+     * Returns included {@link Resource}s read from their descriptions.
+     *
+     * @param input {@link DataInputStream} to read from
+     * @return included {@link Resource}s
+     * @throws IOException if an I/O error occurs or descriptions are invalid
+     */
+    @NotNull
+    private static List<Resource> readIncludes ( @NotNull final DataInputStream input ) throws IOException
+    {
+        final int count = input.readInt ();
+        if ( count < 0 || count > MAXIMUM_INCLUDES )
+        {
+            throw new IOException ( "Invalid included resources count: " + count );
+        }
+        final List<Resource> includes = new ArrayList<Resource> ( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            final byte type = input.readByte ();
+            if ( type == CLASS_RESOURCE )
+            {
+                includes.add ( new ClassResource ( input.readUTF (), input.readUTF () ) );
+            }
+            else if ( type == FILE_RESOURCE )
+            {
+                includes.add ( new FileResource ( input.readUTF () ) );
+            }
+            else if ( type == URL_RESOURCE )
+            {
+                includes.add ( new UrlResource ( input.readUTF () ) );
+            }
+            else
+            {
+                throw new IOException ( "Invalid included resource type: " + type );
+            }
+        }
+        return includes;
+    }
+
+    /**
+     * Returns whether or not objects of the specified {@link Class} are allowed in snapshots.
+     *
+     * @param name {@link Class} name
+     * @return {@code true} if objects of the specified {@link Class} are allowed in snapshots, {@code false} otherwise
+     */
+    private static boolean isAllowed ( @NotNull final String name )
+    {
+        final boolean allowed;
+        if ( name.startsWith ( "[" ) )
+        {
+            // Arrays of primitives and allowed classes
+            final String component = name.replaceFirst ( "^\\[+", "" );
+            allowed = component.length () == 1 ? "ZBCSIJFD".contains ( component ) :
+                    component.startsWith ( "L" ) && component.endsWith ( ";" ) &&
+                            isAllowed ( component.substring ( 1, component.length () - 1 ) );
+        }
+        else
+        {
+            boolean allowedPackage = false;
+            for ( final String allowedPackageName : ALLOWED_PACKAGES )
+            {
+                if ( name.startsWith ( allowedPackageName ) )
+                {
+                    allowedPackage = true;
+                    break;
+                }
+            }
+            allowed = allowedPackage || ALLOWED_CLASSES.contains ( name );
+        }
+        return allowed;
+    }
+
+    /**
+     * {@link ObjectOutputStream} replacing known non-serializable style values with their serializable representations.
+     * It also refuses to write objects which wouldn't be allowed by {@link SnapshotInputStream}.
+     */
+    private static final class SnapshotOutputStream extends ObjectOutputStream
+    {
+        /**
+         * Constructs new {@link SnapshotOutputStream}.
+         *
+         * @param output {@link OutputStream} to write to
+         * @throws IOException if an I/O error occurs while writing stream header
+         */
+        public SnapshotOutputStream ( @NotNull final OutputStream output ) throws IOException
+        {
+            super ( output );
+            enableReplaceObject ( true );
+        }
+
+        @Override
+        protected void annotateClass ( final Class<?> type ) throws IOException
+        {
+            if ( !isAllowed ( type.getName () ) )
+            {
+                throw new NotSerializableException ( "Class is not allowed in skin snapshots: " + type.getName () );
+            }
+        }
+
+        @Override
+        protected void annotateProxyClass ( final Class<?> type ) throws IOException
+        {
+            throw new NotSerializableException ( "Proxy classes are not allowed in skin snapshots: " + type.getName () );
+        }
+
+        @Override
+        protected Object replaceObject ( final Object object ) throws IOException
+        {
+            return object != null && object.getClass () == BasicStroke.class ? new StrokeData ( ( BasicStroke ) object ) : object;
+        }
+    }
+
+    /**
+     * {@link ObjectInputStream} that only resolves classes allowed in snapshots.
+     * Classes are also looked up through context {@link ClassLoader}.
+     */
+    private static final class SnapshotInputStream extends ObjectInputStream
+    {
+        /**
+         * Constructs new {@link SnapshotInputStream}.
+         *
+         * @param input {@link InputStream} to read from
+         * @throws IOException if an I/O error occurs while reading stream header
+         */
+        public SnapshotInputStream ( @NotNull final InputStream input ) throws IOException
+        {
+            super ( input );
+        }
+
+        @Override
+        protected Class<?> resolveClass ( final ObjectStreamClass description ) throws IOException, ClassNotFoundException
+        {
+            if ( !isAllowed ( description.getName () ) )
+            {
+                throw new InvalidClassException ( description.getName (), "Class is not allowed in skin snapshots" );
+            }
+            try
+            {
+                return super.resolveClass ( description );
+            }
+            catch ( final ClassNotFoundException e )
+            {
+                final ClassLoader classLoader = Thread.currentThread ().getContextClassLoader ();
+                if ( classLoader == null )
+                {
+                    throw e;
+                }
+                return Class.forName ( description.getName (), false, classLoader );
+            }
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass ( final String[] interfaces ) throws IOException, ClassNotFoundException
+        {
+            throw new InvalidClassException ( "Proxy classes are not allowed in skin snapshots" );
+        }
+    }
+
+    /**
+     * Serializable representation of {@link BasicStroke}.
+     */
+    private static final class StrokeData implements Serializable
+    {
+        /**
+         * {@link BasicStroke} settings.
+         */
+        private final float width;
+        private final int cap;
+        private final int join;
+        private final float miterLimit;
+        private final float[] dash;
+        private final float dashPhase;
+
+        /**
+         * Constructs new {@link StrokeData}.
+         *
+         * @param stroke {@link BasicStroke}
+         */
+        public StrokeData ( @NotNull final BasicStroke stroke )
+        {
+            this.width = stroke.getLineWidth ();
+            this.cap = stroke.getEndCap ();
+            this.join = stroke.getLineJoin ();
+            this.miterLimit = stroke.getMiterLimit ();
+            this.dash = stroke.getDashArray ();
+            this.dashPhase = stroke.getDashPhase ();
+        }
+
+        /**
+         * Returns {@link BasicStroke} upon deserialization.
+         *
+         * @return {@link BasicStroke}
+         */
+        @NotNull
+        private Object readResolve ()
+        {
+            return new BasicStroke ( width, cap, join, miterLimit, dash, dashPhase );
+        }
+    }
+}
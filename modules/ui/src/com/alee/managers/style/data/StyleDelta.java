@@ -0,0 +1,339 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.jdk.Objects;
+import com.alee.painter.decoration.Decorations;
+import com.alee.utils.swing.InsetsUIResource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Difference between two {@link ComponentStyle}s of the same component type.
+ * It is used to switch component from one {@link ComponentStyle} to another by applying only the settings that actually differ.
+ *
+ * It contains component, UI and painter properties of the target {@link ComponentStyle} that differ from the source one, including
+ * {@link Decorations}. Properties that are only specified in the source {@link ComponentStyle} are not included, same as they are
+ * not reset on full style application. Runtime modifications of properties that do not differ are not reset on style switch.
+ *
+ * Property values are considered to be the same when they are either identical or equal, except for {@link PainterStyle} values
+ * that are only considered to be the same when they are identical, since they produce new painters.
+ *
+ * Each {@link StyleDelta} is computed once per pair of {@link ComponentStyle}s and is cached within the target {@link ComponentStyle}.
+ *
+ * @author Mikle Garin
+ * @see ComponentStyle
+ */
+final class StyleDelta
+{
+    /**
+     * Properties that affect component size.
+     */
+    @NotNull
+    private static final String[] SIZE_PROPERTIES = {
+            ComponentStyleConverter.MARGIN_ATTRIBUTE,
+            ComponentStyleConverter.PADDING_ATTRIBUTE,
+            "border",
+            "font"
+    };
+
+    /**
+     * Changed component properties.
+     */
+    @NotNull
+    private final Map<String, Object> componentProperties;
+
+    /**
+     * Changed UI properties.
+     */
+    @NotNull
+    private final Map<String, Object> uiProperties;
+
+    /**
+     * Changed painter properties, including {@link Decorations}.
+     * It is {@code null} if installed painter cannot be updated in place.
+     */
+    @Nullable
+    private final Map<String, Object> painterProperties;
+
+    /**
+     * Whether or not {@link Decorations} differ.
+     */
+    private final boolean decorationsChanged;
+
+    /**
+     * Whether or not any of changed properties might affect component size.
+     */
+    private final boolean layoutAffecting;
+
+    /**
+     * Constructs new {@link StyleDelta}.
+     *
+     * @param from {@link ComponentStyle} component is switched from
+     * @param to   {@link ComponentStyle} component is switched to
+     */
+    private StyleDelta ( @NotNull final ComponentStyle from, @NotNull final ComponentStyle to )
+    {
+        this.componentProperties = getChanges ( getComponentProperties ( from ), getComponentProperties ( to ) );
+        this.uiProperties = getChanges ( from.getUIProperties (), to.getUIProperties () );
+        this.painterProperties = getPainterChanges ( from.getPainterStyle (), to.getPainterStyle () );
+        this.decorationsChanged = painterProperties != null && hasDecorations ( painterProperties );
+        this.layoutAffecting = isLayoutAffecting ( componentProperties ) || isLayoutAffecting ( uiProperties ) ||
+                painterProperties != null && painterProperties.size () > ( decorationsChanged ? 1 : 0 );
+    }
+
+    /**
+     * Returns {@link StyleDelta} between specified {@link ComponentStyle}s from the deltas cache.
+     * New {@link StyleDelta} is computed and cached if it doesn't exist yet.
+     *
+     * @param deltas {@link StyleDelta}s cache of the target {@link ComponentStyle}
+     * @param from   {@link ComponentStyle} component is switched from
+     * @param to     {@link ComponentStyle} component is switched to
+     * @return {@link StyleDelta} between specified {@link ComponentStyle}s
+     */
+    @NotNull
+    public static StyleDelta get ( @NotNull final Map<ComponentStyle, StyleDelta> deltas,
+                                   @NotNull final ComponentStyle from, @NotNull final ComponentStyle to )
+    {
+        synchronized ( deltas )
+        {
+            StyleDelta delta = deltas.get ( from );
+            if ( delta == null )
+            {
+                delta = new StyleDelta ( from, to );
+                deltas.put ( from, delta );
+            }
+            return delta;
+        }
+    }
+
+    /**
+     * Returns changed component properties.
+     *
+     * @return changed component properties
+     */
+    @NotNull
+    public Map<String, Object> getComponentProperties ()
+    {
+        return componentProperties;
+    }
+
+    /**
+     * Returns changed UI properties.
+     *
+     * @return changed UI properties
+     */
+    @NotNull
+    public Map<String, Object> getUIProperties ()
+    {
+        return uiProperties;
+    }
+
+    /**
+     * Returns whether or not installed painter can be updated in place.
+     * That is only possible when both {@link ComponentStyle}s use the same painter class with the same set of properties and
+     * identical nested {@link PainterStyle}s.
+     *
+     * @return {@code true} if installed painter can be updated in place, {@code false} otherwise
+     */
+    public boolean isPainterUpdatable ()
+    {
+        return painterProperties != null;
+    }
+
+    /**
+     * Returns changed painter properties, including {@link Decorations}.
+     *
+     * @return changed painter properties, including {@link Decorations}, {@code null} if painter cannot be updated in place
+     */
+    @Nullable
+    public Map<String, Object> getPainterProperties ()
+    {
+        return painterProperties;
+    }
+
+    /**
+     * Returns whether or not {@link Decorations} differ.
+     *
+     * @return {@code true} if {@link Decorations} differ, {@code false} otherwise
+     */
+    public boolean isDecorationsChanged ()
+    {
+        return decorationsChanged;
+    }
+
+    /**
+     * Returns whether or not any of changed properties might affect component size.
+     * These are margin, padding, border and font, as well as any painter properties apart from {@link Decorations}, since painter
+     * is not notified about their changes. {@link Decorations} are not included here since painter checks itself whether or not
+     * their change affects component size.
+     *
+     * @return {@code true} if any of changed properties might affect component size, {@code false} otherwise
+     */
+    public boolean isLayoutAffecting ()
+    {
+        return layoutAffecting;
+    }
+
+    /**
+     * Returns component properties of the specified {@link ComponentStyle} including empty margin and padding if they are missing.
+     * That is exactly what is applied to the component on full style application.
+     *
+     * @param style {@link ComponentStyle}
+     * @return component properties of the specified {@link ComponentStyle} including empty margin and padding if they are missing
+     */
+    @NotNull
+    private static Map<String, Object> getComponentProperties ( @NotNull final ComponentStyle style )
+    {
+        final Map<String, Object> properties = new LinkedHashMap<String, Object> ( style.getComponentProperties () );
+        if ( !properties.containsKey ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) )
+        {
+            properties.put ( ComponentStyleConverter.MARGIN_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
+        }
+        if ( !properties.containsKey ( ComponentStyleConverter.PADDING_ATTRIBUTE ) )
+        {
+            properties.put ( ComponentStyleConverter.PADDING_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
+        }
+        return properties;
+    }
+
+    /**
+     * Returns target properties that differ from source properties.
+     *
+     * @param from source properties
+     * @param to   target properties
+     * @return target properties that differ from source properties
+     */
+    @NotNull
+    private static Map<String, Object> getChanges ( @Nullable final Map<String, Object> from, @Nullable final Map<String, Object> to )
+    {
+        final Map<String, Object> changes;
+        if ( to != null && to.size () > 0 )
+        {
+            final Map<String, Object> changed = new LinkedHashMap<String, Object> ( to.size () );
+            for ( final Map.Entry<String, Object> entry : to.entrySet () )
+            {
+                final String key = entry.getKey ();
+                if ( from == null || !from.containsKey ( key ) || isChanged ( from.get ( key ), entry.getValue () ) )
+                {
+                    changed.put ( key, entry.getValue () );
+                }
+            }
+            changes = changed.isEmpty () ? Collections.<String, Object>emptyMap () : Collections.unmodifiableMap ( changed );
+        }
+        else
+        {
+            changes = Collections.emptyMap ();
+        }
+        return changes;
+    }
+
+    /**
+     * Returns changed painter properties or {@code null} if installed painter cannot be updated in place.
+     *
+     * @param from source {@link PainterStyle}
+     * @param to   target {@link PainterStyle}
+     * @return changed painter properties or {@code null} if installed painter cannot be updated in place
+     */
+    @Nullable
+    private static Map<String, Object> getPainterChanges ( @Nullable final PainterStyle from, @Nullable final PainterStyle to )
+    {
+        Map<String, Object> changes;
+        if ( from != null && to != null && Objects.equals ( from.getPainterClass (), to.getPainterClass () ) &&
+                from.getProperties ().keySet ().equals ( to.getProperties ().keySet () ) )
+        {
+            changes = getChanges ( from.getProperties (), to.getProperties () );
+            for ( final Map.Entry<String, Object> entry : changes.entrySet () )
+            {
+                // Nested painters are never updated in place
+                // Decorations can only be replaced with other decorations
+                final Object value = entry.getValue ();
+                if ( value instanceof PainterStyle ||
+                        value instanceof Decorations != from.getProperties ().get ( entry.getKey () ) instanceof Decorations )
+                {
+                    changes = null;
+                    break;
+                }
+            }
+        }
+        else
+        {
+            changes = null;
+        }
+        return changes;
+    }
+
+    /**
+     * Returns whether or not specified properties contain {@link Decorations}.
+     *
+     * @param properties properties to check
+     * @return {@code true} if specified properties contain {@link Decorations}, {@code false} otherwise
+     */
+    private static boolean hasDecorations ( @NotNull final Map<String, Object> properties )
+    {
+        boolean decorations = false;
+        for ( final Object value : properties.values () )
+        {
+            if ( value instanceof Decorations )
+            {
+                decorations = true;
+                break;
+            }
+        }
+        return decorations;
+    }
+
+    /**
+     * Returns whether or not any of the specified properties might affect component size.
+     *
+     * @param properties properties to check
+     * @return {@code true} if any of the specified properties might affect component size, {@code false} otherwise
+     */
+    private static boolean isLayoutAffecting ( @NotNull final Map<String, Object> properties )
+    {
+        boolean affecting = false;
+        for ( final String property : properties.keySet () )
+        {
+            for ( final String sizeProperty : SIZE_PROPERTIES )
+            {
+                if ( sizeProperty.equalsIgnoreCase ( property ) )
+                {
+                    affecting = true;
+                    break;
+                }
+            }
+        }
+        return affecting;
+    }
+
+    /**
+     * Returns whether or not property value differs.
+     *
+     * @param from source property value
+     * @param to   target property value
+     * @return {@code true} if property value differs, {@code false} otherwise
+     */
+    private static boolean isChanged ( @Nullable final Object from, @Nullable final Object to )
+    {
+        return from != to && ( to instanceof PainterStyle || Objects.notEquals ( from, to ) );
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter;
+
+import javax.swing.*;
+import javax.swing.plaf.ComponentUI;
+
+/**
+ * Marker interface for stateless {@link Painter}s that can be shared between multiple {@link JComponent}s.
+ * Style-provided {@link Painter}s implementing it are only instantiated once per {@link com.alee.managers.style.data.PainterStyle}
+ * and that single instance is installed into every {@link JComponent} using the style, it is never updated with style settings again.
+ *
+ * Such {@link Painter} must not keep any {@link JComponent}-specific state, since {@link #install(JComponent, ComponentUI)} and
+ * {@link #uninstall(JComponent, ComponentUI)} are called for each {@link JComponent} it is installed into and other methods might be
+ * called for any of those {@link JComponent}s in any order. Note that {@link AbstractPainter} subclasses do not qualify, since
+ * {@link AbstractPainter} keeps the {@link JComponent} and {@link ComponentUI} it is installed into along with various listeners.
+ *
+ * @param <C> component type
+ * @param <U> component UI type
+ * @author Mikle Garin
+ * @see com.alee.managers.style.data.ComponentStyle
+ */
+public interface ShareablePainter<C extends JComponent, U extends ComponentUI> extends Painter<C, U>
+{
+    /**
+     * This interface doesn't offer any additional methods to implement.
+     */
+}
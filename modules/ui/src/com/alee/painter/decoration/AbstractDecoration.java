@@ -19,6 +19,8 @@ package com.alee.painter.decoration;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.api.clone.behavior.OmitOnClone;
+import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.api.merge.behavior.OverwriteOnMerge;
 import com.alee.managers.style.Bounds;
 import com.alee.utils.CollectionUtils;
@@ -32,6 +34,8 @@ import com.thoughtworks.xstream.annotations.XStreamConverter;
 import javax.swing.*;
 import java.awt.*;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Abstract component state decoration providing basic settings.
@@ -40,7 +44,8 @@ import java.util.List;
  * @param <I> decoration type
  * @author Mikle Garin
  */
-public abstract class AbstractDecoration<C extends JComponent, I extends AbstractDecoration<C, I>> implements IDecoration<C, I>
+public abstract class AbstractDecoration<C extends JComponent, I extends AbstractDecoration<C, I>>
+        implements IDecoration<C, I>, ShareableDecoration
 {
     /**
      * Default component state ID.
@@ -99,10 +104,14 @@ public abstract class AbstractDecoration<C extends JComponent, I extends Abstrac
     protected transient Boolean section;
 
     /**
-     * Previously set cursor.
-     * Saved to avoid default component cursor removal.
+     * Previously set cursors.
+     * Saved for each component separately to avoid default component cursor removal.
+     * This is runtime-only field that should not be serialized.
      */
-    protected transient Cursor previousCursor;
+    @Nullable
+    @OmitOnClone
+    @OmitOnMerge
+    protected transient Map<C, Cursor> previousCursors;
 
     @Nullable
     @Override
@@ -117,7 +126,11 @@ public abstract class AbstractDecoration<C extends JComponent, I extends Abstrac
         final Cursor customCursor = getCursor ();
         if ( customCursor != null )
         {
-            previousCursor = c.getCursor ();
+            if ( previousCursors == null )
+            {
+                previousCursors = new WeakHashMap<C, Cursor> ( 1 );
+            }
+            previousCursors.put ( c, c.getCursor () );
             c.setCursor ( customCursor );
         }
     }
@@ -128,11 +141,19 @@ public abstract class AbstractDecoration<C extends JComponent, I extends Abstrac
         final Cursor customCursor = getCursor ();
         if ( customCursor != null )
         {
-            c.setCursor ( previousCursor );
-            previousCursor = null;
+            c.setCursor ( previousCursors != null ? previousCursors.remove ( c ) : null );
         }
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * Decorations might store component-specific state, so each specific decoration has to opt in for sharing.
+         */
+        return false;
+    }
+
     @Override
     public List<String> getStates ()
     {
@@ -43,7 +43,6 @@ import com.alee.painter.SectionPainter;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.SwingUtils;
 import com.alee.utils.SystemUtils;
-import com.alee.utils.TextUtils;
 
 import javax.swing.*;
 import javax.swing.event.AncestorEvent;
@@ -97,9 +96,12 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
      * Runtime variables.
      */
     protected transient List<String> states;
-    protected transient Map<String, D> stateDecorationCache;
+    protected transient long statesMask;
+    protected transient Map<Long, D> stateDecorationCache;
     protected transient Map<String, D> decorationCache;
-    protected transient String current;
+    protected transient boolean resolved;
+    protected transient List<String> resolvedStates;
+    protected transient D resolvedDecoration;
     protected transient boolean focused;
     protected transient boolean inFocusedParent;
     protected transient boolean hover;
@@ -115,6 +117,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
          * Although we still do it before updating border in {@link super#afterInstall()}.
          */
         this.states = collectDecorationStates ();
+        this.statesMask = getStateIndex ().getMask ( states );
 
         /**
          * Performing basic actions after installation ends.
@@ -146,6 +149,10 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         this.stateDecorationCache = null;
         this.decorationCache = null;
         this.states = null;
+        this.statesMask = 0L;
+        this.resolved = false;
+        this.resolvedStates = null;
+        this.resolvedDecoration = null;
 
         /**
          * Performing basic actions after uninstallation ends.
@@ -153,6 +160,66 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         super.afterUninstall ();
     }
 
+    /**
+     * Replaces {@link Decorations} of this painter.
+     * It allows switching component between styles which painter settings only differ in {@link Decorations} without reinstalling
+     * the painter. If painter is installed all decoration caches and listeners depending on {@link Decorations} are updated.
+     * Component layout is only invalidated if its border or preferred size changes with new {@link Decorations}.
+     *
+     * @param decorations new {@link Decorations}
+     */
+    public void updateDecorations ( @Nullable final Decorations<C, D> decorations )
+    {
+        if ( installed )
+        {
+            // Remembering preferred size to only revalidate component when it actually changes
+            final Dimension oldPreferredSize = getPreferredSize ();
+
+            // Making sure last used decoration is properly deactivated
+            deactivateLastDecoration ( component );
+
+            // Uninstalling listeners depending on decorations
+            uninstallInHoveredParentListeners ();
+            uninstallHoverListeners ();
+            uninstallInFocusedParentListeners ();
+            uninstallFocusListeners ();
+            uninstallChildrenListeners ();
+
+            // Cleaning up decoration caches
+            this.decorations = decorations;
+            this.stateDecorationCache = null;
+            this.decorationCache = null;
+            this.resolved = false;
+            this.resolvedStates = null;
+            this.resolvedDecoration = null;
+
+            // Installing listeners depending on decorations
+            installChildrenListeners ();
+            installFocusListeners ();
+            installInFocusedParentListeners ();
+            installHoverListeners ();
+            installInHoveredParentListeners ();
+
+            // Updating decoration states
+            this.states = collectDecorationStates ();
+            this.statesMask = getStateIndex ().getMask ( states );
+
+            // Updating component view
+            // Border update revalidates component on its own if border insets change
+            updateOpacity ();
+            updateBorder ();
+            if ( Objects.notEquals ( oldPreferredSize, getPreferredSize () ) )
+            {
+                revalidate ();
+            }
+            repaint ();
+        }
+        else
+        {
+            this.decorations = decorations;
+        }
+    }
+
     @Override
     protected void installPropertiesAndListeners ()
     {
@@ -872,6 +939,17 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         return component != null && component.isEnabled ();
     }
 
+    /**
+     * Returns {@link DecorationStateIndex} for this painter type.
+     *
+     * @return {@link DecorationStateIndex} for this painter type
+     */
+    @NotNull
+    protected final DecorationStateIndex getStateIndex ()
+    {
+        return DecorationStateIndex.get ( getClass () );
+    }
+
     /**
      * Returns properly sorted current component decoration states.
      *
@@ -1009,105 +1087,28 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         final D result;
         if ( decorations != null && decorations.size () > 0 )
         {
-            // Decoration key
-            // States are properly sorted, so their order is always the same
-            final String previous = this.current;
-            current = TextUtils.listToString ( states, "," );
-
-            // Creating decoration caches
-            if ( stateDecorationCache == null )
+            // Resolving decoration only when states have changed
+            // States list is only replaced when states actually change, so identity check is sufficient here
+            // This keeps painting path free of any allocations and lookups
+            if ( !resolved || resolvedStates != states )
             {
-                // State decorations cache
-                // Entry: [ component state -> built decoration reference ]
-                // It is used for fastest possible access to component state decorations
-                stateDecorationCache = new HashMap<String, D> ( decorations.size () );
-
-                // Decoration combinations cache
-                // Entry: [ decorations combination key -> built decoration reference ]
-                // It is used to avoid excessive memory usage by duplicate decoration combinations for each specific state
-                decorationCache = new HashMap<String, D> ( decorations.size () );
-            }
-
-            // Resolving state decoration if it is not yet cached
-            if ( !stateDecorationCache.containsKey ( current ) )
-            {
-                // Retrieving all decorations fitting current states
-                final List<D> decorations = getDecorations ( states );
-
-                // Retrieving unique key for decorations combination
-                final String decorationsKey = getDecorationsKey ( decorations );
-
-                // Retrieving existing decoration or building a new one
-                final D decoration;
-                if ( decorationCache.containsKey ( decorationsKey ) )
-                {
-                    // Retrieving decoration from existing built decorations cache
-                    decoration = decorationCache.get ( decorationsKey );
-                }
-                else
+                final boolean initial = !resolved;
+                final D previousDecoration = resolvedDecoration;
+                final D currentDecoration = resolveDecoration ();
+                resolved = true;
+                resolvedStates = states;
+                resolvedDecoration = currentDecoration;
+
+                // Performing decoration activation and deactivation if needed
+                if ( initial )
                 {
-                    // Building single decoration from a set
-                    if ( CollectionUtils.isEmpty ( decorations ) )
-                    {
-                        // No decoration for the states available
-                        decoration = null;
-                    }
-                    else if ( decorations.size () == 1 )
-                    {
-                        // Single existing decoration for the states
-                        decoration = Clone.deep ().nonNullClone ( decorations.get ( 0 ) );
-                    }
-                    else
-                    {
-                        // Filter out possible decorations of different type
-                        // We always use type of the last one available since it has higher priority
-                        final Class<? extends IDecoration> type = decorations.get ( decorations.size () - 1 ).getClass ();
-                        final Iterator<D> iterator = decorations.iterator ();
-                        while ( iterator.hasNext () )
-                        {
-                            final D d = iterator.next ();
-                            if ( d.getClass () != type )
-                            {
-                                iterator.remove ();
-                            }
-                        }
-
-                        // Merging multiple decorations together
-                        decoration = Merge.deep ().nonNullMerge ( decorations );
-                    }
-
-                    // Updating built decoration settings
-                    if ( decoration != null )
+                    // Activating initial decoration
+                    if ( currentDecoration != null )
                     {
-                        // Updating section mark
-                        // This is done for each cached decoration once as it doesn't change
-                        decoration.setSection ( isSectionPainter () );
+                        currentDecoration.activate ( component );
                     }
-
-                    // Caching built decoration
-                    decorationCache.put ( decorationsKey, decoration );
-                }
-
-                // Caching resulting decoration under the state key
-                stateDecorationCache.put ( current, decoration );
-            }
-
-            // Performing decoration activation and deactivation if needed
-            if ( previous == null && current == null )
-            {
-                // Activating initial decoration
-                final D initialDecoration = stateDecorationCache.get ( current );
-                if ( initialDecoration != null )
-                {
-                    initialDecoration.activate ( component );
                 }
-            }
-            else if ( Objects.notEquals ( previous, current ) )
-            {
-                // Checking that decoration was actually changed
-                final D previousDecoration = stateDecorationCache.get ( previous );
-                final D currentDecoration = stateDecorationCache.get ( current );
-                if ( previousDecoration != currentDecoration )
+                else if ( previousDecoration != currentDecoration )
                 {
                     // Deactivating previous decoration
                     if ( previousDecoration != null )
@@ -1123,7 +1124,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
             }
 
             // Returning existing decoration
-            result = stateDecorationCache.get ( current );
+            result = resolvedDecoration;
         }
         else
         {
@@ -1133,6 +1134,130 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         return result;
     }
 
+    /**
+     * Returns decoration for current decoration states.
+     *
+     * @return decoration for current decoration states
+     */
+    @Nullable
+    private D resolveDecoration ()
+    {
+        // Creating decoration caches
+        if ( stateDecorationCache == null )
+        {
+            // State decorations cache
+            // Entry: [ component states mask -> built decoration reference ]
+            // It is used for fastest possible access to component state decorations
+            stateDecorationCache = new HashMap<Long, D> ( decorations.size () );
+
+            // Decoration combinations cache
+            // Entry: [ decorations combination key -> built decoration reference ]
+            // It is used to avoid excessive memory usage by duplicate decoration combinations for each specific state
+            decorationCache = new HashMap<String, D> ( decorations.size () );
+        }
+
+        // Decoration key
+        // States mask doesn't depend on states order and is only unavailable when there are too many states
+        final Long stateKey = statesMask != DecorationStateIndex.OVERFLOW ? statesMask : null;
+
+        // Resolving state decoration if it is not yet cached
+        final D decoration;
+        if ( stateKey == null || !stateDecorationCache.containsKey ( stateKey ) )
+        {
+            // Retrieving all decorations fitting current states
+            final List<D> decorations = getDecorations ( states );
+
+            // Retrieving unique key for decorations combination
+            final String decorationsKey = getDecorationsKey ( decorations );
+
+            // Retrieving existing decoration or building a new one
+            if ( decorationCache.containsKey ( decorationsKey ) )
+            {
+                // Retrieving decoration from existing built decorations cache
+                decoration = decorationCache.get ( decorationsKey );
+            }
+            else
+            {
+                // Building and caching new decoration
+                decoration = buildDecoration ( decorations, decorationsKey );
+                decorationCache.put ( decorationsKey, decoration );
+            }
+
+            // Caching resulting decoration under the states key
+            if ( stateKey != null )
+            {
+                stateDecorationCache.put ( stateKey, decoration );
+            }
+        }
+        else
+        {
+            // Retrieving decoration from existing state decorations cache
+            decoration = stateDecorationCache.get ( stateKey );
+        }
+        return decoration;
+    }
+
+    /**
+     * Returns decoration built from the specified decorations.
+     *
+     * @param decorations    decorations fitting current states
+     * @param decorationsKey unique decorations combination key
+     * @return decoration built from the specified decorations
+     */
+    @Nullable
+    private D buildDecoration ( @NotNull final List<D> decorations, @NotNull final String decorationsKey )
+    {
+        D decoration = DecorationCache.get ( this.decorations, isSectionPainter (), decorationsKey );
+        if ( decoration == null )
+        {
+            // Building single decoration from a set
+            if ( CollectionUtils.isEmpty ( decorations ) )
+            {
+                // No decoration for the states available
+                decoration = null;
+            }
+            else if ( decorations.size () == 1 )
+            {
+                // Single existing decoration for the states
+                decoration = Clone.deep ().nonNullClone ( decorations.get ( 0 ) );
+            }
+            else
+            {
+                // Filter out possible decorations of different type
+                // We always use type of the last one available since it has higher priority
+                final Class<? extends IDecoration> type = decorations.get ( decorations.size () - 1 ).getClass ();
+                final Iterator<D> iterator = decorations.iterator ();
+                while ( iterator.hasNext () )
+                {
+                    final D d = iterator.next ();
+                    if ( d.getClass () != type )
+                    {
+                        iterator.remove ();
+                    }
+                }
+
+                // Merging multiple decorations together
+                decoration = Merge.deep ().nonNullMerge ( decorations );
+            }
+
+            // Updating built decoration settings
+            if ( decoration != null )
+            {
+                // Updating section mark
+                // This is done for each cached decoration once as it doesn't change
+                decoration.setSection ( isSectionPainter () );
+
+                // Sharing built decoration with other painters using the same style
+                // Decorations that store component-specific state are never shared
+                if ( DecorationUtils.isShareable ( decoration ) )
+                {
+                    decoration = DecorationCache.put ( this.decorations, isSectionPainter (), decorationsKey, decoration );
+                }
+            }
+        }
+        return decoration;
+    }
+
     /**
      * Returns unique decorations combination key.
      *
@@ -1172,10 +1297,13 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
     public final void updateDecorationState ()
     {
         final List<String> states = collectDecorationStates ();
-        if ( !CollectionUtils.equals ( this.states, states, true ) )
+        final long statesMask = getStateIndex ().getMask ( states );
+        if ( statesMask != this.statesMask || statesMask == DecorationStateIndex.OVERFLOW &&
+                !CollectionUtils.equals ( this.states, states, true ) )
         {
             // Saving new decoration states
             this.states = states;
+            this.statesMask = statesMask;
 
             // Updating section painters decoration states
             // This is required to provide state changes into section painters used within this painter
@@ -78,6 +78,18 @@ public abstract class ContentDecoration<C extends JComponent, I extends ContentD
         }
     }
 
+    /**
+     * Returns whether or not all contents of this decoration can be shared between multiple {@link JComponent}s.
+     * Should be used by shareable decorations to ensure that their contents do not prevent sharing.
+     *
+     * @return {@code true} if all contents of this decoration can be shared between multiple {@link JComponent}s,
+     * {@code false} otherwise
+     */
+    protected boolean isContentShareable ()
+    {
+        return DecorationUtils.isShareable ( contents );
+    }
+
     @Override
     public boolean hasContent ()
     {
@@ -0,0 +1,297 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.UtilityException;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide flyweight cache for built {@link IDecoration}s.
+ * It allows all components using the same {@link Decorations} in the same states to share a single built {@link IDecoration}.
+ *
+ * Cached {@link IDecoration}s are identified by the {@link Decorations} they were built from, section mark and the combination of
+ * {@link IDecoration} identifiers. {@link Decorations} instance is unique for each skin and style, since it is shared between all
+ * components using that style, so it effectively represents both skin and style identifier within the key.
+ *
+ * Only {@link IDecoration}s that return {@code true} from {@link ShareableDecoration#isShareable()} should be placed into this cache.
+ * Cache size is limited and least recently used {@link IDecoration}s are evicted first.
+ * Cached {@link IDecoration}s are also evicted as soon as {@link Decorations} they were built from are garbage-collected.
+ *
+ * @author Mikle Garin
+ * @see AbstractDecorationPainter#getDecoration()
+ * @see ShareableDecoration
+ */
+public final class DecorationCache
+{
+    /**
+     * Maximum amount of cached {@link IDecoration}s.
+     */
+    private static int maximumSize = 2048;
+
+    /**
+     * Built {@link IDecoration}s cache.
+     */
+    @NotNull
+    private static final Map<Key, IDecoration> cache = new LinkedHashMap<Key, IDecoration> ( 64, 0.75f, true )
+    {
+        @Override
+        protected boolean removeEldestEntry ( final Map.Entry<Key, IDecoration> eldest )
+        {
+            return size () > maximumSize || eldest.getKey ().get () == null;
+        }
+    };
+
+    /**
+     * {@link ReferenceQueue} for {@link Key}s of garbage-collected {@link Decorations}.
+     */
+    @NotNull
+    private static final ReferenceQueue<Decorations> queue = new ReferenceQueue<Decorations> ();
+
+    /**
+     * Amount of cache hits.
+     */
+    private static long hits = 0;
+
+    /**
+     * Amount of cache misses.
+     */
+    private static long misses = 0;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private DecorationCache ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns maximum amount of cached {@link IDecoration}s.
+     *
+     * @return maximum amount of cached {@link IDecoration}s
+     */
+    public static synchronized int getMaximumSize ()
+    {
+        return maximumSize;
+    }
+
+    /**
+     * Sets maximum amount of cached {@link IDecoration}s.
+     * Setting it to zero effectively disables the cache.
+     *
+     * @param maximumSize maximum amount of cached {@link IDecoration}s
+     */
+    public static synchronized void setMaximumSize ( final int maximumSize )
+    {
+        expungeStaleEntries ();
+        DecorationCache.maximumSize = Math.max ( 0, maximumSize );
+        if ( cache.size () > DecorationCache.maximumSize )
+        {
+            cache.clear ();
+        }
+    }
+
+    /**
+     * Returns cached {@link IDecoration} or {@code null} if it is not cached.
+     *
+     * @param decorations {@link Decorations} that {@link IDecoration} was built from
+     * @param section     whether or not {@link IDecoration} is used for a section of the component
+     * @param key         {@link IDecoration}s combination key
+     * @param <D>         {@link IDecoration} type
+     * @return cached {@link IDecoration} or {@code null} if it is not cached
+     */
+    @Nullable
+    public static synchronized <D extends IDecoration> D get ( @NotNull final Decorations decorations, final boolean section,
+                                                               @NotNull final String key )
+    {
+        expungeStaleEntries ();
+        final D decoration = ( D ) cache.get ( new Key ( decorations, section, key, null ) );
+        if ( decoration != null )
+        {
+            hits++;
+        }
+        else
+        {
+            misses++;
+        }
+        return decoration;
+    }
+
+    /**
+     * Caches built {@link IDecoration}.
+     *
+     * @param decorations {@link Decorations} that {@link IDecoration} was built from
+     * @param section     whether or not {@link IDecoration} is used for a section of the component
+     * @param key         {@link IDecoration}s combination key
+     * @param decoration  built {@link IDecoration}
+     * @param <D>         {@link IDecoration} type
+     * @return {@link IDecoration} that should be used, it might be different if one was cached in the meantime
+     */
+    @NotNull
+    public static synchronized <D extends IDecoration> D put ( @NotNull final Decorations decorations, final boolean section,
+                                                               @NotNull final String key, @NotNull final D decoration )
+    {
+        expungeStaleEntries ();
+        final D result;
+        if ( maximumSize > 0 )
+        {
+            final D existing = ( D ) cache.get ( new Key ( decorations, section, key, null ) );
+            if ( existing == null )
+            {
+                cache.put ( new Key ( decorations, section, key, queue ), decoration );
+                result = decoration;
+            }
+            else
+            {
+                result = existing;
+            }
+        }
+        else
+        {
+            result = decoration;
+        }
+        return result;
+    }
+
+    /**
+     * Clears all cached {@link IDecoration}s.
+     */
+    public static synchronized void clear ()
+    {
+        cache.clear ();
+        expungeStaleEntries ();
+    }
+
+    /**
+     * Returns amount of cached {@link IDecoration}s.
+     *
+     * @return amount of cached {@link IDecoration}s
+     */
+    public static synchronized int size ()
+    {
+        expungeStaleEntries ();
+        return cache.size ();
+    }
+
+    /**
+     * Returns amount of cache hits.
+     *
+     * @return amount of cache hits
+     */
+    public static synchronized long getHits ()
+    {
+        return hits;
+    }
+
+    /**
+     * Returns amount of cache misses.
+     *
+     * @return amount of cache misses
+     */
+    public static synchronized long getMisses ()
+    {
+        return misses;
+    }
+
+    /**
+     * Removes cached {@link IDecoration}s built from {@link Decorations} that were garbage-collected.
+     * Must only be called while holding {@link DecorationCache} class lock.
+     */
+    private static void expungeStaleEntries ()
+    {
+        Object reference;
+        while ( ( reference = queue.poll () ) != null )
+        {
+            cache.remove ( reference );
+        }
+    }
+
+    /**
+     * {@link DecorationCache} key.
+     * It references {@link Decorations} weakly to avoid holding styles of skins that are not used anymore.
+     */
+    private static final class Key extends WeakReference<Decorations>
+    {
+        /**
+         * {@link Decorations} identity hash code.
+         */
+        private final int decorationsHash;
+
+        /**
+         * Whether or not {@link IDecoration} is used for a section of the component.
+         */
+        private final boolean section;
+
+        /**
+         * {@link IDecoration}s combination key.
+         */
+        @NotNull
+        private final String key;
+
+        /**
+         * Constructs new {@link Key}.
+         *
+         * @param decorations {@link Decorations} that {@link IDecoration} was built from
+         * @param section     whether or not {@link IDecoration} is used for a section of the component
+         * @param key         {@link IDecoration}s combination key
+         * @param queue       {@link ReferenceQueue} to register {@link Key} in, {@code null} for lookup {@link Key}s
+         */
+        public Key ( @NotNull final Decorations decorations, final boolean section, @NotNull final String key,
+                     @Nullable final ReferenceQueue<Decorations> queue )
+        {
+            super ( decorations, queue );
+            this.decorationsHash = System.identityHashCode ( decorations );
+            this.section = section;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals ( final Object object )
+        {
+            final boolean equals;
+            if ( object == this )
+            {
+                equals = true;
+            }
+            else if ( object instanceof Key )
+            {
+                final Key other = ( Key ) object;
+                final Decorations decorations = get ();
+                equals = decorations != null && decorations == other.get () &&
+                        section == other.section && key.equals ( other.key );
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return 31 * ( 31 * decorationsHash + ( section ? 1 : 0 ) ) + key.hashCode ();
+        }
+    }
+}
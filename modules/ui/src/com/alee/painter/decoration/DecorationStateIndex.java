@@ -0,0 +1,157 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of decoration state names used by a single {@link IDecorationPainter} type.
+ * It assigns small integer identifiers to decoration states, which allows representing any set of states as a {@code long} bitmask.
+ * Such bitmasks can be compared and used as cache keys without joining state names into strings or comparing state lists.
+ *
+ * Up to {@link #MAXIMUM_STATES} different states can be indexed for a single painter type, which should be more than enough.
+ * Any set of states containing states that didn't fit into the index is represented with {@link #OVERFLOW} mask.
+ * Such sets are still valid, but they cannot be distinguished by mask and have to be handled separately.
+ *
+ * @author Mikle Garin
+ * @see AbstractDecorationPainter#getDecoration()
+ * @see AbstractDecorationPainter#updateDecorationState()
+ */
+public final class DecorationStateIndex
+{
+    /**
+     * Mask used for sets of states that cannot be represented with a bitmask.
+     */
+    public static final long OVERFLOW = Long.MIN_VALUE;
+
+    /**
+     * Maximum amount of states that can be indexed for a single painter type.
+     * Last bit is reserved for {@link #OVERFLOW} mask.
+     */
+    public static final int MAXIMUM_STATES = 63;
+
+    /**
+     * {@link DecorationStateIndex}es for different painter types.
+     * Painter types are referenced weakly to allow unloading painters provided by plugins.
+     */
+    @NotNull
+    private static final Map<Class, DecorationStateIndex> indices = new WeakHashMap<Class, DecorationStateIndex> ( 64 );
+
+    /**
+     * Decoration state identifiers.
+     */
+    @NotNull
+    private final Map<String, Integer> ids;
+
+    /**
+     * Constructs new {@link DecorationStateIndex}.
+     */
+    private DecorationStateIndex ()
+    {
+        this.ids = new ConcurrentHashMap<String, Integer> ( 16 );
+    }
+
+    /**
+     * Returns {@link DecorationStateIndex} for the specified painter type.
+     *
+     * @param painterType painter type
+     * @return {@link DecorationStateIndex} for the specified painter type
+     */
+    @NotNull
+    public static DecorationStateIndex get ( @NotNull final Class painterType )
+    {
+        synchronized ( indices )
+        {
+            DecorationStateIndex index = indices.get ( painterType );
+            if ( index == null )
+            {
+                index = new DecorationStateIndex ();
+                indices.put ( painterType, index );
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Returns identifier of the specified decoration state.
+     * New identifier is assigned if state wasn't indexed yet.
+     *
+     * @param state decoration state
+     * @return identifier of the specified decoration state, {@code -1} if there is no more space for new states
+     */
+    public int getId ( @NotNull final String state )
+    {
+        Integer id = ids.get ( state );
+        if ( id == null )
+        {
+            synchronized ( this )
+            {
+                id = ids.get ( state );
+                if ( id == null )
+                {
+                    if ( ids.size () < MAXIMUM_STATES )
+                    {
+                        id = ids.size ();
+                        ids.put ( state, id );
+                    }
+                    else
+                    {
+                        id = -1;
+                    }
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Returns bitmask representing specified decoration states.
+     * States order doesn't affect resulting bitmask, {@code null} and empty states are represented with {@code 0}.
+     *
+     * @param states decoration states
+     * @return bitmask representing specified decoration states, {@link #OVERFLOW} if it cannot be represented with a bitmask
+     */
+    public long getMask ( @Nullable final List<String> states )
+    {
+        long mask = 0L;
+        if ( states != null )
+        {
+            // Index-based iteration is used intentionally to avoid iterator allocation
+            for ( int i = 0; i < states.size (); i++ )
+            {
+                final int id = getId ( states.get ( i ) );
+                if ( id != -1 )
+                {
+                    mask |= 1L << id;
+                }
+                else
+                {
+                    mask = OVERFLOW;
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+}
@@ -19,8 +19,11 @@ package com.alee.painter.decoration;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.managers.icon.data.SetIcon;
 import com.alee.painter.decoration.background.GradientColor;
 import com.alee.painter.decoration.background.GradientType;
+import com.alee.painter.decoration.content.IContent;
+import com.alee.painter.decoration.layout.AbstractContentLayout;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.MathUtils;
 import com.alee.utils.SwingUtils;
@@ -29,6 +32,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Various utilities used by decoration data.
@@ -154,6 +158,85 @@ public final class DecorationUtils
         return states;
     }
 
+    /**
+     * Returns whether or not specified {@link IDecoration} or {@link IDecoratonElement} can be shared between multiple
+     * {@link JComponent}s. Only implementations of {@link ShareableDecoration} can be shared.
+     *
+     * @param decoration {@link IDecoration} or {@link IDecoratonElement} to check
+     * @return {@code true} if specified {@link IDecoration} or {@link IDecoratonElement} can be shared, {@code false} otherwise
+     */
+    public static boolean isShareable ( @NotNull final Object decoration )
+    {
+        return decoration instanceof ShareableDecoration && ( ( ShareableDecoration ) decoration ).isShareable ();
+    }
+
+    /**
+     * Returns whether or not all of the specified {@link IDecoratonElement}s can be shared between multiple {@link JComponent}s.
+     *
+     * @param elements {@link IDecoratonElement}s to check
+     * @return {@code true} if all of the specified {@link IDecoratonElement}s can be shared, {@code false} otherwise
+     */
+    public static boolean isShareable ( @Nullable final List<? extends IDecoratonElement> elements )
+    {
+        boolean shareable = true;
+        if ( CollectionUtils.notEmpty ( elements ) )
+        {
+            for ( final IDecoratonElement element : elements )
+            {
+                if ( !isShareable ( element ) )
+                {
+                    shareable = false;
+                    break;
+                }
+            }
+        }
+        return shareable;
+    }
+
+    /**
+     * Collects identifiers of all {@link SetIcon}s used within the specified {@link Decorations}.
+     * This only reads decoration data and can be used outside of the Event Dispatch Thread.
+     *
+     * @param decorations {@link Decorations} to collect {@link SetIcon} identifiers from
+     * @param iconIds     {@link Set} to put collected {@link SetIcon} identifiers into
+     */
+    public static void collectIconIds ( @NotNull final Decorations<?, ?> decorations, @NotNull final Set<String> iconIds )
+    {
+        for ( final IDecoration decoration : decorations )
+        {
+            if ( decoration instanceof ContentDecoration )
+            {
+                collectIconIds ( ( ( ContentDecoration ) decoration ).getContent (), iconIds );
+            }
+        }
+    }
+
+    /**
+     * Collects identifiers of all {@link SetIcon}s used within the specified {@link IContent}s.
+     *
+     * @param contents {@link IContent}s to collect {@link SetIcon} identifiers from
+     * @param iconIds  {@link Set} to put collected {@link SetIcon} identifiers into
+     */
+    private static void collectIconIds ( @NotNull final List<IContent> contents, @NotNull final Set<String> iconIds )
+    {
+        for ( final IContent content : contents )
+        {
+            if ( content instanceof SetIcon )
+            {
+                // Icon identifier might not be specified in decorations that are merged with other ones
+                final SetIcon setIcon = ( SetIcon ) content;
+                if ( setIcon.hasIconId () )
+                {
+                    iconIds.add ( setIcon.getIconId () );
+                }
+            }
+            else if ( content instanceof AbstractContentLayout )
+            {
+                collectIconIds ( ( ( AbstractContentLayout ) content ).getContents (), iconIds );
+            }
+        }
+    }
+
     /**
      * Informs about {@link Component} decoration states changes.
      *
@@ -19,6 +19,7 @@ package com.alee.painter.decoration;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.merge.Overwriting;
+import com.alee.managers.style.Shareable;
 import com.alee.utils.collection.EmptyIterator;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -31,6 +32,7 @@ import java.util.List;
 
 /**
  * Class representing a group of decorations.
+ * It is {@link Shareable} since painters never modify it and only use copies of decorations it contains.
  *
  * @param <C> component type
  * @param <D> decoration type
@@ -39,7 +41,7 @@ import java.util.List;
  */
 @XStreamAlias ( "decorations" )
 public final class Decorations<C extends JComponent, D extends IDecoration<C, D>>
-        implements Iterable<D>, Overwriting, Cloneable, Serializable
+        implements Iterable<D>, Overwriting, Shareable, Cloneable, Serializable
 {
     /**
      * Whether or not these decorations should overwrite previous ones when merged.
@@ -0,0 +1,47 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import javax.swing.*;
+
+/**
+ * Interface for {@link IDecoration}s and {@link IDecoratonElement}s that can be shared between multiple {@link JComponent}s.
+ * Built {@link IDecoration}s are only placed into {@link DecorationCache} if they and all of their elements implement it
+ * and report that they can be shared, any other {@link IDecoration}s are kept separately for each painter.
+ *
+ * Sharing is opt-in: abstract decoration and decoration element bases implement this interface but report that they cannot be
+ * shared, since their subclasses might store {@link JComponent}-specific runtime data. Each specific class has to override
+ * {@link #isShareable()} on its own once it is known not to store such data, and classes containing other decoration elements
+ * should also check that their elements can be shared. Subclasses of shareable classes that add any {@link JComponent}-specific
+ * runtime data must override it again to return {@code false}.
+ *
+ * @author Mikle Garin
+ * @see DecorationCache
+ * @see DecorationUtils#isShareable(Object)
+ */
+public interface ShareableDecoration
+{
+    /**
+     * Returns whether or not this decoration or decoration element can be shared between multiple {@link JComponent}s.
+     * Only decorations and elements that do not store any {@link JComponent}-specific runtime data can be shared.
+     *
+     * @return {@code true} if this decoration or decoration element can be shared between multiple {@link JComponent}s,
+     * {@code false} otherwise
+     */
+    public boolean isShareable ();
+}
@@ -158,6 +158,16 @@ public class WebDecoration<C extends JComponent, I extends WebDecoration<C, I>>
         }
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return isContentShareable () &&
+                DecorationUtils.isShareable ( shapes ) &&
+                DecorationUtils.isShareable ( shadows ) &&
+                DecorationUtils.isShareable ( borders ) &&
+                DecorationUtils.isShareable ( backgrounds );
+    }
+
     @Override
     public boolean isVisible ()
     {
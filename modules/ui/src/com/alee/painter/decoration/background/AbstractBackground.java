@@ -20,6 +20,7 @@ package com.alee.painter.decoration.background;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.ShareableDecoration;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
 import javax.swing.*;
@@ -33,7 +34,7 @@ import javax.swing.*;
  * @author Mikle Garin
  */
 public abstract class AbstractBackground<C extends JComponent, D extends IDecoration<C, D>, I extends AbstractBackground<C, D, I>>
-        implements IBackground<C, D, I>
+        implements IBackground<C, D, I>, ShareableDecoration
 {
     /**
      * Background identifier.
@@ -85,6 +86,15 @@ public abstract class AbstractBackground<C extends JComponent, D extends IDecora
          */
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * Backgrounds might store component-specific state, so each specific background has to opt in for sharing.
+         */
+        return false;
+    }
+
     /**
      * Returns background opacity.
      *
@@ -20,6 +20,7 @@ package com.alee.painter.decoration.background;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.painter.decoration.DecorationException;
+import com.alee.painter.decoration.DecorationUtils;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.GraphicsUtils;
@@ -81,6 +82,17 @@ public abstract class AbstractClipBackground<C extends JComponent, D extends IDe
         }
     }
 
+    /**
+     * Returns whether or not all clipped backgrounds can be shared between multiple {@link JComponent}s.
+     * Should be used by shareable clip backgrounds to ensure that clipped backgrounds do not prevent sharing.
+     *
+     * @return {@code true} if all clipped backgrounds can be shared between multiple {@link JComponent}s, {@code false} otherwise
+     */
+    protected boolean isBackgroundsShareable ()
+    {
+        return DecorationUtils.isShareable ( backgrounds );
+    }
+
     @Override
     public void paint ( @NotNull final Graphics2D g2d, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d,
                         @NotNull final Shape shape )
@@ -24,9 +24,12 @@ import com.alee.api.jdk.Objects;
 import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.utils.GraphicsUtils;
+import com.alee.utils.general.Pair;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Convenient base class for any texture-based {@link IBackground} implementation.
@@ -41,29 +44,42 @@ public abstract class AbstractTextureBackground<C extends JComponent, D extends
 {
     /**
      * Cached texture paint.
-     * It is cached for performance reasons.
-     * You can clean the cache at any time in implementation of this abstract class.
+     *
+     * @deprecated texture paints are now cached for each {@link JComponent} separately in {@link #paints}
      */
     @Nullable
+    @Deprecated
     @OmitOnClone
     @OmitOnMerge
     protected transient TexturePaint paint = null;
 
     /**
      * Cached texture bounds.
+     *
+     * @deprecated texture paints are now cached for each {@link JComponent} separately in {@link #paints}
      */
     @Nullable
+    @Deprecated
     @OmitOnClone
     @OmitOnMerge
     protected transient Rectangle bounds = null;
 
+    /**
+     * Cached texture paints and bounds they were created for.
+     * They are cached for each {@link JComponent} separately since this background can be shared between multiple components.
+     * You can clean the cache at any time in implementation of this abstract class.
+     */
+    @Nullable
+    @OmitOnClone
+    @OmitOnMerge
+    protected transient Map<C, Pair<Rectangle, TexturePaint>> paints = null;
+
     /**
      * Resets texture cache.
      */
     public void clearCache ()
     {
-        paint = null;
-        bounds = null;
+        paints = null;
     }
 
     @Override
@@ -75,16 +91,22 @@ public abstract class AbstractTextureBackground<C extends JComponent, D extends
         {
             // Updating cached texture paint
             final Rectangle shapeBounds = shape.getBounds ();
-            if ( paint == null || Objects.notEquals ( this.bounds, shapeBounds ) )
+            if ( paints == null )
+            {
+                paints = new WeakHashMap<C, Pair<Rectangle, TexturePaint>> ( 1 );
+            }
+            Pair<Rectangle, TexturePaint> cached = paints.get ( c );
+            if ( cached == null || Objects.notEquals ( cached.getKey (), shapeBounds ) )
             {
-                paint = createTexturePaint ( shapeBounds, c, d );
-                this.bounds = shapeBounds;
+                cached = new Pair<Rectangle, TexturePaint> ( shapeBounds, createTexturePaint ( shapeBounds, c, d ) );
+                paints.put ( c, cached );
             }
+            final TexturePaint texture = cached.getValue ();
 
             // Painting texture
             final Composite oc = GraphicsUtils.setupAlphaComposite ( g2d, opacity, opacity < 1f );
-            final Paint op = GraphicsUtils.setupPaint ( g2d, paint );
-            g2d.setPaint ( paint );
+            final Paint op = GraphicsUtils.setupPaint ( g2d, texture );
+            g2d.setPaint ( texture );
             g2d.fill ( shape );
             GraphicsUtils.restorePaint ( g2d, op );
             GraphicsUtils.restoreComposite ( g2d, oc, opacity < 1f );
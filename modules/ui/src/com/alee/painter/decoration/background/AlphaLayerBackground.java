@@ -122,6 +122,12 @@ public class AlphaLayerBackground<C extends JComponent, D extends IDecoration<C,
         return lightColor != null ? lightColor : DEFAULT_LIGHT_COLOR;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     protected TexturePaint createTexturePaint ( @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d )
@@ -38,6 +38,12 @@ import java.awt.*;
 public class ComponentBackground<C extends JComponent, D extends IDecoration<C, D>, I extends ComponentBackground<C, D, I>>
         extends AbstractBackground<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public void paint ( @NotNull final Graphics2D g2d, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d,
                         @NotNull final Shape shape )
@@ -130,6 +130,12 @@ public class GradientBackground<C extends JComponent, D extends IDecoration<C, D
         return colors;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public void paint ( @NotNull final Graphics2D g2d, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d,
                         @NotNull final Shape shape )
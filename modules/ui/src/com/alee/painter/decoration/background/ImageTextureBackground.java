@@ -71,6 +71,12 @@ public class ImageTextureBackground<C extends JComponent, D extends IDecoration<
         return iconId;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     protected BufferedImage createTextureImage ( @NotNull final C c, @NotNull final D d )
@@ -138,6 +138,15 @@ public class MovingHighlightBackground<C extends JComponent, D extends IDecorati
         stopAnimation ( c );
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * This background stores component-specific animation state.
+         */
+        return false;
+    }
+
     /**
      * Returns highlight movement {@link Orientation}.
      *
@@ -65,6 +65,12 @@ public class PresetTextureBackground<C extends JComponent, D extends IDecoration
         return preset;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     protected BufferedImage createTextureImage ( @NotNull final C c, @NotNull final D d )
@@ -20,6 +20,7 @@ package com.alee.painter.decoration.border;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.ShareableDecoration;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
 import javax.swing.*;
@@ -33,7 +34,7 @@ import javax.swing.*;
  * @author Mikle Garin
  */
 public abstract class AbstractBorder<C extends JComponent, D extends IDecoration<C, D>, I extends AbstractBorder<C, D, I>>
-        implements IBorder<C, D, I>
+        implements IBorder<C, D, I>, ShareableDecoration
 {
     /**
      * Border identifier.
@@ -85,6 +86,15 @@ public abstract class AbstractBorder<C extends JComponent, D extends IDecoration
          */
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * Borders might store component-specific state, so each specific border has to opt in for sharing.
+         */
+        return false;
+    }
+
     @Override
     public float getOpacity ()
     {
@@ -74,6 +74,12 @@ public class LineBorder<C extends JComponent, D extends IDecoration<C, D>, I ext
         return color;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     public BorderWidth getWidth ()
@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.data.Rotation;
 import com.alee.managers.style.BoundsType;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.ShareableDecoration;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.SwingUtils;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -40,7 +41,7 @@ import java.awt.geom.AffineTransform;
  * @author Alexandr Zernov
  */
 public abstract class AbstractContent<C extends JComponent, D extends IDecoration<C, D>, I extends AbstractContent<C, D, I>>
-        implements IContent<C, D, I>
+        implements IContent<C, D, I>, ShareableDecoration
 {
     /**
      * Content identifier.
@@ -126,6 +127,15 @@ public abstract class AbstractContent<C extends JComponent, D extends IDecoratio
          */
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * Contents might store component-specific state, so each specific content has to opt in for sharing.
+         */
+        return false;
+    }
+
     @NotNull
     @Override
     public BoundsType getBoundsType ()
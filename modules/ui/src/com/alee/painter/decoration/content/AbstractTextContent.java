@@ -28,6 +28,7 @@ import com.alee.utils.ColorUtils;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.SwingUtils;
 import com.alee.utils.TextUtils;
+import com.alee.utils.general.Pair;
 import com.alee.utils.swing.BasicHTML;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
@@ -127,26 +128,22 @@ public abstract class AbstractTextContent<C extends JComponent, D extends IDecor
 
     /**
      * Cached HTML {@link View} settings.
-     * This is runtime-only field that should not be serialized.
-     * It is also generated automatically on demand if missing.
      *
-     * @see #getHtml(javax.swing.JComponent, com.alee.painter.decoration.IDecoration)
-     * @see #cleanupHtml(javax.swing.JComponent, com.alee.painter.decoration.IDecoration)
+     * @deprecated HTML {@link View}s and their settings are now stored in client properties of each {@link JComponent} separately
      */
     @Nullable
+    @Deprecated
     @OmitOnClone
     @OmitOnMerge
     protected transient String htmlSettings;
 
     /**
      * Cached HTML {@link View}.
-     * This is runtime-only field that should not be serialized.
-     * It is also generated automatically on demand if missing.
      *
-     * @see #getHtml(javax.swing.JComponent, com.alee.painter.decoration.IDecoration)
-     * @see #cleanupHtml(javax.swing.JComponent, com.alee.painter.decoration.IDecoration)
+     * @deprecated HTML {@link View}s and their settings are now stored in client properties of each {@link JComponent} separately
      */
     @Nullable
+    @Deprecated
     @OmitOnClone
     @OmitOnMerge
     protected transient View htmlView;
@@ -416,14 +413,16 @@ public abstract class AbstractTextContent<C extends JComponent, D extends IDecor
         final String settings = text + ";" + font + ";" + foreground;
 
         // Updating HTML view if needed
-        if ( htmlView == null || Objects.notEquals ( htmlSettings, settings ) )
+        // It is stored within component client properties to allow sharing this content between multiple components
+        Pair<String, View> html = ( Pair<String, View> ) c.getClientProperty ( this );
+        if ( html == null || Objects.notEquals ( html.getKey (), settings ) )
         {
-            htmlSettings = settings;
-            htmlView = BasicHTML.createHTMLView ( c, text, font, foreground );
+            html = new Pair<String, View> ( settings, BasicHTML.createHTMLView ( c, text, font, foreground ) );
+            c.putClientProperty ( this, html );
         }
 
         // Return cached HTML view
-        return htmlView;
+        return html.getValue ();
     }
 
     /**
@@ -434,8 +433,7 @@ public abstract class AbstractTextContent<C extends JComponent, D extends IDecor
      */
     protected void cleanupHtml ( @NotNull final C c, @NotNull final D d )
     {
-        htmlSettings = null;
-        htmlView = null;
+        c.putClientProperty ( this, null );
     }
 
     /**
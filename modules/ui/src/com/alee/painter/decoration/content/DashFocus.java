@@ -72,6 +72,12 @@ public class DashFocus<C extends JComponent, D extends IDecoration<C, D>, I exte
         return id != null ? id : "dash-focus";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     /**
      * Returns focus rounding.
      *
@@ -45,6 +45,12 @@ public class LocaleTextContent<C extends JComponent, D extends IDecoration<C, D>
         return id != null ? id : "locale";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     protected Color getColor ( @NotNull final C c, @NotNull final D d )
@@ -71,6 +71,12 @@ public class RoundRectangle<C extends JComponent, D extends IDecoration<C, D>, I
         return id != null ? id : "background";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     /**
      * Returns background rounding.
      *
@@ -75,6 +75,12 @@ public class Stripes<C extends JComponent, D extends IDecoration<C, D>, I extend
         return id != null ? id : "stripes";
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     /**
      * Returns stripes orientation.
      *
@@ -19,6 +19,7 @@ package com.alee.painter.decoration.layout;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.painter.decoration.DecorationUtils;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.painter.decoration.content.AbstractContent;
 import com.alee.painter.decoration.content.IContent;
@@ -94,6 +95,18 @@ public abstract class AbstractContentLayout<C extends JComponent, D extends IDec
         }
     }
 
+    /**
+     * Returns whether or not all contents of this layout can be shared between multiple {@link JComponent}s.
+     * Should be used by shareable layouts to ensure that their contents do not prevent sharing.
+     *
+     * @return {@code true} if all contents of this layout can be shared between multiple {@link JComponent}s,
+     * {@code false} otherwise
+     */
+    protected boolean isContentShareable ()
+    {
+        return DecorationUtils.isShareable ( contents );
+    }
+
     @Override
     public boolean isEmpty ( @NotNull final C c, @NotNull final D d )
     {
@@ -138,6 +151,17 @@ public abstract class AbstractContentLayout<C extends JComponent, D extends IDec
         return CollectionUtils.notEmpty ( contents ) ? contents : Collections.<IContent>emptyList ();
     }
 
+    /**
+     * Returns all contents of this layout regardless of the component they are painted for.
+     *
+     * @return all contents of this layout
+     */
+    @NotNull
+    public List<IContent> getContents ()
+    {
+        return CollectionUtils.notEmpty ( contents ) ? contents : Collections.<IContent>emptyList ();
+    }
+
     /**
      * Returns contents placed under the specified constraints.
      *
@@ -151,6 +151,12 @@ public class AlignLayout<C extends JComponent, D extends IDecoration<C, D>, I ex
         return vfill != null && vfill;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return isContentShareable ();
+    }
+
     @NotNull
     @Override
     public ContentLayoutData layoutContent ( @NotNull final C c, @NotNull final D d, @NotNull final Rectangle bounds )
@@ -91,6 +91,12 @@ public class BorderLayout<C extends JComponent, D extends IDecoration<C, D>, I e
         return vgap != null ? vgap : 0;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return isContentShareable ();
+    }
+
     @NotNull
     @Override
     public List<IContent> getContents ( @NotNull final C c, @NotNull final D d, @Nullable String constraints )
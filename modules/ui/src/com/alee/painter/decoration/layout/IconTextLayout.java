@@ -148,6 +148,12 @@ public class IconTextLayout<C extends JComponent, D extends IDecoration<C, D>, I
         return vpos != null ? vpos.getValue () : CENTER;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return isContentShareable ();
+    }
+
     @NotNull
     @Override
     public ContentLayoutData layoutContent ( @NotNull final C c, @NotNull final D d, @NotNull final Rectangle bounds )
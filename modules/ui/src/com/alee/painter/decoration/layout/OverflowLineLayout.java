@@ -79,6 +79,12 @@ public class OverflowLineLayout<C extends JComponent, D extends IDecoration<C, D
         return gap != null ? gap : 0;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return isContentShareable ();
+    }
+
     @NotNull
     @Override
     public List<IContent> getContents ( @NotNull final C c, @NotNull final D d, @Nullable String constraints )
@@ -19,7 +19,9 @@ package com.alee.painter.decoration.shadow;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.graphics.filters.BlurType;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.ShareableDecoration;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
 import javax.swing.*;
@@ -34,7 +36,7 @@ import java.awt.*;
  * @author Mikle Garin
  */
 public abstract class AbstractShadow<C extends JComponent, D extends IDecoration<C, D>, I extends AbstractShadow<C, D, I>>
-        implements IShadow<C, D, I>
+        implements IShadow<C, D, I>, ShareableDecoration
 {
     /**
      * Whether or not this shadow should overwrite previous one when merged.
@@ -71,6 +73,13 @@ public abstract class AbstractShadow<C extends JComponent, D extends IDecoration
     @XStreamAsAttribute
     protected Color color;
 
+    /**
+     * Shadow blur type.
+     */
+    @Nullable
+    @XStreamAsAttribute
+    protected BlurType blur;
+
     @NotNull
     @Override
     public String getId ()
@@ -100,6 +109,15 @@ public abstract class AbstractShadow<C extends JComponent, D extends IDecoration
          */
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * Shadows might store component-specific state, so each specific shadow has to opt in for sharing.
+         */
+        return false;
+    }
+
     @NotNull
     @Override
     public ShadowType getType ()
@@ -133,4 +151,15 @@ public abstract class AbstractShadow<C extends JComponent, D extends IDecoration
     {
         return color != null ? color : Color.BLACK;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns shadow blur type.
+     *
+     * @return shadow blur type
+     */
+    @NotNull
+    public BlurType getBlur ()
+    {
+        return blur != null ? blur : BlurType.gaussian;
+    }
+}
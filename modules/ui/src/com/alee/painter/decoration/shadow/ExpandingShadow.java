@@ -25,6 +25,7 @@ import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.painter.decoration.DecorationException;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.utils.ImageUtils;
+import com.alee.utils.general.CacheKey;
 import com.alee.utils.ninepatch.NinePatchIcon;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 
@@ -50,7 +51,10 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
 {
     /**
      * Shadow images cache.
+     *
+     * @deprecated shadow images are now cached in {@link ShadowCache}, this cache is no longer used
      */
+    @Deprecated
     protected static transient final Map<String, WeakReference<NinePatchIcon>> shadowCache =
             new HashMap<String, WeakReference<NinePatchIcon>> ( 4 );
 
@@ -60,7 +64,7 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
     @Nullable
     @OmitOnClone
     @OmitOnMerge
-    protected transient String shadowKey;
+    protected transient CacheKey shadowKey;
 
     /**
      * {@link NinePatchIcon} currently used as shadow.
@@ -70,6 +74,12 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
     @OmitOnMerge
     protected transient NinePatchIcon shadowIcon;
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public void paint ( @NotNull final Graphics2D g2d, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d,
                         @NotNull final Shape shape )
@@ -103,21 +113,19 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
     @NotNull
     protected NinePatchIcon getShadow ( final int width, final float opacity )
     {
-        final String key = getShadowKey ( width, opacity );
+        final CacheKey key = getShadowKey ( width, opacity );
         if ( shadowIcon == null || Objects.notEquals ( key, shadowKey ) )
         {
             // Updating key
-            shadowKey = key;
+            shadowKey = key.copy ();
 
             // Retrieving icon for new key
-            final WeakReference<NinePatchIcon> reference = shadowCache.get ( key );
-            shadowIcon = reference != null ? reference.get () : null;
+            shadowIcon = ShadowCache.get ( shadowKey );
 
             // Creating new shadow icon if needed
             if ( shadowIcon == null )
             {
-                shadowIcon = createShadowIcon ( new Rectangle ( width * 6, width * 6 ), width, opacity );
-                shadowCache.put ( key, new WeakReference<NinePatchIcon> ( shadowIcon ) );
+                shadowIcon = ShadowCache.put ( shadowKey, createShadowIcon ( new Rectangle ( width * 6, width * 6 ), width, opacity ) );
             }
         }
         return shadowIcon;
@@ -144,7 +152,8 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
         gp.closePath ();
 
         // Creating shadow image
-        final BufferedImage shadowImage = ImageUtils.createShadowImage ( bounds.width, bounds.height, gp, width, opacity, false );
+        final BufferedImage shadowImage = ImageUtils.createShadowImage (
+                bounds.width, bounds.height, gp, width, opacity, false, getBlur () );
 
         // Creating nine-patch icon based on shadow image
         final int w = shadowImage.getWidth ();
@@ -162,14 +171,15 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
 
     /**
      * Returns shadow image cache key.
+     * Returned key is temporary and must be copied to be stored.
      *
      * @param width   shadow width
      * @param opacity shadow opacity
      * @return shadow image cache key
      */
     @NotNull
-    protected String getShadowKey ( final int width, final float opacity )
+    protected CacheKey getShadowKey ( final int width, final float opacity )
     {
-        return width + "," + opacity;
+        return CacheKey.temporary ().add ( ExpandingShadow.class ).add ( width ).add ( opacity ).add ( getBlur () );
     }
 }
\ No newline at end of file
@@ -0,0 +1,300 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration.shadow;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.UtilityException;
+import com.alee.utils.ninepatch.NinePatchIcon;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache for generated shadow {@link BufferedImage}s and {@link NinePatchIcon}s.
+ * It is shared by all shadow implementations, so shadows of the same size and settings are only generated once.
+ *
+ * Cache is limited by the total amount of bytes used by cached images rather than by amount of entries.
+ * Least recently used entries are evicted first once that limit is exceeded.
+ * Unlike weakly referenced images cached images are not lost all at once on garbage collection,
+ * so resizing windows and components back and forth doesn't cause shadows to be generated again and again.
+ *
+ * @author Mikle Garin
+ * @see WebShadow
+ * @see ExpandingShadow
+ */
+public final class ShadowCache
+{
+    /**
+     * Maximum amount of bytes used by cached images.
+     */
+    private static long maximumBytes = 32 * 1024 * 1024;
+
+    /**
+     * Cached shadow {@link BufferedImage}s and {@link NinePatchIcon}s.
+     */
+    @NotNull
+    private static final Map<Object, Entry> cache = new LinkedHashMap<Object, Entry> ( 64, 0.75f, true );
+
+    /**
+     * Amount of bytes used by cached images.
+     */
+    private static long bytes = 0;
+
+    /**
+     * Amount of cache hits.
+     */
+    private static long hits = 0;
+
+    /**
+     * Amount of cache misses.
+     */
+    private static long misses = 0;
+
+    /**
+     * Amount of evicted entries.
+     */
+    private static long evictions = 0;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private ShadowCache ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns maximum amount of bytes used by cached images.
+     *
+     * @return maximum amount of bytes used by cached images
+     */
+    public static synchronized long getMaximumBytes ()
+    {
+        return maximumBytes;
+    }
+
+    /**
+     * Sets maximum amount of bytes used by cached images.
+     * Setting it to zero effectively disables the cache.
+     *
+     * @param maximumBytes maximum amount of bytes used by cached images
+     */
+    public static synchronized void setMaximumBytes ( final long maximumBytes )
+    {
+        ShadowCache.maximumBytes = Math.max ( 0, maximumBytes );
+        evict ();
+    }
+
+    /**
+     * Returns cached shadow {@link BufferedImage} or {@link NinePatchIcon}, {@code null} if it is not cached.
+     *
+     * @param key cache key
+     * @param <T> cached value type
+     * @return cached shadow {@link BufferedImage} or {@link NinePatchIcon}, {@code null} if it is not cached
+     */
+    @Nullable
+    public static synchronized <T> T get ( @NotNull final Object key )
+    {
+        final Entry entry = cache.get ( key );
+        if ( entry != null )
+        {
+            hits++;
+        }
+        else
+        {
+            misses++;
+        }
+        return entry != null ? ( T ) entry.value : null;
+    }
+
+    /**
+     * Caches shadow {@link BufferedImage}.
+     *
+     * @param key   cache key
+     * @param image shadow {@link BufferedImage}
+     * @return shadow {@link BufferedImage} that should be used, it might be different if one was cached in the meantime
+     */
+    @NotNull
+    public static BufferedImage put ( @NotNull final Object key, @NotNull final BufferedImage image )
+    {
+        return put ( key, image, getBytes ( image ) );
+    }
+
+    /**
+     * Caches shadow {@link NinePatchIcon}.
+     *
+     * @param key  cache key
+     * @param icon shadow {@link NinePatchIcon}
+     * @return shadow {@link NinePatchIcon} that should be used, it might be different if one was cached in the meantime
+     */
+    @NotNull
+    public static NinePatchIcon put ( @NotNull final Object key, @NotNull final NinePatchIcon icon )
+    {
+        return put ( key, icon, getBytes ( icon.getRawImage () ) );
+    }
+
+    /**
+     * Caches shadow {@link BufferedImage} or {@link NinePatchIcon}.
+     * Value is not cached at all if it doesn't fit into the cache by itself.
+     *
+     * @param key   cache key
+     * @param value shadow {@link BufferedImage} or {@link NinePatchIcon}
+     * @param size  amount of bytes used by the value
+     * @param <T>   cached value type
+     * @return shadow {@link BufferedImage} or {@link NinePatchIcon} that should be used
+     */
+    @NotNull
+    private static synchronized <T> T put ( @NotNull final Object key, @NotNull final T value, final long size )
+    {
+        final T result;
+        final Entry existing = cache.get ( key );
+        if ( existing == null )
+        {
+            if ( size <= maximumBytes )
+            {
+                cache.put ( key, new Entry ( value, size ) );
+                bytes += size;
+                evict ();
+            }
+            result = value;
+        }
+        else
+        {
+            result = ( T ) existing.value;
+        }
+        return result;
+    }
+
+    /**
+     * Evicts least recently used entries until amount of bytes used by cached images fits into the limit.
+     */
+    private static void evict ()
+    {
+        final Iterator<Entry> iterator = cache.values ().iterator ();
+        while ( bytes > maximumBytes && iterator.hasNext () )
+        {
+            bytes -= iterator.next ().size;
+            iterator.remove ();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns amount of bytes used by the specified {@link BufferedImage} data.
+     *
+     * @param image {@link BufferedImage}
+     * @return amount of bytes used by the specified {@link BufferedImage} data
+     */
+    private static long getBytes ( @NotNull final BufferedImage image )
+    {
+        final DataBuffer buffer = image.getRaster ().getDataBuffer ();
+        return ( long ) buffer.getSize () * buffer.getNumBanks () * DataBuffer.getDataTypeSize ( buffer.getDataType () ) / 8;
+    }
+
+    /**
+     * Clears all cached shadow images.
+     */
+    public static synchronized void clear ()
+    {
+        cache.clear ();
+        bytes = 0;
+    }
+
+    /**
+     * Returns amount of cached entries.
+     *
+     * @return amount of cached entries
+     */
+    public static synchronized int size ()
+    {
+        return cache.size ();
+    }
+
+    /**
+     * Returns amount of bytes used by cached images.
+     *
+     * @return amount of bytes used by cached images
+     */
+    public static synchronized long getBytes ()
+    {
+        return bytes;
+    }
+
+    /**
+     * Returns amount of cache hits.
+     *
+     * @return amount of cache hits
+     */
+    public static synchronized long getHits ()
+    {
+        return hits;
+    }
+
+    /**
+     * Returns amount of cache misses.
+     *
+     * @return amount of cache misses
+     */
+    public static synchronized long getMisses ()
+    {
+        return misses;
+    }
+
+    /**
+     * Returns amount of evicted entries.
+     *
+     * @return amount of evicted entries
+     */
+    public static synchronized long getEvictions ()
+    {
+        return evictions;
+    }
+
+    /**
+     * {@link ShadowCache} entry.
+     */
+    private static final class Entry
+    {
+        /**
+         * Cached shadow {@link BufferedImage} or {@link NinePatchIcon}.
+         */
+        @NotNull
+        private final Object value;
+
+        /**
+         * Amount of bytes used by the value.
+         */
+        private final long size;
+
+        /**
+         * Constructs new {@link Entry}.
+         *
+         * @param value cached shadow {@link BufferedImage} or {@link NinePatchIcon}
+         * @param size  amount of bytes used by the value
+         */
+        public Entry ( @NotNull final Object value, final long size )
+        {
+            this.value = value;
+            this.size = size;
+        }
+    }
+}
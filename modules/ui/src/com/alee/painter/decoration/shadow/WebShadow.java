@@ -21,6 +21,7 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.merge.behavior.OmitOnMerge;
+import com.alee.graphics.filters.BlurType;
 import com.alee.graphics.filters.ShadowFilter;
 import com.alee.painter.decoration.WebDecoration;
 import com.alee.painter.decoration.shape.IShape;
@@ -28,7 +29,7 @@ import com.alee.painter.decoration.shape.StretchInfo;
 import com.alee.utils.ColorUtils;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.ImageUtils;
-import com.alee.utils.TextUtils;
+import com.alee.utils.general.CacheKey;
 import com.alee.utils.general.Pair;
 import com.alee.utils.ninepatch.NinePatchIcon;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
@@ -44,7 +45,7 @@ import java.util.Map;
 /**
  * Basic shadow that can be painted on any shape.
  * Shadow is generated through the {@link com.alee.graphics.filters.ShadowFilter} and saved into {@link java.awt.image.BufferedImage}.
- * Generated image with the shadow is usually kept in cache to optimize UI performance.
+ * Generated image with the shadow is usually kept in {@link ShadowCache} to optimize UI performance.
  *
  * One generated shadow sometimes might be reused by multiple components of different size.
  * That happens only when {@link com.alee.painter.decoration.shape.IShape} implementation this shadow is based on provides stretch areas.
@@ -60,13 +61,19 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
 {
     /**
      * Shadow icons cache.
+     *
+     * @deprecated shadow icons are now cached in {@link ShadowCache}, this cache is no longer used
      */
+    @Deprecated
     protected static transient final Map<String, WeakReference<NinePatchIcon>> shadowIconsCache =
             new HashMap<String, WeakReference<NinePatchIcon>> ( 100 );
 
     /**
      * Shadow images cache.
+     *
+     * @deprecated shadow images are now cached in {@link ShadowCache}, this cache is no longer used
      */
+    @Deprecated
     protected static transient final Map<String, WeakReference<BufferedImage>> shadowImagesCache =
             new HashMap<String, WeakReference<BufferedImage>> ( 20 );
 
@@ -77,20 +84,32 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
 
     /**
      * Reference keeping shadow icon in memory.
+     *
+     * @deprecated shadow icons and images are now strongly referenced by {@link ShadowCache}, this reference is no longer used
      */
     @Nullable
+    @Deprecated
     @OmitOnClone
     @OmitOnMerge
     protected transient NinePatchIcon shadowIcon;
 
     /**
      * Reference keeping shadow image in memory.
+     *
+     * @deprecated shadow icons and images are now strongly referenced by {@link ShadowCache}, this reference is no longer used
      */
     @Nullable
+    @Deprecated
     @OmitOnClone
     @OmitOnMerge
     protected transient BufferedImage shadowImage;
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public void paint ( @NotNull final Graphics2D g2d, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d,
                         @NotNull final Shape shape )
@@ -114,16 +133,15 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                 if ( type == ShadowType.outer )
                 {
                     // Outer 9-patch shadow icon
-                    shadowIcon = getShadowIcon ( stretch, b, width, opacity, getColor (), shape, settings );
+                    final NinePatchIcon shadowIcon = getShadowIcon ( stretch, b, width, opacity, getColor (), getBlur (), shape, settings );
                     shadowIcon.paintIcon ( g2d, b.x, b.y, b.width, b.height );
-                    shadowImage = null;
                 }
                 else
                 {
                     // Inner 9-patch shadow icon
-                    shadowIcon = getInnerShadowIcon ( stretch, b, width, opacity, getColor (), shape, settings );
+                    final NinePatchIcon shadowIcon =
+                            getInnerShadowIcon ( stretch, b, width, opacity, getColor (), getBlur (), shape, settings );
                     shadowIcon.paintIcon ( g2d, b.x, b.y, b.width, b.height );
-                    shadowImage = null;
                 }
             }
             else
@@ -133,16 +151,14 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                 if ( type == ShadowType.outer )
                 {
                     // Outer shadow image
-                    shadowImage = getShadowImage ( b, width, opacity, getColor (), shape, settings );
+                    final BufferedImage shadowImage = getShadowImage ( b, width, opacity, getColor (), getBlur (), shape, settings );
                     g2d.drawImage ( shadowImage, b.x, b.y, b.width, b.height, null );
-                    shadowIcon = null;
                 }
                 else
                 {
                     // Inner shadow image
-                    shadowImage = getInnerShadowImage ( b, width, opacity, getColor (), shape, settings );
+                    final BufferedImage shadowImage = getInnerShadowImage ( b, width, opacity, getColor (), getBlur (), shape, settings );
                     g2d.drawImage ( shadowImage, b.x, b.y, b.width, b.height, null );
-                    shadowIcon = null;
                 }
             }
 
@@ -165,11 +181,6 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
             //                }
             //            }
         }
-        else
-        {
-            shadowIcon = null;
-            shadowImage = null;
-        }
     }
 
     /**
@@ -212,16 +223,37 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
     public static NinePatchIcon getShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds, final int width,
                                                 final float opacity, @NotNull final Color color, @NotNull final Shape shape,
                                                 @Nullable final Object... settings )
+    {
+        return getShadowIcon ( stretchInfo, bounds, width, opacity, color, BlurType.gaussian, shape, settings );
+    }
+
+    /**
+     * Returns cached shadow icon based on provided shape.
+     *
+     * @param stretchInfo shape stretch information
+     * @param bounds      shadow bounds
+     * @param width       shadow width
+     * @param opacity     shadow opacity
+     * @param color       shadow color
+     * @param blur        shadow blur type
+     * @param shape       shadow shape
+     * @param settings    shape settings
+     * @return cached shadow icon based on provided shape
+     */
+    @NotNull
+    public static NinePatchIcon getShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds, final int width,
+                                                final float opacity, @NotNull final Color color, @NotNull final BlurType blur,
+                                                @NotNull final Shape shape, @Nullable final Object... settings )
     {
         // Width and height is added as key in case there are no horizontal and/or vertical stretchable areas
         final int hor = stretchInfo.getHorizontalStretch () == null ? bounds.width : 0;
         final int ver = stretchInfo.getVerticalStretch () == null ? bounds.height : 0;
-        final String key = TextUtils.getSettingsKey ( ShadowType.outer, hor, ver, width, opacity, color, settings );
-        NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
+        final CacheKey key = CacheKey.temporary ().add ( NinePatchIcon.class ).add ( ShadowType.outer ).add ( hor ).add ( ver )
+                .add ( width ).add ( opacity ).add ( color ).add ( blur ).addAll ( settings );
+        NinePatchIcon shadow = ShadowCache.get ( key );
         if ( shadow == null )
         {
-            shadow = createShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
-            shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            shadow = ShadowCache.put ( key.copy (), createShadowIcon ( stretchInfo, bounds, width, opacity, color, blur, shape ) );
         }
         return shadow;
     }
@@ -240,9 +272,29 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
     @NotNull
     public static NinePatchIcon createShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds, final int width,
                                                    final float opacity, @NotNull final Color color, @NotNull final Shape shape )
+    {
+        return createShadowIcon ( stretchInfo, bounds, width, opacity, color, BlurType.gaussian, shape );
+    }
+
+    /**
+     * Returns shadow nine-patch icon.
+     *
+     * @param stretchInfo shape stretch information
+     * @param bounds      shadow bounds
+     * @param width       shadow width
+     * @param opacity     shadow opacity
+     * @param color       shadow color
+     * @param blur        shadow blur type
+     * @param shape       shadow shape
+     * @return shadow nine-patch icon
+     */
+    @NotNull
+    public static NinePatchIcon createShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds, final int width,
+                                                   final float opacity, @NotNull final Color color, @NotNull final BlurType blur,
+                                                   @NotNull final Shape shape )
     {
         // Creating shadow image
-        final BufferedImage image = createShadowImage ( bounds, width, opacity, color, shape );
+        final BufferedImage image = createShadowImage ( bounds, width, opacity, color, blur, shape );
 
         // Creating nine-patch icon based on shadow image
         final NinePatchIcon icon = new NinePatchIcon ( image, false );
@@ -292,12 +344,32 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                                                  @NotNull final Color color, @NotNull final Shape shape,
                                                  @Nullable final Object... settings )
     {
-        final String key = TextUtils.getSettingsKey ( ShadowType.outer, bounds.width, bounds.height, width, opacity, color, settings );
-        BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
+        return getShadowImage ( bounds, width, opacity, color, BlurType.gaussian, shape, settings );
+    }
+
+    /**
+     * Returns cached shadow image based on provided shape.
+     *
+     * @param bounds   shadow bounds
+     * @param width    shadow width
+     * @param opacity  shadow opacity
+     * @param color    shadow color
+     * @param blur     shadow blur type
+     * @param shape    shadow shape
+     * @param settings shape settings
+     * @return cached shadow image based on provided shape
+     */
+    @NotNull
+    public static BufferedImage getShadowImage ( @NotNull final Rectangle bounds, final int width, final float opacity,
+                                                 @NotNull final Color color, @NotNull final BlurType blur, @NotNull final Shape shape,
+                                                 @Nullable final Object... settings )
+    {
+        final CacheKey key = CacheKey.temporary ().add ( BufferedImage.class ).add ( ShadowType.outer )
+                .add ( bounds.width ).add ( bounds.height ).add ( width ).add ( opacity ).add ( color ).add ( blur ).addAll ( settings );
+        BufferedImage shadow = ShadowCache.get ( key );
         if ( shadow == null )
         {
-            shadow = createShadowImage ( bounds, width, opacity, color, shape );
-            shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            shadow = ShadowCache.put ( key.copy (), createShadowImage ( bounds, width, opacity, color, blur, shape ) );
         }
         return shadow;
     }
@@ -315,6 +387,24 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
     @NotNull
     public static BufferedImage createShadowImage ( @NotNull final Rectangle bounds, final int width, final float opacity,
                                                     @NotNull final Color color, @NotNull final Shape shape )
+    {
+        return createShadowImage ( bounds, width, opacity, color, BlurType.gaussian, shape );
+    }
+
+    /**
+     * Returns shadow image based on provided shape.
+     *
+     * @param bounds  shadow bounds
+     * @param width   shadow width
+     * @param opacity shadow opacity
+     * @param color   shadow color
+     * @param blur    shadow blur type
+     * @param shape   shadow shape
+     * @return shadow image based on provided shape
+     */
+    @NotNull
+    public static BufferedImage createShadowImage ( @NotNull final Rectangle bounds, final int width, final float opacity,
+                                                    @NotNull final Color color, @NotNull final BlurType blur, @NotNull final Shape shape )
     {
         // Creating template image
         final BufferedImage bi = ImageUtils.createCompatibleImage ( bounds.width, bounds.height, Transparency.TRANSLUCENT );
@@ -328,6 +418,7 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         // Creating shadow image
         final ShadowFilter sf = new ShadowFilter ( width, 0, 0, opacity );
         sf.setShadowColor ( Color.BLACK.getRGB () );
+        sf.setBlurType ( blur );
         final BufferedImage shadow = sf.filter ( bi, null );
 
         // Clipping shadow image
@@ -361,16 +452,38 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
     public static NinePatchIcon getInnerShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds,
                                                      final int width, final float opacity, @NotNull final Color color,
                                                      @NotNull final Shape shape, @Nullable final Object... settings )
+    {
+        return getInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, BlurType.gaussian, shape, settings );
+    }
+
+    /**
+     * Returns cached inner shadow icon based on provided shape.
+     *
+     * @param stretchInfo shape stretch information
+     * @param bounds      shadow bounds
+     * @param width       shadow width
+     * @param opacity     shadow opacity
+     * @param color       shadow color
+     * @param blur        shadow blur type
+     * @param shape       shadow shape
+     * @param settings    shape settings
+     * @return cached inner shadow icon based on provided shape
+     */
+    @NotNull
+    public static NinePatchIcon getInnerShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds,
+                                                     final int width, final float opacity, @NotNull final Color color,
+                                                     @NotNull final BlurType blur, @NotNull final Shape shape,
+                                                     @Nullable final Object... settings )
     {
         // Width and height is added as key in case there are no horizontal and/or vertical stretchable areas
         final int hor = stretchInfo.getHorizontalStretch () == null ? bounds.width : 0;
         final int ver = stretchInfo.getVerticalStretch () == null ? bounds.height : 0;
-        final String key = TextUtils.getSettingsKey ( ShadowType.inner, hor, ver, width, opacity, color, settings );
-        NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
+        final CacheKey key = CacheKey.temporary ().add ( NinePatchIcon.class ).add ( ShadowType.inner ).add ( hor ).add ( ver )
+                .add ( width ).add ( opacity ).add ( color ).add ( blur ).addAll ( settings );
+        NinePatchIcon shadow = ShadowCache.get ( key );
         if ( shadow == null )
         {
-            shadow = createInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
-            shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            shadow = ShadowCache.put ( key.copy (), createInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, blur, shape ) );
         }
         return shadow;
     }
@@ -390,9 +503,29 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
     public static NinePatchIcon createInnerShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds,
                                                         final int width, final float opacity, @NotNull final Color color,
                                                         @NotNull final Shape shape )
+    {
+        return createInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, BlurType.gaussian, shape );
+    }
+
+    /**
+     * Returns inner shadow nine-patch icon.
+     *
+     * @param stretchInfo shape stretch information
+     * @param bounds      shadow bounds
+     * @param width       shadow width
+     * @param opacity     shadow opacity
+     * @param color       shadow color
+     * @param blur        shadow blur type
+     * @param shape       shadow shape
+     * @return inner shadow nine-patch icon
+     */
+    @NotNull
+    public static NinePatchIcon createInnerShadowIcon ( @NotNull final StretchInfo stretchInfo, @NotNull final Rectangle bounds,
+                                                        final int width, final float opacity, @NotNull final Color color,
+                                                        @NotNull final BlurType blur, @NotNull final Shape shape )
     {
         // Creating inner shadow image
-        final BufferedImage image = createInnerShadowImage ( bounds, width, opacity, color, shape );
+        final BufferedImage image = createInnerShadowImage ( bounds, width, opacity, color, blur, shape );
 
         // Creating nine-patch icon based on inner shadow image
         final NinePatchIcon icon = new NinePatchIcon ( image, false );
@@ -442,12 +575,32 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                                                       @NotNull final Color color, @NotNull final Shape shape,
                                                       @Nullable final Object... settings )
     {
-        final String key = TextUtils.getSettingsKey ( ShadowType.inner, bounds.width, bounds.height, width, opacity, color, settings );
-        BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
+        return getInnerShadowImage ( bounds, width, opacity, color, BlurType.gaussian, shape, settings );
+    }
+
+    /**
+     * Returns cached inner shadow image based on provided shape.
+     *
+     * @param bounds   shadow bounds
+     * @param width    shadow width
+     * @param opacity  shadow opacity
+     * @param color    shadow color
+     * @param blur     shadow blur type
+     * @param shape    shadow shape
+     * @param settings shape settings
+     * @return cached inner shadow image based on provided shape
+     */
+    @NotNull
+    public static BufferedImage getInnerShadowImage ( @NotNull final Rectangle bounds, final int width, final float opacity,
+                                                      @NotNull final Color color, @NotNull final BlurType blur, @NotNull final Shape shape,
+                                                      @Nullable final Object... settings )
+    {
+        final CacheKey key = CacheKey.temporary ().add ( BufferedImage.class ).add ( ShadowType.inner )
+                .add ( bounds.width ).add ( bounds.height ).add ( width ).add ( opacity ).add ( color ).add ( blur ).addAll ( settings );
+        BufferedImage shadow = ShadowCache.get ( key );
         if ( shadow == null )
         {
-            shadow = createInnerShadowImage ( bounds, width, opacity, color, shape );
-            shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            shadow = ShadowCache.put ( key.copy (), createInnerShadowImage ( bounds, width, opacity, color, blur, shape ) );
         }
         return shadow;
     }
@@ -465,6 +618,25 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
     @NotNull
     public static BufferedImage createInnerShadowImage ( @NotNull final Rectangle bounds, final int width, final float opacity,
                                                          @NotNull final Color color, @NotNull final Shape shape )
+    {
+        return createInnerShadowImage ( bounds, width, opacity, color, BlurType.gaussian, shape );
+    }
+
+    /**
+     * Returns inner shadow image based on provided shape.
+     *
+     * @param bounds  shadow bounds
+     * @param width   shadow width
+     * @param opacity shadow opacity
+     * @param color   shadow color
+     * @param blur    shadow blur type
+     * @param shape   shadow shape
+     * @return inner shadow image based on provided shape
+     */
+    @NotNull
+    public static BufferedImage createInnerShadowImage ( @NotNull final Rectangle bounds, final int width, final float opacity,
+                                                         @NotNull final Color color, @NotNull final BlurType blur,
+                                                         @NotNull final Shape shape )
     {
         final Rectangle b = new Rectangle ( bounds.x - width * 2, bounds.y - width * 2,
                 bounds.width + width * 4, bounds.height + width * 4 );
@@ -483,6 +655,7 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         // Creating inner shadow image
         final ShadowFilter sf = new ShadowFilter ( width, 0, 0, opacity );
         sf.setShadowColor ( Color.BLACK.getRGB () );
+        sf.setBlurType ( blur );
         final BufferedImage shadow = sf.filter ( bi, null );
 
         // Clipping inner shadow image
@@ -20,6 +20,7 @@ package com.alee.painter.decoration.shape;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.ShareableDecoration;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
 import javax.swing.*;
@@ -34,7 +35,7 @@ import java.awt.*;
  * @author Mikle Garin
  */
 public abstract class AbstractShape<C extends JComponent, D extends IDecoration<C, D>, I extends AbstractShape<C, D, I>>
-        implements IShape<C, D, I>
+        implements IShape<C, D, I>, ShareableDecoration
 {
     /**
      * Shape ID.
@@ -79,6 +80,15 @@ public abstract class AbstractShape<C extends JComponent, D extends IDecoration<
          */
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        /**
+         * Shapes might store component-specific state, so each specific shape has to opt in for sharing.
+         */
+        return false;
+    }
+
     @Override
     public boolean isVisible ( @NotNull final ShapeType type, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d )
     {
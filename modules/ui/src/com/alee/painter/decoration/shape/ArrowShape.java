@@ -23,6 +23,7 @@ import com.alee.api.data.CompassDirection;
 import com.alee.api.jdk.Supplier;
 import com.alee.painter.decoration.WebDecoration;
 import com.alee.utils.ShapeUtils;
+import com.alee.utils.general.CacheKey;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
@@ -41,6 +42,12 @@ import java.awt.geom.GeneralPath;
 @XStreamAlias ( "ArrowShape" )
 public class ArrowShape<C extends JComponent, D extends WebDecoration<C, D>, I extends ArrowShape<C, D, I>> extends AbstractShape<C, D, I>
 {
+    /**
+     * {@link Shape} identifiers for each {@link ShapeType}.
+     */
+    @NotNull
+    private static final String[] SHAPE_IDS = ShapeUtils.createShapeIds ( "ArrowShape" );
+
     /**
      * Arrow corner direction.
      * Only north, east, south and west directions are supported.
@@ -62,19 +69,25 @@ public class ArrowShape<C extends JComponent, D extends WebDecoration<C, D>, I e
         return direction != null ? direction.adjust ( c.getComponentOrientation () ) : CompassDirection.north;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     public Shape getShape ( @NotNull final ShapeType type, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d )
     {
         final CompassDirection direction = getDirection ( c, d );
-        return ShapeUtils.getShape ( c, "ArrowShape." + type, new Supplier<Shape> ()
+        return ShapeUtils.getShape ( c, SHAPE_IDS[ type.ordinal () ], new Supplier<Shape> ()
         {
             @Override
             public Shape get ()
             {
                 return createArrowButtonShape ( type, bounds, direction );
             }
-        }, type, bounds, direction );
+        }, CacheKey.temporary ().add ( type ).add ( bounds ).add ( direction ) );
     }
 
     /**
@@ -39,6 +39,12 @@ import java.awt.geom.Ellipse2D;
 public class EllipseShape<C extends JComponent, D extends WebDecoration<C, D>, I extends EllipseShape<C, D, I>>
         extends AbstractShape<C, D, I>
 {
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @NotNull
     @Override
     public Shape getShape ( @NotNull final ShapeType type, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d )
@@ -18,9 +18,12 @@
 package com.alee.painter.decoration.shape;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
 import com.alee.api.merge.Overwriting;
+import com.alee.utils.general.CacheKey;
+import com.alee.utils.general.CacheKeyPart;
 import com.thoughtworks.xstream.annotations.XStreamConverter;
 
 import java.io.Serializable;
@@ -32,7 +35,7 @@ import java.io.Serializable;
  * @see RoundConverter
  */
 @XStreamConverter ( RoundConverter.class )
-public final class Round implements Overwriting, CloneBehavior<Round>, Serializable
+public final class Round implements Overwriting, CloneBehavior<Round>, CacheKeyPart, Serializable
 {
     /**
      * Top left corner round.
@@ -96,10 +99,45 @@ public final class Round implements Overwriting, CloneBehavior<Round>, Serializa
         return new Round ( topLeft, topRight, bottomRight, bottomLeft );
     }
 
+    @Override
+    public void addTo ( @NotNull final CacheKey key )
+    {
+        key.add ( topLeft ).add ( topRight ).add ( bottomRight ).add ( bottomLeft );
+    }
+
     @NotNull
     @Override
     public String toString ()
     {
         return RoundConverter.roundToString ( this );
     }
+
+    @Override
+    public int hashCode ()
+    {
+        return 31 * ( 31 * ( 31 * topLeft + topRight ) + bottomRight ) + bottomLeft;
+    }
+
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( object == this )
+        {
+            equals = true;
+        }
+        else if ( object instanceof Round )
+        {
+            final Round other = ( Round ) object;
+            equals = topLeft == other.topLeft &&
+                    topRight == other.topRight &&
+                    bottomRight == other.bottomRight &&
+                    bottomLeft == other.bottomLeft;
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
 }
\ No newline at end of file
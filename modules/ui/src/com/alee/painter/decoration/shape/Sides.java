@@ -18,9 +18,12 @@
 package com.alee.painter.decoration.shape;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
 import com.alee.api.merge.Overwriting;
+import com.alee.utils.general.CacheKey;
+import com.alee.utils.general.CacheKeyPart;
 import com.thoughtworks.xstream.annotations.XStreamConverter;
 
 import java.io.Serializable;
@@ -49,7 +52,7 @@ import java.io.Serializable;
  * @see SidesConverter
  */
 @XStreamConverter ( SidesConverter.class )
-public final class Sides implements Overwriting, CloneBehavior<Sides>, Serializable
+public final class Sides implements Overwriting, CloneBehavior<Sides>, CacheKeyPart, Serializable
 {
     /**
      * Sides constants.
@@ -160,10 +163,45 @@ public final class Sides implements Overwriting, CloneBehavior<Sides>, Serializa
         return new Sides ( top, left, bottom, right );
     }
 
+    @Override
+    public void addTo ( @NotNull final CacheKey key )
+    {
+        key.add ( top ).add ( left ).add ( bottom ).add ( right );
+    }
+
     @NotNull
     @Override
     public String toString ()
     {
         return SidesConverter.sidesToString ( this );
     }
+
+    @Override
+    public int hashCode ()
+    {
+        return ( top ? 8 : 0 ) + ( left ? 4 : 0 ) + ( bottom ? 2 : 0 ) + ( right ? 1 : 0 );
+    }
+
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( object == this )
+        {
+            equals = true;
+        }
+        else if ( object instanceof Sides )
+        {
+            final Sides other = ( Sides ) object;
+            equals = top == other.top &&
+                    left == other.left &&
+                    bottom == other.bottom &&
+                    right == other.right;
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import com.alee.painter.decoration.border.BorderWidth;
 import com.alee.painter.decoration.shadow.ShadowType;
 import com.alee.utils.MathUtils;
 import com.alee.utils.ShapeUtils;
+import com.alee.utils.general.CacheKey;
 import com.alee.utils.general.Pair;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -31,6 +32,12 @@ import java.awt.*;
 public class WebShape<C extends JComponent, D extends WebDecoration<C, D>, I extends WebShape<C, D, I>> extends AbstractShape<C, D, I>
         implements IPartialShape<C, D, I>
 {
+    /**
+     * {@link Shape} identifiers for each {@link ShapeType}.
+     */
+    @NotNull
+    private static final String[] SHAPE_IDS = ShapeUtils.createShapeIds ( "WebShape" );
+
     /**
      * Decoration corners rounding.
      */
@@ -113,6 +120,12 @@ public class WebShape<C extends JComponent, D extends WebDecoration<C, D>, I ext
         return sides;
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return true;
+    }
+
     @Override
     public boolean isPaintTop ( @NotNull final C c, @NotNull final D d )
     {
@@ -272,7 +285,7 @@ public class WebShape<C extends JComponent, D extends WebDecoration<C, D>, I ext
         final Sides sides = createSides ( c, d );
 
         // Retrieving shape
-        return ShapeUtils.getShape ( c, "WebShape." + type, new Supplier<Shape> ()
+        return ShapeUtils.getShape ( c, SHAPE_IDS[ type.ordinal () ], new Supplier<Shape> ()
         {
             @NotNull
             @Override
@@ -290,7 +303,7 @@ public class WebShape<C extends JComponent, D extends WebDecoration<C, D>, I ext
                 return result;
             }
 
-        }, bounds, sw, round, sides );
+        }, CacheKey.temporary ().add ( bounds ).add ( sw ).add ( round ).add ( sides ) );
     }
 
     @NotNull
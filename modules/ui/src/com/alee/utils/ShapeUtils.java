@@ -22,6 +22,7 @@ import com.alee.api.jdk.Supplier;
 import com.alee.painter.decoration.shape.Round;
 import com.alee.painter.decoration.shape.ShapeType;
 import com.alee.painter.decoration.shape.Sides;
+import com.alee.utils.general.CacheKey;
 
 import java.awt.*;
 import java.awt.geom.GeneralPath;
@@ -368,6 +369,25 @@ public final class ShapeUtils
         return shape;
     }
 
+    /**
+     * Returns {@link Shape} identifiers for all {@link ShapeType}s with the specified prefix.
+     * They can be used to avoid building {@link Shape} identifiers upon each {@link #getShape} call.
+     *
+     * @param prefix {@link Shape} identifier prefix
+     * @return {@link Shape} identifiers for all {@link ShapeType}s indexed by {@link ShapeType#ordinal()}
+     */
+    @NotNull
+    public static String[] createShapeIds ( @NotNull final String prefix )
+    {
+        final ShapeType[] types = ShapeType.values ();
+        final String[] shapeIds = new String[ types.length ];
+        for ( final ShapeType type : types )
+        {
+            shapeIds[ type.ordinal () ] = prefix + "." + type;
+        }
+        return shapeIds;
+    }
+
     /**
      * Returns {@link Shape} cached for the specified {@link Component} and identifier.
      * If {@link Shape} is not yet cached it will be created using specified {@link Supplier}.
@@ -383,26 +403,48 @@ public final class ShapeUtils
     @NotNull
     public static <T extends Shape> T getShape ( @NotNull final Component component, @NotNull final String shapeId,
                                                  @NotNull final Supplier<T> shapeSupplier, @NotNull final Object... settings )
+    {
+        return getShape ( component, shapeId, shapeSupplier, CacheKey.temporary ().addAll ( settings ) );
+    }
+
+    /**
+     * Returns {@link Shape} cached for the specified {@link Component} and identifier.
+     * If {@link Shape} is not yet cached it will be created using specified {@link Supplier}.
+     * If {@link Shape} settings have changed from the last time it was requested it will also be created again.
+     *
+     * Specified {@link CacheKey} is only copied when {@link Shape} is created, so {@link CacheKey#temporary()} can be used here.
+     *
+     * @param component     {@link Component} for which {@link Shape} is cached
+     * @param shapeId       {@link Shape} identifier unique for the {@link Component}
+     * @param shapeSupplier {@link Supplier} for the {@link Shape}
+     * @param key           {@link Shape} settings key
+     * @param <T>           {@link Shape} type
+     * @return {@link Shape} cached for the specified {@link Component} and identifier
+     */
+    @NotNull
+    public static <T extends Shape> T getShape ( @NotNull final Component component, @NotNull final String shapeId,
+                                                 @NotNull final Supplier<T> shapeSupplier, @NotNull final CacheKey key )
     {
         final T shape;
-        final String settingsKey = TextUtils.getSettingsKey ( settings );
         Map<String, CachedShape> cacheById = shapeCache.get ( component );
         if ( cacheById == null )
         {
             // Shape is not yet cached
+            final CacheKey shapeKey = key.copy ();
             shape = shapeSupplier.get ();
             cacheById = new HashMap<String, CachedShape> ( 1 );
-            cacheById.put ( shapeId, new CachedShape ( settingsKey, shape ) );
+            cacheById.put ( shapeId, new CachedShape ( shapeKey, shape ) );
             shapeCache.put ( component, cacheById );
         }
         else
         {
             final CachedShape cachedShape = cacheById.get ( shapeId );
-            if ( cachedShape == null || !cachedShape.key.equals ( settingsKey ) )
+            if ( cachedShape == null || !cachedShape.key.equals ( key ) )
             {
                 // Shape is not yet cached or cache entry is outdated
+                final CacheKey shapeKey = key.copy ();
                 shape = shapeSupplier.get ();
-                cacheById.put ( shapeId, new CachedShape ( settingsKey, shape ) );
+                cacheById.put ( shapeId, new CachedShape ( shapeKey, shape ) );
             }
             else
             {
@@ -422,7 +464,7 @@ public final class ShapeUtils
          * {@link Shape} cache key.
          */
         @NotNull
-        public final String key;
+        public final CacheKey key;
 
         /**
          * Cached {@link Shape}.
@@ -436,7 +478,7 @@ public final class ShapeUtils
          * @param key   {@link Shape} cache key
          * @param shape cached {@link Shape}
          */
-        public CachedShape ( @NotNull final String key, @NotNull final Shape shape )
+        public CachedShape ( @NotNull final CacheKey key, @NotNull final Shape shape )
         {
             this.key = key;
             this.shape = shape;
@@ -0,0 +1,233 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.label.*;
+import com.alee.utils.CoreSwingUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Set of JUnit tests for concurrent {@link ComponentDescriptor} resolution.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ComponentDescriptorConcurrencyTest
+{
+    /**
+     * Amount of threads resolving {@link ComponentDescriptor}s.
+     */
+    private static final int READERS = 4;
+
+    /**
+     * Amount of {@link ComponentDescriptor} registrations.
+     */
+    private static final int REGISTRATIONS = 200;
+
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Tests {@link ComponentDescriptor}s resolution while other {@link ComponentDescriptor}s are being registered.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void concurrentResolution () throws InterruptedException
+    {
+        final AtomicBoolean running = new AtomicBoolean ( true );
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable> ();
+        final CountDownLatch started = new CountDownLatch ( READERS );
+        final List<Thread> readers = new ArrayList<Thread> ( READERS );
+        for ( int i = 0; i < READERS; i++ )
+        {
+            final Thread reader = new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    started.countDown ();
+                    try
+                    {
+                        while ( running.get () )
+                        {
+                            checkDescriptor ( StyleManager.getDescriptor ( JLabel.class ) );
+                            checkDescriptor ( StyleManager.getDescriptor ( CustomLabel.class ) );
+                            checkDescriptor ( StyleManager.getDescriptor ( "label" ) );
+                            if ( StyleManager.getDescriptor ( JButton.class ).getComponentClass () != JButton.class )
+                            {
+                                throw new StyleException ( "Unexpected button descriptor resolved" );
+                            }
+                        }
+                    }
+                    catch ( final Throwable e )
+                    {
+                        failure.compareAndSet ( null, e );
+                    }
+                }
+            }, "ComponentDescriptorReader-" + i );
+            readers.add ( reader );
+            reader.start ();
+        }
+        started.await ();
+
+        try
+        {
+            for ( int i = 0; i < REGISTRATIONS && failure.get () == null; i++ )
+            {
+                final boolean custom = i % 2 == 0;
+                CoreSwingUtils.invokeAndWait ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        StyleManager.registerComponentDescriptor ( custom ? new TestLabelDescriptor () : new LabelDescriptor () );
+                    }
+                } );
+            }
+        }
+        finally
+        {
+            running.set ( false );
+            for ( final Thread reader : readers )
+            {
+                reader.join ();
+            }
+        }
+
+        if ( failure.get () != null )
+        {
+            throw new StyleException ( "Concurrent descriptor resolution failed", failure.get () );
+        }
+
+        // Registrations must be visible right away
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                StyleManager.registerComponentDescriptor ( new TestLabelDescriptor () );
+                checkDescriptorType ( StyleManager.getDescriptor ( CustomLabel.class ), TestLabelDescriptor.class );
+                StyleManager.registerComponentDescriptor ( new LabelDescriptor () );
+                checkDescriptorType ( StyleManager.getDescriptor ( CustomLabel.class ), LabelDescriptor.class );
+            }
+        } );
+    }
+
+    /**
+     * Asserts that {@link ComponentDescriptor} is one of the {@link JLabel} descriptors.
+     *
+     * @param descriptor {@link ComponentDescriptor} to check
+     */
+    private static void checkDescriptor ( final ComponentDescriptor descriptor )
+    {
+        if ( descriptor.getComponentClass () != JLabel.class || !"label".equals ( descriptor.getId () ) )
+        {
+            throw new StyleException ( "Unexpected label descriptor resolved: " + descriptor );
+        }
+    }
+
+    /**
+     * Asserts {@link ComponentDescriptor} type.
+     *
+     * @param descriptor {@link ComponentDescriptor} to check
+     * @param type       expected {@link ComponentDescriptor} type
+     */
+    private static void checkDescriptorType ( final ComponentDescriptor descriptor, final Class<? extends ComponentDescriptor> type )
+    {
+        if ( descriptor.getClass () != type )
+        {
+            throw new StyleException ( String.format (
+                    "Descriptor '%s' is expected instead of '%s'",
+                    type, descriptor.getClass ()
+            ) );
+        }
+    }
+
+    /**
+     * Custom {@link JLabel} that inherits {@link JLabel} descriptor.
+     */
+    public static class CustomLabel extends JLabel
+    {
+    }
+
+    /**
+     * Custom {@link ComponentDescriptor} for {@link JLabel}.
+     */
+    public static class TestLabelDescriptor extends AbstractComponentDescriptor<JLabel, WLabelUI, ILabelPainter>
+    {
+        /**
+         * Constructs new {@link TestLabelDescriptor}.
+         */
+        public TestLabelDescriptor ()
+        {
+            super (
+                    "label",
+                    JLabel.class,
+                    "LabelUI",
+                    WLabelUI.class,
+                    WebLabelUI.class,
+                    ILabelPainter.class,
+                    LabelPainter.class,
+                    AdaptiveLabelPainter.class,
+                    StyleId.label
+            );
+        }
+    }
+
+    /**
+     * Destroys {@link WebLookAndFeel}.
+     */
+    @AfterClass
+    public static void destroy ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.uninstall ();
+            }
+        } );
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.button.WebButton;
+import com.alee.laf.label.WebLabel;
+import com.alee.laf.panel.WebPanel;
+import com.alee.managers.style.data.ComponentStyle;
+import com.alee.skin.dark.WebDarkSkin;
+import com.alee.skin.light.WebLightSkin;
+import com.alee.utils.CollectionUtils;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.LafUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link StylePrewarm}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class StylePrewarmTest
+{
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Tests that all requested styles are prepared for exact component types and components can be styled afterwards.
+     *
+     * @throws InterruptedException if test thread was interrupted
+     */
+    @Test
+    public void prewarm () throws InterruptedException
+    {
+        final List<Class<? extends JComponent>> types = CollectionUtils.<Class<? extends JComponent>>asList (
+                PrewarmedButton.class, WebLabel.class, WebPanel.class
+        );
+        final StylePrewarm prewarm = StyleManager.prewarm ( types, CollectionUtils.asList ( StyleId.buttonHover ), null );
+        prewarm.waitFor ();
+        assertTrue ( prewarm.isDone () );
+        assertFalse ( prewarm.isCancelled () );
+        assertEquals ( 6, prewarm.getTotal () );
+        assertEquals ( prewarm.getTotal (), prewarm.getProgress () );
+
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final Skin skin = StyleManager.getSkin ();
+                for ( final StyleId styleId : CollectionUtils.asList ( StyleId.button, StyleId.buttonHover ) )
+                {
+                    final WebButton button = new WebButton ( styleId );
+                    assertEquals ( styleId, button.getStyleId () );
+
+                    final ComponentStyle style = skin.getStyle ( button );
+                    final Class uiClass = LafUtils.getUI ( button ).getClass ();
+                    assertTrue ( style.isPrepared ( PrewarmedButton.class, uiClass ) );
+                    assertFalse ( style.isPrepared ( OtherButton.class, uiClass ) );
+                }
+            }
+        } );
+    }
+
+    /**
+     * Tests that {@link StylePrewarm} is cancelled upon {@link Skin} change.
+     *
+     * @throws InterruptedException if test thread was interrupted
+     */
+    @Test
+    public void skinChange () throws InterruptedException
+    {
+        final List<Class<? extends JComponent>> types = getAllTypes ();
+        final Skin skin = new WebDarkSkin ();
+        final StylePrewarm[] prewarm = new StylePrewarm[ 1 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                prewarm[ 0 ] = StyleManager.prewarm ( types );
+                StyleManager.setSkin ( skin );
+            }
+        } );
+        prewarm[ 0 ].waitFor ();
+        assertTrue ( prewarm[ 0 ].isDone () );
+        assertTrue ( prewarm[ 0 ].isCancelled () );
+        assertTrue ( prewarm[ 0 ].getProgress () <= prewarm[ 0 ].getTotal () );
+    }
+
+    /**
+     * Returns all {@link JComponent} types supported by {@link StyleManager}.
+     *
+     * @return all {@link JComponent} types supported by {@link StyleManager}
+     */
+    private static List<Class<? extends JComponent>> getAllTypes ()
+    {
+        final List<ComponentDescriptor> descriptors = StyleManager.getDescriptors ();
+        final List<Class<? extends JComponent>> types = new ArrayList<Class<? extends JComponent>> ( descriptors.size () );
+        for ( final ComponentDescriptor descriptor : descriptors )
+        {
+            types.add ( descriptor.getComponentClass () );
+        }
+        return types;
+    }
+
+    /**
+     * {@link WebButton} type that is only prepared, but never instantiated.
+     */
+    public static final class PrewarmedButton extends WebButton
+    {
+    }
+
+    /**
+     * {@link WebButton} type that is never prepared or instantiated.
+     */
+    public static final class OtherButton extends WebButton
+    {
+    }
+
+    /**
+     * Restores default {@link Skin}.
+     */
+    @AfterClass
+    public static void destroy ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                StyleManager.setSkin ( new WebLightSkin () );
+            }
+        } );
+    }
+}
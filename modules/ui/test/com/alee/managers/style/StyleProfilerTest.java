@@ -0,0 +1,133 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.button.WebButton;
+import com.alee.utils.CoreSwingUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link StyleProfiler}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class StyleProfilerTest
+{
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Tests that nothing is recorded while {@link StyleProfiler} is disabled.
+     */
+    @Test
+    public void disabledProfiler ()
+    {
+        StyleProfiler.setEnabled ( false );
+        StyleProfiler.reset ();
+        createButton ();
+        assertTrue ( StyleProfiler.getStyleProfiles ().isEmpty () );
+        assertTrue ( StyleProfiler.getComponentProfiles ().isEmpty () );
+    }
+
+    /**
+     * Tests that style lookups and applications are recorded while {@link StyleProfiler} is enabled.
+     */
+    @Test
+    public void enabledProfiler ()
+    {
+        StyleProfiler.setEnabled ( true );
+        StyleProfiler.reset ();
+        try
+        {
+            createButton ();
+        }
+        finally
+        {
+            StyleProfiler.setEnabled ( false );
+        }
+
+        final Map<String, StyleProfile> styleProfiles = StyleProfiler.getStyleProfiles ();
+        final StyleProfile style = styleProfiles.get ( StyleId.button.getCompleteId () );
+        assertNotNull ( "Button style is not recorded: " + styleProfiles.keySet (), style );
+        assertTrue ( style.getApplications () > 0 );
+        assertTrue ( style.getLookups () > 0 );
+        assertTrue ( style.getApplicationTime () > 0 );
+        assertTrue ( style.getPainters () > 0 );
+        assertTrue ( style.getReflectiveCalls () > 0 );
+
+        final StyleProfile component = StyleProfiler.getComponentProfiles ().get ( WebButton.class.getName () );
+        assertNotNull ( component );
+        assertTrue ( component.getApplications () >= style.getApplications () );
+        assertTrue ( component.getPainters () >= style.getPainters () );
+
+        final String report = StyleProfiler.getReport ();
+        assertTrue ( report.contains ( StyleId.button.getCompleteId () ) );
+        assertTrue ( report.contains ( WebButton.class.getName () ) );
+
+        StyleProfiler.reset ();
+        assertTrue ( StyleProfiler.getStyleProfiles ().isEmpty () );
+    }
+
+    /**
+     * Creates {@link WebButton} within Event Dispatch Thread.
+     */
+    private static void createButton ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                new WebButton ( "Profiled" );
+            }
+        } );
+    }
+
+    /**
+     * Disables {@link StyleProfiler} and clears recorded results.
+     */
+    @AfterClass
+    public static void destroy ()
+    {
+        StyleProfiler.setEnabled ( false );
+        StyleProfiler.reset ();
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.button.WebButton;
+import com.alee.laf.label.WebLabel;
+import com.alee.laf.panel.IPanelPainter;
+import com.alee.laf.panel.WPanelUI;
+import com.alee.laf.panel.WebPanel;
+import com.alee.managers.style.Bounds;
+import com.alee.managers.style.Skin;
+import com.alee.managers.style.StyleId;
+import com.alee.managers.style.StyleManager;
+import com.alee.painter.Painter;
+import com.alee.painter.PainterSupport;
+import com.alee.painter.ShareablePainter;
+import com.alee.skin.dark.WebDarkSkin;
+import com.alee.skin.light.WebLightSkin;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.ReflectUtils;
+import com.alee.utils.XmlUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import javax.swing.plaf.basic.BasicButtonUI;
+import java.awt.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link ComponentStyle}.
+ * {@link Painter}s are compared by their serialized non-transient fields, which are the ones provided by styles.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ComponentStyleTest
+{
+    /**
+     * Client property key {@link ComponentStyle} keeps style state under.
+     */
+    private static final String STATES_KEY = "ComponentStyle.states";
+
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Tests that {@link Painter} is reused when {@link Skin} is switched and ends up equal to a newly created one.
+     */
+    @Test
+    public void painterReuse ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final Skin initialSkin = StyleManager.getSkin ();
+                final WebButton button = new WebButton ( "Button" );
+                final Painter painter = PainterSupport.getPainter ( button );
+                assertNotNull ( painter );
+                try
+                {
+                    StyleManager.setSkin ( new WebDarkSkin () );
+                    assertSame ( painter, PainterSupport.getPainter ( button ) );
+                    assertEquals ( toXML ( new WebButton ( "Button" ) ), toXML ( button ) );
+                }
+                finally
+                {
+                    StyleManager.setSkin ( initialSkin );
+                }
+                assertSame ( painter, PainterSupport.getPainter ( button ) );
+                assertEquals ( toXML ( new WebButton ( "Button" ) ), toXML ( button ) );
+            }
+        } );
+    }
+
+    /**
+     * Tests that runtime modifications of reused {@link Painter} are reset when the same style is applied again.
+     */
+    @Test
+    public void painterReset ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final WebButton button = new WebButton ( "Button" );
+                final String initial = toXML ( button );
+                final Painter painter = PainterSupport.getPainter ( button );
+                assertNotNull ( painter );
+
+                ReflectUtils.setFieldValueSafely ( painter, "decorations", null );
+                assertNotEquals ( initial, toXML ( button ) );
+
+                button.updateUI ();
+                assertSame ( painter, PainterSupport.getPainter ( button ) );
+                assertEquals ( initial, toXML ( button ) );
+            }
+        } );
+    }
+
+    /**
+     * Tests that switching between styles which painter settings only differ in decorations keeps installed {@link Painter} and gives
+     * the same result as full style application.
+     */
+    @Test
+    public void styleSwitch ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                checkSwitch ( new WebButton ( StyleId.button, "Button" ), new WebButton ( StyleId.buttonHover, "Button" ) );
+                checkSwitch ( new WebButton ( StyleId.button, "Button" ), new WebButton ( StyleId.buttonUndecorated, "Button" ) );
+                checkSwitch ( new WebPanel ( StyleId.panel ), new WebPanel ( StyleId.panelDecorated ) );
+                checkSwitch ( new WebPanel ( StyleId.panel ), new WebPanel ( StyleId.panelTransparent ) );
+                checkSwitch ( new WebLabel ( StyleId.label, "Label" ), new WebLabel ( StyleId.labelShadow, "Label" ) );
+                checkSwitch ( new WebLabel ( StyleId.label, "Label" ), new WebLabel ( StyleId.labelTag, "Label" ) );
+            }
+        } );
+    }
+
+    /**
+     * Tests that only settings that differ between styles are applied on style switch.
+     */
+    @Test
+    public void styleSwitchDelta ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final WebLabel label = new WebLabel ( StyleId.label, "Label" );
+                final Painter painter = PainterSupport.getPainter ( label );
+                label.setForeground ( Color.RED );
+                ReflectUtils.setFieldValueSafely ( painter, "decorations", null );
+
+                StyleManager.setStyleId ( label, StyleId.labelShadow );
+                final WebLabel expected = new WebLabel ( StyleId.labelShadow, "Label" );
+                assertSame ( painter, PainterSupport.getPainter ( label ) );
+                assertEquals ( Color.RED, label.getForeground () );
+                assertEquals ( toXML ( expected ), toXML ( label ) );
+            }
+        } );
+    }
+
+    /**
+     * Tests that {@link StyleDelta} only contains settings that differ between styles and tracks size-affecting changes.
+     */
+    @Test
+    public void styleDelta ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final ComponentStyle label = getStyle ( new WebLabel ( StyleId.label ) );
+                final ComponentStyle shadow = getStyle ( new WebLabel ( StyleId.labelShadow ) );
+                final ComponentStyle tag = getStyle ( new WebLabel ( StyleId.labelTag ) );
+
+                final StyleDelta shadowDelta = StyleDelta.get ( new HashMap<ComponentStyle, StyleDelta> (), label, shadow );
+                assertTrue ( shadowDelta.getComponentProperties ().isEmpty () );
+                assertTrue ( shadowDelta.getUIProperties ().isEmpty () );
+                assertTrue ( shadowDelta.isPainterUpdatable () );
+                assertTrue ( shadowDelta.isDecorationsChanged () );
+                assertEquals ( 1, shadowDelta.getPainterProperties ().size () );
+                assertFalse ( shadowDelta.isLayoutAffecting () );
+
+                final StyleDelta tagDelta = StyleDelta.get ( new HashMap<ComponentStyle, StyleDelta> (), label, tag );
+                assertEquals ( Collections.singleton ( "padding" ), tagDelta.getComponentProperties ().keySet () );
+                assertTrue ( tagDelta.isDecorationsChanged () );
+                assertTrue ( tagDelta.isLayoutAffecting () );
+
+                final StyleDelta backDelta = StyleDelta.get ( new HashMap<ComponentStyle, StyleDelta> (), tag, label );
+                assertEquals ( Collections.singleton ( "padding" ), backDelta.getComponentProperties ().keySet () );
+                assertTrue ( backDelta.isLayoutAffecting () );
+
+                final Map<ComponentStyle, StyleDelta> deltas = new HashMap<ComponentStyle, StyleDelta> ();
+                assertSame ( StyleDelta.get ( deltas, label, shadow ), StyleDelta.get ( deltas, label, shadow ) );
+            }
+        } );
+    }
+
+    /**
+     * Tests that component layout is only invalidated on style switch when component size might have changed.
+     * Switching button to hover style only changes decorations and doesn't affect its size, while switching label to the styles
+     * with text shadow and padding does.
+     */
+    @Test
+    public void styleSwitchLayout ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final int[] invalidations = new int[ 1 ];
+                final WebButton button = new WebButton ( StyleId.button, "Button" )
+                {
+                    @Override
+                    public void invalidate ()
+                    {
+                        invalidations[ 0 ]++;
+                        super.invalidate ();
+                    }
+                };
+                final WebLabel label = new WebLabel ( StyleId.label, "Label" )
+                {
+                    @Override
+                    public void invalidate ()
+                    {
+                        invalidations[ 0 ]++;
+                        super.invalidate ();
+                    }
+                };
+                final JPanel container = new JPanel ();
+                container.add ( button );
+                container.add ( label );
+
+                invalidations[ 0 ] = 0;
+                StyleManager.setStyleId ( button, StyleId.buttonHover );
+                assertEquals ( new WebButton ( StyleId.buttonHover, "Button" ).getPreferredSize (), button.getPreferredSize () );
+                assertEquals ( 0, invalidations[ 0 ] );
+
+                invalidations[ 0 ] = 0;
+                StyleManager.setStyleId ( label, StyleId.labelShadow );
+                assertEquals ( new WebLabel ( StyleId.labelShadow, "Label" ).getPreferredSize (), label.getPreferredSize () );
+                assertTrue ( invalidations[ 0 ] > 0 );
+
+                invalidations[ 0 ] = 0;
+                StyleManager.setStyleId ( label, StyleId.labelTag );
+                assertEquals ( new WebLabel ( StyleId.labelTag, "Label" ).getPreferredSize (), label.getPreferredSize () );
+                assertTrue ( invalidations[ 0 ] > 0 );
+            }
+        } );
+    }
+
+    /**
+     * Tests that skin removal is still performed on style switch if {@link Skin} implementation doesn't support incremental updates.
+     */
+    @Test
+    public void customSkinRemoval ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final int[] removals = new int[ 1 ];
+                final WebLightSkin skin = new WebLightSkin ()
+                {
+                    @Override
+                    public void removeSkin ( @NotNull final JComponent component )
+                    {
+                        removals[ 0 ]++;
+                        super.removeSkin ( component );
+                    }
+
+                    @Override
+                    protected boolean isIncrementalUpdateSupported ()
+                    {
+                        return false;
+                    }
+                };
+                final WebButton button = new WebButton ( StyleId.button, "Button" );
+                StyleManager.setSkin ( button, skin );
+                final Painter painter = PainterSupport.getPainter ( button );
+                final int initialRemovals = removals[ 0 ];
+
+                StyleManager.setStyleId ( button, StyleId.buttonHover );
+                assertEquals ( initialRemovals + 1, removals[ 0 ] );
+                assertSame ( painter, PainterSupport.getPainter ( button ) );
+                assertEquals ( toXML ( new WebButton ( StyleId.buttonHover, "Button" ) ), toXML ( button ) );
+            }
+        } );
+    }
+
+    /**
+     * Tests that single {@link ShareablePainter} instance serves all components using the same style.
+     */
+    @Test
+    public void shareablePainter ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final PainterStyle painterStyle = new PainterStyle ();
+                painterStyle.setPainterClass ( StatelessPanelPainter.class.getName () );
+                painterStyle.setProperties ( new LinkedHashMap<String, Object> () );
+                final ComponentStyle style = new ComponentStyle ();
+                style.setType ( "panel" );
+                style.setId ( "stateless" );
+                style.setComponentProperties ( new LinkedHashMap<String, Object> () );
+                style.setUIProperties ( new LinkedHashMap<String, Object> () );
+                style.setPainterStyle ( painterStyle );
+                style.setNestedStyles ( new ArrayList<ComponentStyle> () );
+
+                final WebPanel first = new WebPanel ();
+                final WebPanel second = new WebPanel ();
+                final WebPanel third = new WebPanel ();
+                style.apply ( first );
+                style.apply ( second );
+                style.apply ( third );
+
+                final Painter painter = PainterSupport.getPainter ( first );
+                assertTrue ( painter instanceof StatelessPanelPainter );
+                assertSame ( painter, PainterSupport.getPainter ( second ) );
+                assertSame ( painter, PainterSupport.getPainter ( third ) );
+                assertEquals ( 3, ( ( StatelessPanelPainter ) painter ).installed );
+
+                style.remove ( second );
+                assertNull ( PainterSupport.getPainter ( second ) );
+                assertEquals ( 2, ( ( StatelessPanelPainter ) painter ).installed );
+
+                style.apply ( second );
+                assertSame ( painter, PainterSupport.getPainter ( second ) );
+                assertEquals ( 3, ( ( StatelessPanelPainter ) painter ).installed );
+            }
+        } );
+    }
+
+    /**
+     * Tests that style state is not kept within {@link JButton} after its style is removed.
+     */
+    @Test
+    public void stateRemoval ()
+    {
+        final JButton[] button = new JButton[ 1 ];
+        final Painter[] painter = new Painter[ 1 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                button[ 0 ] = new JButton ( "Button" );
+                painter[ 0 ] = PainterSupport.getPainter ( button[ 0 ] );
+                assertNotNull ( painter[ 0 ] );
+                assertNotNull ( button[ 0 ].getClientProperty ( STATES_KEY ) );
+
+                button[ 0 ].setUI ( new BasicButtonUI () );
+                assertNull ( PainterSupport.getPainter ( button[ 0 ] ) );
+                assertNull ( button[ 0 ].getClientProperty ( STATES_KEY ) );
+            }
+        } );
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                button[ 0 ].updateUI ();
+                assertNotNull ( PainterSupport.getPainter ( button[ 0 ] ) );
+                assertNotSame ( painter[ 0 ], PainterSupport.getPainter ( button[ 0 ] ) );
+                assertNotNull ( button[ 0 ].getClientProperty ( STATES_KEY ) );
+            }
+        } );
+    }
+
+    /**
+     * Switches first {@link JComponent} to the style of the second one and checks that the result is the same.
+     *
+     * @param component {@link JComponent} to switch style for
+     * @param expected  {@link JComponent} with expected style
+     */
+    private static void checkSwitch ( @NotNull final JComponent component, @NotNull final JComponent expected )
+    {
+        final Painter painter = PainterSupport.getPainter ( component );
+        StyleManager.setStyleId ( component, StyleManager.getStyleId ( expected ) );
+        assertSame ( painter, PainterSupport.getPainter ( component ) );
+        assertEquals ( toXML ( expected ), toXML ( component ) );
+        assertEquals ( expected.getInsets (), component.getInsets () );
+        assertEquals ( expected.isOpaque (), component.isOpaque () );
+        assertEquals ( expected.getForeground (), component.getForeground () );
+        assertEquals ( expected.getPreferredSize (), component.getPreferredSize () );
+    }
+
+    /**
+     * Stateless {@link ShareablePainter} for {@link JPanel}.
+     * It only counts {@link JPanel}s it is installed into.
+     */
+    public static final class StatelessPanelPainter
+            implements IPanelPainter<JPanel, WPanelUI<JPanel>>, ShareablePainter<JPanel, WPanelUI<JPanel>>
+    {
+        /**
+         * Amount of {@link JPanel}s this painter is installed into.
+         */
+        private int installed = 0;
+
+        @Override
+        public void install ( @NotNull final JPanel c, @NotNull final WPanelUI<JPanel> ui )
+        {
+            installed++;
+        }
+
+        @Override
+        public void uninstall ( @NotNull final JPanel c, @NotNull final WPanelUI<JPanel> ui )
+        {
+            installed--;
+        }
+
+        @Override
+        public boolean isInstalled ()
+        {
+            return installed > 0;
+        }
+
+        @Nullable
+        @Override
+        public Boolean isOpaque ()
+        {
+            return null;
+        }
+
+        @Override
+        public boolean contains ( @NotNull final JPanel c, @NotNull final WPanelUI<JPanel> ui, @NotNull final Bounds bounds,
+                                  final int x, final int y )
+        {
+            return bounds.get ().contains ( x, y );
+        }
+
+        @Override
+        public int getBaseline ( @NotNull final JPanel c, @NotNull final WPanelUI<JPanel> ui, @NotNull final Bounds bounds )
+        {
+            return -1;
+        }
+
+        @Override
+        public Component.BaselineResizeBehavior getBaselineResizeBehavior ( @NotNull final JPanel c,
+                                                                            @NotNull final WPanelUI<JPanel> ui )
+        {
+            return Component.BaselineResizeBehavior.OTHER;
+        }
+
+        @Override
+        public void paint ( @NotNull final Graphics2D g2d, @NotNull final JPanel c, @NotNull final WPanelUI<JPanel> ui,
+                            @NotNull final Bounds bounds )
+        {
+            /**
+             * Nothing is painted.
+             */
+        }
+
+        @Override
+        public Dimension getPreferredSize ()
+        {
+            return new Dimension ( 0, 0 );
+        }
+    }
+
+    /**
+     * Returns {@link ComponentStyle} currently applied to the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent}
+     * @return {@link ComponentStyle} currently applied to the specified {@link JComponent}
+     */
+    @NotNull
+    private static ComponentStyle getStyle ( @NotNull final JComponent component )
+    {
+        return StyleManager.getSkin ( component ).getStyle ( component );
+    }
+
+    /**
+     * Returns serialized {@link Painter} of the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent}
+     * @return serialized {@link Painter} of the specified {@link JComponent}
+     */
+    private static String toXML ( @NotNull final JComponent component )
+    {
+        return XmlUtils.toXML ( PainterSupport.getPainter ( component ) );
+    }
+}
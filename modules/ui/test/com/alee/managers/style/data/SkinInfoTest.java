@@ -0,0 +1,258 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.resource.ClassResource;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.skin.dark.WebDarkSkin;
+import com.alee.skin.light.WebLightSkin;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.XmlUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link SkinInfo}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class SkinInfoTest
+{
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Tests that styles built lazily per component type in reverse order are the same as styles built at once.
+     */
+    @Test
+    public void lazyStyles ()
+    {
+        checkLazyStyles ( new ClassResource ( WebLightSkin.class, "resources/web-light-skin.xml" ) );
+        checkLazyStyles ( new ClassResource ( WebDarkSkin.class, "resources/web-dark-skin.xml" ) );
+    }
+
+    /**
+     * Tests that styles of component types extending styles of other component types are the same when built lazily first.
+     * Calendar contains nested button styles extending top-level button styles, which in turn are extended by other nested styles.
+     */
+    @Test
+    public void lazyCrossTypeStyles ()
+    {
+        final ClassResource resource = new ClassResource ( WebLightSkin.class, "resources/web-light-skin.xml" );
+        final Map<String, Map<String, ComponentStyle>> expected = loadSkin ( resource, false ).getStylesCache ();
+        for ( final String type : new String[]{ "button", "label", "calendar", "scrollpane" } )
+        {
+            final SkinInfo skin = loadSkin ( resource, true );
+            skin.prebuildStyles ( type );
+            assertStyles ( expected, skin.getStylesCache () );
+        }
+    }
+
+    /**
+     * Tests that requesting styles for component type skin doesn't have any styles for doesn't affect other styles.
+     */
+    @Test
+    public void lazyMissingStyles ()
+    {
+        final ClassResource resource = new ClassResource ( WebLightSkin.class, "resources/web-light-skin.xml" );
+        final SkinInfo skin = loadSkin ( resource, true );
+        skin.prebuildStyles ( "missing" );
+        skin.prebuildStyles ( "missing" );
+        skin.prebuildStyles ( "button" );
+        skin.prebuildStyles ( "missing" );
+        final Map<String, Map<String, ComponentStyle>> stylesCache = skin.getStylesCache ();
+        assertFalse ( stylesCache.containsKey ( "missing" ) );
+        assertStyles ( loadSkin ( resource, false ).getStylesCache (), stylesCache );
+    }
+
+    /**
+     * Checks that styles built lazily per component type in reverse order are the same as styles built at once.
+     *
+     * @param resource skin {@link ClassResource}
+     */
+    private static void checkLazyStyles ( @NotNull final ClassResource resource )
+    {
+        final Map<String, Map<String, ComponentStyle>> expected = loadSkin ( resource, false ).getStylesCache ();
+        final SkinInfo skin = loadSkin ( resource, true );
+        final List<String> types = new ArrayList<String> ( expected.keySet () );
+        Collections.reverse ( types );
+        for ( final String type : types )
+        {
+            skin.prebuildStyles ( type );
+        }
+        assertStyles ( expected, skin.getStylesCache () );
+    }
+
+    /**
+     * Returns {@link SkinInfo} read from the specified skin {@link ClassResource} with initialized styles cache.
+     * {@link SkinSnapshot} is not used here to ensure that styles are actually built.
+     *
+     * @param resource skin {@link ClassResource}
+     * @param lazy     whether or not styles should be built lazily per component type
+     * @return {@link SkinInfo} read from the specified skin {@link ClassResource} with initialized styles cache
+     */
+    @NotNull
+    private static SkinInfo loadSkin ( @NotNull final ClassResource resource, final boolean lazy )
+    {
+        final boolean lazyStylesBuilding = SkinInfo.isLazyStylesBuilding ();
+        try
+        {
+            SkinInfo.setLazyStylesBuilding ( lazy );
+            final SkinInfo skin = XmlUtils.fromXML ( resource );
+            skin.prebuildStyles ( "missing" );
+            return skin;
+        }
+        finally
+        {
+            SkinInfo.setLazyStylesBuilding ( lazyStylesBuilding );
+        }
+    }
+
+    /**
+     * Asserts that styles caches contain the same styles in the same order.
+     * It is also used by {@link SkinSnapshotTest} to compare restored styles.
+     *
+     * @param expected expected styles cache
+     * @param actual   actual styles cache
+     */
+    static void assertStyles ( @NotNull final Map<String, Map<String, ComponentStyle>> expected,
+                                       @NotNull final Map<String, Map<String, ComponentStyle>> actual )
+    {
+        assertEquals ( expected.keySet (), actual.keySet () );
+        for ( final Map.Entry<String, Map<String, ComponentStyle>> entry : expected.entrySet () )
+        {
+            final String type = entry.getKey ();
+            final Map<String, ComponentStyle> actualStyles = actual.get ( type );
+            assertEquals ( type, new ArrayList<String> ( entry.getValue ().keySet () ), new ArrayList<String> ( actualStyles.keySet () ) );
+            for ( final Map.Entry<String, ComponentStyle> style : entry.getValue ().entrySet () )
+            {
+                final String message = type + ":" + style.getKey ();
+                assertArrayEquals ( message, serialize ( style.getValue () ), serialize ( actualStyles.get ( style.getKey () ) ) );
+            }
+        }
+    }
+
+    /**
+     * Returns serialized {@link ComponentStyle} including all of its nested {@link ComponentStyle}s.
+     *
+     * @param style {@link ComponentStyle}
+     * @return serialized {@link ComponentStyle} including all of its nested {@link ComponentStyle}s
+     */
+    @NotNull
+    private static byte[] serialize ( @NotNull final ComponentStyle style )
+    {
+        try
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream ();
+            final ObjectOutputStream output = new StyleOutputStream ( bytes );
+            output.writeObject ( style );
+            output.close ();
+            return bytes.toByteArray ();
+        }
+        catch ( final IOException e )
+        {
+            throw new RuntimeException ( "Unable to serialize style: " + style, e );
+        }
+    }
+
+    /**
+     * {@link ObjectOutputStream} replacing non-serializable {@link BasicStroke}s with their descriptions.
+     * It also replaces {@link Map}s with lists of their entries, since serialized {@link Map}s depend on their capacity.
+     * Entries of {@link Map}s without predictable order are sorted by their keys.
+     */
+    private static final class StyleOutputStream extends ObjectOutputStream
+    {
+        /**
+         * Constructs new {@link StyleOutputStream}.
+         *
+         * @param output {@link OutputStream} to write to
+         * @throws IOException if an I/O error occurs while writing stream header
+         */
+        public StyleOutputStream ( @NotNull final OutputStream output ) throws IOException
+        {
+            super ( output );
+            enableReplaceObject ( true );
+        }
+
+        @Override
+        protected Object replaceObject ( final Object object ) throws IOException
+        {
+            final Object replacement;
+            if ( object instanceof BasicStroke )
+            {
+                final BasicStroke stroke = ( BasicStroke ) object;
+                replacement = "BasicStroke:" + stroke.getLineWidth () + ":" + stroke.getEndCap () + ":" + stroke.getLineJoin () + ":" +
+                        stroke.getMiterLimit () + ":" + Arrays.toString ( stroke.getDashArray () ) + ":" + stroke.getDashPhase ();
+            }
+            else if ( object instanceof Map )
+            {
+                final List<Map.Entry<?, ?>> entries = new ArrayList<Map.Entry<?, ?>> ( ( ( Map<?, ?> ) object ).entrySet () );
+                if ( !( object instanceof LinkedHashMap ) )
+                {
+                    Collections.sort ( entries, new Comparator<Map.Entry<?, ?>> ()
+                    {
+                        @Override
+                        public int compare ( final Map.Entry<?, ?> e1, final Map.Entry<?, ?> e2 )
+                        {
+                            return String.valueOf ( e1.getKey () ).compareTo ( String.valueOf ( e2.getKey () ) );
+                        }
+                    } );
+                }
+                final ArrayList<Object> list = new ArrayList<Object> ( entries.size () * 2 );
+                for ( final Map.Entry<?, ?> entry : entries )
+                {
+                    list.add ( entry.getKey () );
+                    list.add ( entry.getValue () );
+                }
+                replacement = list;
+            }
+            else
+            {
+                replacement = object;
+            }
+            return replacement;
+        }
+    }
+}
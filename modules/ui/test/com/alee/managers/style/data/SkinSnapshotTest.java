@@ -0,0 +1,308 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.resource.ClassResource;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.skin.dark.WebDarkSkin;
+import com.alee.skin.light.WebLightSkin;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.FileUtils;
+import com.alee.utils.XmlUtils;
+import com.alee.utils.map.StrictHashMap;
+import org.junit.*;
+import org.junit.runners.MethodSorters;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link SkinSnapshot}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class SkinSnapshotTest
+{
+    /**
+     * Skin {@link ClassResource} used for tests.
+     */
+    @NotNull
+    private static final ClassResource SKIN = new ClassResource ( WebLightSkin.class, "resources/web-light-skin.xml" );
+
+    /**
+     * Another skin {@link ClassResource} used for tests.
+     */
+    @NotNull
+    private static final ClassResource OTHER_SKIN = new ClassResource ( WebDarkSkin.class, "resources/web-dark-skin.xml" );
+
+    /**
+     * Skin snapshots directory used before tests.
+     */
+    private static File previousDirectory;
+
+    /**
+     * Temporary skin snapshots directory.
+     */
+    private static File directory;
+
+    /**
+     * Initializes {@link WebLookAndFeel} and temporary skin snapshots directory.
+     *
+     * @throws IOException if temporary directory cannot be created
+     */
+    @BeforeClass
+    public static void initialize () throws IOException
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+            }
+        } );
+        directory = File.createTempFile ( "snapshots", "" );
+        if ( !directory.delete () || !directory.mkdirs () )
+        {
+            throw new IOException ( "Unable to create directory: " + directory.getAbsolutePath () );
+        }
+        previousDirectory = SkinSnapshot.getDirectory ();
+        SkinSnapshot.setDirectory ( directory );
+    }
+
+    /**
+     * Restores skin snapshots directory and removes temporary one.
+     */
+    @AfterClass
+    public static void destroy ()
+    {
+        SkinSnapshot.setDirectory ( previousDirectory );
+        FileUtils.deleteFile ( directory );
+    }
+
+    /**
+     * Tests that styles restored from the snapshot are the same as styles built from the XML.
+     */
+    @Test
+    public void roundTrip ()
+    {
+        final File file = getFile ( SKIN );
+        SkinSnapshot.write ( file, SKIN );
+        assertTrue ( file.isFile () );
+
+        final SkinInfo snapshot = SkinSnapshot.read ( file, SKIN );
+        assertNotNull ( snapshot );
+        final SkinInfo skin = XmlUtils.fromXML ( SKIN );
+        assertEquals ( skin.getId (), snapshot.getId () );
+        assertEquals ( skin.getIncludedResources ().size (), snapshot.getIncludedResources ().size () );
+        SkinInfoTest.assertStyles ( skin.getStylesCache (), snapshot.getStylesCache () );
+        assertStyles ( skin, SkinSnapshot.load ( SKIN ) );
+    }
+
+    /**
+     * Tests that snapshot with a hash of different resources is ignored and skin is read from the XML instead.
+     *
+     * @throws InterruptedException if test thread was interrupted
+     */
+    @Test
+    public void staleHash () throws InterruptedException
+    {
+        final File file = getFile ( SKIN );
+        SkinSnapshot.write ( file, OTHER_SKIN );
+        assertTrue ( file.isFile () );
+
+        assertNull ( SkinSnapshot.read ( file, SKIN ) );
+        assertFallback ( file );
+    }
+
+    /**
+     * Tests that snapshot with corrupted data is ignored and skin is read from the XML instead.
+     *
+     * @throws IOException          if snapshot cannot be modified
+     * @throws InterruptedException if test thread was interrupted
+     */
+    @Test
+    public void corruptedData () throws IOException, InterruptedException
+    {
+        final File file = getFile ( SKIN );
+        SkinSnapshot.write ( file, SKIN );
+        assertTrue ( file.isFile () );
+
+        final RandomAccessFile data = new RandomAccessFile ( file, "rw" );
+        try
+        {
+            data.seek ( data.length () - 16 );
+            final int value = data.read ();
+            data.seek ( data.length () - 16 );
+            data.write ( value ^ 0xFF );
+        }
+        finally
+        {
+            data.close ();
+        }
+
+        assertNull ( SkinSnapshot.read ( file, SKIN ) );
+        assertFallback ( file );
+    }
+
+    /**
+     * Tests that snapshot data containing classes which are not allowed is rejected even if it is otherwise valid.
+     *
+     * @throws IOException          if snapshot cannot be modified
+     * @throws InterruptedException if test thread was interrupted
+     */
+    @Test
+    public void disallowedClasses () throws IOException, InterruptedException
+    {
+        final File file = getFile ( SKIN );
+
+        final Map<String, Object> allowed = new HashMap<String, Object> ();
+        allowed.put ( "label", new HashMap<String, Object> () );
+        writeData ( file, allowed );
+        assertNotNull ( SkinSnapshot.read ( file, SKIN ) );
+
+        final Map<String, Object> disallowedJava = new HashMap<String, Object> ();
+        disallowedJava.put ( "label", new File ( "file" ) );
+        writeData ( file, disallowedJava );
+        assertNull ( SkinSnapshot.read ( file, SKIN ) );
+
+        final Map<String, Object> disallowedWebLaF = new HashMap<String, Object> ();
+        disallowedWebLaF.put ( "label", new StrictHashMap<String, Object> () );
+        writeData ( file, disallowedWebLaF );
+        assertNull ( SkinSnapshot.read ( file, SKIN ) );
+
+        assertFallback ( file );
+    }
+
+    /**
+     * Returns snapshot {@link File} for the specified skin {@link ClassResource}.
+     *
+     * @param resource skin {@link ClassResource}
+     * @return snapshot {@link File} for the specified skin {@link ClassResource}
+     */
+    @NotNull
+    private static File getFile ( @NotNull final ClassResource resource )
+    {
+        final File file = SkinSnapshot.getFile ( resource );
+        assertNotNull ( file );
+        return file;
+    }
+
+    /**
+     * Replaces data of the valid snapshot {@link File} with empty {@link SkinInfo} and specified styles cache.
+     * Snapshot header including resources hash is kept and data hash is updated, so only data classes might be rejected.
+     *
+     * @param file        snapshot {@link File}
+     * @param stylesCache styles cache to write
+     * @throws IOException if snapshot cannot be written
+     */
+    private static void writeData ( @NotNull final File file, @NotNull final Map<String, Object> stylesCache ) throws IOException
+    {
+        SkinSnapshot.write ( file, SKIN );
+
+        // Copying snapshot header
+        final ByteArrayOutputStream header = new ByteArrayOutputStream ();
+        final DataOutputStream headerOutput = new DataOutputStream ( header );
+        final DataInputStream input = new DataInputStream ( new BufferedInputStream ( new FileInputStream ( file ) ) );
+        try
+        {
+            headerOutput.writeUTF ( input.readUTF () );
+            headerOutput.writeUTF ( input.readUTF () );
+            final int includes = input.readInt ();
+            headerOutput.writeInt ( includes );
+            for ( int i = 0; i < includes; i++ )
+            {
+                final byte type = input.readByte ();
+                headerOutput.writeByte ( type );
+                headerOutput.writeUTF ( input.readUTF () );
+                if ( type == 1 )
+                {
+                    headerOutput.writeUTF ( input.readUTF () );
+                }
+            }
+        }
+        finally
+        {
+            input.close ();
+        }
+
+        // Serializing replacement data
+        final ByteArrayOutputStream data = new ByteArrayOutputStream ();
+        final ObjectOutputStream objects = new ObjectOutputStream ( data );
+        try
+        {
+            objects.writeObject ( new SkinInfo () );
+            objects.writeObject ( stylesCache );
+        }
+        finally
+        {
+            objects.close ();
+        }
+        final byte[] bytes = data.toByteArray ();
+
+        // Writing modified snapshot
+        final DataOutputStream output = new DataOutputStream ( new BufferedOutputStream ( new FileOutputStream ( file ) ) );
+        try
+        {
+            output.write ( header.toByteArray () );
+            output.writeUTF ( FileUtils.computeMD5 ( new ByteArrayInputStream ( bytes ) ) );
+            output.writeInt ( bytes.length );
+            output.write ( bytes );
+        }
+        finally
+        {
+            output.close ();
+        }
+    }
+
+    /**
+     * Asserts that skin is read from the XML and that valid snapshot is written again in background afterwards.
+     * Waiting for the snapshot also ensures that it is not written concurrently with the following tests.
+     *
+     * @param file snapshot {@link File}
+     * @throws InterruptedException if test thread was interrupted
+     */
+    private static void assertFallback ( @NotNull final File file ) throws InterruptedException
+    {
+        assertStyles ( XmlUtils.<SkinInfo>fromXML ( SKIN ), SkinSnapshot.load ( SKIN ) );
+        SkinInfo snapshot = null;
+        for ( int attempt = 0; attempt < 200 && snapshot == null; attempt++ )
+        {
+            Thread.sleep ( 50 );
+            snapshot = SkinSnapshot.read ( file, SKIN );
+        }
+        assertNotNull ( snapshot );
+    }
+
+    /**
+     * Asserts that loaded {@link SkinInfo} is the same skin with the same styles as the expected one.
+     *
+     * @param expected expected {@link SkinInfo}
+     * @param actual   loaded {@link SkinInfo}
+     */
+    private static void assertStyles ( @NotNull final SkinInfo expected, @NotNull final SkinInfo actual )
+    {
+        assertEquals ( expected.getId (), actual.getId () );
+        SkinInfoTest.assertStyles ( expected.getStylesCache (), actual.getStylesCache () );
+    }
+}
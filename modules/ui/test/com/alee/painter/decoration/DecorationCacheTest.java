@@ -0,0 +1,183 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import com.alee.extended.label.WebStyledLabel;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.button.WebButton;
+import com.alee.painter.Painter;
+import com.alee.painter.PainterSupport;
+import com.alee.utils.CoreSwingUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link DecorationCache}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class DecorationCacheTest
+{
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Tests that components using the same style in the same states share a single built {@link IDecoration}.
+     */
+    @Test
+    public void sharedDecoration ()
+    {
+        final IDecoration[] decorations = new IDecoration[ 2 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                DecorationCache.clear ();
+                decorations[ 0 ] = getDecoration ( new WebButton ( "First" ) );
+                decorations[ 1 ] = getDecoration ( new WebButton ( "Second" ) );
+            }
+        } );
+        assertNotNull ( decorations[ 0 ] );
+        assertTrue ( DecorationUtils.isShareable ( decorations[ 0 ] ) );
+        assertSame ( decorations[ 0 ], decorations[ 1 ] );
+        assertTrue ( DecorationCache.size () > 0 );
+    }
+
+    /**
+     * Tests that {@link IDecoration}s containing elements that cannot be shared are kept separately for each painter.
+     */
+    @Test
+    public void nonShareableDecoration ()
+    {
+        final IDecoration[] decorations = new IDecoration[ 2 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                DecorationCache.clear ();
+                decorations[ 0 ] = getDecoration ( new WebStyledLabel ( "{First:b}" ) );
+                decorations[ 1 ] = getDecoration ( new WebStyledLabel ( "{Second:b}" ) );
+            }
+        } );
+        assertNotNull ( decorations[ 0 ] );
+        assertNotNull ( decorations[ 1 ] );
+        assertFalse ( DecorationUtils.isShareable ( decorations[ 0 ] ) );
+        assertNotSame ( decorations[ 0 ], decorations[ 1 ] );
+        assertEquals ( 0, DecorationCache.size () );
+    }
+
+    /**
+     * Tests that least recently used {@link IDecoration}s are evicted once maximum cache size is reached.
+     */
+    @Test
+    public void maximumSizeEviction ()
+    {
+        final int maximumSize = DecorationCache.getMaximumSize ();
+        try
+        {
+            DecorationCache.clear ();
+            DecorationCache.setMaximumSize ( 2 );
+
+            final Decorations decorations = new Decorations ();
+            final WebDecoration first = new WebDecoration ();
+            final WebDecoration second = new WebDecoration ();
+            final WebDecoration third = new WebDecoration ();
+            assertSame ( first, DecorationCache.put ( decorations, false, "first", first ) );
+            assertSame ( second, DecorationCache.put ( decorations, false, "second", second ) );
+            assertSame ( first, DecorationCache.put ( decorations, false, "first", new WebDecoration () ) );
+            assertSame ( third, DecorationCache.put ( decorations, false, "third", third ) );
+
+            assertEquals ( 2, DecorationCache.size () );
+            assertSame ( first, DecorationCache.get ( decorations, false, "first" ) );
+            assertNull ( DecorationCache.get ( decorations, false, "second" ) );
+            assertSame ( third, DecorationCache.get ( decorations, false, "third" ) );
+            assertNull ( DecorationCache.get ( decorations, true, "third" ) );
+
+            DecorationCache.setMaximumSize ( 0 );
+            assertEquals ( 0, DecorationCache.size () );
+            final WebDecoration fourth = new WebDecoration ();
+            assertSame ( fourth, DecorationCache.put ( decorations, false, "fourth", fourth ) );
+            assertEquals ( 0, DecorationCache.size () );
+        }
+        finally
+        {
+            DecorationCache.setMaximumSize ( maximumSize );
+            DecorationCache.clear ();
+        }
+    }
+
+    /**
+     * Tests that cached {@link IDecoration}s are evicted once {@link Decorations} they were built from are garbage-collected.
+     *
+     * @throws InterruptedException if test thread was interrupted
+     */
+    @Test
+    public void collectedDecorationsEviction () throws InterruptedException
+    {
+        DecorationCache.clear ();
+        Decorations decorations = new Decorations ();
+        DecorationCache.put ( decorations, false, "key", new WebDecoration () );
+        assertEquals ( 1, DecorationCache.size () );
+
+        final WeakReference<Decorations> reference = new WeakReference<Decorations> ( decorations );
+        decorations = null;
+        for ( int attempt = 0; attempt < 50 && ( reference.get () != null || DecorationCache.size () > 0 ); attempt++ )
+        {
+            System.gc ();
+            Thread.sleep ( 20 );
+        }
+        assertNull ( reference.get () );
+        assertEquals ( 0, DecorationCache.size () );
+    }
+
+    /**
+     * Returns {@link IDecoration} currently used by the specified {@link JComponent}.
+     *
+     * @param component {@link JComponent} to retrieve {@link IDecoration} for
+     * @return {@link IDecoration} currently used by the specified {@link JComponent}
+     */
+    private static IDecoration getDecoration ( final JComponent component )
+    {
+        final Painter painter = PainterSupport.getPainter ( component );
+        assertTrue ( painter instanceof AbstractDecorationPainter );
+        return ( ( AbstractDecorationPainter ) painter ).getDecoration ();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.button.WebButton;
+import com.alee.painter.PainterSupport;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.TextUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simple benchmark measuring time and allocations of decoration lookups performed on each paint.
+ * It compares joined state string keys that were previously used to look decorations up with {@link DecorationStateIndex} bitmasks
+ * and with {@link AbstractDecorationPainter#getDecoration()} call performed on each paint.
+ * It is not run as a part of the test suite, launch it manually to compare results.
+ * Allocations are only measured on JVMs providing {@code com.sun.management.ThreadMXBean}.
+ *
+ * @author Mikle Garin
+ */
+public final class DecorationStateBenchmark
+{
+    /**
+     * Amount of warmup iterations.
+     */
+    private static final int WARMUP = 200000;
+
+    /**
+     * Amount of measured iterations.
+     */
+    private static final int ITERATIONS = 1000000;
+
+    /**
+     * Result sink preventing dead code elimination.
+     */
+    private static int sink = 0;
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+
+                final WebButton button = new WebButton ( "Button" );
+                final AbstractDecorationPainter painter = ( AbstractDecorationPainter ) PainterSupport.getPainter ( button );
+                final List<String> states = painter.collectDecorationStates ();
+                final DecorationStateIndex index = painter.getStateIndex ();
+
+                final Map<String, Object> decorations = new HashMap<String, Object> ();
+                decorations.put ( TextUtils.listToString ( states, "," ), painter );
+
+                System.out.println ( "States: " + states );
+                System.out.println ( String.format ( "%-20s %10s %12s", "lookup", "ns/call", "bytes/call" ) );
+                measure ( "joined string key", new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        sink += decorations.get ( TextUtils.listToString ( states, "," ) ) != null ? 1 : 0;
+                    }
+                } );
+                measure ( "state bitmask", new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        sink += index.getMask ( states ) != 0L ? 1 : 0;
+                    }
+                } );
+                measure ( "getDecoration()", new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        sink += painter.getDecoration () != null ? 1 : 0;
+                    }
+                } );
+                System.out.println ( "Sink: " + sink );
+            }
+        } );
+    }
+
+    /**
+     * Measures and prints average time and allocations of the specified operation.
+     *
+     * @param name      operation name
+     * @param operation operation to measure
+     */
+    private static void measure ( final String name, final Runnable operation )
+    {
+        for ( int i = 0; i < WARMUP; i++ )
+        {
+            operation.run ();
+        }
+        final long bytesBefore = getAllocatedBytes ();
+        final long start = System.nanoTime ();
+        for ( int i = 0; i < ITERATIONS; i++ )
+        {
+            operation.run ();
+        }
+        final long time = System.nanoTime () - start;
+        final long bytesAfter = getAllocatedBytes ();
+        final String bytes = bytesBefore != -1 && bytesAfter != -1 ?
+                String.format ( "%.1f", ( double ) ( bytesAfter - bytesBefore ) / ITERATIONS ) : "n/a";
+        System.out.println ( String.format ( "%-20s %10.1f %12s", name, ( double ) time / ITERATIONS, bytes ) );
+    }
+
+    /**
+     * Returns amount of bytes allocated by the current {@link Thread} or {@code -1} if it cannot be measured.
+     *
+     * @return amount of bytes allocated by the current {@link Thread} or {@code -1} if it cannot be measured
+     */
+    private static long getAllocatedBytes ()
+    {
+        long bytes;
+        try
+        {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean ();
+            final Class<?> type = Class.forName ( "com.sun.management.ThreadMXBean" );
+            if ( type.isInstance ( bean ) )
+            {
+                final long id = Thread.currentThread ().getId ();
+                bytes = ( Long ) type.getMethod ( "getThreadAllocatedBytes", long.class ).invoke ( bean, id );
+            }
+            else
+            {
+                bytes = -1;
+            }
+        }
+        catch ( final Exception e )
+        {
+            bytes = -1;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration.shadow;
+
+import com.alee.api.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.*;
+
+/**
+ * Set of JUnit tests for {@link ShadowCache}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ShadowCacheTest
+{
+    /**
+     * Amount of bytes used by each test image.
+     */
+    private static final long IMAGE_BYTES = 10 * 10 * 4;
+
+    /**
+     * Maximum amount of bytes used by cached images before tests.
+     */
+    private long maximumBytes;
+
+    /**
+     * Clears cache before each test.
+     */
+    @Before
+    public void before ()
+    {
+        maximumBytes = ShadowCache.getMaximumBytes ();
+        ShadowCache.clear ();
+    }
+
+    /**
+     * Restores cache settings after each test.
+     */
+    @After
+    public void after ()
+    {
+        ShadowCache.setMaximumBytes ( maximumBytes );
+        ShadowCache.clear ();
+    }
+
+    /**
+     * Tests that cached images are counted in bytes and images that do not fit into the budget by themselves are not cached.
+     */
+    @Test
+    public void byteBudget ()
+    {
+        ShadowCache.setMaximumBytes ( IMAGE_BYTES * 3 );
+
+        final BufferedImage first = createImage ( 10, 10 );
+        assertSame ( first, ShadowCache.put ( "first", first ) );
+        assertSame ( first, ShadowCache.put ( "first", createImage ( 10, 10 ) ) );
+        assertSame ( first, ShadowCache.get ( "first" ) );
+        assertEquals ( 1, ShadowCache.size () );
+        assertEquals ( IMAGE_BYTES, ShadowCache.getBytes () );
+
+        ShadowCache.put ( "second", createImage ( 10, 20 ) );
+        assertEquals ( 2, ShadowCache.size () );
+        assertEquals ( IMAGE_BYTES * 3, ShadowCache.getBytes () );
+
+        final BufferedImage large = createImage ( 20, 20 );
+        assertSame ( large, ShadowCache.put ( "large", large ) );
+        assertNull ( ShadowCache.get ( "large" ) );
+        assertEquals ( 2, ShadowCache.size () );
+        assertEquals ( IMAGE_BYTES * 3, ShadowCache.getBytes () );
+    }
+
+    /**
+     * Tests that least recently used images are evicted first once budget is exceeded.
+     */
+    @Test
+    public void leastRecentlyUsedEviction ()
+    {
+        ShadowCache.setMaximumBytes ( IMAGE_BYTES * 3 );
+
+        final BufferedImage first = createImage ( 10, 10 );
+        final BufferedImage second = createImage ( 10, 10 );
+        final BufferedImage third = createImage ( 10, 10 );
+        final BufferedImage fourth = createImage ( 10, 10 );
+        ShadowCache.put ( "first", first );
+        ShadowCache.put ( "second", second );
+        ShadowCache.put ( "third", third );
+        assertSame ( first, ShadowCache.get ( "first" ) );
+
+        ShadowCache.put ( "fourth", fourth );
+        assertEquals ( 3, ShadowCache.size () );
+        assertEquals ( IMAGE_BYTES * 3, ShadowCache.getBytes () );
+        assertNull ( ShadowCache.get ( "second" ) );
+        assertSame ( first, ShadowCache.get ( "first" ) );
+        assertSame ( third, ShadowCache.get ( "third" ) );
+        assertSame ( fourth, ShadowCache.get ( "fourth" ) );
+    }
+
+    /**
+     * Tests that shrinking the budget evicts least recently used images right away.
+     */
+    @Test
+    public void shrinkingBudget ()
+    {
+        ShadowCache.setMaximumBytes ( IMAGE_BYTES * 3 );
+
+        final BufferedImage first = createImage ( 10, 10 );
+        final BufferedImage second = createImage ( 10, 10 );
+        final BufferedImage third = createImage ( 10, 10 );
+        ShadowCache.put ( "first", first );
+        ShadowCache.put ( "second", second );
+        ShadowCache.put ( "third", third );
+        assertSame ( first, ShadowCache.get ( "first" ) );
+
+        ShadowCache.setMaximumBytes ( IMAGE_BYTES * 2 );
+        assertEquals ( 2, ShadowCache.size () );
+        assertEquals ( IMAGE_BYTES * 2, ShadowCache.getBytes () );
+        assertSame ( third, ShadowCache.get ( "third" ) );
+        assertSame ( first, ShadowCache.get ( "first" ) );
+        assertNull ( ShadowCache.get ( "second" ) );
+
+        ShadowCache.setMaximumBytes ( 0 );
+        assertEquals ( 0, ShadowCache.size () );
+        assertEquals ( 0, ShadowCache.getBytes () );
+        ShadowCache.put ( "first", first );
+        assertEquals ( 0, ShadowCache.size () );
+    }
+
+    /**
+     * Tests that hits, misses and evictions are counted.
+     */
+    @Test
+    public void counters ()
+    {
+        ShadowCache.setMaximumBytes ( IMAGE_BYTES * 2 );
+        final long hits = ShadowCache.getHits ();
+        final long misses = ShadowCache.getMisses ();
+        final long evictions = ShadowCache.getEvictions ();
+
+        assertNull ( ShadowCache.get ( "first" ) );
+        ShadowCache.put ( "first", createImage ( 10, 10 ) );
+        assertNotNull ( ShadowCache.get ( "first" ) );
+        assertNotNull ( ShadowCache.get ( "first" ) );
+        ShadowCache.put ( "second", createImage ( 10, 10 ) );
+        ShadowCache.put ( "third", createImage ( 10, 10 ) );
+        ShadowCache.put ( "fourth", createImage ( 10, 10 ) );
+        assertNull ( ShadowCache.get ( "second" ) );
+
+        assertEquals ( 2, ShadowCache.getHits () - hits );
+        assertEquals ( 2, ShadowCache.getMisses () - misses );
+        assertEquals ( 2, ShadowCache.getEvictions () - evictions );
+
+        ShadowCache.setMaximumBytes ( IMAGE_BYTES );
+        assertEquals ( 3, ShadowCache.getEvictions () - evictions );
+    }
+
+    /**
+     * Returns new {@link BufferedImage} of the specified size.
+     *
+     * @param width  image width
+     * @param height image height
+     * @return new {@link BufferedImage} of the specified size
+     */
+    @NotNull
+    private static BufferedImage createImage ( final int width, final int height )
+    {
+        return new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+    }
+}
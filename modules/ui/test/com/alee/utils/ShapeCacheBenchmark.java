@@ -0,0 +1,191 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.button.WebButton;
+import com.alee.laf.panel.WebPanel;
+import com.alee.painter.decoration.shape.Round;
+import com.alee.painter.decoration.shape.ShapeType;
+import com.alee.painter.decoration.shape.Sides;
+import com.alee.utils.general.CacheKey;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Simple benchmark measuring time and allocations of repainting a panel with 1,000 buttons.
+ * It also compares string keys built by {@link TextUtils#getSettingsKey(Object...)} that were previously used by shape and shadow
+ * caches with {@link CacheKey}s built from the same settings.
+ * It is not run as a part of the test suite, launch it manually to compare results.
+ * Allocations are only measured on JVMs providing {@code com.sun.management.ThreadMXBean}.
+ *
+ * @author Mikle Garin
+ */
+public final class ShapeCacheBenchmark
+{
+    /**
+     * Amount of buttons on the panel.
+     */
+    private static final int BUTTONS = 1000;
+
+    /**
+     * Amount of warmup panel repaints.
+     */
+    private static final int WARMUP_REPAINTS = 20;
+
+    /**
+     * Amount of measured panel repaints.
+     */
+    private static final int REPAINTS = 50;
+
+    /**
+     * Amount of warmup key iterations.
+     */
+    private static final int WARMUP = 200000;
+
+    /**
+     * Amount of measured key iterations.
+     */
+    private static final int ITERATIONS = 1000000;
+
+    /**
+     * Result sink preventing dead code elimination.
+     */
+    private static int sink = 0;
+
+    /**
+     * Runs benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main ( final String[] args )
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.install ();
+
+                final WebPanel panel = new WebPanel ( new GridLayout ( 0, 25 ) );
+                for ( int i = 0; i < BUTTONS; i++ )
+                {
+                    panel.add ( new WebButton ( "Button " + i ) );
+                }
+                panel.setSize ( panel.getPreferredSize () );
+                panel.doLayout ();
+                final BufferedImage image = new BufferedImage ( panel.getWidth (), panel.getHeight (), BufferedImage.TYPE_INT_ARGB );
+
+                final Rectangle bounds = new Rectangle ( 0, 0, 80, 26 );
+                final Round round = new Round ( 3, 3, 3, 3 );
+                final Sides sides = new Sides ( true );
+                final int width = 2;
+
+                System.out.println ( String.format ( "%-30s %12s %14s", "operation", "ns/call", "bytes/call" ) );
+                measure ( "string key", WARMUP, ITERATIONS, new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        sink += TextUtils.getSettingsKey ( ShapeType.background, bounds, width, round, sides ).length ();
+                    }
+                } );
+                measure ( "cache key", WARMUP, ITERATIONS, new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        sink += CacheKey.temporary ().add ( ShapeType.background ).add ( bounds ).add ( width )
+                                .add ( round ).add ( sides ).hashCode ();
+                    }
+                } );
+                measure ( BUTTONS + " buttons repaint", WARMUP_REPAINTS, REPAINTS, new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        final Graphics2D g2d = image.createGraphics ();
+                        panel.paint ( g2d );
+                        g2d.dispose ();
+                        sink += image.getRGB ( 0, 0 );
+                    }
+                } );
+                System.out.println ( "Sink: " + sink );
+            }
+        } );
+    }
+
+    /**
+     * Measures and prints average time and allocations of the specified operation.
+     *
+     * @param name       operation name
+     * @param warmup     amount of warmup iterations
+     * @param iterations amount of measured iterations
+     * @param operation  operation to measure
+     */
+    private static void measure ( final String name, final int warmup, final int iterations, final Runnable operation )
+    {
+        for ( int i = 0; i < warmup; i++ )
+        {
+            operation.run ();
+        }
+        final long bytesBefore = getAllocatedBytes ();
+        final long start = System.nanoTime ();
+        for ( int i = 0; i < iterations; i++ )
+        {
+            operation.run ();
+        }
+        final long time = System.nanoTime () - start;
+        final long bytesAfter = getAllocatedBytes ();
+        final String bytes = bytesBefore != -1 && bytesAfter != -1 ?
+                String.format ( "%.1f", ( double ) ( bytesAfter - bytesBefore ) / iterations ) : "n/a";
+        System.out.println ( String.format ( "%-30s %12.1f %14s", name, ( double ) time / iterations, bytes ) );
+    }
+
+    /**
+     * Returns amount of bytes allocated by the current {@link Thread} or {@code -1} if it cannot be measured.
+     *
+     * @return amount of bytes allocated by the current {@link Thread} or {@code -1} if it cannot be measured
+     */
+    private static long getAllocatedBytes ()
+    {
+        long bytes;
+        try
+        {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean ();
+            final Class<?> type = Class.forName ( "com.sun.management.ThreadMXBean" );
+            if ( type.isInstance ( bean ) )
+            {
+                final long id = Thread.currentThread ().getId ();
+                bytes = ( Long ) type.getMethod ( "getThreadAllocatedBytes", long.class ).invoke ( bean, id );
+            }
+            else
+            {
+                bytes = -1;
+            }
+        }
+        catch ( final Exception e )
+        {
+            bytes = -1;
+        }
+        return bytes;
+    }
+}